@@ -0,0 +1,64 @@
+package com.marinamooringmanagement.api.v1.dashboard;
+
+import com.marinamooringmanagement.constants.Authority;
+import com.marinamooringmanagement.exception.handler.GlobalExceptionHandler;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.service.DashboardStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for the dashboard tiles.
+ */
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@Validated
+@CrossOrigin
+@Tag(name = "Dashboard Controller", description = "These are API's for the dashboard.")
+public class DashboardController extends GlobalExceptionHandler {
+
+    @Autowired
+    private DashboardStatisticsService dashboardStatisticsService;
+
+    /**
+     * Fetches the precomputed dashboard counters of the customer owner.
+     *
+     * @param request the HTTP servlet request
+     * @return BasicRestResponse containing the dashboard statistics
+     */
+    @Operation(
+            summary = "API to fetch the dashboard statistics of the customer owner",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @RequestMapping(
+            value = "/statistics",
+            method = RequestMethod.GET,
+            produces = {"application/json"}
+    )
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER)
+    public BasicRestResponse fetchDashboardStatistics(
+            final HttpServletRequest request
+    ) {
+        return dashboardStatisticsService.fetchDashboardStatistics(request);
+    }
+}
@@ -0,0 +1,86 @@
+package com.marinamooringmanagement.api.v1.dataImport;
+
+import com.marinamooringmanagement.constants.Authority;
+import com.marinamooringmanagement.exception.handler.GlobalExceptionHandler;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.service.DataImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping(value = "api/v1/import")
+@CrossOrigin
+@Tag(name = "Data Import Controller", description = "These are API's for importing moorings and customers from CSV files.")
+public class DataImportController extends GlobalExceptionHandler {
+
+    @Autowired
+    private DataImportService dataImportService;
+
+    @Operation(
+            summary = "API to import moorings from a CSV file, with dryRun the file is only validated",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = {@Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json")},
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = {@Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json")},
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @PostMapping(value = "/moorings",
+            consumes = {MediaType.MULTIPART_FORM_DATA_VALUE},
+            produces = {"application/json"})
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER)
+    public BasicRestResponse importMoorings(
+            final @RequestPart(value = "file") MultipartFile file,
+            final @RequestParam(value = "dryRun", required = false, defaultValue = "false") Boolean dryRun,
+            final HttpServletRequest request
+    ) {
+        return dataImportService.importMoorings(file, dryRun, request);
+    }
+
+    @Operation(
+            summary = "API to import customers from a CSV file, with dryRun the file is only validated",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = {@Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json")},
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = {@Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json")},
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @PostMapping(value = "/customers",
+            consumes = {MediaType.MULTIPART_FORM_DATA_VALUE},
+            produces = {"application/json"})
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER)
+    public BasicRestResponse importCustomers(
+            final @RequestPart(value = "file") MultipartFile file,
+            final @RequestParam(value = "dryRun", required = false, defaultValue = "false") Boolean dryRun,
+            final HttpServletRequest request
+    ) {
+        return dataImportService.importCustomers(file, dryRun, request);
+    }
+}
@@ -0,0 +1,47 @@
+package com.marinamooringmanagement.api.v1.email;
+
+import com.marinamooringmanagement.constants.Authority;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.service.EmailOutboxService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/email/outbox")
+@Validated
+@CrossOrigin
+@Tag(name = "Email Outbox Controller", description = "These are API's for the email outbox.")
+public class EmailOutboxController {
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Operation(
+            summary = "API to fetch the send throughput and failures of the email outbox",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @GetMapping("/metrics")
+    @PreAuthorize(Authority.ADMINISTRATOR)
+    public BasicRestResponse fetchMetrics() {
+        return emailOutboxService.fetchMetrics();
+    }
+}
@@ -2,6 +2,7 @@ package com.marinamooringmanagement.api.v1.form;
 
 import com.marinamooringmanagement.constants.Authority;
 import com.marinamooringmanagement.exception.handler.GlobalExceptionHandler;
+import com.marinamooringmanagement.helper.BlobContentHelper;
 import com.marinamooringmanagement.model.entity.Form;
 import com.marinamooringmanagement.model.request.BaseSearchRequest;
 import com.marinamooringmanagement.model.request.FormRequestDto;
@@ -14,10 +15,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -36,6 +35,9 @@ public class FormController extends GlobalExceptionHandler {
     @Autowired
     private FormService formService;
 
+    @Autowired
+    private BlobContentHelper blobContentHelper;
+
     @Operation(
             summary = "API to upload form",
             responses = {
@@ -175,17 +177,13 @@ public class FormController extends GlobalExceptionHandler {
     @GetMapping(value = "/downloadForm/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER + " or " + Authority.TECHNICIAN)
-    public ResponseEntity<ByteArrayResource> downloadForm(
+    public ResponseEntity<Resource> downloadForm(
             final @PathVariable(value = "id") Integer id,
             final HttpServletRequest request
     ) {
         Form form = formService.downloadForm(id, request);
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + form.getFileName() + "\"")
-                .body(new ByteArrayResource(form.getFormData()));
+        return blobContentHelper.download(form.getBlobKey(), form.getContentType(), form.getFileName(), true);
     }
 
     @Operation(
@@ -1,11 +1,15 @@
 package com.marinamooringmanagement.api.v1.image;
 
 import com.marinamooringmanagement.constants.Authority;
+import com.marinamooringmanagement.constants.enums.ImageVariant;
 import com.marinamooringmanagement.exception.handler.GlobalExceptionHandler;
+import com.marinamooringmanagement.helper.BlobContentHelper;
+import com.marinamooringmanagement.model.entity.Image;
 import com.marinamooringmanagement.model.request.ImageRequestDto;
 import com.marinamooringmanagement.model.request.MultipleImageRequestDto;
 import com.marinamooringmanagement.model.response.BasicRestResponse;
 import com.marinamooringmanagement.service.ImageService;
+import com.marinamooringmanagement.service.ImageVariantService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,9 +17,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
 
 @RestController
 @RequestMapping(value = "api/v1/image")
@@ -26,6 +37,12 @@ public class ImageController extends GlobalExceptionHandler {
     @Autowired
     private ImageService imageService;
 
+    @Autowired
+    private BlobContentHelper blobContentHelper;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
     @Operation(
             summary = "API to upload image",
             responses = {
@@ -56,6 +73,38 @@ public class ImageController extends GlobalExceptionHandler {
         return imageService.uploadImage(entityId, entity, multipleImageRequestDto, request);
     }
 
+    @Operation(
+            summary = "API to upload image files as multipart/form-data",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = {@Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json")},
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = {@Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json")},
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @PostMapping(value = "/uploadFiles/{entityId}",
+            consumes = {MediaType.MULTIPART_FORM_DATA_VALUE},
+            produces = {"application/json"})
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER)
+    public BasicRestResponse addImageFiles(
+            final @PathVariable(value = "entityId") Integer entityId,
+            final @RequestParam(value = "entity") String entity,
+            final @RequestPart(value = "files") List<MultipartFile> files,
+            final @RequestParam(value = "notes", required = false) List<String> notes,
+            final HttpServletRequest request
+    ) {
+
+        return imageService.uploadImageFiles(entityId, entity, files, notes, request);
+    }
+
     @Operation(
             summary = "API to fetch images",
             responses = {
@@ -140,6 +189,48 @@ public class ImageController extends GlobalExceptionHandler {
         return imageService.viewImage(id, request);
     }
 
+    @Operation(
+            summary = "API to download the raw image or one of its downscaled variants (thumb, medium), supports range requests",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = {@Content(mediaType = "application/octet-stream")},
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Partial Content",
+                            content = {@Content(mediaType = "application/octet-stream")},
+                            responseCode = "206"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = {@Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json")},
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @GetMapping(value = "/downloadImage/{id}")
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER + " or " + Authority.TECHNICIAN)
+    public ResponseEntity<Resource> downloadImage(
+            final @PathVariable(value = "id") Integer id,
+            final @RequestParam(value = "variant", required = false) String variant,
+            final HttpServletRequest request
+    ) {
+        final ImageVariant imageVariant = ImageVariant.fromVariantName(variant);
+        final Image image = imageService.downloadImage(id, request);
+
+        if (null != imageVariant) {
+            final byte[] data = imageVariantService.fetchVariant(image, imageVariant);
+            // formats that cannot be decoded are served as uploaded
+            if (null != data) {
+                return blobContentHelper.download(new ByteArrayResource(data), image.getBlobKey() + "-" + imageVariant.getVariantName(),
+                        MediaType.IMAGE_JPEG_VALUE, image.getImageName(), false);
+            }
+        }
+        return blobContentHelper.download(image.getBlobKey(), image.getContentType(), image.getImageName(), false);
+    }
+
     @Operation(
             summary = "API to delete image",
             responses = {
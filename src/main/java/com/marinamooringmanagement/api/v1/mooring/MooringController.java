@@ -5,6 +5,8 @@ import com.marinamooringmanagement.exception.handler.GlobalExceptionHandler;
 import com.marinamooringmanagement.model.request.BaseSearchRequest;
 import com.marinamooringmanagement.model.request.MooringRequestDto;
 import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.service.DataExportService;
+import com.marinamooringmanagement.service.MooringMapService;
 import com.marinamooringmanagement.service.MooringService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,9 +17,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static com.marinamooringmanagement.constants.AppConstants.DefaultPageConst.DEFAULT_PAGE_NUM;
 import static com.marinamooringmanagement.constants.AppConstants.DefaultPageConst.DEFAULT_PAGE_SIZE;
@@ -35,6 +39,12 @@ public class MooringController extends GlobalExceptionHandler {
     @Autowired
     private MooringService mooringService;
 
+    @Autowired
+    private MooringMapService mooringMapService;
+
+    @Autowired
+    private DataExportService dataExportService;
+
     /**
      * Fetches a list of moorings based on pagination and sorting parameters.
      *
@@ -83,6 +93,32 @@ public class MooringController extends GlobalExceptionHandler {
         return mooringService.fetchMoorings(baseSearchRequest, searchText, request);
     }
 
+    @Operation(
+            summary = "API to export the moorings as a CSV or Excel file, the rows are streamed as they are read",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(mediaType = "text/csv"), @Content(mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @GetMapping(value = "/exportMoorings")
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER)
+    public ResponseEntity<StreamingResponseBody> exportMoorings(
+            @Parameter(description = "Search Text", schema = @Schema(implementation = String.class)) final @RequestParam(value = "searchText", required = false) String searchText,
+            @Parameter(description = "File format (csv or xlsx)", schema = @Schema(implementation = String.class)) final @RequestParam(value = "format", defaultValue = "csv", required = false) String format,
+            final HttpServletRequest request
+    ) {
+        return dataExportService.exportMoorings(searchText, format, request);
+    }
+
     /**
      * Saves a new mooring.
      *
@@ -237,4 +273,126 @@ public class MooringController extends GlobalExceptionHandler {
         return mooringService.fetchMooringPercentageIncrease(request);
     }
 
+    /**
+     * Fetches the moorings inside the visible part of the harbor map.
+     *
+     * @param minLatitude  latitude of the south edge of the viewport
+     * @param minLongitude longitude of the west edge of the viewport
+     * @param maxLatitude  latitude of the north edge of the viewport
+     * @param maxLongitude longitude of the east edge of the viewport
+     * @param request      the HTTP servlet request
+     * @return BasicRestResponse containing the moorings inside the viewport
+     */
+    @Operation(
+            summary = "API to fetch the moorings inside a map viewport",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @RequestMapping(
+            value = "/map/viewport",
+            method = RequestMethod.GET,
+            produces = {"application/json"}
+    )
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER)
+    public BasicRestResponse fetchMooringsInViewport(
+            @Parameter(description = "South edge latitude", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "minLatitude") Double minLatitude,
+            @Parameter(description = "West edge longitude", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "minLongitude") Double minLongitude,
+            @Parameter(description = "North edge latitude", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "maxLatitude") Double maxLatitude,
+            @Parameter(description = "East edge longitude", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "maxLongitude") Double maxLongitude,
+            final HttpServletRequest request
+    ) {
+        return mooringMapService.fetchMooringsInViewport(minLatitude, minLongitude, maxLatitude, maxLongitude, request);
+    }
+
+    /**
+     * Fetches the moorings nearest to a point, nearest first.
+     *
+     * @param latitude  latitude of the point
+     * @param longitude longitude of the point
+     * @param count     number of moorings to fetch
+     * @param request   the HTTP servlet request
+     * @return BasicRestResponse containing the nearest moorings with their distance
+     */
+    @Operation(
+            summary = "API to fetch the moorings nearest to a point",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @RequestMapping(
+            value = "/map/nearest",
+            method = RequestMethod.GET,
+            produces = {"application/json"}
+    )
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER)
+    public BasicRestResponse fetchNearestMoorings(
+            @Parameter(description = "Latitude", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "latitude") Double latitude,
+            @Parameter(description = "Longitude", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "longitude") Double longitude,
+            @Parameter(description = "Number of moorings", schema = @Schema(implementation = Integer.class)) final @RequestParam(value = "count", defaultValue = "10", required = false) Integer count,
+            final HttpServletRequest request
+    ) {
+        return mooringMapService.fetchNearestMoorings(latitude, longitude, count, request);
+    }
+
+    /**
+     * Fetches the moorings within a radius around a point, nearest first.
+     *
+     * @param latitude       latitude of the point
+     * @param longitude      longitude of the point
+     * @param radiusInMeters radius in meters
+     * @param request        the HTTP servlet request
+     * @return BasicRestResponse containing the moorings within the radius with their distance
+     */
+    @Operation(
+            summary = "API to fetch the moorings within a radius around a point",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @RequestMapping(
+            value = "/map/radius",
+            method = RequestMethod.GET,
+            produces = {"application/json"}
+    )
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER)
+    public BasicRestResponse fetchMooringsWithinRadius(
+            @Parameter(description = "Latitude", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "latitude") Double latitude,
+            @Parameter(description = "Longitude", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "longitude") Double longitude,
+            @Parameter(description = "Radius in meters", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "radiusInMeters") Double radiusInMeters,
+            final HttpServletRequest request
+    ) {
+        return mooringMapService.fetchMooringsWithinRadius(latitude, longitude, radiusInMeters, request);
+    }
+
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.intuit.oauth2.data.BearerTokenResponse;
 import com.intuit.oauth2.exception.InvalidRequestException;
 import com.intuit.oauth2.exception.OAuthException;
 import com.marinamooringmanagement.client.OAuth2PlatformClientFactory;
+import com.marinamooringmanagement.helper.QBOServiceHelper;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
 import com.marinamooringmanagement.model.entity.QBO.QBOUser;
 import com.marinamooringmanagement.model.entity.User;
@@ -179,9 +180,8 @@ public class QBOConnectorController {
                         .email(user.getEmail())
                         .realmId(realmId)
                         .authCode(authCode)
-                        .accessToken(bearerTokenResponse.getAccessToken())
-                        .refreshToken(bearerTokenResponse.getRefreshToken())
                         .build();
+                QBOServiceHelper.setTokens(qboUser, bearerTokenResponse);
 
                 qboUser.setCreationDate(new Date(System.currentTimeMillis()));
                 qboUser.setLastModifiedDate(new Date(System.currentTimeMillis()));
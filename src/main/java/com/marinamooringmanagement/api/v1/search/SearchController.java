@@ -0,0 +1,69 @@
+package com.marinamooringmanagement.api.v1.search;
+
+import com.marinamooringmanagement.constants.Authority;
+import com.marinamooringmanagement.exception.handler.GlobalExceptionHandler;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.service.SearchSuggestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for the search box.
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+@Validated
+@CrossOrigin
+@Tag(name = "Search Controller", description = "These are API's for the search box.")
+public class SearchController extends GlobalExceptionHandler {
+
+    @Autowired
+    private SearchSuggestService searchSuggestService;
+
+    /**
+     * Suggests moorings, customers, boatyards and work orders of the customer owner while the user types.
+     *
+     * @param searchText the text typed so far
+     * @param limit      the maximum number of suggestions
+     * @param request    the HTTP servlet request
+     * @return BasicRestResponse containing the id, label and type of every suggestion
+     */
+    @Operation(
+            summary = "API to fetch the search-as-you-type suggestions of the customer owner",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @RequestMapping(
+            value = "/suggest",
+            method = RequestMethod.GET,
+            produces = {"application/json"}
+    )
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER)
+    public BasicRestResponse fetchSuggestions(
+            @Parameter(description = "Search Text", schema = @Schema(implementation = String.class)) final @RequestParam(value = "searchText", required = false) String searchText,
+            @Parameter(description = "Maximum number of suggestions", schema = @Schema(implementation = Integer.class)) final @RequestParam(value = "limit", required = false) Integer limit,
+            final HttpServletRequest request
+    ) {
+        return searchSuggestService.fetchSuggestions(searchText, limit, request);
+    }
+}
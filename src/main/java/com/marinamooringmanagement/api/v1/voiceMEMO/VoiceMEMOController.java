@@ -1,6 +1,8 @@
 package com.marinamooringmanagement.api.v1.voiceMEMO;
 
 import com.marinamooringmanagement.constants.Authority;
+import com.marinamooringmanagement.helper.BlobContentHelper;
+import com.marinamooringmanagement.model.entity.VoiceMEMO;
 import com.marinamooringmanagement.model.response.BasicRestResponse;
 import com.marinamooringmanagement.service.VoiceMEMOService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,7 +11,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,6 +25,9 @@ public class VoiceMEMOController {
     @Autowired
     private VoiceMEMOService voiceMEMOService;
 
+    @Autowired
+    private BlobContentHelper blobContentHelper;
+
     @Operation(
             summary = "API to get particular voice MEMO",
             responses = {
@@ -47,6 +54,38 @@ public class VoiceMEMOController {
         return voiceMEMOService.fetchVoiceMEMO(id, request);
     }
 
+    @Operation(
+            summary = "API to download the raw voice MEMO, supports range requests",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = {@Content(mediaType = "application/octet-stream")},
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Partial Content",
+                            content = {@Content(mediaType = "application/octet-stream")},
+                            responseCode = "206"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = {@Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json")},
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @GetMapping(value = "/downloadVoiceMEMO/{id}")
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER + " or " + Authority.TECHNICIAN)
+    public ResponseEntity<Resource> downloadVoiceMEMO(
+            final @PathVariable(value = "id") Integer id,
+            final HttpServletRequest request
+    ) {
+        final VoiceMEMO voiceMEMO = voiceMEMOService.downloadVoiceMEMO(id, request);
+
+        return blobContentHelper.download(voiceMEMO.getBlobKey(), voiceMEMO.getContentType(), voiceMEMO.getName(), false);
+    }
+
     @Operation(
             summary = "API to delete voice MEMO",
             responses = {
@@ -4,8 +4,11 @@ import com.marinamooringmanagement.constants.AppConstants;
 import com.marinamooringmanagement.constants.Authority;
 import com.marinamooringmanagement.exception.handler.GlobalExceptionHandler;
 import com.marinamooringmanagement.model.request.BaseSearchRequest;
+import com.marinamooringmanagement.model.request.WorkOrderApprovalRequestDto;
 import com.marinamooringmanagement.model.request.WorkOrderRequestDto;
 import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.service.DataExportService;
+import com.marinamooringmanagement.service.TechnicianRouteService;
 import com.marinamooringmanagement.service.WorkOrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,12 +19,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static com.marinamooringmanagement.constants.AppConstants.BooleanStringConst.NO;
 import static com.marinamooringmanagement.constants.AppConstants.DefaultPageConst.DEFAULT_PAGE_NUM;
@@ -37,6 +43,12 @@ public class WorkOrderController extends GlobalExceptionHandler {
     @Autowired
     private WorkOrderService workOrderService;
 
+    @Autowired
+    private TechnicianRouteService technicianRouteService;
+
+    @Autowired
+    private DataExportService dataExportService;
+
     /**
      * Fetches a list of moorings based on pagination and sorting parameters.
      *
@@ -44,6 +56,7 @@ public class WorkOrderController extends GlobalExceptionHandler {
      * @param pageSize    Page size for pagination (default: 10)
      * @param sortBy  Field to sort by (default: "id")
      * @param sortDir Sorting direction (asc/desc, default: "asc")
+     * @param cursor  Opaque cursor returned as nextCursor by the previous page (overrides pageNumber)
      * @return BasicRestResponse containing the fetched moorings
      */
     @Operation(
@@ -75,6 +88,7 @@ public class WorkOrderController extends GlobalExceptionHandler {
             @Parameter(description = "Sort Dir(asc --> ascending or des --> descending)", schema = @Schema(implementation = String.class)) final @RequestParam(value = "sortDir", defaultValue = "asc", required = false) String sortDir,
             @Parameter(description = "Search Text", schema = @Schema(implementation = String.class)) final @RequestParam(value = "searchText", required = false) String searchText,
             @Parameter(description = "Show completed work orders or not", schema = @Schema(implementation = String.class)) final @RequestParam(value = "showCompletedWorkOrders", defaultValue = NO) String showCompletedWorkOrders,
+            @Parameter(description = "Cursor of the next page", schema = @Schema(implementation = String.class)) final @RequestParam(value = "cursor", required = false) String cursor,
             final HttpServletRequest request
     ) {
         final BaseSearchRequest baseSearchRequest = BaseSearchRequest.builder()
@@ -83,7 +97,34 @@ public class WorkOrderController extends GlobalExceptionHandler {
                 .sortBy(sortBy)
                 .sortDir(sortDir)
                 .build();
-        return workOrderService.fetchWorkOrders(baseSearchRequest, searchText, showCompletedWorkOrders, request);
+        return workOrderService.fetchWorkOrders(baseSearchRequest, searchText, showCompletedWorkOrders, cursor, request);
+    }
+
+    @Operation(
+            summary = "API to export the work orders as a CSV or Excel file, the rows are streamed as they are read",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(mediaType = "text/csv"), @Content(mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER + " or " + Authority.TECHNICIAN)
+    @GetMapping(value = "/exportWorkOrders")
+    public ResponseEntity<StreamingResponseBody> exportWorkOrders(
+            @Parameter(description = "Search Text", schema = @Schema(implementation = String.class)) final @RequestParam(value = "searchText", required = false) String searchText,
+            @Parameter(description = "Show completed work orders or not", schema = @Schema(implementation = String.class)) final @RequestParam(value = "showCompletedWorkOrders", defaultValue = NO) String showCompletedWorkOrders,
+            @Parameter(description = "File format (csv or xlsx)", schema = @Schema(implementation = String.class)) final @RequestParam(value = "format", defaultValue = "csv", required = false) String format,
+            final HttpServletRequest request
+    ) {
+        return dataExportService.exportWorkOrders(searchText, showCompletedWorkOrders, format, request);
     }
 
     @Operation(
@@ -165,6 +206,32 @@ public class WorkOrderController extends GlobalExceptionHandler {
         return workOrderService.fetchWorkOrderInvoice(baseSearchRequest, searchText, request);
     }
 
+    @Operation(
+            summary = "API to export the work order invoices as a CSV or Excel file, the rows are streamed as they are read",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(mediaType = "text/csv"), @Content(mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER + " or " + Authority.FINANCE)
+    @GetMapping(value = "/exportWorkOrderInvoices")
+    public ResponseEntity<StreamingResponseBody> exportWorkOrderInvoices(
+            @Parameter(description = "Search Text", schema = @Schema(implementation = String.class)) final @RequestParam(value = "searchText", required = false) String searchText,
+            @Parameter(description = "File format (csv or xlsx)", schema = @Schema(implementation = String.class)) final @RequestParam(value = "format", defaultValue = "csv", required = false) String format,
+            final HttpServletRequest request
+    ) {
+        return dataExportService.exportWorkOrderInvoices(searchText, format, request);
+    }
+
     @Operation(
             summary = "API to fetch open work orders from the database",
             responses = {
@@ -206,6 +273,38 @@ public class WorkOrderController extends GlobalExceptionHandler {
         return workOrderService.fetchOpenWorkOrders(baseSearchRequest, technicianId, request, filterDateFrom, filterDateTo);
     }
 
+    @Operation(
+            summary = "API to fetch the route of a technician through the moorings of the open work orders scheduled for a day",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER)
+    @RequestMapping(
+            value = "/fetchTechnicianRoute/{technicianId}",
+            method = RequestMethod.GET,
+            produces = {"application/json"}
+    )
+    public BasicRestResponse fetchTechnicianRoute(
+            @Parameter(description = "TechnicianId", schema = @Schema(implementation = Integer.class)) final @PathVariable("technicianId") Integer technicianId,
+            @Parameter(description = "Scheduled date (MM/dd/yyyy)", schema = @Schema(implementation = String.class)) final @RequestParam(value = "date") String date,
+            @Parameter(description = "Latitude the route starts from", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "startLatitude", required = false) Double startLatitude,
+            @Parameter(description = "Longitude the route starts from", schema = @Schema(implementation = Double.class)) final @RequestParam(value = "startLongitude", required = false) Double startLongitude,
+            final HttpServletRequest request
+    ) {
+        return technicianRouteService.fetchTechnicianRoute(technicianId, date, startLatitude, startLongitude, request);
+    }
+
     @Operation(
             summary = "API to fetch all open work orders and mooring due for service from the database",
             responses = {
@@ -414,6 +513,34 @@ public class WorkOrderController extends GlobalExceptionHandler {
         return workOrderService.approveWorkOrder(id, request, invoiceAmount);
     }
 
+    @Operation(
+            summary = "API to approve the pay status of several work orders at once",
+            description = "Work orders that fail validation are reported and skipped, the others are approved and their invoices are pushed to Quickbooks in batches",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Internal Server Error",
+                            content = { @Content(schema = @Schema(implementation = BasicRestResponse.class), mediaType = "application/json") },
+                            responseCode = "400"
+                    )
+            }
+
+    )
+    @PreAuthorize(Authority.ADMINISTRATOR + " or " + Authority.CUSTOMER_OWNER + " or " + Authority.FINANCE)
+    @RequestMapping(value = "/approveWorkOrders",
+            method = RequestMethod.PUT,
+            produces = {"application/json"})
+    public BasicRestResponse approveWorkOrders(
+            @Parameter(description = "Work orders to approve with their invoice amounts") final @Valid @RequestBody List<WorkOrderApprovalRequestDto> workOrderApprovalRequestDtoList,
+            final HttpServletRequest request
+    ) {
+        return workOrderService.approveWorkOrders(workOrderApprovalRequestDtoList, request);
+    }
+
     @Operation(
             summary = "API to deny work order pay status from the database",
             responses = {
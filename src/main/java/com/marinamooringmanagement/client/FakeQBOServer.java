@@ -0,0 +1,466 @@
+package com.marinamooringmanagement.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Embedded stand-in for the QuickBooks Online accounting API, started with the {@code qbo-fake} profile.
+ *
+ * <p>The server answers the endpoints the application uses: queries, change data capture, batch requests, and
+ * reading and creating customers, items, payment methods, invoices and payments. It starts from the recorded
+ * entities in {@code qbo.fake.fixtures} and keeps created entities in memory, so the invoice, payment and mirror
+ * sync paths can be exercised and load tested without network access. Every request is delayed by
+ * {@code qbo.fake.latency} plus a random jitter, and fails with a server fault or a throttling fault at the
+ * configured rates.
+ *
+ * <p>Requests and responses are JSON only, {@code qbo.serialization.format} has the SDK send JSON on every
+ * thread it calls the API from.
+ *
+ * <p>Like QuickBooks, a create or batch request repeated with the same {@code requestid} is answered with the
+ * response of the first one. Any bearer token is accepted, the OAuth endpoints of Intuit are not faked.
+ */
+@Component
+@Profile("qbo-fake")
+public class FakeQBOServer {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeQBOServer.class);
+
+    private static final String CONTEXT_PATH = "/v3/company/";
+
+    private static final DateTimeFormatter QBO_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSxxx");
+
+    private static final Pattern QUERY = Pattern.compile(
+            "(?is)^\\s*SELECT\\s+.+?\\s+FROM\\s+(\\w+)(?:\\s+WHERE\\s+(.+?))?(?:\\s+ORDERBY\\s+.+?)?(?:\\s+STARTPOSITION\\s+(\\d+))?(?:\\s+MAXRESULTS\\s+(\\d+))?\\s*$");
+
+    private static final Pattern WHERE_ID = Pattern.compile("(?i)\\bId\\s*=\\s*'?(\\w+)'?");
+
+    private static final Pattern WHERE_LAST_UPDATED_TIME = Pattern.compile("(?i)MetaData\\.LastUpdatedTime\\s*>=?\\s*'([^']+)'");
+
+    private static final Pattern WHERE_ALL_ACTIVE_STATES = Pattern.compile("(?i)\\bActive\\s+IN\\s*\\(");
+
+    private static final int DEFAULT_MAX_RESULTS = 100;
+
+    private static final int MAX_CACHED_RESPONSES = 10000;
+
+    /**
+     * Entity names as used in paths and query results, by their lower case path segment.
+     */
+    private static final Map<String, String> ENTITY_NAMES = Map.of(
+            "customer", "Customer",
+            "item", "Item",
+            "paymentmethod", "PaymentMethod",
+            "invoice", "Invoice",
+            "payment", "Payment");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, Map<String, ObjectNode>> entities = new ConcurrentHashMap<>();
+
+    private final AtomicLong nextId = new AtomicLong(1000);
+
+    private final Map<String, byte[]> responsesByRequestId = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, byte[]> eldest) {
+            return size() > MAX_CACHED_RESPONSES;
+        }
+    };
+
+    @Value("${qbo.fake.port}")
+    private int port;
+
+    @Value("${qbo.fake.threads}")
+    private int threads;
+
+    @Value("${qbo.fake.fixtures}")
+    private String fixtures;
+
+    @Value("${qbo.fake.latency}")
+    private Duration latency;
+
+    @Value("${qbo.fake.latency-jitter}")
+    private Duration latencyJitter;
+
+    @Value("${qbo.fake.error-rate}")
+    private double errorRate;
+
+    @Value("${qbo.fake.throttle-rate}")
+    private double throttleRate;
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() throws IOException {
+        ENTITY_NAMES.values().forEach(entityName -> entities.put(entityName, new ConcurrentHashMap<>()));
+        loadFixtures();
+
+        executor = Executors.newFixedThreadPool(threads);
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext(CONTEXT_PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info(String.format("Fake QuickBooks Online API listening on port %1$s", port));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (null != server) server.stop(0);
+        if (null != executor) executor.shutdownNow();
+    }
+
+    private void loadFixtures() throws IOException {
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(fixtures)) {
+            final String entityName = StringUtils.removeEnd(resource.getFilename(), ".json");
+            if (!entities.containsKey(entityName)) {
+                log.warn(String.format("Skipping fixture %1$s, %2$s is not a faked entity", resource.getFilename(), entityName));
+                continue;
+            }
+            try (InputStream inputStream = resource.getInputStream()) {
+                for (JsonNode entity : objectMapper.readTree(inputStream)) {
+                    final String id = entity.path("Id").asText();
+                    entities.get(entityName).put(id, (ObjectNode) entity);
+                    if (StringUtils.isNumeric(id)) nextId.accumulateAndGet(Long.parseLong(id) + 1, Math::max);
+                }
+            }
+            log.info(String.format("Loaded %1$s %2$s fixtures", entities.get(entityName).size(), entityName));
+        }
+    }
+
+    private void handle(final HttpExchange exchange) {
+        try {
+            delay();
+
+            final String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (!StringUtils.startsWith(authorization, "Bearer ")) {
+                send(exchange, 401, fault("AuthenticationFault", "3200", "message=AuthenticationFailed; errorCode=003200; statusCode=401", null));
+                return;
+            }
+
+            final double chance = ThreadLocalRandom.current().nextDouble();
+            if (chance < throttleRate) {
+                send(exchange, 429, fault("ThrottleExceeded", "3001", "message=ThrottleExceeded; errorCode=003001; statusCode=429", "Injected throttling"));
+                return;
+            }
+            if (chance < throttleRate + errorRate) {
+                send(exchange, 500, fault("SystemFault", "10000", "An application error has occurred while processing your request", "Injected error"));
+                return;
+            }
+
+            // /v3/company/{realmId}/{operation}[/{id}]
+            final String[] segments = exchange.getRequestURI().getPath().substring(CONTEXT_PATH.length()).split("/");
+            final Map<String, String> parameters = parameters(exchange.getRequestURI().getRawQuery());
+            final String operation = segments.length > 1 ? segments[1].toLowerCase() : "";
+            final String method = exchange.getRequestMethod();
+
+            if ("query".equals(operation)) {
+                final String sql = "GET".equals(method) ? parameters.get("query") : new String(body(exchange), StandardCharsets.UTF_8);
+                send(exchange, 200, query(sql));
+            } else if ("cdc".equals(operation) && "GET".equals(method)) {
+                send(exchange, 200, changes(parameters.get("entities"), parameters.get("changedsince")));
+            } else if ("batch".equals(operation) && "POST".equals(method)) {
+                sendOnce(exchange, parameters.get("requestid"), () -> batch(objectMapper.readTree(body(exchange))));
+            } else if (ENTITY_NAMES.containsKey(operation) && "GET".equals(method) && segments.length > 2) {
+                final ObjectNode entity = entities.get(ENTITY_NAMES.get(operation)).get(segments[2]);
+                if (null == entity) send(exchange, 400, fault("ValidationFault", "610", "Object Not Found", "Something you're trying to use has been made inactive or is not found"));
+                else send(exchange, 200, wrap(ENTITY_NAMES.get(operation), entity));
+            } else if (ENTITY_NAMES.containsKey(operation) && "POST".equals(method)) {
+                final String entityName = ENTITY_NAMES.get(operation);
+                sendOnce(exchange, parameters.get("requestid"), () -> wrap(entityName, create(entityName, objectMapper.readTree(body(exchange)).path(entityName))));
+            } else {
+                send(exchange, 400, fault("ValidationFault", "4000", "Unsupported Operation", String.format("Operation %1$s %2$s is not faked", method, operation)));
+            }
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while answering fake QuickBooks request %1$s: %2$s", exchange.getRequestURI(), e.getLocalizedMessage()));
+            // the client would otherwise wait for a response until the connection is closed
+            if (-1 == exchange.getResponseCode()) {
+                try {
+                    send(exchange, 500, fault("SystemFault", "10000", "An application error has occurred while processing your request", e.getLocalizedMessage()));
+                } catch (IOException ioException) {
+                    log.error(String.format("Error occurred while sending the fault of fake QuickBooks request %1$s: %2$s", exchange.getRequestURI(), ioException.getLocalizedMessage()));
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private ObjectNode query(final String sql) {
+        final Matcher matcher = QUERY.matcher(StringUtils.defaultString(sql));
+        if (!matcher.matches()) return fault("ValidationFault", "4000", "Error parsing query", sql);
+
+        final String entityName = ENTITY_NAMES.get(matcher.group(1).toLowerCase());
+        if (null == entityName) return fault("ValidationFault", "4000", "Error parsing query", String.format("Entity %1$s is not faked", matcher.group(1)));
+        final String where = StringUtils.defaultString(matcher.group(2));
+        final int startPosition = null == matcher.group(3) ? 1 : Integer.parseInt(matcher.group(3));
+        final int maxResults = null == matcher.group(4) ? DEFAULT_MAX_RESULTS : Integer.parseInt(matcher.group(4));
+
+        final Matcher idMatcher = WHERE_ID.matcher(where);
+        final String id = idMatcher.find() ? idMatcher.group(1) : null;
+        final Matcher lastUpdatedTime = WHERE_LAST_UPDATED_TIME.matcher(where);
+        final OffsetDateTime updatedAfter = lastUpdatedTime.find() ? parseDateTime(lastUpdatedTime.group(1)) : null;
+        final boolean allActiveStates = WHERE_ALL_ACTIVE_STATES.matcher(where).find();
+
+        final List<ObjectNode> matches = sorted(entityName).stream()
+                .filter(entity -> null == id || StringUtils.equals(entity.path("Id").asText(), id))
+                .filter(entity -> null == updatedAfter || lastUpdatedTime(entity).isAfter(updatedAfter))
+                .filter(entity -> allActiveStates || entity.path("Active").asBoolean(true))
+                .toList();
+        final List<ObjectNode> page = matches.subList(Math.min(startPosition - 1, matches.size()), Math.min(startPosition - 1 + maxResults, matches.size()));
+
+        final ObjectNode queryResponse = objectMapper.createObjectNode();
+        if (!page.isEmpty()) queryResponse.putArray(entityName).addAll(page);
+        queryResponse.put("startPosition", startPosition);
+        queryResponse.put("maxResults", page.size());
+
+        final ObjectNode response = objectMapper.createObjectNode();
+        response.set("QueryResponse", queryResponse);
+        response.put("time", now());
+        return response;
+    }
+
+    private ObjectNode changes(final String entityNames, final String changedSince) {
+        if (StringUtils.isEmpty(entityNames) || StringUtils.isEmpty(changedSince))
+            return fault("ValidationFault", "4000", "Invalid change data capture request", "entities and changedSince are required");
+        final OffsetDateTime updatedAfter = parseDateTime(changedSince);
+
+        final ArrayNode queryResponses = objectMapper.createArrayNode();
+        for (String name : entityNames.split(",")) {
+            final String entityName = ENTITY_NAMES.get(name.trim().toLowerCase());
+            if (null == entityName) continue;
+            final List<ObjectNode> changed = sorted(entityName).stream()
+                    .filter(entity -> lastUpdatedTime(entity).isAfter(updatedAfter))
+                    .toList();
+            final ObjectNode queryResponse = queryResponses.addObject();
+            if (!changed.isEmpty()) queryResponse.putArray(entityName).addAll(changed);
+            queryResponse.put("startPosition", 1);
+            queryResponse.put("maxResults", changed.size());
+            queryResponse.put("totalCount", changed.size());
+        }
+
+        final ObjectNode response = objectMapper.createObjectNode();
+        response.putArray("CDCResponse").addObject().set("QueryResponse", queryResponses);
+        response.put("time", now());
+        return response;
+    }
+
+    private ObjectNode batch(final JsonNode request) {
+        final ArrayNode itemResponses = objectMapper.createArrayNode();
+        for (JsonNode itemRequest : request.path("BatchItemRequest")) {
+            final ObjectNode itemResponse = itemResponses.addObject();
+            itemResponse.put("bId", itemRequest.path("bId").asText());
+
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                itemResponse.set("Fault", fault("ValidationFault", "6000", "A business validation error has occurred while processing your request", "Injected error").get("Fault"));
+                continue;
+            }
+            if (itemRequest.has("Query")) {
+                itemResponse.setAll(query(itemRequest.path("Query").asText()));
+                itemResponse.remove("time");
+                continue;
+            }
+
+            final String entityName = ENTITY_NAMES.values().stream().filter(itemRequest::has).findFirst().orElse(null);
+            if (null == entityName || !"create".equalsIgnoreCase(itemRequest.path("operation").asText())) {
+                itemResponse.set("Fault", fault("ValidationFault", "4000", "Unsupported Operation", "Only create and query batch items are faked").get("Fault"));
+                continue;
+            }
+            itemResponse.set(entityName, create(entityName, itemRequest.path(entityName)));
+        }
+
+        final ObjectNode response = objectMapper.createObjectNode();
+        response.set("BatchItemResponse", itemResponses);
+        response.put("time", now());
+        return response;
+    }
+
+    private ObjectNode create(final String entityName, final JsonNode request) {
+        final ObjectNode entity = request.isObject() ? ((ObjectNode) request).deepCopy() : objectMapper.createObjectNode();
+        final String id = String.valueOf(nextId.getAndIncrement());
+        entity.put("Id", id);
+        entity.put("SyncToken", "0");
+        entity.put("domain", "QBO");
+        final ObjectNode metaData = entity.putObject("MetaData");
+        metaData.put("CreateTime", now());
+        metaData.put("LastUpdatedTime", now());
+
+        if ("Invoice".equals(entityName)) {
+            BigDecimal totalAmt = BigDecimal.ZERO;
+            for (JsonNode line : entity.path("Line")) {
+                if (line.has("Amount")) totalAmt = totalAmt.add(line.path("Amount").decimalValue());
+            }
+            entity.put("DocNumber", id);
+            entity.put("TotalAmt", totalAmt);
+            entity.put("Balance", totalAmt);
+        } else if ("Payment".equals(entityName)) {
+            entity.put("UnappliedAmt", entity.path("TotalAmt").decimalValue());
+        } else if (!entity.has("Active")) {
+            entity.put("Active", true);
+        }
+
+        entities.get(entityName).put(id, entity);
+        return entity;
+    }
+
+    private List<ObjectNode> sorted(final String entityName) {
+        final List<ObjectNode> sorted = new ArrayList<>(entities.get(entityName).values());
+        sorted.sort(Comparator.comparing((ObjectNode entity) -> entity.path("Id").asText().length())
+                .thenComparing(entity -> entity.path("Id").asText()));
+        return sorted;
+    }
+
+    private ObjectNode wrap(final String entityName, final JsonNode entity) {
+        final ObjectNode response = objectMapper.createObjectNode();
+        response.set(entityName, entity);
+        response.put("time", now());
+        return response;
+    }
+
+    private ObjectNode fault(final String type, final String code, final String message, final String detail) {
+        final ObjectNode response = objectMapper.createObjectNode();
+        final ObjectNode fault = response.putObject("Fault");
+        final ObjectNode error = fault.putArray("Error").addObject();
+        error.put("Message", message);
+        if (null != detail) error.put("Detail", detail);
+        error.put("code", code);
+        fault.put("type", type);
+        response.put("time", now());
+        return response;
+    }
+
+    /**
+     * Sends the response of a create, or the response already sent for the same request id.
+     */
+    private void sendOnce(final HttpExchange exchange, final String requestId, final ResponseSupplier responseSupplier) throws IOException {
+        if (null == requestId) {
+            send(exchange, 200, responseSupplier.get());
+            return;
+        }
+        byte[] body;
+        synchronized (responsesByRequestId) {
+            body = responsesByRequestId.get(requestId);
+        }
+        if (null == body) {
+            body = objectMapper.writeValueAsBytes(responseSupplier.get());
+            synchronized (responsesByRequestId) {
+                final byte[] firstBody = responsesByRequestId.putIfAbsent(requestId, body);
+                if (null != firstBody) body = firstBody;
+            }
+        }
+        send(exchange, 200, body);
+    }
+
+    private void send(final HttpExchange exchange, final int status, final JsonNode response) throws IOException {
+        send(exchange, response.has("Fault") && 200 == status ? 400 : status, objectMapper.writeValueAsBytes(response));
+    }
+
+    private void send(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.getResponseHeaders().set("intuit_tid", UUID.randomUUID().toString());
+        final boolean gzip = StringUtils.containsIgnoreCase(exchange.getRequestHeaders().getFirst("Accept-Encoding"), "gzip");
+        if (gzip) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(status, 0);
+            try (OutputStream outputStream = new GZIPOutputStream(exchange.getResponseBody())) {
+                outputStream.write(body);
+            }
+        } else {
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }
+    }
+
+    private static byte[] body(final HttpExchange exchange) throws IOException {
+        final InputStream inputStream = StringUtils.containsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"), "gzip")
+                ? new GZIPInputStream(exchange.getRequestBody())
+                : exchange.getRequestBody();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        inputStream.transferTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * @return the query parameters with lower case names, QuickBooks does not care about their case
+     */
+    private static Map<String, String> parameters(final String rawQuery) {
+        final Map<String, String> parameters = new HashMap<>();
+        if (null == rawQuery) return parameters;
+        for (String parameter : rawQuery.split("&")) {
+            final int separator = parameter.indexOf('=');
+            if (separator < 0) continue;
+            parameters.put(parameter.substring(0, separator).toLowerCase(),
+                    URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private void delay() throws InterruptedException {
+        long millis = latency.toMillis();
+        if (latencyJitter.toMillis() > 0) millis += ThreadLocalRandom.current().nextLong(latencyJitter.toMillis() + 1);
+        if (millis > 0) Thread.sleep(millis);
+    }
+
+    private static OffsetDateTime lastUpdatedTime(final JsonNode entity) {
+        final String lastUpdatedTime = entity.path("MetaData").path("LastUpdatedTime").asText(null);
+        return null == lastUpdatedTime ? OffsetDateTime.MIN : parseDateTime(lastUpdatedTime);
+    }
+
+    private static OffsetDateTime parseDateTime(final String dateTime) {
+        // an unencoded '+' of the offset arrives as a space
+        return OffsetDateTime.parse(dateTime.trim().replace(' ', '+'));
+    }
+
+    private static String now() {
+        return OffsetDateTime.now(ZoneOffset.UTC).format(QBO_DATE_TIME);
+    }
+
+    @FunctionalInterface
+    private interface ResponseSupplier {
+        JsonNode get() throws IOException;
+    }
+}
@@ -21,9 +21,12 @@ public class OAuth2PlatformClientFactory {
     @PostConstruct
     public void init() {
         //initialize the config
-        oauth2Config = new OAuth2Config.OAuth2ConfigBuilder(env.getProperty("OAuth2AppClientId"), env.getProperty("OAuth2AppClientSecret")) //set client id, secret
-                .callDiscoveryAPI(Environment.SANDBOX) // call discovery API to populate urls
-                .buildConfig();
+        OAuth2Config.OAuth2ConfigBuilder oauth2ConfigBuilder = new OAuth2Config.OAuth2ConfigBuilder(env.getProperty("OAuth2AppClientId"), env.getProperty("OAuth2AppClientSecret")); //set client id, secret
+        // the discovery API is not reachable without network access, e.g. when running against the fake QBO server
+        if (env.getProperty("qbo.oauth.discovery.enabled", Boolean.class, true)) {
+            oauth2ConfigBuilder.callDiscoveryAPI(Environment.SANDBOX); // call discovery API to populate urls
+        }
+        oauth2Config = oauth2ConfigBuilder.buildConfig();
         //build the client
         client  = new OAuth2PlatformClient(oauth2Config);
     }
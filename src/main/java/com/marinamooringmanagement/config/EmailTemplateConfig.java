@@ -0,0 +1,51 @@
+package com.marinamooringmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Configuration of the template engine shared by all email templates.
+ * Templates are parsed on their first use and the parsed templates are kept for the lifetime of the application,
+ * so rendering a notification only evaluates the expressions of an already parsed template.
+ */
+@Configuration
+public class EmailTemplateConfig {
+
+    private static final String MAIL_TEMPLATE_BASE_NAME = "mail/MailMessages";
+
+    private static final String MAIL_TEMPLATE_PREFIX = "template/";
+
+    private static final String MAIL_TEMPLATE_SUFFIX = ".html";
+
+    @Bean
+    public SpringTemplateEngine emailTemplateEngine(@Value("${email.template.cache.max-size}") final int templateCacheMaxSize) {
+        final SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+
+        final ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix(MAIL_TEMPLATE_PREFIX);
+        templateResolver.setSuffix(MAIL_TEMPLATE_SUFFIX);
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        templateResolver.setCacheable(true);
+        templateResolver.setCacheTTLMs(null);
+        templateEngine.setTemplateResolver(templateResolver);
+
+        final StandardCacheManager cacheManager = new StandardCacheManager();
+        cacheManager.setTemplateCacheMaxSize(templateCacheMaxSize);
+        templateEngine.setCacheManager(cacheManager);
+
+        final ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename(MAIL_TEMPLATE_BASE_NAME);
+        templateEngine.setTemplateEngineMessageSource(messageSource);
+
+        return templateEngine;
+    }
+}
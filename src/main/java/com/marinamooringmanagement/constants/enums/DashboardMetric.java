@@ -0,0 +1,34 @@
+package com.marinamooringmanagement.constants.enums;
+
+/**
+ * Counters kept per customer owner for the dashboard tiles.
+ *
+ * <p>Monthly metrics are kept in one bucket per month of the creation date of the counted entity, the others in a
+ * single running total.
+ */
+public enum DashboardMetric {
+
+    MOORINGS(false),
+
+    MOORINGS_CREATED(true),
+
+    OPEN_WORK_ORDERS(false),
+
+    WORK_ORDERS_CREATED(true),
+
+    PENDING_PAY_APPROVALS(false),
+
+    OUTSTANDING_INVOICES(false),
+
+    PAYMENTS_RECEIVED(true);
+
+    final boolean monthly;
+
+    DashboardMetric(boolean monthly) {
+        this.monthly = monthly;
+    }
+
+    public boolean isMonthly() {
+        return monthly;
+    }
+}
@@ -0,0 +1,44 @@
+package com.marinamooringmanagement.constants.enums;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * File formats the lists can be exported to.
+ */
+public enum ExportFormat {
+
+    CSV("csv", "text/csv"),
+
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private final String extension;
+
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @param extension the extension of the format as given in the export URL
+     * @return the format, {@link #CSV} if none is given
+     * @throws ResponseStatusException with {@link HttpStatus#BAD_REQUEST} if the format is unknown
+     */
+    public static ExportFormat fromExtension(final String extension) {
+        if (null == extension || extension.isBlank()) return CSV;
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(extension)) return format;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, String.format("Unknown export format: %1$s", extension));
+    }
+}
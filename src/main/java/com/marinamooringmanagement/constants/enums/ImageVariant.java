@@ -0,0 +1,38 @@
+package com.marinamooringmanagement.constants.enums;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Downscaled renditions of an uploaded image. The pixel size of each variant is configured with
+ * {@code image.variant.<name>.size} as the length of the longer edge.
+ */
+public enum ImageVariant {
+
+    THUMB("thumb"),
+
+    MEDIUM("medium");
+
+    private final String variantName;
+
+    ImageVariant(String variantName) {
+        this.variantName = variantName;
+    }
+
+    public String getVariantName() {
+        return variantName;
+    }
+
+    /**
+     * @param variantName the name of the variant as used in the download URL
+     * @return the variant, or {@code null} for the original image
+     * @throws ResponseStatusException with {@link HttpStatus#BAD_REQUEST} if the variant is unknown
+     */
+    public static ImageVariant fromVariantName(final String variantName) {
+        if (null == variantName || variantName.isBlank()) return null;
+        for (ImageVariant variant : values()) {
+            if (variant.variantName.equalsIgnoreCase(variantName)) return variant;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, String.format("Unknown image variant: %1$s", variantName));
+    }
+}
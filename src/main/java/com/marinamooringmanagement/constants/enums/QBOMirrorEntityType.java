@@ -0,0 +1,26 @@
+package com.marinamooringmanagement.constants.enums;
+
+/**
+ * QuickBooks Online entities mirrored into local tables by the mirror sync.
+ */
+public enum QBOMirrorEntityType {
+
+    CUSTOMER("Customer"),
+
+    ITEM("Item"),
+
+    PAYMENT_METHOD("PaymentMethod");
+
+    final String entityName;
+
+    QBOMirrorEntityType(String entityName) {
+        this.entityName = entityName;
+    }
+
+    /**
+     * @return the name of the entity in QuickBooks queries and change data capture results
+     */
+    public String getEntityName() {
+        return entityName;
+    }
+}
@@ -0,0 +1,8 @@
+package com.marinamooringmanagement.constants.enums;
+
+public enum QBOOutboxEntityType {
+
+    INVOICE,
+
+    PAYMENT
+}
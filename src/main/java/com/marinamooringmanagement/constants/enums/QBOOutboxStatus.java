@@ -0,0 +1,12 @@
+package com.marinamooringmanagement.constants.enums;
+
+public enum QBOOutboxStatus {
+
+    PENDING,
+
+    PUSHING,
+
+    PUSHED,
+
+    FAILED
+}
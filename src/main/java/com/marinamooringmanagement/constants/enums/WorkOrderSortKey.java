@@ -0,0 +1,110 @@
+package com.marinamooringmanagement.constants.enums;
+
+import com.marinamooringmanagement.exception.InvalidPaginationRequestException;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * Whitelist of the columns the work order listing can be sorted on.
+ *
+ * <p>Each key knows its JPQL expression, how to read the key value from a fetched {@link WorkOrder}
+ * and how to write/read that value inside a keyset cursor. Nullable columns are wrapped in
+ * {@code COALESCE} with a sentinel so that the seek predicate stays a plain comparison.
+ */
+public enum WorkOrderSortKey {
+
+    ID("id", "wo.id", null, WorkOrder::getId),
+
+    WORK_ORDER_NUMBER("workOrderNumber", "COALESCE(wo.workOrderNumber, '')", "", WorkOrder::getWorkOrderNumber),
+
+    DUE_DATE("dueDate", "COALESCE(wo.dueDate, :nullSortValue)", new Date(0L), WorkOrder::getDueDate),
+
+    SCHEDULED_DATE("scheduledDate", "COALESCE(wo.scheduledDate, :nullSortValue)", new Date(0L), WorkOrder::getScheduledDate),
+
+    COMPLETED_DATE("completedDate", "COALESCE(wo.completedDate, :nullSortValue)", new Date(0L), WorkOrder::getCompletedDate);
+
+    private final String fieldName;
+
+    private final String expression;
+
+    private final Object nullValue;
+
+    private final Function<WorkOrder, Object> extractor;
+
+    WorkOrderSortKey(String fieldName, String expression, Object nullValue, Function<WorkOrder, Object> extractor) {
+        this.fieldName = fieldName;
+        this.expression = expression;
+        this.nullValue = nullValue;
+        this.extractor = extractor;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return {@code true} if the expression references the {@code :nullSortValue} parameter.
+     */
+    public boolean isDateKey() {
+        return nullValue instanceof Date;
+    }
+
+    public Object getNullValue() {
+        return nullValue;
+    }
+
+    /**
+     * Reads the sort value of the given work order, substituting the null sentinel where needed.
+     */
+    public Object extract(final WorkOrder workOrder) {
+        final Object value = extractor.apply(workOrder);
+        return null == value ? nullValue : value;
+    }
+
+    /**
+     * Serializes a sort value for storage inside a cursor token. Dates are written as ISO-8601 instants with
+     * the fraction of the fetched {@link Timestamp}, a value cut to milliseconds would seek past rows of the
+     * same millisecond.
+     */
+    public String format(final Object value) {
+        if (value instanceof Date date) return date.toInstant().toString();
+        return String.valueOf(value);
+    }
+
+    /**
+     * Parses a sort value previously written by {@link #format(Object)}.
+     */
+    public Object parse(final String value) {
+        try {
+            if (this == ID) return Integer.valueOf(value);
+            if (isDateKey()) return Timestamp.from(Instant.parse(value));
+            return value;
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidPaginationRequestException(String.format("Invalid cursor value for sort key %1$s", fieldName), e);
+        }
+    }
+
+    /**
+     * Resolves the sort key for the given request field, defaulting to {@link #ID}.
+     *
+     * @param sortBy the field name sent by the client
+     * @return the matching sort key
+     * @throws InvalidPaginationRequestException if the field is not sortable
+     */
+    public static WorkOrderSortKey fromFieldName(final String sortBy) {
+        if (null == sortBy || sortBy.isBlank()) return ID;
+        for (WorkOrderSortKey key : values()) {
+            if (key.fieldName.equalsIgnoreCase(sortBy)) return key;
+        }
+        throw new InvalidPaginationRequestException(String.format("Work orders cannot be sorted by %1$s", sortBy));
+    }
+}
@@ -7,12 +7,14 @@ import com.marinamooringmanagement.model.response.BasicRestResponse;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.sql.Timestamp;
 
@@ -85,6 +87,27 @@ public class GlobalExceptionHandler implements ApplicationEventPublisherAware {
         return response;
     }
 
+    /**
+     * Handle {@link ResponseStatusException}.
+     * <p>
+     * This method handles exceptions that carry their own HTTP status, such as a bad request, and constructs a
+     * {@link BasicRestResponse} containing the error details, sent with that status.
+     * </p>
+     *
+     * @param ex the response status exception thrown.
+     * @return a {@link ResponseEntity} with the status of the exception and a {@link BasicRestResponse} containing the error details.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<BasicRestResponse> handleResponseStatusException(ResponseStatusException ex) {
+        BasicRestResponse response = BasicRestResponse.builder().build();
+
+        response.setTime(new Timestamp(System.currentTimeMillis()));
+        response.setStatus(ex.getStatusCode().value());
+        response.setMessage(ex.getReason());
+
+        return new ResponseEntity<>(response, ex.getStatusCode());
+    }
+
     /**
      * Handle {@link DataFormatException}.
      * <p>
@@ -0,0 +1,245 @@
+package com.marinamooringmanagement.helper;
+
+import com.marinamooringmanagement.exception.ResourceNotFoundException;
+import com.marinamooringmanagement.model.entity.Form;
+import com.marinamooringmanagement.model.entity.Image;
+import com.marinamooringmanagement.model.entity.VoiceMEMO;
+import com.marinamooringmanagement.service.BlobStore;
+import com.marinamooringmanagement.utils.ContentTypeUtils;
+import com.marinamooringmanagement.utils.ImageUtils;
+import com.marinamooringmanagement.utils.SizeLimitedInputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves the binary content of images, forms and voice memos in and out of the {@link BlobStore} and keeps
+ * the blob key, size and content type of the entities in sync with it.
+ */
+@Component
+public class BlobContentHelper {
+
+    private static final int HEADER_LENGTH = 16;
+
+    public static final LegacyColumn IMAGE_DATA = new LegacyColumn("image", "image_data", null);
+
+    public static final LegacyColumn FORM_DATA = new LegacyColumn("form_table", "form_data", ContentTypeUtils.PDF);
+
+    public static final LegacyColumn VOICE_MEMO_DATA = new LegacyColumn("voice_memo", "data", null);
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // whether the legacy column of a table is still present
+    private final Map<String, Boolean> legacyColumns = new ConcurrentHashMap<>();
+
+    @Value("${image.upload.max-size}")
+    private DataSize maxImageSize;
+
+    public void store(final Image image, final byte[] data) {
+        final BlobStore.StoredBlob blob = blobStore.put(data, ContentTypeUtils.detect(header(data), ContentTypeUtils.OCTET_STREAM));
+        image.setBlobKey(blob.key());
+        image.setBlobSize(blob.size());
+        image.setContentType(blob.contentType());
+    }
+
+    /**
+     * Streams an uploaded image into the store. The format is checked from the magic bytes only and the
+     * upload is aborted as soon as it exceeds {@code image.upload.max-size}, the file is never held in memory.
+     *
+     * @param image       the image entity to attach the blob to
+     * @param inputStream the uploaded file, not closed by this method
+     */
+    public void store(final Image image, final InputStream inputStream) throws IOException {
+        final BufferedInputStream in = new BufferedInputStream(new SizeLimitedInputStream(inputStream, maxImageSize.toBytes()));
+        in.mark(HEADER_LENGTH);
+        final byte[] header = in.readNBytes(HEADER_LENGTH);
+        in.reset();
+        if (!ImageUtils.isImage(header)) throw new RuntimeException(String.format("Invalid image file: %1$s", image.getImageName()));
+
+        final BlobStore.StoredBlob blob = blobStore.put(in, ContentTypeUtils.detect(header, ContentTypeUtils.OCTET_STREAM));
+        image.setBlobKey(blob.key());
+        image.setBlobSize(blob.size());
+        image.setContentType(blob.contentType());
+    }
+
+    public void store(final Form form, final byte[] data) {
+        final BlobStore.StoredBlob blob = blobStore.put(data, ContentTypeUtils.PDF);
+        form.setBlobKey(blob.key());
+        form.setBlobSize(blob.size());
+        form.setContentType(blob.contentType());
+    }
+
+    public void store(final VoiceMEMO voiceMEMO, final byte[] data) {
+        final BlobStore.StoredBlob blob = blobStore.put(data, ContentTypeUtils.detect(header(data), ContentTypeUtils.OCTET_STREAM));
+        voiceMEMO.setBlobKey(blob.key());
+        voiceMEMO.setBlobSize(blob.size());
+        voiceMEMO.setContentType(blob.contentType());
+    }
+
+    /**
+     * @param blobKey the blob key of an entity, may be {@code null}
+     * @return the content of the blob, or {@code null} if the entity has no content
+     */
+    public byte[] read(final String blobKey) {
+        if (null == blobKey) return null;
+        return blobStore.read(blobKey);
+    }
+
+    /**
+     * Reads the content of an image, from its legacy column while the row has not been moved to the store yet.
+     *
+     * @return the content, or {@code null} if the image has no content
+     */
+    public byte[] read(final Image image) {
+        return null != image.getBlobKey() ? blobStore.read(image.getBlobKey()) : readLegacy(IMAGE_DATA, image.getId());
+    }
+
+    /**
+     * @see #read(Image)
+     */
+    public byte[] read(final Form form) {
+        return null != form.getBlobKey() ? blobStore.read(form.getBlobKey()) : readLegacy(FORM_DATA, form.getId());
+    }
+
+    /**
+     * @see #read(Image)
+     */
+    public byte[] read(final VoiceMEMO voiceMEMO) {
+        return null != voiceMEMO.getBlobKey() ? blobStore.read(voiceMEMO.getBlobKey()) : readLegacy(VOICE_MEMO_DATA, voiceMEMO.getId());
+    }
+
+    /**
+     * @return the content encoded in Base64, or {@code null} if there is no content
+     */
+    public String encode(final byte[] data) {
+        return null == data ? null : Base64.getEncoder().encodeToString(data);
+    }
+
+    private byte[] readLegacy(final LegacyColumn legacyColumn, final Integer id) {
+        if (null == id || !legacyColumnExists(legacyColumn)) return null;
+        final String select = String.format("SELECT %1$s FROM %2$s WHERE id = ?", legacyColumn.column(), legacyColumn.table());
+        // large objects are read within a transaction on PostgreSQL
+        try {
+            return transactionTemplate.execute(status -> {
+                final List<byte[]> data = jdbcTemplate.query(select, (rs, rowNum) -> {
+                    final Blob blob = rs.getBlob(1);
+                    if (null == blob) return null;
+                    try {
+                        return blob.getBytes(1, (int) blob.length());
+                    } finally {
+                        blob.free();
+                    }
+                }, id);
+                return data.isEmpty() ? null : data.get(0);
+            });
+        } catch (BadSqlGrammarException e) {
+            // the column was dropped after it had been looked up
+            if (legacyColumnType(legacyColumn) != null) throw e;
+            return null;
+        }
+    }
+
+    public boolean legacyColumnExists(final LegacyColumn legacyColumn) {
+        final Boolean exists = legacyColumns.get(legacyColumn.table());
+        return null != exists ? exists : null != legacyColumnType(legacyColumn);
+    }
+
+    /**
+     * @return the database type of the legacy column, or {@code null} once the column has been dropped
+     */
+    public String legacyColumnType(final LegacyColumn legacyColumn) {
+        final String columnType = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            final DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, legacyColumn.table(), legacyColumn.column())) {
+                return rs.next() ? rs.getString("TYPE_NAME") : null;
+            }
+        });
+        // every lookup refreshes the cached presence, the migration looks the columns up on each run
+        legacyColumns.put(legacyColumn.table(), null != columnType);
+        return columnType;
+    }
+
+    /**
+     * Builds the response of a binary download endpoint.
+     *
+     * <p>The body is streamed from the store. Spring MVC fills in {@code Content-Length} and
+     * {@code Accept-Ranges}, answers {@code Range} requests with {@code 206 Partial Content} and
+     * {@code If-None-Match} requests with {@code 304 Not Modified}. The blob key is the content hash and
+     * serves as a strong {@code ETag}. Clients may keep a copy but have to revalidate it, since the content
+     * behind an id can be replaced.
+     *
+     * @param blobKey     the blob key of the entity
+     * @param contentType the content type of the entity
+     * @param fileName    the file name suggested to the client
+     * @param attachment  whether the client should save the file instead of displaying it
+     * @return the response entity
+     */
+    public ResponseEntity<Resource> download(final String blobKey, final String contentType, final String fileName, final boolean attachment) {
+        if (null == blobKey) throw new ResourceNotFoundException(String.format("No content stored for: %1$s", fileName));
+        return download(blobStore.resource(blobKey), blobKey, contentType, fileName, attachment);
+    }
+
+    /**
+     * Builds the response of a binary download endpoint for content derived from a blob.
+     *
+     * @param resource    the content
+     * @param eTag        the entity tag of the content
+     * @param contentType the content type of the content
+     * @param fileName    the file name suggested to the client
+     * @param attachment  whether the client should save the file instead of displaying it
+     * @return the response entity
+     */
+    public ResponseEntity<Resource> download(final Resource resource, final String eTag, final String contentType, final String fileName, final boolean attachment) {
+        final ContentDisposition.Builder contentDisposition = attachment ? ContentDisposition.attachment() : ContentDisposition.inline();
+        if (null != fileName) contentDisposition.filename(fileName, StandardCharsets.UTF_8);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(null == contentType ? ContentTypeUtils.OCTET_STREAM : contentType))
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.build().toString())
+                .body(resource);
+    }
+
+    private static byte[] header(final byte[] data) {
+        return Arrays.copyOf(data, Math.min(HEADER_LENGTH, data.length));
+    }
+
+    /**
+     * A column the binaries were held in before the blob store, {@code contentType} is {@code null} where it is
+     * detected from the content.
+     */
+    public record LegacyColumn(String table, String column, String contentType) {
+    }
+}
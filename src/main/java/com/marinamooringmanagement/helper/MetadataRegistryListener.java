@@ -0,0 +1,36 @@
+package com.marinamooringmanagement.helper;
+
+import com.marinamooringmanagement.model.entity.metadata.Country;
+import com.marinamooringmanagement.model.entity.metadata.State;
+import com.marinamooringmanagement.service.MetadataRegistry;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity listener of the metadata tables, reloads the snapshot of the {@link MetadataRegistry} once a write to
+ * its table has been committed.
+ */
+@Component
+public class MetadataRegistryListener {
+
+    // the registry is built from repositories, which need the entity manager factory this listener belongs to
+    @Lazy
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void afterWrite(final Object entity) {
+        final Class<?> type = Hibernate.getClass(entity);
+        metadataRegistry.refresh(type);
+        // countries hold their states and states their country, both snapshots change together
+        if (Country.class.equals(type)) metadataRegistry.refresh(State.class);
+        if (State.class.equals(type)) metadataRegistry.refresh(Country.class);
+    }
+}
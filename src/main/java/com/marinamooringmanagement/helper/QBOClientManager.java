@@ -0,0 +1,212 @@
+package com.marinamooringmanagement.helper;
+
+import com.intuit.ipp.exception.FMSException;
+import com.intuit.ipp.exception.InvalidTokenException;
+import com.intuit.ipp.services.DataService;
+import com.intuit.oauth2.exception.OAuthException;
+import com.marinamooringmanagement.model.entity.QBO.QBOUser;
+import com.marinamooringmanagement.repositories.QBO.QBOUserRepository;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out QuickBooks data services per {@link QBOUser} and keeps their OAuth tokens fresh.
+ *
+ * <p>The data service of a QBO user is cached until its access token changes. Tokens are refreshed ahead of
+ * their expiry by the token refresh scheduler, and reactively when QuickBooks rejects a token. Concurrent
+ * refreshes of the same QBO user share a single call to Intuit, since every refresh rotates the refresh token
+ * and a second call with the old one would fail.
+ */
+@Component
+public class QBOClientManager {
+
+    private static final Logger log = LoggerFactory.getLogger(QBOClientManager.class);
+
+    @Autowired
+    private QBOServiceHelper helper;
+
+    @Autowired
+    private QBOUserRepository qboUserRepository;
+
+    @Value("${qbo.token.refresh.ahead}")
+    private Duration refreshAhead;
+
+    private final Map<Integer, CachedClient> clients = new ConcurrentHashMap<>();
+
+    private final Map<Integer, CompletableFuture<QBOUser>> refreshes = new ConcurrentHashMap<>();
+
+    /**
+     * A call against the QuickBooks API.
+     */
+    @FunctionalInterface
+    public interface QBOCall<T> {
+        T call(DataService dataService) throws FMSException;
+    }
+
+    /**
+     * Runs a call with the cached data service of the QBO user. If QuickBooks rejects the access token, the
+     * tokens are refreshed and the call is repeated once.
+     */
+    public <T> T execute(final QBOUser qboUser, final QBOCall<T> call) throws FMSException, OAuthException {
+        try {
+            return call(getDataService(qboUser), call);
+        } catch (InvalidTokenException e) {
+            log.info(String.format("Access token of QBO user with id: %1$s rejected, refreshing tokens", qboUser.getId()));
+            return call(getDataService(refresh(qboUser)), call);
+        }
+    }
+
+    /**
+     * Runs a create call whose requests carry the given QuickBooks {@code requestid}. The data service is
+     * created for this call only, since the request id is part of its context.
+     */
+    public <T> T execute(final QBOUser qboUser, final String requestId, final QBOCall<T> call) throws FMSException, OAuthException {
+        final QBOUser current = current(qboUser);
+        try {
+            return call(helper.getDataService(current.getRealmId(), current.getAccessToken(), requestId), call);
+        } catch (InvalidTokenException e) {
+            log.info(String.format("Access token of QBO user with id: %1$s rejected, refreshing tokens", qboUser.getId()));
+            final QBOUser refreshed = refresh(current);
+            return call(helper.getDataService(refreshed.getRealmId(), refreshed.getAccessToken(), requestId), call);
+        }
+    }
+
+    /**
+     * Runs the call on the current thread. A cached data service may have been created on another thread, while
+     * the SDK reads its configuration from the thread sending the request.
+     */
+    private <T> T call(final DataService dataService, final QBOCall<T> call) throws FMSException {
+        helper.configureThread();
+        return call.call(dataService);
+    }
+
+    /**
+     * @param qboUser the QBO user
+     * @return the cached data service of the QBO user, created if the user has no data service for its current
+     * access token yet
+     */
+    public DataService getDataService(final QBOUser qboUser) throws FMSException {
+        final QBOUser current = current(qboUser);
+        final CachedClient cachedClient = clients.get(current.getId());
+        if (null != cachedClient && cachedClient.matches(current)) return cachedClient.dataService();
+
+        final DataService dataService = helper.getDataService(current.getRealmId(), current.getAccessToken());
+        clients.put(current.getId(), new CachedClient(current, dataService));
+        return dataService;
+    }
+
+    /**
+     * Refreshes the tokens of the QBO user and persists them. A refresh already running for the same user is
+     * joined instead of starting a second one, and a token that has been refreshed in the meantime, possibly
+     * by another instance, is used as it is.
+     *
+     * @param qboUser the QBO user with the token that needs to be replaced
+     * @return the QBO user with fresh tokens
+     */
+    public QBOUser refresh(final QBOUser qboUser) throws OAuthException {
+        final CompletableFuture<QBOUser> refresh = new CompletableFuture<>();
+        final CompletableFuture<QBOUser> runningRefresh = refreshes.putIfAbsent(qboUser.getId(), refresh);
+        if (null != runningRefresh) return join(runningRefresh);
+
+        try {
+            final QBOUser storedQboUser = qboUserRepository.findById(qboUser.getId()).orElse(qboUser);
+            final QBOUser refreshedQboUser;
+            if (!StringUtils.equals(storedQboUser.getAccessToken(), qboUser.getAccessToken()) && !isExpiring(storedQboUser)) {
+                refreshedQboUser = storedQboUser;
+            } else {
+                refreshedQboUser = helper.refreshTokens(storedQboUser);
+            }
+            clients.remove(refreshedQboUser.getId());
+            remember(refreshedQboUser);
+            refresh.complete(refreshedQboUser);
+            return refreshedQboUser;
+        } catch (OAuthException | RuntimeException e) {
+            refresh.completeExceptionally(e);
+            throw e;
+        } finally {
+            refreshes.remove(qboUser.getId(), refresh);
+        }
+    }
+
+    /**
+     * Refreshes the tokens of every QBO user whose access token expires within {@code qbo.token.refresh.ahead}.
+     */
+    public void refreshExpiringTokens() {
+        for (QBOUser qboUser : qboUserRepository.findAll()) {
+            if (StringUtils.isEmpty(qboUser.getRefreshToken()) || !isExpiring(qboUser)) continue;
+            if (null != qboUser.getRefreshTokenExpireAt() && qboUser.getRefreshTokenExpireAt().before(new Date())) continue;
+            try {
+                refresh(qboUser);
+            } catch (Exception e) {
+                log.error(String.format("Error occurred while refreshing tokens of QBO user with id: %1$s: %2$s", qboUser.getId(), e.getLocalizedMessage()));
+            }
+        }
+    }
+
+    /**
+     * A token without a known expiry counts as expiring, so it is refreshed once and its expiry becomes known.
+     */
+    private boolean isExpiring(final QBOUser qboUser) {
+        return null == qboUser.getAccessTokenExpireAt()
+                || qboUser.getAccessTokenExpireAt().getTime() - System.currentTimeMillis() < refreshAhead.toMillis();
+    }
+
+    /**
+     * @return the given QBO user, or the cached token state of the user if it was refreshed after the given one
+     * had been loaded
+     */
+    private QBOUser current(final QBOUser qboUser) {
+        final CachedClient cachedClient = clients.get(qboUser.getId());
+        if (null == cachedClient || cachedClient.matches(qboUser) || !cachedClient.isNewerThan(qboUser)) return qboUser;
+
+        qboUser.setAccessToken(cachedClient.accessToken());
+        qboUser.setAccessTokenExpireAt(cachedClient.accessTokenExpireAt());
+        return qboUser;
+    }
+
+    private void remember(final QBOUser qboUser) {
+        try {
+            clients.put(qboUser.getId(), new CachedClient(qboUser, helper.getDataService(qboUser.getRealmId(), qboUser.getAccessToken())));
+        } catch (FMSException e) {
+            log.error(String.format("Error occurred while creating data service of QBO user with id: %1$s: %2$s", qboUser.getId(), e.getLocalizedMessage()));
+        }
+    }
+
+    private static QBOUser join(final CompletableFuture<QBOUser> refresh) throws OAuthException {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof OAuthException oAuthException) throw oAuthException;
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw e;
+        }
+    }
+
+    private record CachedClient(String realmId, String accessToken, Date accessTokenExpireAt, DataService dataService) {
+
+        CachedClient(final QBOUser qboUser, final DataService dataService) {
+            this(qboUser.getRealmId(), qboUser.getAccessToken(), qboUser.getAccessTokenExpireAt(), dataService);
+        }
+
+        boolean matches(final QBOUser qboUser) {
+            return StringUtils.equals(realmId, qboUser.getRealmId()) && StringUtils.equals(accessToken, qboUser.getAccessToken());
+        }
+
+        boolean isNewerThan(final QBOUser qboUser) {
+            return StringUtils.equals(realmId, qboUser.getRealmId())
+                    && null != accessTokenExpireAt
+                    && (null == qboUser.getAccessTokenExpireAt() || accessTokenExpireAt.after(qboUser.getAccessTokenExpireAt()));
+        }
+    }
+}
@@ -14,13 +14,17 @@ import com.intuit.oauth2.client.OAuth2PlatformClient;
 import com.intuit.oauth2.data.BearerTokenResponse;
 import com.intuit.oauth2.exception.OAuthException;
 import com.marinamooringmanagement.client.OAuth2PlatformClientFactory;
+import com.marinamooringmanagement.model.entity.QBO.QBOUser;
+import com.marinamooringmanagement.repositories.QBO.QBOUserRepository;
 import jakarta.servlet.http.HttpSession;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
 import java.util.List;
 
 @Service
@@ -29,20 +33,76 @@ public class QBOServiceHelper {
     @Autowired
     OAuth2PlatformClientFactory factory;
 
+    @Autowired
+    QBOUserRepository qboUserRepository;
+
+    @Value("${qbo.serialization.format}")
+    String serializationFormat;
+
     private static final Logger logger = LoggerFactory.getLogger(QBOServiceHelper.class);
 
     public DataService getDataService(String realmId, String accessToken) throws FMSException {
+        // create dataservice
+        return new DataService(createContext(realmId, accessToken));
+    }
 
-        String url = factory.getPropertyValue("IntuitAccountingAPIHost") + "/v3/company";
+    /**
+     * Creates a data service whose requests carry the given QuickBooks {@code requestid}. QuickBooks answers a
+     * repeated create with the same request id with the entity created first, which makes retries idempotent.
+     */
+    public DataService getDataService(String realmId, String accessToken, String requestId) throws FMSException {
+        Context context = createContext(realmId, accessToken);
+        context.setRequestID(requestId);
+        return new DataService(context);
+    }
 
-        Config.setProperty(Config.BASE_URL_QBO, url);
+    /**
+     * Writes the host of the QuickBooks API, and the serialization format if one is configured, to the SDK
+     * configuration. The SDK keeps its configuration per thread and reads it when a request is sent, so this
+     * runs on the thread sending the request, before every call.
+     */
+    public void configureThread() {
+        Config.setProperty(Config.BASE_URL_QBO, factory.getPropertyValue("IntuitAccountingAPIHost") + "/v3/company");
+        if (!StringUtils.isEmpty(serializationFormat)) {
+            Config.setProperty(Config.SERIALIZATION_REQUEST_FORMAT, serializationFormat);
+            Config.setProperty(Config.SERIALIZATION_RESPONSE_FORMAT, serializationFormat);
+        }
+    }
+
+    private Context createContext(String realmId, String accessToken) throws FMSException {
+
+        configureThread();
         //create oauth object
         OAuth2Authorizer oauth = new OAuth2Authorizer(accessToken);
         //create context
-        Context context = new Context(oauth, ServiceType.QBO, realmId);
+        return new Context(oauth, ServiceType.QBO, realmId);
+    }
 
-        // create dataservice
-        return new DataService(context);
+    /**
+     * Exchanges the refresh token of the QBO user for new tokens and persists them.
+     *
+     * @param qboUser the QBO user
+     * @return the updated QBO user
+     */
+    public QBOUser refreshTokens(QBOUser qboUser) throws OAuthException {
+        logger.info(String.format("Refreshing tokens of QBO user with id: %1$s", qboUser.getId()));
+        OAuth2PlatformClient client = factory.getOAuth2PlatformClient();
+        BearerTokenResponse bearerTokenResponse = client.refreshToken(qboUser.getRefreshToken());
+
+        setTokens(qboUser, bearerTokenResponse);
+        qboUser.setLastModifiedDate(new Date(System.currentTimeMillis()));
+        return qboUserRepository.save(qboUser);
+    }
+
+    /**
+     * Copies the tokens of a token response and their expiry to the QBO user.
+     */
+    public static void setTokens(QBOUser qboUser, BearerTokenResponse bearerTokenResponse) {
+        final long now = System.currentTimeMillis();
+        qboUser.setAccessToken(bearerTokenResponse.getAccessToken());
+        qboUser.setRefreshToken(bearerTokenResponse.getRefreshToken());
+        qboUser.setAccessTokenExpireAt(null == bearerTokenResponse.getExpiresIn() ? null : new Date(now + bearerTokenResponse.getExpiresIn() * 1000));
+        qboUser.setRefreshTokenExpireAt(null == bearerTokenResponse.getXRefreshTokenExpiresIn() ? null : new Date(now + bearerTokenResponse.getXRefreshTokenExpiresIn() * 1000));
     }
 
 
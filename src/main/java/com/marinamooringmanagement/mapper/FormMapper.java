@@ -21,7 +21,6 @@ public interface FormMapper {
     @Mapping(target = "workOrder", ignore = true)
     void toEntity(@MappingTarget Form form, ImageDto imageDto);
 
-    @Mapping(target = "formData", ignore = true)
     @Mapping(target = "user", ignore = true)
     Form toEntity(@MappingTarget Form form, FormRequestDto imageDto);
 
@@ -30,6 +29,7 @@ public interface FormMapper {
     @Mapping(target = "submittedDate", ignore = true)
     @Mapping(target = "workOrderResponseDto", ignore = true)
     @Mapping(target = "encodedData", ignore = true)
+    @Mapping(target = "url", ignore = true)
     FormResponseDto toResponseDto(@MappingTarget FormResponseDto formResponseDto, Form form);
 
     @Mapping(target = "id", ignore = true)
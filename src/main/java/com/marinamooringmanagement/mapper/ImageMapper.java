@@ -17,6 +17,9 @@ public interface ImageMapper {
     @Mapping(target = "workOrderDto", ignore = true)
     @Mapping(target = "userDto", ignore = true)
     @Mapping(target = "customerOwnerUserDto", ignore = true)
+    @Mapping(target = "url", ignore = true)
+    @Mapping(target = "thumbUrl", ignore = true)
+    @Mapping(target = "mediumUrl", ignore = true)
     ImageDto toDto(@MappingTarget ImageDto imageDto, Image image);
 
     @Mapping(target = "mooring", ignore = true)
@@ -30,10 +33,12 @@ public interface ImageMapper {
     @Mapping(target = "customer", ignore = true)
     @Mapping(target = "workOrder", ignore = true)
     @Mapping(target = "user", ignore = true)
-    @Mapping(target = "imageData", ignore = true)
     @Mapping(target = "customerOwnerUser", ignore = true)
     Image toEntity(@MappingTarget Image image, ImageRequestDto imageDto);
 
     @Mapping(target = "encodedData", ignore = true)
+    @Mapping(target = "url", ignore = true)
+    @Mapping(target = "thumbUrl", ignore = true)
+    @Mapping(target = "mediumUrl", ignore = true)
     ImageResponseDto toResponseDto(@MappingTarget ImageResponseDto imageResponseDto, Image image);
 }
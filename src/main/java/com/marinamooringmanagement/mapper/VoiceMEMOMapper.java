@@ -20,7 +20,6 @@ public interface VoiceMEMOMapper {
     @Mapping(target = "userDto", ignore = true)
     VoiceMEMODto toDto(@MappingTarget VoiceMEMODto voiceMEMODto, VoiceMEMO voiceMEMO);
 
-    @Mapping(target = "data", ignore = true)
     VoiceMEMO toEntity(@MappingTarget VoiceMEMO voiceMEMO, VoiceMEMORequestDto voiceMEMORequestDto);
 
     @Mapping(target = "encodedData", ignore = true)
@@ -18,8 +18,6 @@ public class FormDto extends BaseDto{
 
     private String fileName;
 
-    private byte[] formData;
-
     private UserDto userDto;
 
     private WorkOrderDto workOrderDto;
@@ -23,7 +23,11 @@ public class ImageDto extends BaseDto{
 
     private String note;
 
-    private byte[] imageData;
+    private String url;
+
+    private String thumbUrl;
+
+    private String mediumUrl;
 
     private MooringDto mooringDto;
 
@@ -0,0 +1,34 @@
+package com.marinamooringmanagement.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * One row of the mooring due for service list, aggregated in the database over the open work orders of a mooring.
+ * Only the id of the mooring is selected, its details are loaded separately for the rows of the page.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MooringDueServiceSummary {
+
+    private Integer mooringId;
+
+    /**
+     * The earliest due date of the open work orders of the mooring.
+     */
+    private Date mooringServiceDate;
+
+    /**
+     * Whether the service date falls within the next 30 days, or has passed.
+     */
+    private Boolean under30;
+
+    /**
+     * Whether at least one open work order of the mooring is not closed.
+     */
+    private Boolean pending;
+}
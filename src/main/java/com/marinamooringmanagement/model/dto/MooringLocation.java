@@ -0,0 +1,26 @@
+package com.marinamooringmanagement.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A mooring on the harbor map, only the columns the map needs.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MooringLocation {
+
+    private Integer id;
+
+    private String mooringNumber;
+
+    private String gpsCoordinates;
+
+    private Integer statusId;
+
+    private Double latitude;
+
+    private Double longitude;
+}
@@ -0,0 +1,28 @@
+package com.marinamooringmanagement.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A work order on a technician route with the location of its mooring, only the columns the route needs.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteStop {
+
+    private Integer workOrderId;
+
+    private String workOrderNumber;
+
+    private Integer mooringId;
+
+    private String mooringNumber;
+
+    private String gpsCoordinates;
+
+    private Double latitude;
+
+    private Double longitude;
+}
@@ -74,9 +74,21 @@ public class Boatyard extends Base {
     @Column(name = "gps_coordinates")
     private String gpsCoordinates;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "storage_areas")
     private List<String> storageAreas;
 
+    /**
+     * Lower-case text of every searchable value of the boatyard, maintained on save and matched with {@code LIKE}.
+     */
+    @Column(name = "search_document", length = 2000)
+    private String searchDocument;
+
     /**
      * The list of moorings associated with the BoatYard.
      */
@@ -56,6 +56,12 @@ public class Customer extends Base {
 
     @Column(name = "notes")
     private String notes;
+
+    /**
+     * Lower-case text of every searchable value of the customer, maintained on save and matched with {@code LIKE}.
+     */
+    @Column(name = "search_document", length = 2000)
+    private String searchDocument;
     /**
      * The street and house number of the customer's address.
      */
@@ -0,0 +1,37 @@
+package com.marinamooringmanagement.model.entity;
+
+import com.marinamooringmanagement.constants.enums.DashboardMetric;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing a precomputed dashboard counter of a customer owner.
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "dashboard_counter",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dashboard_counter", columnNames = {"customer_owner_id", "metric", "bucket"}))
+public class DashboardCounter extends Base {
+
+    @Column(name = "customer_owner_id")
+    private Integer customerOwnerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric")
+    private DashboardMetric metric;
+
+    /**
+     * The month as {@code yyyyMM} for monthly metrics, {@code 0} for running totals.
+     */
+    @Column(name = "bucket")
+    private Integer bucket;
+
+    @Column(name = "counter_value")
+    private Long counterValue;
+}
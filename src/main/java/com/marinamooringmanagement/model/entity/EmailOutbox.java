@@ -0,0 +1,80 @@
+package com.marinamooringmanagement.model.entity;
+
+import com.marinamooringmanagement.constants.enums.EmailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * Entity class representing an email waiting in the outbox.
+ * Rows are written by the schedulers and drained in batches by the outbox dispatcher, the dedup key makes sure
+ * a work order or a technician digest is queued at most once per day.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "email_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_email_outbox_dedup_key", columnNames = "dedup_key"),
+        indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class EmailOutbox extends Base {
+
+    /**
+     * Identifies the notification, e.g. {@code work-order:42:2024-05-01}.
+     */
+    @Column(name = "dedup_key")
+    private String dedupKey;
+
+    /**
+     * The work order the email notifies about, {@code null} for a technician digest.
+     */
+    @Column(name = "work_order_id")
+    private Integer workOrderId;
+
+    /**
+     * The day the notification belongs to.
+     */
+    @Column(name = "notification_date")
+    private LocalDate notificationDate;
+
+    @Column(name = "recipient")
+    private String recipient;
+
+    @Column(name = "subject")
+    private String subject;
+
+    /**
+     * The rendered HTML body.
+     */
+    @Column(name = "body", columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private EmailOutboxStatus status;
+
+    /**
+     * Number of failed send attempts.
+     */
+    @Column(name = "attempts")
+    private Integer attempts;
+
+    /**
+     * The earliest time of the next send attempt. While the email is {@link EmailOutboxStatus#SENDING} it is
+     * the end of the lease of the worker, after which the email is picked up again.
+     */
+    @Column(name = "next_attempt_at")
+    private Date nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private Date sentAt;
+}
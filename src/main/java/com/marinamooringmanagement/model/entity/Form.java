@@ -26,9 +26,14 @@ public class Form extends Base {
     @Column(name = "file_name")
     private String fileName;
 
-    @Lob
-    @Column(name = "form_data", length = 102400)
-    private byte[] formData;
+    @Column(name = "blob_key", length = 64)
+    private String blobKey;
+
+    @Column(name = "blob_size")
+    private Long blobSize;
+
+    @Column(name = "content_type")
+    private String contentType;
 
     @ManyToOne(cascade = {}, fetch = FetchType.EAGER)
     @JoinColumn(name = "work_order_id")
@@ -65,4 +70,24 @@ public class Form extends Base {
         this.fileName = fileName;
         this.parentFormId = parentFormId;
     }
+
+    public Form(Integer id, String formName, String fileName, Integer parentFormId, Integer workOrderId) {
+        this.id = id;
+        this.formName = formName;
+        this.fileName = fileName;
+        this.parentFormId = parentFormId;
+        this.workOrder = WorkOrder.builder().id(workOrderId).build();
+    }
+
+    public Form(Integer id, String formName, String fileName, String blobKey, Long blobSize, String contentType,
+                Integer parentFormId, Integer workOrderId) {
+        this.id = id;
+        this.formName = formName;
+        this.fileName = fileName;
+        this.blobKey = blobKey;
+        this.blobSize = blobSize;
+        this.contentType = contentType;
+        this.parentFormId = parentFormId;
+        this.workOrder = WorkOrder.builder().id(workOrderId).build();
+    }
 }
@@ -22,9 +22,14 @@ public class Image extends Base{
     @Column(name = "note")
     private String note;
 
-    @Lob
-    @Column(name = "image_data", length = 102400)
-    private byte[] imageData;
+    @Column(name = "blob_key", length = 64)
+    private String blobKey;
+
+    @Column(name = "blob_size")
+    private Long blobSize;
+
+    @Column(name = "content_type")
+    private String contentType;
 
     @ManyToOne(cascade = {}, fetch = FetchType.LAZY)
     @JoinColumn(name = "mooring_image_id")
@@ -50,11 +55,13 @@ public class Image extends Base{
     @JoinColumn(name = "customer_owner_user_id")
     private User customerOwnerUser;
 
-    public Image(Integer id, String imageName, byte[] imageData, String note) {
+    public Image(Integer id, String imageName, String note, String blobKey, Long blobSize, String contentType) {
         this.id = id;
         this.imageName = imageName;
-        this.imageData = imageData;
         this.note = note;
+        this.blobKey = blobKey;
+        this.blobSize = blobSize;
+        this.contentType = contentType;
     }
 
     public Image(Integer id, String imageName, String note) {
@@ -63,4 +70,21 @@ public class Image extends Base{
         this.note = note;
     }
 
+    public Image(Integer id, String imageName, String note, Integer workOrderId) {
+        this.id = id;
+        this.imageName = imageName;
+        this.note = note;
+        this.workOrder = WorkOrder.builder().id(workOrderId).build();
+    }
+
+    public Image(Integer id, String imageName, String note, String blobKey, Long blobSize, String contentType, Integer workOrderId) {
+        this.id = id;
+        this.imageName = imageName;
+        this.note = note;
+        this.blobKey = blobKey;
+        this.blobSize = blobSize;
+        this.contentType = contentType;
+        this.workOrder = WorkOrder.builder().id(workOrderId).build();
+    }
+
 }
@@ -17,7 +17,8 @@ import java.util.Objects;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "mooring")
+@Table(name = "mooring",
+        indexes = @Index(name = "idx_mooring_user_location", columnList = "user_id, latitude, longitude"))
 public class Mooring extends Base {
 
     @Id
@@ -40,6 +41,21 @@ public class Mooring extends Base {
     @Column(name = "gps_coordinates")
     private String gpsCoordinates;
 
+    /**
+     * Latitude and longitude of the mooring in decimal degrees, parsed from the GPS coordinates on save.
+     */
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    /**
+     * Lower-case text of every searchable value of the mooring, its customer and its service area, maintained on save and matched with {@code LIKE}.
+     */
+    @Column(name = "search_document", length = 2000)
+    private String searchDocument;
+
     @Column(name = "install_bottom_chain_date")
     private Date installBottomChainDate;
 
@@ -0,0 +1,31 @@
+package com.marinamooringmanagement.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing a named sequence of numbers, such as the work order numbers.
+ * Nodes reserve blocks of numbers by locking the row and advancing {@code nextValue}, which works the same on every
+ * database the application runs on.
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "number_sequence",
+        uniqueConstraints = @UniqueConstraint(name = "uk_number_sequence_name", columnNames = "name"))
+public class NumberSequence extends Base {
+
+    @Column(name = "name")
+    private String name;
+
+    /**
+     * The first number that has not been reserved by any node yet.
+     */
+    @Column(name = "next_value")
+    private Long nextValue;
+}
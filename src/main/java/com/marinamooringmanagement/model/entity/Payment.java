@@ -25,6 +25,12 @@ public class Payment extends Base{
     @Column(name = "amount")
     private Double amount;
 
+    /**
+     * Id of the payment in QuickBooks, {@code null} until the payment has been pushed.
+     */
+    @Column(name = "quickbook_payment_id")
+    private String quickbookPaymentId;
+
     @ManyToOne(cascade = {}, fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_owner_id")
     private User customerOwnerUser;
@@ -0,0 +1,50 @@
+package com.marinamooringmanagement.model.entity.QBO;
+
+import com.marinamooringmanagement.model.entity.Base;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Entity class representing a QuickBooks Online customer of a company, mirrored by the mirror sync.
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "qbo_mirror_customer",
+        uniqueConstraints = @UniqueConstraint(name = "uk_qbo_mirror_customer_realm_quickbook_id", columnNames = {"realm_id", "quickbook_id"}))
+public class QBOMirrorCustomer extends Base {
+
+    @Column(name = "realm_id")
+    private String realmId;
+
+    @Column(name = "quickbook_id")
+    private String quickbookId;
+
+    @Column(name = "given_name")
+    private String givenName;
+
+    @Column(name = "family_name")
+    private String familyName;
+
+    @Column(name = "display_name")
+    private String displayName;
+
+    @Column(name = "company_name")
+    private String companyName;
+
+    @Column(name = "active")
+    private Boolean active;
+
+    /**
+     * {@code MetaData.LastUpdatedTime} of the customer in QuickBooks.
+     */
+    @Column(name = "last_updated_time")
+    private Date lastUpdatedTime;
+}
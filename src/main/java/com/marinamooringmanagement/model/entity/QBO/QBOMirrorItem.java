@@ -0,0 +1,45 @@
+package com.marinamooringmanagement.model.entity.QBO;
+
+import com.marinamooringmanagement.model.entity.Base;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Entity class representing a QuickBooks Online product or service of a company, mirrored by the mirror sync.
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "qbo_mirror_item",
+        uniqueConstraints = @UniqueConstraint(name = "uk_qbo_mirror_item_realm_quickbook_id", columnNames = {"realm_id", "quickbook_id"}))
+public class QBOMirrorItem extends Base {
+
+    @Column(name = "realm_id")
+    private String realmId;
+
+    @Column(name = "quickbook_id")
+    private String quickbookId;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "type")
+    private String type;
+
+    @Column(name = "unit_price")
+    private BigDecimal unitPrice;
+
+    @Column(name = "active")
+    private Boolean active;
+
+    @Column(name = "last_updated_time")
+    private Date lastUpdatedTime;
+}
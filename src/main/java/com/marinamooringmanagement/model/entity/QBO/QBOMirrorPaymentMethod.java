@@ -0,0 +1,41 @@
+package com.marinamooringmanagement.model.entity.QBO;
+
+import com.marinamooringmanagement.model.entity.Base;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Entity class representing a QuickBooks Online payment method of a company, mirrored by the mirror sync.
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "qbo_mirror_payment_method",
+        uniqueConstraints = @UniqueConstraint(name = "uk_qbo_mirror_payment_method_realm_quickbook_id", columnNames = {"realm_id", "quickbook_id"}))
+public class QBOMirrorPaymentMethod extends Base {
+
+    @Column(name = "realm_id")
+    private String realmId;
+
+    @Column(name = "quickbook_id")
+    private String quickbookId;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "type")
+    private String type;
+
+    @Column(name = "active")
+    private Boolean active;
+
+    @Column(name = "last_updated_time")
+    private Date lastUpdatedTime;
+}
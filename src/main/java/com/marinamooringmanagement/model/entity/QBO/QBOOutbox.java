@@ -0,0 +1,94 @@
+package com.marinamooringmanagement.model.entity.QBO;
+
+import com.marinamooringmanagement.constants.enums.QBOOutboxEntityType;
+import com.marinamooringmanagement.constants.enums.QBOOutboxStatus;
+import com.marinamooringmanagement.model.entity.Base;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Entity class representing an invoice or payment waiting to be pushed to QuickBooks Online.
+ * The row is written in the same transaction as the local invoice or payment and holds a snapshot of what has to be
+ * created in QuickBooks, so later local changes do not alter what is pushed.
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "qbo_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_qbo_outbox_request_id", columnNames = "request_id"),
+        indexes = @Index(name = "idx_qbo_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class QBOOutbox extends Base {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type")
+    private QBOOutboxEntityType entityType;
+
+    /**
+     * Id of the local {@code WorkOrderInvoice} or {@code Payment}.
+     */
+    @Column(name = "entity_id")
+    private Integer entityId;
+
+    /**
+     * The QBO user whose company the entity is pushed to.
+     */
+    @Column(name = "qbo_user_id")
+    private Integer qboUserId;
+
+    /**
+     * Unique key of the row, sent as the batch item id so the result of the row can be found in the batch response.
+     */
+    @Column(name = "request_id")
+    private String requestId;
+
+    /**
+     * QuickBooks {@code requestid} of the batch the row was last sent in. It is kept when the whole batch fails, so
+     * the retry is answered with the outcome of the first attempt instead of creating duplicates, and cleared when
+     * QuickBooks reported the row as not created.
+     */
+    @Column(name = "batch_request_id")
+    private String batchRequestId;
+
+    @Column(name = "quickbook_customer_id")
+    private String quickbookCustomerId;
+
+    @Column(name = "amount")
+    private BigDecimal amount;
+
+    /**
+     * Payment method reference of a payment.
+     */
+    @Column(name = "payment_method_id")
+    private String paymentMethodId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private QBOOutboxStatus status;
+
+    @Column(name = "attempts")
+    private Integer attempts;
+
+    /**
+     * The earliest time of the next push attempt, or the end of the lease while the row is
+     * {@link QBOOutboxStatus#PUSHING}.
+     */
+    @Column(name = "next_attempt_at")
+    private Date nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    /**
+     * Id of the entity created in QuickBooks.
+     */
+    @Column(name = "quickbook_id")
+    private String quickbookId;
+}
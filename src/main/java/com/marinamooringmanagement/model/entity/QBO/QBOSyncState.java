@@ -0,0 +1,41 @@
+package com.marinamooringmanagement.model.entity.QBO;
+
+import com.marinamooringmanagement.constants.enums.QBOMirrorEntityType;
+import com.marinamooringmanagement.model.entity.Base;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Entity class representing how far the mirror of one QuickBooks entity of a company has been synced.
+ */
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "qbo_sync_state",
+        uniqueConstraints = @UniqueConstraint(name = "uk_qbo_sync_state_realm_entity_type", columnNames = {"realm_id", "entity_type"}))
+public class QBOSyncState extends Base {
+
+    @Column(name = "realm_id")
+    private String realmId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type")
+    private QBOMirrorEntityType entityType;
+
+    /**
+     * Changes made in QuickBooks after this time have not been pulled yet. {@code null} until the first full pull
+     * has completed.
+     */
+    @Column(name = "changed_since")
+    private Date changedSince;
+
+    @Column(name = "last_sync_count")
+    private Integer lastSyncCount;
+}
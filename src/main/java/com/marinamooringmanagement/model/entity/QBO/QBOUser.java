@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Date;
+
 @Entity
 @Data
 @Builder
@@ -31,6 +33,15 @@ public class QBOUser extends Base {
     @Column(name = "refresh_token", length = 5024)
     private String refreshToken;
 
+    /**
+     * Expiry of the access token, refreshed ahead of it by the token refresh scheduler.
+     */
+    @Column(name = "access_token_expire_at")
+    private Date accessTokenExpireAt;
+
+    @Column(name = "refresh_token_expire_at")
+    private Date refreshTokenExpireAt;
+
     @Column(name = "realmId")
     private String realmId;
 
@@ -51,6 +51,12 @@ public class ServiceArea extends Base{
     @Column(name = "gps_coordinates")
     private String gpsCoordinates;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @ManyToOne(cascade = {}, fetch = FetchType.LAZY)
     @JoinColumn(name = "service_area_type_id")
     private ServiceAreaType serviceAreaType;
@@ -76,6 +76,12 @@ public class User extends Base {
     @Column(name = "disabled")
     private Boolean disabled;
 
+    /**
+     * Lower-case text of every searchable value of the user, maintained on save and matched with {@code LIKE}.
+     */
+    @Column(name = "search_document", length = 2000)
+    private String searchDocument;
+
     /**
      * The role associated with the user.
      */
@@ -170,7 +176,7 @@ public class User extends Base {
                 String zipCode, Integer roleId, String roleName,
                 Integer stateId, String stateName,
                 Integer countryId, String countryName,
-                Integer imageId, byte[] imageData) {
+                Integer imageId, String imageBlobKey) {
         this.id = id;
         this.firstName = firstName;
         this.lastName = lastName;
@@ -184,7 +190,7 @@ public class User extends Base {
         this.state = State.builder().id(stateId).name(stateName).build();
         this.country = Country.builder().id(countryId).name(countryName).build();
         this.role = Role.builder().id(roleId).name(roleName).build();
-        this.image = Image.builder().id(imageId).imageData(imageData).build();
+        this.image = Image.builder().id(imageId).blobKey(imageBlobKey).build();
     }
 
     public User(Integer id, String firstName, String lastName, String email,
@@ -209,20 +215,20 @@ public class User extends Base {
 
     public User(Integer id, String firstName, String lastName, String email, String password,
                 Integer roleId, String roleName,
-                Integer imageId, byte[] imageData) {
+                Integer imageId, String imageBlobKey) {
         this.id = id;
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
         this.password = password;
         this.role = Role.builder().id(roleId).name(roleName).build();
-        this.image = Image.builder().id(imageId).imageData(imageData).build();
+        this.image = Image.builder().id(imageId).blobKey(imageBlobKey).build();
     }
 
     public User(Integer id,
-                Integer imageId, byte[] imageData) {
+                Integer imageId, String imageBlobKey) {
         this.id = id;
-        this.image = Image.builder().id(imageId).imageData(imageData).build();
+        this.image = Image.builder().id(imageId).blobKey(imageBlobKey).build();
     }
 }
 
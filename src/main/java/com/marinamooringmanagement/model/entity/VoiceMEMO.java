@@ -5,8 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 @Entity
 @Data
@@ -24,10 +22,14 @@ public class VoiceMEMO extends Base{
     @Column(name = "name")
     private String name;
 
-    @Lob
-    @JdbcTypeCode(SqlTypes.BLOB)
-    @Column(name = "data", length = 1048576)
-    private byte[] data;
+    @Column(name = "blob_key", length = 64)
+    private String blobKey;
+
+    @Column(name = "blob_size")
+    private Long blobSize;
+
+    @Column(name = "content_type")
+    private String contentType;
 
     @ManyToOne(cascade = {}, fetch = FetchType.LAZY)
     @JoinColumn(name = "work_order_id")
@@ -42,4 +44,19 @@ public class VoiceMEMO extends Base{
         this.name = name;
     }
 
+    public VoiceMEMO(Integer id, String name, Integer workOrderId) {
+        this.id = id;
+        this.name = name;
+        this.workOrder = WorkOrder.builder().id(workOrderId).build();
+    }
+
+    public VoiceMEMO(Integer id, String name, String blobKey, Long blobSize, String contentType, Integer workOrderId) {
+        this.id = id;
+        this.name = name;
+        this.blobKey = blobKey;
+        this.blobSize = blobSize;
+        this.contentType = contentType;
+        this.workOrder = WorkOrder.builder().id(workOrderId).build();
+    }
+
 }
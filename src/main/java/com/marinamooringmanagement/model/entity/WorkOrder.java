@@ -48,6 +48,12 @@ public class WorkOrder extends Base {
     @Column(name = "cost")
     private BigDecimal cost;
 
+    /**
+     * Lower-case text of every searchable value of the work order and of the mooring, customer, boatyard and technician it refers to, maintained on save and matched with {@code LIKE}.
+     */
+    @Column(name = "search_document", length = 2000)
+    private String searchDocument;
+
     @ManyToOne(cascade = {}, fetch = FetchType.LAZY)
     @JoinColumn(name = "mooring_id")
     @JsonBackReference
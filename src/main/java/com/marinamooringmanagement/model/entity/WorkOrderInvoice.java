@@ -30,6 +30,12 @@ public class WorkOrderInvoice extends Base{
     @Column(name = "invoiceAmount")
     private BigDecimal invoiceAmount;
 
+    /**
+     * Id of the invoice in QuickBooks, {@code null} until the invoice has been pushed.
+     */
+    @Column(name = "quickbook_invoice_id")
+    private String quickbookInvoiceId;
+
     @ManyToOne(cascade = {}, fetch = FetchType.EAGER)
     @JoinColumn(name = "work_order_invoice_status_id")
     private WorkOrderInvoiceStatus workOrderInvoiceStatus;
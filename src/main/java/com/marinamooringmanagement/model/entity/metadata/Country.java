@@ -1,6 +1,7 @@
 package com.marinamooringmanagement.model.entity.metadata;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.marinamooringmanagement.helper.MetadataRegistryListener;
 import com.marinamooringmanagement.model.entity.Base;
 import jakarta.persistence.*;
 import lombok.*;
@@ -11,6 +12,7 @@ import java.util.List;
  * Entity class representing a country.
  */
 @Entity
+@EntityListeners(MetadataRegistryListener.class)
 @Data
 @Builder
 @AllArgsConstructor
@@ -1,10 +1,12 @@
 package com.marinamooringmanagement.model.entity.metadata;
 
+import com.marinamooringmanagement.helper.MetadataRegistryListener;
 import com.marinamooringmanagement.model.entity.Base;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(MetadataRegistryListener.class)
 @Data
 @Builder
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.marinamooringmanagement.model.entity.metadata;
 
 import com.marinamooringmanagement.model.dto.BaseDto;
+import com.marinamooringmanagement.helper.MetadataRegistryListener;
 import com.marinamooringmanagement.model.entity.Base;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -9,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(MetadataRegistryListener.class)
 @Data
 @Builder
 @AllArgsConstructor
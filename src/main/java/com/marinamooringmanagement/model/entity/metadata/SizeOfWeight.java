@@ -1,8 +1,10 @@
 package com.marinamooringmanagement.model.entity.metadata;
 
+import com.marinamooringmanagement.helper.MetadataRegistryListener;
 import com.marinamooringmanagement.model.entity.Base;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +12,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(MetadataRegistryListener.class)
 @Data
 @Builder
 @AllArgsConstructor
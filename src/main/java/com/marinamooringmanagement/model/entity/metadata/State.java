@@ -1,6 +1,7 @@
 package com.marinamooringmanagement.model.entity.metadata;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.marinamooringmanagement.helper.MetadataRegistryListener;
 import com.marinamooringmanagement.model.entity.Base;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
  * Entity class representing a state.
  */
 @Entity
+@EntityListeners(MetadataRegistryListener.class)
 @Data
 @Builder
 @AllArgsConstructor
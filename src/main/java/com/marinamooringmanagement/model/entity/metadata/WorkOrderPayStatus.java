@@ -1,5 +1,6 @@
 package com.marinamooringmanagement.model.entity.metadata;
 
+import com.marinamooringmanagement.helper.MetadataRegistryListener;
 import com.marinamooringmanagement.model.entity.Base;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(MetadataRegistryListener.class)
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
@@ -0,0 +1,39 @@
+package com.marinamooringmanagement.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Decoded form of the opaque cursor token handed out with paginated listings.
+ *
+ * <p>The cursor remembers the sort key and direction it was issued for together with the sort value
+ * and id of the last row of the previous page, so the next page can seek past it directly.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class KeysetCursor {
+
+    /**
+     * The field the listing was sorted by.
+     */
+    private String sortBy;
+
+    /**
+     * The sort direction, either "asc" or "desc".
+     */
+    private String sortDir;
+
+    /**
+     * The sort value of the last row of the previous page.
+     */
+    private String sortValue;
+
+    /**
+     * The id of the last row of the previous page, used as tie breaker.
+     */
+    private Integer lastId;
+}
@@ -0,0 +1,23 @@
+package com.marinamooringmanagement.model.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkOrderApprovalRequestDto {
+
+    @NotNull(message = "Work order id cannot be blank")
+    private Integer workOrderId;
+
+    @NotNull(message = "Invoice amount cannot be blank")
+    private BigDecimal invoiceAmount;
+
+}
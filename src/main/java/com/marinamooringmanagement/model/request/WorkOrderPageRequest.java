@@ -0,0 +1,62 @@
+package com.marinamooringmanagement.model.request;
+
+import com.marinamooringmanagement.constants.enums.WorkOrderSortKey;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Criteria for a single database-side page of the work order listing.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkOrderPageRequest {
+
+    /**
+     * Free text matched against work order, customer, mooring, boatyard and technician columns.
+     */
+    private String searchText;
+
+    /**
+     * Id of the customer owner (or technician) whose work orders are listed.
+     */
+    private Integer userId;
+
+    /**
+     * Whether {@link #userId} refers to the assigned technician instead of the customer owner.
+     */
+    private boolean technician;
+
+    /**
+     * "Yes" to list completed work orders, "No" to list the others.
+     */
+    private String showCompletedWorkOrders;
+
+    /**
+     * The column to sort on.
+     */
+    private WorkOrderSortKey sortKey;
+
+    /**
+     * Whether the sort is ascending.
+     */
+    private boolean ascending;
+
+    /**
+     * Page number, only used when no cursor is supplied.
+     */
+    private int pageNumber;
+
+    /**
+     * Maximum number of rows on the page.
+     */
+    private int pageSize;
+
+    /**
+     * Position after which the page starts, {@code null} for offset paging.
+     */
+    private KeysetCursor cursor;
+}
@@ -19,4 +19,9 @@ public class AllWorkOrdersAndMooringDueForServiceResponse implements Serializabl
     List<WorkOrderResponseDto> workOrderResponseDtoList;
 
     List<MooringDueServiceResponseDto> mooringDueServiceResponseDtoList;
+
+    /**
+     * Number of moorings due for service over all pages.
+     */
+    Long mooringDueServiceTotalSize;
 }
@@ -50,6 +50,11 @@ public class BasicRestResponse implements Serializable {
      */
     private Object content;
 
+    /**
+     * Opaque token pointing at the next page of a keyset paginated listing, {@code null} on the last page.
+     */
+    private String nextCursor;
+
     /**
      * Constructs a BasicRestResponse with specific status, message, and timestamp.
      *
@@ -0,0 +1,37 @@
+package com.marinamooringmanagement.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardStatisticsResponseDto implements Serializable {
+
+    private static final long serialVersionUID = 5526863507401L;
+
+    private Long mooringCount;
+
+    private Long mooringsCreatedThisMonth;
+
+    private Long mooringsCreatedLastMonth;
+
+    private Long openWorkOrderCount;
+
+    private Long workOrdersCreatedThisMonth;
+
+    private Long workOrdersCreatedLastMonth;
+
+    private Long pendingPayApprovalCount;
+
+    private Long outstandingInvoiceCount;
+
+    private Long paymentsReceivedThisMonth;
+
+    private Long paymentsReceivedLastMonth;
+}
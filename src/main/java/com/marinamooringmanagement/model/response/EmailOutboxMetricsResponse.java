@@ -0,0 +1,41 @@
+package com.marinamooringmanagement.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Send counters of the email outbox since the start of this instance, together with the current backlog.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmailOutboxMetricsResponse {
+
+    private long sent;
+
+    /**
+     * Failed send attempts, including the ones that are retried.
+     */
+    private long failedAttempts;
+
+    /**
+     * Emails given up on after the maximum number of attempts.
+     */
+    private long failed;
+
+    private long batches;
+
+    private int batchesInFlight;
+
+    /**
+     * Emails per second of the last batch.
+     */
+    private double lastBatchThroughput;
+
+    private long pendingInOutbox;
+
+    private long failedInOutbox;
+}
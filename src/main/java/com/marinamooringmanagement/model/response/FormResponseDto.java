@@ -27,6 +27,8 @@ public class FormResponseDto implements Serializable {
 
     private String encodedData;
 
+    private String url;
+
     private UserResponseDto userResponseDto;
 
     private WorkOrderResponseDto workOrderResponseDto;
@@ -23,4 +23,10 @@ public class ImageResponseDto implements Serializable {
     private String note;
 
     private String encodedData;
+
+    private String url;
+
+    private String thumbUrl;
+
+    private String mediumUrl;
 }
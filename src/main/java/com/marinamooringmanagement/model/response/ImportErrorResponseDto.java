@@ -0,0 +1,29 @@
+package com.marinamooringmanagement.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportErrorResponseDto implements Serializable {
+
+    private static final long serialVersionUID = 5526863675085L;
+
+    /**
+     * Row of the file starting at 1 for the header row.
+     */
+    private Integer rowNumber;
+
+    /**
+     * Column the error is about, by its canonical name such as mooringNumber, not set for errors of the whole row.
+     */
+    private String column;
+
+    private String message;
+}
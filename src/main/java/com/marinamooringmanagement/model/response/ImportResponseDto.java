@@ -0,0 +1,34 @@
+package com.marinamooringmanagement.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportResponseDto implements Serializable {
+
+    private static final long serialVersionUID = 5526863675086L;
+
+    private Integer totalRows;
+
+    /**
+     * Rows written to the database, zero when any row has an error or the file was only validated.
+     */
+    private Integer importedRows;
+
+    private Boolean dryRun;
+
+    private Integer errorCount;
+
+    /**
+     * The errors of the file up to {@code import.max-errors}.
+     */
+    private List<ImportErrorResponseDto> errors;
+}
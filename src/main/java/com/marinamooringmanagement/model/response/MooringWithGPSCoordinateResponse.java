@@ -23,4 +23,13 @@ public class MooringWithGPSCoordinateResponse implements Serializable {
 
     private Integer statusId;
 
+    private Double latitude;
+
+    private Double longitude;
+
+    /**
+     * Distance from the point of a nearest or radius query in meters, not set for other queries.
+     */
+    private Double distanceInMeters;
+
 }
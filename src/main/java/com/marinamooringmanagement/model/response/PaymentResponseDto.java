@@ -18,6 +18,8 @@ public class PaymentResponseDto {
 
     private Double amount;
 
+    private String quickbookPaymentId;
+
     private UserResponseDto customerOwnerUserResponseDto;
 
     private WorkOrderInvoiceResponseDto workOrderInvoiceResponseDto;
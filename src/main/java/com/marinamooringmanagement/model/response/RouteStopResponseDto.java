@@ -0,0 +1,38 @@
+package com.marinamooringmanagement.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteStopResponseDto implements Serializable {
+
+    private static final long serialVersionUID = 5526863675083L;
+
+    /**
+     * Position of the stop on the route starting at 1, not set for work orders whose mooring has no location.
+     */
+    private Integer sequence;
+
+    private Integer workOrderId;
+
+    private String workOrderNumber;
+
+    private Integer mooringId;
+
+    private String mooringNumber;
+
+    private String gpsCoordinates;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Double distanceFromPreviousInMeters;
+}
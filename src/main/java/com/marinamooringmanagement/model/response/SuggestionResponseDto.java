@@ -0,0 +1,24 @@
+package com.marinamooringmanagement.model.response;
+
+import com.marinamooringmanagement.constants.enums.EntityEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SuggestionResponseDto implements Serializable {
+
+    private static final long serialVersionUID = 5526863507402L;
+
+    private Integer id;
+
+    private String label;
+
+    private EntityEnum type;
+}
@@ -0,0 +1,31 @@
+package com.marinamooringmanagement.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechnicianRouteResponseDto implements Serializable {
+
+    private static final long serialVersionUID = 5526863675084L;
+
+    private Integer technicianId;
+
+    private String date;
+
+    private List<RouteStopResponseDto> stops;
+
+    /**
+     * Work orders scheduled for the day whose mooring has no GPS coordinates, they are not on the route.
+     */
+    private List<RouteStopResponseDto> unlocatedStops;
+
+    private Double totalDistanceInMeters;
+}
@@ -0,0 +1,25 @@
+package com.marinamooringmanagement.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one work order of a bulk approval.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkOrderApprovalResponseDto {
+
+    private Integer workOrderId;
+
+    private Boolean approved;
+
+    private String message;
+
+    private Integer workOrderInvoiceId;
+
+}
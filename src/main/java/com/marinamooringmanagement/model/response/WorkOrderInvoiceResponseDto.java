@@ -26,6 +26,8 @@ public class WorkOrderInvoiceResponseDto implements Serializable {
 
     private BigDecimal invoiceAmount;
 
+    private String quickbookInvoiceId;
+
     private WorkOrderInvoiceStatusDto workOrderInvoiceStatusDto;
 
     private WorkOrderResponseDto workOrderResponseDto;
@@ -81,12 +81,7 @@ public interface BoatyardRepository extends JpaRepository<Boatyard, Integer> {
             "LEFT JOIN b.state s " +
             "LEFT JOIN b.country c " +
             "WHERE (:userId IS NOT NULL AND u.id = :userId) " +
-            "AND (:searchText IS NOT NULL AND (" +
-            "LOWER(CAST(b.id AS string)) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(b.boatyardName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(b.address) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(b.boatyardName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(b.boatyardId) LIKE LOWER(CONCAT('%', :searchText, '%')))) " +
+            "AND (:searchText = '' OR b.searchDocument LIKE CONCAT('%', LOWER(:searchText), '%')) " +
             "ORDER BY b.id")
     List<Boatyard> findAll(@Param("searchText") String searchText,
                            @Param("userId") Integer userId);
@@ -102,4 +97,13 @@ public interface BoatyardRepository extends JpaRepository<Boatyard, Integer> {
             " AND (:boatyardId IS NOT NULL AND b.id = :boatyardId)")
     Optional<Boatyard> findBoatyardWithUserMetadata(@Param("userId") Integer userId,
                                                     @Param("boatyardId") Integer boatyardId);
+
+    @Query("SELECT b FROM Boatyard b WHERE b.searchDocument IS NULL AND b.id > :afterId ORDER BY b.id")
+    List<Boatyard> findAllWithoutSearchDocument(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT b FROM Boatyard b WHERE b.id > :afterId ORDER BY b.id")
+    List<Boatyard> findAllAfterId(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT b.id, b.boatyardName, b.boatyardId FROM Boatyard b WHERE b.user.id = :userId")
+    List<Object[]> findSuggestions(@Param("userId") Integer userId);
 }
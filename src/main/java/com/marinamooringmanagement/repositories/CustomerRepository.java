@@ -1,12 +1,14 @@
 package com.marinamooringmanagement.repositories;
 
 import com.marinamooringmanagement.model.entity.Customer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,17 +30,7 @@ public interface CustomerRepository extends JpaRepository<Customer, Integer> {
             "LEFT JOIN c.user u " +
             "LEFT JOIN u.role r " +
             "LEFT JOIN c.quickBookCustomer qbc " +
-            "WHERE (:searchText IS NOT NULL AND " +
-            "(LOWER(CAST(c.id AS string)) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(LOWER(CONCAT(c.firstName, ' ', c.lastName)) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(c.firstName IS NOT NULL AND LOWER(c.firstName) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(c.lastName IS NOT NULL AND LOWER(c.lastName) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(c.customerId IS NOT NULL AND LOWER(c.customerId) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(c.emailAddress IS NOT NULL AND LOWER(c.emailAddress) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(c.phone IS NOT NULL AND LOWER(c.phone) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(s.name IS NOT NULL AND LOWER(s.name) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(cu.type IS NOT NULL AND LOWER(cu.type) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(co.name IS NOT NULL AND LOWER(co.name) LIKE LOWER(CONCAT('%', :searchText, '%')))) " +
+            "WHERE (:searchText = '' OR c.searchDocument LIKE CONCAT('%', LOWER(:searchText), '%')) " +
             "AND (:userId IS NOT NULL AND u.id = :userId) " +
             "ORDER BY c.id")
     List<Customer> findAll(@Param("searchText") String searchText,
@@ -104,4 +96,22 @@ public interface CustomerRepository extends JpaRepository<Customer, Integer> {
     Optional<Customer> findByEmailAddress(String emailAddress);
 
     Optional<Customer> findByCustomerId(String customerId);
-}
\ No newline at end of file
+
+    @Query("SELECT c FROM Customer c WHERE c.searchDocument IS NULL AND c.id > :afterId ORDER BY c.id")
+    List<Customer> findAllWithoutSearchDocument(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT c FROM Customer c WHERE c.id > :afterId ORDER BY c.id")
+    List<Customer> findAllAfterId(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT c.id, c.firstName, c.lastName, c.customerId FROM Customer c WHERE c.user.id = :userId")
+    List<Object[]> findSuggestions(@Param("userId") Integer userId);
+
+    @Query("SELECT c.id, c.customerId FROM Customer c WHERE c.customerId IN :customerIds")
+    List<Object[]> findIdsByCustomerIds(@Param("customerIds") Collection<String> customerIds);
+
+    @Query("SELECT c.id, c.customerId, c.firstName, c.lastName FROM Customer c WHERE c.user.id = :userId AND c.customerId IN :customerIds")
+    List<Object[]> findNamesByCustomerIds(@Param("userId") Integer userId, @Param("customerIds") Collection<String> customerIds);
+
+    @Query("SELECT c.emailAddress FROM Customer c WHERE c.emailAddress IN :emailAddresses")
+    List<String> findExistingEmailAddresses(@Param("emailAddresses") Collection<String> emailAddresses);
+}
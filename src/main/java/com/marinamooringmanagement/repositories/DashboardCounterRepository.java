@@ -0,0 +1,72 @@
+package com.marinamooringmanagement.repositories;
+
+import com.marinamooringmanagement.constants.enums.DashboardMetric;
+import com.marinamooringmanagement.model.entity.DashboardCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, Integer> {
+
+    /**
+     * Adds the delta to the counter in place, so concurrent updates of the same counter do not overwrite each other.
+     *
+     * @return the number of updated rows, {@code 0} if the counter does not exist yet
+     */
+    @Modifying
+    @Query("UPDATE DashboardCounter dc SET dc.counterValue = dc.counterValue + :delta " +
+            "WHERE dc.customerOwnerId = :customerOwnerId AND dc.metric = :metric AND dc.bucket = :bucket")
+    int increment(@Param("customerOwnerId") Integer customerOwnerId,
+                  @Param("metric") DashboardMetric metric,
+                  @Param("bucket") Integer bucket,
+                  @Param("delta") long delta);
+
+    List<DashboardCounter> findByCustomerOwnerIdAndBucketIn(Integer customerOwnerId, Collection<Integer> buckets);
+
+    List<DashboardCounter> findByCustomerOwnerId(Integer customerOwnerId);
+
+    @Query("SELECT DISTINCT dc.customerOwnerId FROM DashboardCounter dc")
+    List<Integer> findCustomerOwnerIds();
+
+    // the queries below recount every metric from the source tables for the reconciliation,
+    // rows are (customer owner id, count) or (customer owner id, year, month, count)
+
+    @Query("SELECT m.user.id, COUNT(m) FROM Mooring m WHERE m.user IS NOT NULL GROUP BY m.user.id")
+    List<Object[]> countMoorings();
+
+    @Query("SELECT m.user.id, YEAR(m.creationDate), MONTH(m.creationDate), COUNT(m) FROM Mooring m " +
+            "WHERE m.user IS NOT NULL AND m.creationDate IS NOT NULL " +
+            "GROUP BY m.user.id, YEAR(m.creationDate), MONTH(m.creationDate)")
+    List<Object[]> countMooringsCreated();
+
+    @Query("SELECT wo.customerOwnerUser.id, COUNT(wo) FROM WorkOrder wo JOIN wo.workOrderStatus wos " +
+            "WHERE wo.customerOwnerUser IS NOT NULL AND wos.status <> 'Completed' " +
+            "GROUP BY wo.customerOwnerUser.id")
+    List<Object[]> countOpenWorkOrders();
+
+    @Query("SELECT wo.customerOwnerUser.id, YEAR(wo.creationDate), MONTH(wo.creationDate), COUNT(wo) FROM WorkOrder wo " +
+            "WHERE wo.customerOwnerUser IS NOT NULL AND wo.creationDate IS NOT NULL " +
+            "GROUP BY wo.customerOwnerUser.id, YEAR(wo.creationDate), MONTH(wo.creationDate)")
+    List<Object[]> countWorkOrdersCreated();
+
+    @Query("SELECT wo.customerOwnerUser.id, COUNT(wo) FROM WorkOrder wo JOIN wo.workOrderStatus wos JOIN wo.workOrderPayStatus wops " +
+            "WHERE wo.customerOwnerUser IS NOT NULL AND wos.status = 'Completed' AND wops.status = 'No action' " +
+            "GROUP BY wo.customerOwnerUser.id")
+    List<Object[]> countPendingPayApprovals();
+
+    @Query("SELECT woi.customerOwnerUser.id, COUNT(woi) FROM WorkOrderInvoice woi " +
+            "WHERE woi.customerOwnerUser IS NOT NULL AND woi.invoiceAmount > 0 " +
+            "GROUP BY woi.customerOwnerUser.id")
+    List<Object[]> countOutstandingInvoices();
+
+    @Query("SELECT p.customerOwnerUser.id, YEAR(p.creationDate), MONTH(p.creationDate), COUNT(p) FROM Payment p " +
+            "WHERE p.customerOwnerUser IS NOT NULL AND p.creationDate IS NOT NULL " +
+            "GROUP BY p.customerOwnerUser.id, YEAR(p.creationDate), MONTH(p.creationDate)")
+    List<Object[]> countPaymentsReceived();
+}
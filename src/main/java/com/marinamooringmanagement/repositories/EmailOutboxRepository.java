@@ -0,0 +1,47 @@
+package com.marinamooringmanagement.repositories;
+
+import com.marinamooringmanagement.constants.enums.EmailOutboxStatus;
+import com.marinamooringmanagement.model.entity.EmailOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Repository for {@link EmailOutbox}.
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Integer> {
+
+    boolean existsByDedupKey(final String dedupKey);
+
+    /**
+     * Locks the emails that are due for a send attempt. Rows locked by another instance are skipped, so
+     * several instances can drain the outbox side by side.
+     *
+     * @param statuses the statuses to pick up
+     * @param now      the current time
+     * @param pageable the maximum number of emails
+     * @return the due emails, oldest first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM EmailOutbox e " +
+            "WHERE e.status IN :statuses " +
+            "AND e.nextAttemptAt <= :now " +
+            "ORDER BY e.id")
+    List<EmailOutbox> findDueForUpdate(@Param("statuses") Collection<EmailOutboxStatus> statuses,
+                                       @Param("now") Date now,
+                                       Pageable pageable);
+
+    long countByStatus(final EmailOutboxStatus status);
+}
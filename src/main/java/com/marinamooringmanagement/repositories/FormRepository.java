@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -50,5 +51,25 @@ public interface FormRepository extends JpaRepository<Form, Integer>, JpaSpecifi
             "WHERE f.id = :id")
     Form findByIdWithoutData(@Param(("id")) Integer id);
 
+    @Query("SELECT new com.marinamooringmanagement.model.entity.Form(" +
+            "f.id, f.formName, f.fileName, f.parentFormId, w.id) " +
+            "FROM Form f " +
+            "JOIN f.workOrder w " +
+            "WHERE w.id IN :workOrderIds " +
+            "ORDER BY f.id")
+    List<Form> findFormsByWorkOrderIdsWithoutData(
+            @Param("workOrderIds") Collection<Integer> workOrderIds
+    );
+
+    @Query("SELECT new com.marinamooringmanagement.model.entity.Form(" +
+            "f.id, f.formName, f.fileName, f.blobKey, f.blobSize, f.contentType, f.parentFormId, w.id) " +
+            "FROM Form f " +
+            "JOIN f.workOrder w " +
+            "WHERE w.id IN :workOrderIds " +
+            "ORDER BY f.id")
+    List<Form> findFormsByWorkOrderIds(
+            @Param("workOrderIds") Collection<Integer> workOrderIds
+    );
+
     List<Form> findByWorkOrderId(Integer id);
 }
\ No newline at end of file
@@ -6,13 +6,14 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Integer> {
 
     @Query("SELECT new com.marinamooringmanagement.model.entity.Image( " +
-            "i.id, i.imageName, i.imageData, i.note) " +
+            "i.id, i.imageName, i.note, i.blobKey, i.blobSize, i.contentType) " +
             "FROM Image i " +
             "LEFT JOIN i.mooring m " +
             "WHERE (:mooringId IS NOT NULL AND m.id = :mooringId) " +
@@ -29,5 +30,25 @@ public interface ImageRepository extends JpaRepository<Image, Integer> {
             @Param("workOrderId") Integer id
     );
 
+    @Query("SELECT new com.marinamooringmanagement.model.entity.Image (" +
+            "i.id, i.imageName, i.note, w.id) " +
+            "FROM Image i " +
+            "JOIN i.workOrder w " +
+            "WHERE w.id IN :workOrderIds " +
+            "ORDER BY i.id")
+    List<Image> findImagesByWorkOrderIdsWithoutData(
+            @Param("workOrderIds") Collection<Integer> workOrderIds
+    );
+
+    @Query("SELECT new com.marinamooringmanagement.model.entity.Image (" +
+            "i.id, i.imageName, i.note, i.blobKey, i.blobSize, i.contentType, w.id) " +
+            "FROM Image i " +
+            "JOIN i.workOrder w " +
+            "WHERE w.id IN :workOrderIds " +
+            "ORDER BY i.id")
+    List<Image> findImagesByWorkOrderIds(
+            @Param("workOrderIds") Collection<Integer> workOrderIds
+    );
+
     List<Image> findByWorkOrderId(Integer id);
 }
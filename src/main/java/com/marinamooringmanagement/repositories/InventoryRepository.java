@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -37,6 +38,22 @@ public interface InventoryRepository extends JpaRepository<Inventory, Integer> {
             "WHERE w.id = :workOrderId")
     List<Inventory> findInventoriesByWorkOrder(@Param("workOrderId") Integer workOrderId);
 
+    @Query("SELECT new com.marinamooringmanagement.model.entity.Inventory(" +
+            "i.id, i.itemName, i.quantity, i.parentInventoryId, v.id, v.vendorName, w.id, w.workOrderNumber) " +
+            "FROM Inventory i " +
+            "LEFT JOIN i.vendor v " +
+            "JOIN i.workOrder w " +
+            "WHERE w.id IN :workOrderIds " +
+            "ORDER BY i.id")
+    List<Inventory> findInventoriesByWorkOrderIds(@Param("workOrderIds") Collection<Integer> workOrderIds);
+
+    @Query("SELECT i FROM Inventory i " +
+            "LEFT JOIN FETCH i.vendor v " +
+            "JOIN i.workOrder w " +
+            "WHERE w.id IN :workOrderIds " +
+            "ORDER BY i.id")
+    List<Inventory> findInventoriesWithVendorByWorkOrderIds(@Param("workOrderIds") Collection<Integer> workOrderIds);
+
     @Query("SELECT new com.marinamooringmanagement.model.entity.Inventory(" +
             "i.id, i.itemName, i.quantity, i.parentInventoryId, v.id, v.vendorName, e.id) " +
             "FROM Inventory i " +
@@ -1,14 +1,17 @@
 package com.marinamooringmanagement.repositories;
 
+import com.marinamooringmanagement.model.dto.MooringLocation;
 import com.marinamooringmanagement.model.entity.Boatyard;
 import com.marinamooringmanagement.model.entity.Customer;
 import com.marinamooringmanagement.model.entity.Mooring;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,14 +44,7 @@ public interface MooringRepository extends JpaRepository<Mooring, Integer> {
             "LEFT JOIN m.serviceArea s " +
             "JOIN m.user u " +
             "JOIN u.role r " +
-            "where (:searchText IS NOT NULL AND" +
-            "(LOWER(CAST(m.id AS string)) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(m.mooringNumber IS NOT NULL AND LOWER(m.mooringNumber) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(c.firstName IS NOT NULL AND LOWER(c.firstName) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(c.lastName IS NOT NULL AND LOWER(c.lastName) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(c.firstName IS NOT NULL AND c.lastName IS NOT NULL AND LOWER(CONCAT(c.firstName, ' ', c.lastName)) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(s.serviceAreaName IS NOT NULL AND LOWER(s.serviceAreaName) LIKE LOWER(CONCAT('%', :searchText, '%'))) OR " +
-            "(m.gpsCoordinates IS NOT NULL AND LOWER(m.gpsCoordinates) LIKE LOWER(CONCAT('%', :searchText, '%')))) " +
+            "WHERE (:searchText = '' OR m.searchDocument LIKE CONCAT('%', LOWER(:searchText), '%')) " +
             "AND (:userId IS NOT NULL AND u.id = :userId) " +
             "ORDER BY m.id")
     List<Mooring> findAll(@Param("searchText") String searchText, @Param("userId") Integer userId);
@@ -184,13 +180,81 @@ public interface MooringRepository extends JpaRepository<Mooring, Integer> {
 
     Optional<Mooring> findByBoatId(String boatIdStr);
 
-    @Query("SELECT COUNT(m) FROM Mooring m " +
-            "WHERE m.user.id = :userId")
-    long getCurrentMonthMooringCount(@Param("userId") Integer userId);
+    @Query("SELECT m FROM Mooring m WHERE m.customer.id = :customerId")
+    List<Mooring> findAllByCustomerId(@Param("customerId") Integer customerId);
 
-    @Query("SELECT COUNT(m) FROM Mooring m " +
-            "WHERE MONTH(m.creationDate) = MONTH(CURRENT_DATE) - 1 " +
-            "AND YEAR(m.creationDate) = YEAR(CURRENT_DATE) " +
-            "AND m.user.id = :userId")
-    long getPreviousMonthMooringCount(@Param("userId") Integer userId);
-}
\ No newline at end of file
+    @Query("SELECT m FROM Mooring m WHERE m.serviceArea.id = :serviceAreaId")
+    List<Mooring> findAllByServiceAreaId(@Param("serviceAreaId") Integer serviceAreaId);
+
+    @Query("SELECT m FROM Mooring m WHERE m.searchDocument IS NULL AND m.id > :afterId ORDER BY m.id")
+    List<Mooring> findAllWithoutSearchDocument(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT m FROM Mooring m WHERE m.id > :afterId ORDER BY m.id")
+    List<Mooring> findAllAfterId(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT m.id, m.mooringNumber, m.boatName FROM Mooring m WHERE m.user.id = :userId")
+    List<Object[]> findSuggestions(@Param("userId") Integer userId);
+
+    /**
+     * Moorings of the customer owner inside a box, served by the index on user, latitude and longitude.
+     */
+    @Query("SELECT new com.marinamooringmanagement.model.dto.MooringLocation(" +
+            "m.id, m.mooringNumber, m.gpsCoordinates, ms.id, m.latitude, m.longitude) " +
+            "FROM Mooring m " +
+            "LEFT JOIN m.mooringStatus ms " +
+            "WHERE m.user.id = :userId " +
+            "AND m.latitude BETWEEN :minLatitude AND :maxLatitude " +
+            "AND m.longitude BETWEEN :minLongitude AND :maxLongitude " +
+            "ORDER BY m.id")
+    List<MooringLocation> findLocationsInBox(@Param("userId") Integer userId,
+                                             @Param("minLatitude") Double minLatitude,
+                                             @Param("maxLatitude") Double maxLatitude,
+                                             @Param("minLongitude") Double minLongitude,
+                                             @Param("maxLongitude") Double maxLongitude,
+                                             Pageable pageable);
+
+    /**
+     * Moorings of the customer owner inside a box, nearest to the point first. The order is the haversine of the
+     * distance, which grows with the distance, so the page holds the nearest moorings of the box.
+     */
+    @Query("SELECT new com.marinamooringmanagement.model.dto.MooringLocation(" +
+            "m.id, m.mooringNumber, m.gpsCoordinates, ms.id, m.latitude, m.longitude) " +
+            "FROM Mooring m " +
+            "LEFT JOIN m.mooringStatus ms " +
+            "WHERE m.user.id = :userId " +
+            "AND m.latitude BETWEEN :minLatitude AND :maxLatitude " +
+            "AND m.longitude BETWEEN :minLongitude AND :maxLongitude " +
+            "ORDER BY power(sin(radians(m.latitude - :latitude) / 2), 2) " +
+            "+ cos(radians(:latitude)) * cos(radians(m.latitude)) * power(sin(radians(m.longitude - :longitude) / 2), 2), m.id")
+    List<MooringLocation> findNearestLocationsInBox(@Param("userId") Integer userId,
+                                                    @Param("minLatitude") Double minLatitude,
+                                                    @Param("maxLatitude") Double maxLatitude,
+                                                    @Param("minLongitude") Double minLongitude,
+                                                    @Param("maxLongitude") Double maxLongitude,
+                                                    @Param("latitude") Double latitude,
+                                                    @Param("longitude") Double longitude,
+                                                    Pageable pageable);
+
+    @Query("SELECT m.id, m.mooringNumber FROM Mooring m WHERE m.mooringNumber IN :mooringNumbers")
+    List<Object[]> findIdsByMooringNumbers(@Param("mooringNumbers") Collection<String> mooringNumbers);
+
+    @Query("SELECT DISTINCT m.boatId FROM Mooring m WHERE m.boatId IS NOT NULL")
+    List<String> findAllBoatIds();
+
+    /**
+     * Moorings with the associations shown in the mooring due for service list, loaded in one query.
+     */
+    @Query("SELECT m FROM Mooring m " +
+            "LEFT JOIN FETCH m.boatType " +
+            "LEFT JOIN FETCH m.typeOfWeight " +
+            "LEFT JOIN FETCH m.eyeCondition " +
+            "LEFT JOIN FETCH m.topChainCondition " +
+            "LEFT JOIN FETCH m.bottomChainCondition " +
+            "LEFT JOIN FETCH m.shackleSwivelCondition " +
+            "LEFT JOIN FETCH m.mooringStatus " +
+            "LEFT JOIN FETCH m.customer " +
+            "LEFT JOIN FETCH m.boatyard " +
+            "LEFT JOIN FETCH m.serviceArea " +
+            "WHERE m.id IN :ids")
+    List<Mooring> findAllWithDetailsByIdIn(@Param("ids") Collection<Integer> ids);
+}
@@ -0,0 +1,19 @@
+package com.marinamooringmanagement.repositories;
+
+import com.marinamooringmanagement.model.entity.NumberSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NumberSequenceRepository extends JpaRepository<NumberSequence, Integer> {
+
+    /**
+     * Locks the sequence until the end of the transaction, other nodes reserving numbers of it wait.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<NumberSequence> findByName(String name);
+}
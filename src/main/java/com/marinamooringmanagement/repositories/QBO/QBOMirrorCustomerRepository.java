@@ -0,0 +1,16 @@
+package com.marinamooringmanagement.repositories.QBO;
+
+import com.marinamooringmanagement.model.entity.QBO.QBOMirrorCustomer;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface QBOMirrorCustomerRepository extends QBOMirrorRepository<QBOMirrorCustomer> {
+
+    Optional<QBOMirrorCustomer> findByRealmIdAndQuickbookId(String realmId, String quickbookId);
+
+    List<QBOMirrorCustomer> findByRealmIdAndActiveTrue(String realmId, Sort sort);
+}
@@ -0,0 +1,16 @@
+package com.marinamooringmanagement.repositories.QBO;
+
+import com.marinamooringmanagement.model.entity.QBO.QBOMirrorItem;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface QBOMirrorItemRepository extends QBOMirrorRepository<QBOMirrorItem> {
+
+    Optional<QBOMirrorItem> findByRealmIdAndQuickbookId(String realmId, String quickbookId);
+
+    List<QBOMirrorItem> findByRealmIdAndActiveTrue(String realmId, Sort sort);
+}
@@ -0,0 +1,16 @@
+package com.marinamooringmanagement.repositories.QBO;
+
+import com.marinamooringmanagement.model.entity.QBO.QBOMirrorPaymentMethod;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface QBOMirrorPaymentMethodRepository extends QBOMirrorRepository<QBOMirrorPaymentMethod> {
+
+    Optional<QBOMirrorPaymentMethod> findByRealmIdAndQuickbookId(String realmId, String quickbookId);
+
+    List<QBOMirrorPaymentMethod> findByRealmIdAndActiveTrue(String realmId, Sort sort);
+}
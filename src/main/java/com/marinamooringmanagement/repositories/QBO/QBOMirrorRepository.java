@@ -0,0 +1,16 @@
+package com.marinamooringmanagement.repositories.QBO;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Queries shared by the repositories of the QuickBooks mirror tables, which are keyed by company and QuickBooks id.
+ */
+@NoRepositoryBean
+public interface QBOMirrorRepository<T> extends JpaRepository<T, Integer> {
+
+    List<T> findByRealmIdAndQuickbookIdIn(String realmId, Collection<String> quickbookIds);
+}
@@ -0,0 +1,34 @@
+package com.marinamooringmanagement.repositories.QBO;
+
+import com.marinamooringmanagement.constants.enums.QBOOutboxStatus;
+import com.marinamooringmanagement.model.entity.QBO.QBOOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface QBOOutboxRepository extends JpaRepository<QBOOutbox, Integer> {
+
+    /**
+     * Locks the rows that are due for a push attempt, rows locked by another instance are skipped.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM QBOOutbox o " +
+            "WHERE o.status IN :statuses " +
+            "AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.id")
+    List<QBOOutbox> findDueForUpdate(@Param("statuses") Collection<QBOOutboxStatus> statuses,
+                                     @Param("now") Date now,
+                                     Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package com.marinamooringmanagement.repositories.QBO;
+
+import com.marinamooringmanagement.constants.enums.QBOMirrorEntityType;
+import com.marinamooringmanagement.model.entity.QBO.QBOSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface QBOSyncStateRepository extends JpaRepository<QBOSyncState, Integer> {
+
+    Optional<QBOSyncState> findByRealmIdAndEntityType(String realmId, QBOMirrorEntityType entityType);
+}
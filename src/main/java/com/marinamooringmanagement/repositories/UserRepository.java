@@ -1,6 +1,7 @@
 package com.marinamooringmanagement.repositories;
 
 import com.marinamooringmanagement.model.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -33,7 +34,7 @@ public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecifi
 
     @Query("SELECT new com.marinamooringmanagement.model.entity.User( " +
             "u.id, u.firstName, u.lastName, u.email, u.password, " +
-            "r.id, r.name, i.id, i.imageData) " +
+            "r.id, r.name, i.id, i.blobKey) " +
             "FROM User u " +
             "LEFT JOIN u.role r " +
             "LEFT JOIN u.image i " +
@@ -57,19 +58,13 @@ public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecifi
             "WHERE u.disabled = false AND (" +
             "(:customerOwnerId = -1 AND r.id = 2) " +
             "OR ((r.id = 3 OR r.id = 4) AND u.customerOwnerId = :customerOwnerId)) " +
-            "AND (:searchText IS NULL OR :searchText = '' OR (" +
-            "LOWER(u.firstName) LIKE CONCAT('%', LOWER(:searchText), '%') " +
-            "OR LOWER(u.lastName) LIKE CONCAT('%', LOWER(:searchText), '%') " +
-            "OR LOWER(CONCAT(u.firstName, ' ', u.lastName)) LIKE CONCAT('%', LOWER(:searchText), '%') " +
-            "OR LOWER(u.email) LIKE CONCAT('%', LOWER(:searchText), '%') " +
-            "OR LOWER(u.phoneNumber) LIKE CONCAT('%', LOWER(:searchText), '%') " +
-            "OR LOWER(r.name) LIKE CONCAT('%', LOWER(:searchText), '%'))) " +
+            "AND (:searchText IS NULL OR :searchText = '' OR u.searchDocument LIKE CONCAT('%', LOWER(:searchText), '%')) " +
             "ORDER BY u.companyName")
     List<User> findAll(@Param("customerOwnerId") Integer customerOwnerId,
                        @Param("searchText") String searchText);
 
     @Query("SELECT new com.marinamooringmanagement.model.entity.User( " +
-            "u.id, i.id, i.imageData) " +
+            "u.id, i.id, i.blobKey) " +
             "FROM User u " +
             "LEFT JOIN u.image i " +
             "LEFT JOIN u.role r " +
@@ -91,13 +86,7 @@ public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecifi
             "LEFT JOIN u.role r " +
             "WHERE u.disabled = false AND r.id = :roleId " +
             "AND (:customerOwnerId IS NOT NULL AND u.customerOwnerId IS NOT NULL AND u.customerOwnerId = :customerOwnerId) " +
-            "AND (:searchText IS NOT NULL AND LOWER(CAST(u.id AS string)) LIKE LOWER(CONCAT('%', :searchText, '%')) " +
-            "OR LOWER(u.firstName) LIKE LOWER(CONCAT('%', :searchText, '%')) " +
-            "OR LOWER(u.lastName) LIKE LOWER(CONCAT('%', :searchText, '%')) " +
-            "OR (LOWER(CONCAT(u.firstName, ' ', u.lastName)) LIKE LOWER(CONCAT('%', :searchText, '%'))) " +
-            "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :searchText, '%')) " +
-            "OR LOWER(u.phoneNumber) LIKE LOWER(CONCAT('%', :searchText, '%')) " +
-            "OR LOWER(r.name) LIKE LOWER(CONCAT('%', :searchText, '%'))) " +
+            "AND (:searchText = '' OR u.searchDocument LIKE CONCAT('%', LOWER(:searchText), '%')) " +
             "ORDER BY u.id")
     List<User> findAllUsersByCustomerOwnerAndRoleMetadata(@Param("roleId") Integer roleId,
                                                           @Param("customerOwnerId") Integer customerOwnerId,
@@ -115,4 +104,10 @@ public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecifi
             "LEFT JOIN u.role r " +
             "WHERE u.disabled = false AND u.id = :id")
     Optional<User> findUserByIdWithoutImage(@Param("id") Integer customerOwnerId);
+
+    @Query("SELECT u FROM User u WHERE u.searchDocument IS NULL AND u.id > :afterId ORDER BY u.id")
+    List<User> findAllWithoutSearchDocument(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<User> findAllAfterId(@Param("afterId") Integer afterId, Pageable pageable);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,5 +31,25 @@ public interface VoiceMEMORepository extends JpaRepository<VoiceMEMO, Integer> {
             "WHERE v.id = :id")
     Optional<VoiceMEMO> findByIdWithoutData(@Param("id") Integer id);
 
+    @Query("SELECT new com.marinamooringmanagement.model.entity.VoiceMEMO(" +
+            "v.id, v.name, w.id) " +
+            "FROM VoiceMEMO v " +
+            "JOIN v.workOrder w " +
+            "WHERE w.id IN :workOrderIds " +
+            "ORDER BY v.id")
+    List<VoiceMEMO> findVoiceMEMOsByWorkOrderIdsWithoutData(
+            @Param("workOrderIds") Collection<Integer> workOrderIds
+    );
+
+    @Query("SELECT new com.marinamooringmanagement.model.entity.VoiceMEMO(" +
+            "v.id, v.name, v.blobKey, v.blobSize, v.contentType, w.id) " +
+            "FROM VoiceMEMO v " +
+            "JOIN v.workOrder w " +
+            "WHERE w.id IN :workOrderIds " +
+            "ORDER BY v.id")
+    List<VoiceMEMO> findVoiceMEMOsByWorkOrderIds(
+            @Param("workOrderIds") Collection<Integer> workOrderIds
+    );
+
     List<VoiceMEMO> findByWorkOrderId(Integer id);
 }
@@ -1,18 +1,21 @@
 package com.marinamooringmanagement.repositories;
 
+import com.marinamooringmanagement.model.dto.RouteStop;
 import com.marinamooringmanagement.model.entity.WorkOrder;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface WorkOrderRepository extends JpaRepository<WorkOrder, Integer> {
+public interface WorkOrderRepository extends JpaRepository<WorkOrder, Integer>, WorkOrderRepositoryCustom {
 
     @Query("SELECT new com.marinamooringmanagement.model.entity.WorkOrder(" +
             "wo.id, wo.workOrderNumber, wo.dueDate, wo.scheduledDate, wo.completedDate, " +
@@ -55,18 +58,7 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, Integer> {
             "LEFT JOIN m.user u " +
             "LEFT JOIN u.role r " +
             "WHERE (wo.customerOwnerUser.id = :userId) " +
-            "AND (:searchText IS NOT NULL AND (" +
-            "LOWER(CAST(wo.id AS string)) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(wo.problem) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(wo.workOrderNumber) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(CONCAT(c.firstName, ' ', c.lastName)) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(c.firstName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(c.lastName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(m.mooringNumber) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(byd.boatyardName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(CONCAT(tu.firstName, ' ', tu.lastName)) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(tu.firstName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(tu.lastName) LIKE LOWER(CONCAT('%', :searchText, '%')))) " +
+            "AND (:searchText = '' OR wo.searchDocument LIKE CONCAT('%', LOWER(:searchText), '%')) " +
             "AND ((:showCompletedWorkOrders = 'Yes' AND wos.status LIKE 'Completed') OR (:showCompletedWorkOrders = 'No' AND wos.status NOT LIKE 'Completed')) " +
             "ORDER BY wo.id")
     List<WorkOrder> findAll(@Param("searchText") String searchText,
@@ -114,19 +106,7 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, Integer> {
             "LEFT JOIN m.user u " +
             "LEFT JOIN u.role r " +
             "WHERE (:userId IS NOT NULL AND wo.technicianUser.id = :userId) " +
-            "AND (:searchText IS NOT NULL AND (" +
-            "LOWER(CAST(wo.id AS string)) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(wo.problem) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(CONCAT(c.firstName, ' ', c.lastName)) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(c.firstName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(c.lastName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(m.mooringNumber) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(wo.workOrderNumber) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(byd.boatyardName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(s.serviceAreaName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(CONCAT(tu.firstName, ' ', tu.lastName)) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(tu.firstName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(tu.lastName) LIKE LOWER(CONCAT('%', :searchText, '%')))) " +
+            "AND (:searchText = '' OR wo.searchDocument LIKE CONCAT('%', LOWER(:searchText), '%')) " +
             "AND ((:showCompletedWorkOrders = 'Yes' AND wos.status LIKE 'Completed') OR (:showCompletedWorkOrders = 'No' AND wos.status NOT LIKE 'Completed')) " +
             "ORDER BY wo.id")
     List<WorkOrder> findAllByTechnicianUser(@Param("searchText") String searchText,
@@ -174,18 +154,7 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, Integer> {
             "LEFT JOIN m.user u " +
             "LEFT JOIN u.role r " +
             "WHERE (:userId IS NOT NULL AND wo.customerOwnerUser.id = :userId) " +
-            "AND (:searchText IS NOT NULL AND (" +
-            "LOWER(CAST(wo.id AS string)) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(wo.problem) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(CONCAT(c.firstName, ' ', c.lastName)) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(c.firstName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(c.lastName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(m.mooringNumber) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(wo.workOrderNumber) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(byd.boatyardName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(CONCAT(tu.firstName, ' ', tu.lastName)) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(tu.firstName) LIKE LOWER(CONCAT('%', :searchText, '%')) OR " +
-            "LOWER(tu.lastName) LIKE LOWER(CONCAT('%', :searchText, '%')))) " +
+            "AND (:searchText = '' OR wo.searchDocument LIKE CONCAT('%', LOWER(:searchText), '%')) " +
             "AND ((:showCompletedWorkOrders = 'Yes' AND wos.status LIKE 'Completed') OR (:showCompletedWorkOrders = 'No' AND wos.status NOT LIKE 'Completed')) " +
             "AND ((:workOrderPayStatusId IS NOT NULL AND wops.id IS NOT NULL AND wops.id = :workOrderPayStatusId)) " +
             "ORDER BY wo.id")
@@ -495,4 +464,57 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, Integer> {
             "LEFT JOIN u.role r " +
             "WHERE (wo.id = :workOrderId)")
     Optional<WorkOrder> findById(@Param("workOrderId") Integer workOrderId);
+
+    /**
+     * Loads the work orders of a bulk approval together with everything the approval checks, in one query.
+     */
+    @Query("SELECT wo FROM WorkOrder wo " +
+            "LEFT JOIN FETCH wo.mooring m " +
+            "LEFT JOIN FETCH m.customer c " +
+            "LEFT JOIN FETCH c.quickBookCustomer " +
+            "LEFT JOIN FETCH wo.workOrderStatus " +
+            "LEFT JOIN FETCH wo.workOrderPayStatus " +
+            "LEFT JOIN FETCH wo.workOrderInvoice " +
+            "WHERE wo.id IN :workOrderIds")
+    List<WorkOrder> findWorkOrdersForApproval(@Param("workOrderIds") Collection<Integer> workOrderIds);
+
+    @Query("SELECT wo FROM WorkOrder wo WHERE wo.mooring.id = :mooringId")
+    List<WorkOrder> findAllByMooringId(@Param("mooringId") Integer mooringId);
+
+    @Query("SELECT wo FROM WorkOrder wo WHERE wo.customer.id = :customerId")
+    List<WorkOrder> findAllByCustomerId(@Param("customerId") Integer customerId);
+
+    @Query("SELECT wo FROM WorkOrder wo WHERE wo.boatyard.id = :boatyardId")
+    List<WorkOrder> findAllByBoatyardId(@Param("boatyardId") Integer boatyardId);
+
+    @Query("SELECT wo FROM WorkOrder wo WHERE wo.technicianUser.id = :technicianUserId")
+    List<WorkOrder> findAllByTechnicianUserId(@Param("technicianUserId") Integer technicianUserId);
+
+    @Query("SELECT wo FROM WorkOrder wo WHERE wo.searchDocument IS NULL AND wo.id > :afterId ORDER BY wo.id")
+    List<WorkOrder> findAllWithoutSearchDocument(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT wo FROM WorkOrder wo WHERE wo.id > :afterId ORDER BY wo.id")
+    List<WorkOrder> findAllAfterId(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT wo.id, wo.workOrderNumber FROM WorkOrder wo WHERE wo.customerOwnerUser.id = :userId")
+    List<Object[]> findSuggestions(@Param("userId") Integer userId);
+
+    /**
+     * Open work orders of the technician scheduled on the day starting at {@code dayStart}, with the location of
+     * their mooring.
+     */
+    @Query("SELECT new com.marinamooringmanagement.model.dto.RouteStop(" +
+            "wo.id, wo.workOrderNumber, m.id, m.mooringNumber, m.gpsCoordinates, m.latitude, m.longitude) " +
+            "FROM WorkOrder wo " +
+            "LEFT JOIN wo.mooring m " +
+            "LEFT JOIN wo.workOrderStatus wos " +
+            "WHERE wo.technicianUser.id = :technicianUserId " +
+            "AND wo.customerOwnerUser.id = :customerOwnerUserId " +
+            "AND wos.status NOT LIKE 'Completed' " +
+            "AND wo.scheduledDate >= :dayStart AND wo.scheduledDate < :dayEnd " +
+            "ORDER BY wo.id")
+    List<RouteStop> findRouteStops(@Param("technicianUserId") Integer technicianUserId,
+                                   @Param("customerOwnerUserId") Integer customerOwnerUserId,
+                                   @Param("dayStart") Date dayStart,
+                                   @Param("dayEnd") Date dayEnd);
 }
@@ -0,0 +1,57 @@
+package com.marinamooringmanagement.repositories;
+
+import com.marinamooringmanagement.model.dto.MooringDueServiceSummary;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.model.request.WorkOrderPageRequest;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Work order queries that are built at runtime and therefore cannot be expressed with {@code @Query}.
+ */
+public interface WorkOrderRepositoryCustom {
+
+    /**
+     * Fetches one page of work orders sorted on {@code (sortKey, wo.id)}.
+     *
+     * <p>If the request carries a cursor the page seeks past it, otherwise it is read with an offset.
+     * Up to {@code pageSize + 1} rows are returned so the caller can tell whether a next page exists.
+     *
+     * @param pageRequest the page criteria
+     * @return the work orders of the page
+     */
+    List<WorkOrder> findPage(final WorkOrderPageRequest pageRequest);
+
+    /**
+     * Counts all work orders matching the criteria of the given page request, ignoring its cursor.
+     *
+     * @param pageRequest the page criteria
+     * @return the number of matching work orders
+     */
+    long countPage(final WorkOrderPageRequest pageRequest);
+
+    /**
+     * Aggregates the open work orders of the given user per mooring, sorted by their earliest due date.
+     *
+     * <p>Moorings whose open work orders have no due date are left out.
+     *
+     * @param userId        id of the customer owner (or technician)
+     * @param technician    whether {@code userId} refers to the assigned technician
+     * @param dueSoonBefore service dates before this date are flagged as under 30 days
+     * @param pageNumber    page number
+     * @param pageSize      maximum number of rows on the page, {@code 0} for all rows
+     * @return the moorings due for service on the page
+     */
+    List<MooringDueServiceSummary> findMooringDueForService(final Integer userId, final boolean technician, final Date dueSoonBefore,
+                                                            final int pageNumber, final int pageSize);
+
+    /**
+     * Counts the moorings {@link #findMooringDueForService} returns over all pages.
+     *
+     * @param userId     id of the customer owner (or technician)
+     * @param technician whether {@code userId} refers to the assigned technician
+     * @return the number of moorings due for service
+     */
+    long countMooringDueForService(final Integer userId, final boolean technician);
+}
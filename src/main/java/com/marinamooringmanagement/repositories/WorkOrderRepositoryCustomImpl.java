@@ -0,0 +1,165 @@
+package com.marinamooringmanagement.repositories;
+
+import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.constants.enums.WorkOrderSortKey;
+import com.marinamooringmanagement.model.dto.MooringDueServiceSummary;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.model.request.KeysetCursor;
+import com.marinamooringmanagement.model.request.WorkOrderPageRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.Date;
+import java.util.List;
+
+public class WorkOrderRepositoryCustomImpl implements WorkOrderRepositoryCustom {
+
+    private static final String SELECT = "SELECT new com.marinamooringmanagement.model.entity.WorkOrder(" +
+            "wo.id, wo.workOrderNumber, wo.dueDate, wo.scheduledDate, wo.completedDate, " +
+            "wo.time, wo.problem, wo.cost, wo.reasonForDenial, " +
+            "m.id, m.mooringNumber, m.harborOrArea, m.gpsCoordinates, m.installBottomChainDate, " +
+            "m.installTopChainDate, m.installConditionOfEyeDate, m.inspectionDate, m.boatId, m.boatName, " +
+            "m.boatSize, bt.id, bt.boatType, m.boatWeight, m.sizeOfWeight, tw.id, tw.type, ec.id, " +
+            "ec.condition, tc.id, tc.condition, bc.id, bc.condition, sc.id, sc.condition, " +
+            "m.pendantCondition, m.depthAtMeanHighWater, ms.id, ms.status, c.id, c.firstName, " +
+            "c.lastName, c.customerId, c.phone, c.address, cs.id, cs.name, cc.id, cc.name, " +
+            "u.id, u.firstName, u.lastName, byd.id, byd.boatyardId, byd.boatyardName, byd.address, " +
+            "bydS.id, bydS.name, " +
+            "bydC.id, bydC.name, " +
+            "s.id, s.serviceAreaName, " +
+            "tu.id, tu.firstName, tu.lastName, " +
+            "cu.id, cu.firstName, cu.lastName, " +
+            "wos.id, wos.status, wops.id, wops.status, " +
+            "woi.id) " +
+            "FROM WorkOrder wo " +
+            "LEFT JOIN wo.mooring m " +
+            "LEFT JOIN wo.technicianUser tu " +
+            "LEFT JOIN wo.customerOwnerUser cu " +
+            "LEFT JOIN wo.workOrderStatus wos " +
+            "LEFT JOIN wo.workOrderPayStatus wops " +
+            "LEFT JOIN wo.workOrderInvoice woi " +
+            "LEFT JOIN m.boatType bt " +
+            "LEFT JOIN m.typeOfWeight tw " +
+            "LEFT JOIN m.eyeCondition ec " +
+            "LEFT JOIN m.topChainCondition tc " +
+            "LEFT JOIN m.bottomChainCondition bc " +
+            "LEFT JOIN m.shackleSwivelCondition sc " +
+            "LEFT JOIN m.mooringStatus ms " +
+            "LEFT JOIN wo.customer c " +
+            "LEFT JOIN c.state cs " +
+            "LEFT JOIN c.country cc " +
+            "LEFT JOIN wo.boatyard byd " +
+            "LEFT JOIN byd.state bydS " +
+            "LEFT JOIN byd.country bydC " +
+            "LEFT JOIN m.serviceArea s " +
+            "LEFT JOIN m.user u ";
+
+    // only the joins the WHERE clause needs, the count does not build any projection
+    private static final String COUNT = "SELECT COUNT(wo.id) " +
+            "FROM WorkOrder wo " +
+            "LEFT JOIN wo.workOrderStatus wos ";
+
+    private static final String SEARCH = "(:searchText = '' OR wo.searchDocument LIKE CONCAT('%', LOWER(:searchText), '%')) ";
+
+    private static final String STATUS = "((:showCompletedWorkOrders = 'Yes' AND wos.status LIKE 'Completed') " +
+            "OR (:showCompletedWorkOrders = 'No' AND wos.status NOT LIKE 'Completed')) ";
+
+    // only the aggregates per mooring, the service loads the moorings of the page with their associations
+    private static final String MOORING_DUE_SELECT = "SELECT new com.marinamooringmanagement.model.dto.MooringDueServiceSummary(" +
+            "m.id, " +
+            "MIN(wo.dueDate), " +
+            "CASE WHEN MIN(wo.dueDate) < :dueSoonBefore THEN true ELSE false END, " +
+            "CASE WHEN SUM(CASE WHEN wos.status = :closeStatus THEN 0 ELSE 1 END) > 0 THEN true ELSE false END) " +
+            "FROM WorkOrder wo " +
+            "JOIN wo.mooring m " +
+            "LEFT JOIN wo.workOrderStatus wos ";
+
+    private static final String MOORING_DUE_COUNT = "SELECT COUNT(DISTINCT m.id) " +
+            "FROM WorkOrder wo " +
+            "JOIN wo.mooring m " +
+            "LEFT JOIN wo.workOrderStatus wos ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<WorkOrder> findPage(final WorkOrderPageRequest pageRequest) {
+        final WorkOrderSortKey sortKey = pageRequest.getSortKey();
+        final String direction = pageRequest.isAscending() ? "ASC" : "DESC";
+        final KeysetCursor cursor = pageRequest.getCursor();
+
+        final StringBuilder jpql = new StringBuilder(SELECT).append(where(pageRequest));
+        if (null != cursor) {
+            final String comparator = pageRequest.isAscending() ? ">" : "<";
+            jpql.append("AND (").append(sortKey.getExpression()).append(' ').append(comparator).append(" :lastSortValue ")
+                    .append("OR (").append(sortKey.getExpression()).append(" = :lastSortValue ")
+                    .append("AND wo.id ").append(comparator).append(" :lastId)) ");
+        }
+        jpql.append("ORDER BY ").append(sortKey.getExpression()).append(' ').append(direction);
+        if (sortKey != WorkOrderSortKey.ID) jpql.append(", wo.id ").append(direction);
+
+        final TypedQuery<WorkOrder> query = entityManager.createQuery(jpql.toString(), WorkOrder.class);
+        bindFilter(query, pageRequest);
+        if (sortKey.isDateKey()) query.setParameter("nullSortValue", sortKey.getNullValue());
+        if (null != cursor) {
+            query.setParameter("lastSortValue", sortKey.parse(cursor.getSortValue()));
+            query.setParameter("lastId", cursor.getLastId());
+        } else {
+            query.setFirstResult(pageRequest.getPageNumber() * pageRequest.getPageSize());
+        }
+        query.setMaxResults(pageRequest.getPageSize() + 1);
+        return query.getResultList();
+    }
+
+    @Override
+    public long countPage(final WorkOrderPageRequest pageRequest) {
+        final TypedQuery<Long> query = entityManager.createQuery(COUNT + where(pageRequest), Long.class);
+        bindFilter(query, pageRequest);
+        return query.getSingleResult();
+    }
+
+    private String where(final WorkOrderPageRequest pageRequest) {
+        return "WHERE " + (pageRequest.isTechnician() ? "wo.technicianUser.id = :userId " : "wo.customerOwnerUser.id = :userId ") +
+                "AND " + SEARCH +
+                "AND " + STATUS;
+    }
+
+    private void bindFilter(final TypedQuery<?> query, final WorkOrderPageRequest pageRequest) {
+        query.setParameter("userId", pageRequest.getUserId());
+        query.setParameter("searchText", null == pageRequest.getSearchText() ? "" : pageRequest.getSearchText());
+        query.setParameter("showCompletedWorkOrders", pageRequest.getShowCompletedWorkOrders());
+    }
+
+    @Override
+    public List<MooringDueServiceSummary> findMooringDueForService(final Integer userId, final boolean technician, final Date dueSoonBefore,
+                                                                   final int pageNumber, final int pageSize) {
+        final String jpql = MOORING_DUE_SELECT + mooringDueWhere(technician) +
+                "GROUP BY m.id " +
+                "HAVING MIN(wo.dueDate) IS NOT NULL " +
+                "ORDER BY MIN(wo.dueDate), m.id";
+
+        final TypedQuery<MooringDueServiceSummary> query = entityManager.createQuery(jpql, MooringDueServiceSummary.class);
+        query.setParameter("userId", userId);
+        query.setParameter("dueSoonBefore", dueSoonBefore);
+        query.setParameter("closeStatus", AppConstants.WorkOrderStatusConstants.CLOSE);
+        if (pageSize > 0) {
+            query.setFirstResult(pageNumber * pageSize);
+            query.setMaxResults(pageSize);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public long countMooringDueForService(final Integer userId, final boolean technician) {
+        final TypedQuery<Long> query = entityManager.createQuery(
+                MOORING_DUE_COUNT + mooringDueWhere(technician) + "AND wo.dueDate IS NOT NULL", Long.class);
+        query.setParameter("userId", userId);
+        return query.getSingleResult();
+    }
+
+    private String mooringDueWhere(final boolean technician) {
+        return "WHERE " + (technician ? "wo.technicianUser.id = :userId " : "wo.customerOwnerUser.id = :userId ") +
+                "AND wos.status NOT LIKE 'Completed' ";
+    }
+}
@@ -2,8 +2,10 @@ package com.marinamooringmanagement.repositories.metadata;
 
 import com.marinamooringmanagement.model.entity.metadata.Country;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,5 +22,12 @@ public interface CountryRepository extends JpaRepository<Country, Integer> {
      * @return An Optional containing the country if found, or an empty Optional otherwise.
      */
     Optional<Country> findByName(String name);
-}
 
+    /**
+     * Finds all countries with their states loaded, ordered by id.
+     *
+     * @return the countries, usable outside of a transaction.
+     */
+    @Query("SELECT DISTINCT c FROM Country c LEFT JOIN FETCH c.stateList ORDER BY c.id")
+    List<Country> findAllWithStates();
+}
@@ -2,8 +2,10 @@ package com.marinamooringmanagement.repositories.metadata;
 
 import com.marinamooringmanagement.model.entity.metadata.State;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,5 +22,12 @@ public interface StateRepository extends JpaRepository<State, Integer> {
      * @return An Optional containing the state if found, or an empty Optional otherwise.
      */
     Optional<State> findByName(String name);
-}
 
+    /**
+     * Finds all states with their country and the states of that country loaded, ordered by id.
+     *
+     * @return the states, usable outside of a transaction.
+     */
+    @Query("SELECT DISTINCT s FROM State s LEFT JOIN FETCH s.country c LEFT JOIN FETCH c.stateList ORDER BY s.id")
+    List<State> findAllWithCountry();
+}
@@ -0,0 +1,147 @@
+package com.marinamooringmanagement.scheduler;
+
+import com.marinamooringmanagement.helper.BlobContentHelper;
+import com.marinamooringmanagement.helper.BlobContentHelper.LegacyColumn;
+import com.marinamooringmanagement.service.BlobStore;
+import com.marinamooringmanagement.utils.ContentTypeUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves the binaries still held in the legacy {@code @Lob} columns of images, forms and voice memos into the
+ * {@link BlobStore}, one batch of rows at a time. Every row is moved in its own transaction and its legacy
+ * column is cleared once the blob key is set, so the job can be interrupted and resumed at any point.
+ *
+ * <p>Large objects of rows moved before they were unlinked here are left in {@code pg_largeobject}, they are
+ * removed by running {@code vacuumlo} on the database once.
+ */
+@Service
+public class BlobMigrationScheduler {
+
+    private static final List<LegacyColumn> LEGACY_COLUMNS = List.of(
+            BlobContentHelper.IMAGE_DATA,
+            BlobContentHelper.FORM_DATA,
+            BlobContentHelper.VOICE_MEMO_DATA
+    );
+
+    private static final int HEADER_LENGTH = 16;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private BlobContentHelper blobContentHelper;
+
+    @Value("${blob.migration.batch-size}")
+    private int batchSize;
+
+    private static final Logger log = LoggerFactory.getLogger(BlobMigrationScheduler.class);
+
+    private final Set<String> migratedTables = ConcurrentHashMap.newKeySet();
+
+    @Scheduled(initialDelayString = "${blob.migration.initial-delay}", fixedDelayString = "${blob.migration.interval}")
+    public void migrateLegacyBinaries() {
+        for (LegacyColumn legacyColumn : LEGACY_COLUMNS) {
+            if (migratedTables.contains(legacyColumn.table())) continue;
+            try {
+                final String columnType = blobContentHelper.legacyColumnType(legacyColumn);
+                if (null == columnType) {
+                    migratedTables.add(legacyColumn.table());
+                    continue;
+                }
+                final int moved = migrate(legacyColumn, StringUtils.equalsIgnoreCase(columnType, "oid"));
+                log.info(String.format("Moved %1$s rows of %2$s.%3$s to the blob store", moved, legacyColumn.table(), legacyColumn.column()));
+                migratedTables.add(legacyColumn.table());
+            } catch (Exception e) {
+                log.error(String.format("Error occurred while moving %1$s.%2$s to the blob store: %3$s", legacyColumn.table(), legacyColumn.column(), e.getLocalizedMessage()));
+            }
+        }
+    }
+
+    private int migrate(final LegacyColumn legacyColumn, final boolean largeObject) {
+        final String selectIds = String.format("SELECT id FROM %1$s WHERE blob_key IS NULL AND %2$s IS NOT NULL AND id > ? ORDER BY id LIMIT ?",
+                legacyColumn.table(), legacyColumn.column());
+
+        int moved = 0;
+        int failed = 0;
+        int lastId = 0;
+        List<Integer> batch;
+        do {
+            batch = jdbcTemplate.queryForList(selectIds, Integer.class, lastId, batchSize);
+            for (Integer id : batch) {
+                try {
+                    final Boolean done = transactionTemplate.execute(status -> migrateRow(legacyColumn, largeObject, id));
+                    if (Boolean.TRUE.equals(done)) moved++;
+                } catch (Exception e) {
+                    failed++;
+                    log.error(String.format("Error occurred while moving row %1$s of %2$s to the blob store: %3$s", id, legacyColumn.table(), e.getLocalizedMessage()));
+                }
+                lastId = id;
+            }
+        } while (batch.size() == batchSize);
+
+        if (failed > 0) throw new RuntimeException(String.format("%1$s rows could not be moved", failed));
+        return moved;
+    }
+
+    /**
+     * On PostgreSQL the legacy column only holds the oid of a large object. The large object is unlinked before
+     * the column is cleared, in the same transaction, or it would be left behind in {@code pg_largeobject}.
+     */
+    private boolean migrateRow(final LegacyColumn legacyColumn, final boolean largeObject, final Integer id) {
+        final String select = String.format("SELECT %1$s FROM %2$s WHERE id = ? AND blob_key IS NULL FOR UPDATE",
+                legacyColumn.column(), legacyColumn.table());
+        final String update = String.format("UPDATE %1$s SET blob_key = ?, blob_size = ?, content_type = ?, %2$s = NULL WHERE id = ?",
+                legacyColumn.table(), legacyColumn.column());
+
+        final List<BlobStore.StoredBlob> storedBlobs = jdbcTemplate.query(select, (rs, rowNum) -> store(rs, legacyColumn), id);
+        if (storedBlobs.isEmpty() || null == storedBlobs.get(0)) return false;
+
+        final BlobStore.StoredBlob blob = storedBlobs.get(0);
+        if (largeObject)
+            jdbcTemplate.queryForList(String.format("SELECT lo_unlink(%1$s) FROM %2$s WHERE id = ?", legacyColumn.column(), legacyColumn.table()), id);
+        jdbcTemplate.update(update, blob.key(), blob.size(), blob.contentType(), id);
+        return true;
+    }
+
+    private BlobStore.StoredBlob store(final ResultSet rs, final LegacyColumn legacyColumn) throws SQLException {
+        final Blob blob = rs.getBlob(1);
+        if (null == blob) return null;
+        try (InputStream inputStream = new BufferedInputStream(blob.getBinaryStream())) {
+            String contentType = legacyColumn.contentType();
+            if (null == contentType) {
+                inputStream.mark(HEADER_LENGTH);
+                contentType = ContentTypeUtils.detect(inputStream.readNBytes(HEADER_LENGTH), ContentTypeUtils.OCTET_STREAM);
+                inputStream.reset();
+            }
+            return blobStore.put(inputStream, contentType);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Error occurred while reading legacy data: %1$s", e.getLocalizedMessage()), e);
+        } finally {
+            blob.free();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.marinamooringmanagement.scheduler;
+
+import com.marinamooringmanagement.service.DashboardStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DashboardStatisticsScheduler {
+
+    @Autowired
+    private DashboardStatisticsService dashboardStatisticsService;
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStatisticsScheduler.class);
+
+    @Scheduled(cron = "${dashboard.statistics.reconcile.cron}")
+    public void reconcile() {
+        try {
+            dashboardStatisticsService.reconcile();
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while reconciling the dashboard counters: %1$s", e.getLocalizedMessage()));
+        }
+    }
+}
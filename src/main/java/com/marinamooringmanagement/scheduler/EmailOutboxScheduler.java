@@ -0,0 +1,26 @@
+package com.marinamooringmanagement.scheduler;
+
+import com.marinamooringmanagement.service.EmailOutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class EmailOutboxScheduler {
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxScheduler.class);
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval}")
+    public void drainOutbox() {
+        try {
+            emailOutboxService.drain();
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while draining the email outbox: %1$s", e.getLocalizedMessage()));
+        }
+    }
+}
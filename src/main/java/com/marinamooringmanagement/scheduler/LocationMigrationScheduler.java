@@ -0,0 +1,90 @@
+package com.marinamooringmanagement.scheduler;
+
+import com.marinamooringmanagement.utils.GPSCoordinateParser;
+import com.marinamooringmanagement.utils.GPSUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fills the latitude and longitude of moorings, boatyards and service areas saved before the columns existed,
+ * parsed from their GPS coordinates. Rows whose coordinates cannot be parsed are left empty and are not found
+ * by the map queries until they are saved with valid coordinates. Runs once per table and application start.
+ */
+@Service
+public class LocationMigrationScheduler {
+
+    private static final List<String> TABLES = List.of("mooring", "boatyard", "service_area");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${location.migration.batch-size}")
+    private int batchSize;
+
+    private static final Logger log = LoggerFactory.getLogger(LocationMigrationScheduler.class);
+
+    private final Set<String> migratedTables = ConcurrentHashMap.newKeySet();
+
+    @Scheduled(initialDelayString = "${location.migration.initial-delay}", fixedDelayString = "${location.migration.interval}")
+    public void migrateLocations() {
+        for (String table : TABLES) {
+            if (migratedTables.contains(table)) continue;
+            try {
+                final int[] counts = migrate(table);
+                log.info(String.format("Parsed the locations of %1$s rows of %2$s, %3$s rows have unparseable GPS coordinates", counts[0], table, counts[1]));
+                migratedTables.add(table);
+            } catch (Exception e) {
+                log.error(String.format("Error occurred while parsing the locations of %1$s: %2$s", table, e.getLocalizedMessage()));
+            }
+        }
+    }
+
+    private int[] migrate(final String table) {
+        final String select = String.format("SELECT id, gps_coordinates FROM %1$s WHERE latitude IS NULL AND gps_coordinates IS NOT NULL AND id > ? ORDER BY id LIMIT ?", table);
+        final String update = String.format("UPDATE %1$s SET latitude = ?, longitude = ? WHERE id = ? AND latitude IS NULL", table);
+
+        int parsed = 0;
+        int failed = 0;
+        int lastId = 0;
+        List<Map<String, Object>> batch;
+        do {
+            batch = jdbcTemplate.queryForList(select, lastId, batchSize);
+            final String[] gpsCoordinates = new String[batch.size()];
+            for (int i = 0; i < batch.size(); i++) gpsCoordinates[i] = (String) batch.get(i).get("gps_coordinates");
+            final long[] coordinates = GPSCoordinateParser.parseAll(gpsCoordinates);
+
+            final List<Object[]> locations = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                final Integer id = ((Number) batch.get(i).get("id")).intValue();
+                final double[] location = toLocation(gpsCoordinates[i], coordinates[i]);
+                if (null == location) failed++;
+                else locations.add(new Object[]{location[0], location[1], id});
+                lastId = id;
+            }
+            if (!locations.isEmpty()) jdbcTemplate.batchUpdate(update, locations);
+            parsed += locations.size();
+        } while (batch.size() == batchSize);
+        return new int[]{parsed, failed};
+    }
+
+    /**
+     * Coordinates saved before they were formatted independent of the locale may have a decimal comma, which the
+     * parser ignores as a separator.
+     */
+    private static double[] toLocation(final String gpsCoordinates, final long coordinates) {
+        if (!GPSCoordinateParser.isError(coordinates) && gpsCoordinates.indexOf(',') < 0)
+            return new double[]{GPSCoordinateParser.latitude(coordinates), GPSCoordinateParser.longitude(coordinates)};
+        return GPSUtil.toDecimalDegrees(gpsCoordinates);
+    }
+}
@@ -0,0 +1,26 @@
+package com.marinamooringmanagement.scheduler;
+
+import com.marinamooringmanagement.service.QBO.QBOMirrorSyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class QBOMirrorSyncScheduler {
+
+    @Autowired
+    private QBOMirrorSyncService qboMirrorSyncService;
+
+    private static final Logger log = LoggerFactory.getLogger(QBOMirrorSyncScheduler.class);
+
+    @Scheduled(fixedDelayString = "${qbo.mirror.sync.interval}")
+    public void sync() {
+        try {
+            qboMirrorSyncService.syncAll();
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while syncing the QuickBooks mirror: %1$s", e.getLocalizedMessage()));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.marinamooringmanagement.scheduler;
+
+import com.marinamooringmanagement.service.QBO.QBOOutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class QBOOutboxScheduler {
+
+    @Autowired
+    private QBOOutboxService qboOutboxService;
+
+    private static final Logger log = LoggerFactory.getLogger(QBOOutboxScheduler.class);
+
+    @Scheduled(fixedDelayString = "${qbo.outbox.poll-interval}")
+    public void dispatchOutbox() {
+        try {
+            qboOutboxService.dispatch();
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while dispatching the QBO outbox: %1$s", e.getLocalizedMessage()));
+        }
+    }
+}
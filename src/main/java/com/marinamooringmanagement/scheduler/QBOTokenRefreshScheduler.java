@@ -0,0 +1,26 @@
+package com.marinamooringmanagement.scheduler;
+
+import com.marinamooringmanagement.helper.QBOClientManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class QBOTokenRefreshScheduler {
+
+    @Autowired
+    private QBOClientManager qboClientManager;
+
+    private static final Logger log = LoggerFactory.getLogger(QBOTokenRefreshScheduler.class);
+
+    @Scheduled(fixedDelayString = "${qbo.token.refresh.interval}")
+    public void refreshExpiringTokens() {
+        try {
+            qboClientManager.refreshExpiringTokens();
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while refreshing QBO tokens: %1$s", e.getLocalizedMessage()));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.marinamooringmanagement.scheduler;
+
+import com.marinamooringmanagement.service.SearchDocumentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Creates the trigram indexes on the search documents once, rebuilds every document on the first run and
+ * afterwards builds the documents of rows that have none, such as rows written by code that does not index
+ * what it saves.
+ */
+@Service
+public class SearchDocumentScheduler {
+
+    @Autowired
+    private SearchDocumentService searchDocumentService;
+
+    private static final Logger log = LoggerFactory.getLogger(SearchDocumentScheduler.class);
+
+    private volatile boolean indexesCreated;
+
+    @Scheduled(initialDelayString = "${search.document.initial-delay}", fixedDelayString = "${search.document.interval}")
+    public void indexSearchDocuments() {
+        try {
+            final int written = searchDocumentService.backfill();
+            if (written > 0) log.info(String.format("Wrote %1$s search documents", written));
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while building the search documents: %1$s", e.getLocalizedMessage()));
+        }
+
+        if (indexesCreated) return;
+        try {
+            searchDocumentService.createIndexes();
+            indexesCreated = true;
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while creating the search document indexes: %1$s", e.getLocalizedMessage()));
+        }
+    }
+}
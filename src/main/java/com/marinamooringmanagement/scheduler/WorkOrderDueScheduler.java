@@ -2,17 +2,21 @@ package com.marinamooringmanagement.scheduler;
 
 import com.marinamooringmanagement.model.entity.WorkOrder;
 import com.marinamooringmanagement.repositories.WorkOrderRepository;
-import com.marinamooringmanagement.service.EmailService;
+import com.marinamooringmanagement.service.EmailOutboxService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class WorkOrderDueScheduler {
@@ -21,7 +25,13 @@ public class WorkOrderDueScheduler {
     private WorkOrderRepository workOrderRepository;
 
     @Autowired
-    private EmailService emailService;
+    private EmailOutboxService emailOutboxService;
+
+    /**
+     * Whether a technician receives one digest of all their due work orders per run instead of one email per work order.
+     */
+    @Value("${technician.notification.digest}")
+    private boolean digest;
 
     private static final Logger log = LoggerFactory.getLogger(WorkOrderDueScheduler.class);
 
@@ -37,11 +47,33 @@ public class WorkOrderDueScheduler {
 
             List<WorkOrder> workOrderWithOpenWorkOrderWithDateNotification = workOrderRepository.findAllWorkOrderWithOpenWorkOrderWithDateNotification(after30DaysDate);
 
-            for (WorkOrder workOrder : workOrderWithOpenWorkOrderWithDateNotification) {
-                log.info(String.format("Sending Email for work order of number: %1%s", workOrder.getWorkOrderNumber()));
-                emailService.sendNotificationForWorkOrder(workOrder);
-                log.info(String.format("Email sended successfully for work order of number: %1%s", workOrder.getWorkOrderNumber()));
+            int queued = 0;
+            if (digest) {
+                final Map<String, List<WorkOrder>> workOrdersByTechnician = new LinkedHashMap<>();
+                for (WorkOrder workOrder : workOrderWithOpenWorkOrderWithDateNotification) {
+                    if (null == workOrder.getTechnicianUser()) {
+                        log.info(String.format("Skipping work order of number: %1$s without technician", workOrder.getWorkOrderNumber()));
+                        continue;
+                    }
+                    workOrdersByTechnician.computeIfAbsent(workOrder.getTechnicianUser().getEmail(), email -> new ArrayList<>()).add(workOrder);
+                }
+                for (Map.Entry<String, List<WorkOrder>> entry : workOrdersByTechnician.entrySet()) {
+                    try {
+                        if (emailOutboxService.enqueueTechnicianDigest(entry.getValue(), currentDate)) queued++;
+                    } catch (Exception e) {
+                        log.error(String.format("Error occurred while queuing digest email for technician: %1$s: %2$s", entry.getKey(), e.getLocalizedMessage()));
+                    }
+                }
+            } else {
+                for (WorkOrder workOrder : workOrderWithOpenWorkOrderWithDateNotification) {
+                    try {
+                        if (emailOutboxService.enqueueWorkOrderNotification(workOrder, currentDate)) queued++;
+                    } catch (Exception e) {
+                        log.error(String.format("Error occurred while queuing email for work order of number: %1$s: %2$s", workOrder.getWorkOrderNumber(), e.getLocalizedMessage()));
+                    }
+                }
             }
+            log.info(String.format("Queued %1$s notification emails for %2$s due work orders", queued, workOrderWithOpenWorkOrderWithDateNotification.size()));
 
             log.info(String.format("Technician/s notified for date due date as: %1$s", dateAfter30Days));
         } catch (Exception e) {
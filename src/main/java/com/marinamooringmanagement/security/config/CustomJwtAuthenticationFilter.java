@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.marinamooringmanagement.model.response.BasicRestResponse;
 import com.marinamooringmanagement.security.util.JwtUtil;
 import com.marinamooringmanagement.security.model.AuthenticationDetails;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureException;
@@ -61,15 +62,17 @@ public class CustomJwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         try {
             final String jwtToken = extractJwtFromRequest(request);
-            if (StringUtils.isNotEmpty(jwtToken) && jwtTokenUtil.validateToken(jwtToken)) {
-                final UserDetails userDetails = new User(jwtTokenUtil.getUsernameFromToken(jwtToken),
-                        StringUtils.EMPTY, jwtTokenUtil.getRolesFromToken(jwtToken));
+            // the token is parsed once, everything below reads from the same claims
+            final Claims claims = StringUtils.isNotEmpty(jwtToken) ? jwtTokenUtil.parseClaims(jwtToken) : null;
+            if (null != claims && jwtTokenUtil.isTokenValid(jwtToken, claims)) {
+                final UserDetails userDetails = new User(claims.getSubject(),
+                        StringUtils.EMPTY, jwtTokenUtil.getRolesFromClaims(claims));
                 final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 final AuthenticationDetails authDetails = new AuthenticationDetails();
-                authDetails.setLoggedInUserEmail(jwtTokenUtil.getUsernameFromToken(jwtToken));
-                authDetails.setLoggedInUserId(jwtTokenUtil.getUserIdFromToken(jwtToken));
-                authDetails.setLoggedInUserRole(jwtTokenUtil.getRoleFromToken(jwtToken));
+                authDetails.setLoggedInUserEmail(claims.getSubject());
+                authDetails.setLoggedInUserId(jwtTokenUtil.getUserIdFromClaims(claims));
+                authDetails.setLoggedInUserRole(jwtTokenUtil.getRoleFromClaims(claims));
                 usernamePasswordAuthenticationToken.setDetails(authDetails);
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
             }
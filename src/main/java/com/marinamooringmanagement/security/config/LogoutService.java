@@ -6,6 +6,7 @@ import com.marinamooringmanagement.model.entity.User;
 import com.marinamooringmanagement.repositories.QBO.QBOUserRepository;
 import com.marinamooringmanagement.repositories.TokenRepository;
 import com.marinamooringmanagement.security.util.JwtUtil;
+import com.marinamooringmanagement.security.util.TokenStateCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,8 @@ public class LogoutService{
 
     private final JwtUtil jwtUtil;
 
+    private final TokenStateCache tokenStateCache;
+
     @Autowired
     private QBOUserRepository qboUserRepository;
 
@@ -45,6 +48,7 @@ public class LogoutService{
         final Token token = tokenRepository.findByToken(jwt);
         if(null != token) {
             tokenRepository.delete(token);
+            tokenStateCache.revoke(jwt, token.getTokenExpireAt());
             if(null != token.getUser()) {
                 if(null != token.getUser().getEmail()) {
                     Optional<QBOUser> optionalQBOUser = qboUserRepository.findQBOUserByCreatedBy(token.getUser().getEmail());
@@ -330,6 +330,7 @@ public class AuthenticationController extends GlobalExceptionHandler {
             String newRefreshToken = refreshToken;
 
             if (refreshTokenExpirationTime.before(new Date())) {
+                jwtUtil.revokeTokens(tokenRepository.findAllById(refreshTokenEntityList));
                 tokenRepository.deleteAllById(refreshTokenEntityList);
                 newRefreshToken = jwtUtil.generateToken(emp, refreshTokenStr);
             }
@@ -28,6 +28,9 @@ public class JwtUtil extends GlobalExceptionHandler {
     @Autowired
     TokenRepository tokenRepository;
 
+    @Autowired
+    private TokenStateCache tokenStateCache;
+
     @Value("${security.token.expiration.time}")
     private Long normalTokenExpirationTime;
 
@@ -40,6 +43,8 @@ public class JwtUtil extends GlobalExceptionHandler {
     @Value("${security.secret.key}")
     private String SECRET_KEY;
 
+    private volatile Key signInKey;
+
     /**
      * Function to validate a JWT token.
      *
@@ -47,25 +52,33 @@ public class JwtUtil extends GlobalExceptionHandler {
      * @return true if the token is valid, false otherwise
      */
     public boolean validateToken(final String authToken) {
-        return validate(authToken, SECRET_KEY) && isTokenValid(authToken);
+        return isTokenValid(authToken, parseClaims(authToken));
     }
 
     /**
-     * Function to check if a token is valid based on database and expiration.
+     * Function to check if an already parsed token is still known to the server.
+     * The state is served from {@link TokenStateCache} and only looked up in the database on a cache miss.
      *
-     * @param token the JWT token
+     * @param token  the JWT token
+     * @param claims the claims parsed from the token
      * @return true if the token is valid, false otherwise
      */
-    private boolean isTokenValid(final String token) {
+    public boolean isTokenValid(final String token, final Claims claims) {
+        final TokenStateCache.TokenState cachedState = tokenStateCache.get(token);
+        if (cachedState == TokenStateCache.TokenState.VALID) return true;
+        if (cachedState == TokenStateCache.TokenState.REVOKED) throw new RuntimeException("Token NOT FOUND!!!");
+
         final Optional<Token> optionalToken = tokenRepository.findTokenEntityByToken(token);
         if(optionalToken.isPresent()) {
             final Token tokenEntity = optionalToken.get();
 
             if (new Date().before(tokenEntity.getTokenExpireAt())) {
                 final User user = tokenEntity.getUser();
+                if (user != null) tokenStateCache.markValid(token, tokenEntity.getTokenExpireAt());
                 return user != null;
             }
         } else {
+            tokenStateCache.revoke(token, claims.getExpiration());
             throw new RuntimeException("Token NOT FOUND!!!");
         }
 
@@ -73,16 +86,25 @@ public class JwtUtil extends GlobalExceptionHandler {
     }
 
     /**
-     * Function to validate a token signature.
+     * Function to mark tokens as revoked after they have been removed from the database.
+     *
+     * @param tokens the deleted token entities
+     */
+    public void revokeTokens(final List<Token> tokens) {
+        if (null == tokens) return;
+        tokens.forEach(token -> tokenStateCache.revoke(token.getToken(), token.getTokenExpireAt()));
+    }
+
+    /**
+     * Function to verify the signature of a JWT and parse its claims. This is the only place a token is parsed,
+     * callers should parse once per request and read everything from the returned claims.
      *
      * @param authToken the JWT token
-     * @param secretKey the secret key used for signing
-     * @return true if the signature is valid, false otherwise
+     * @return the claims of the token
      */
-    private boolean validate(final String authToken, final String secretKey) {
+    public Claims parseClaims(final String authToken) {
         try {
-            Jwts.parser().setSigningKey(getSignInKey()).parseClaimsJws(authToken);
-            return true;
+            return Jwts.parser().setSigningKey(getSignInKey()).parseClaimsJws(authToken).getBody();
         } catch (SignatureException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException | ExpiredJwtException ex) {
             throw ex;
         }
@@ -94,8 +116,7 @@ public class JwtUtil extends GlobalExceptionHandler {
      * @return username extracted from the token
      */
     public String getUsernameFromToken(final String token) {
-        final Claims claims = Jwts.parser().setSigningKey(getSignInKey()).parseClaimsJws(token).getBody();
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
 
     /**
@@ -104,7 +125,15 @@ public class JwtUtil extends GlobalExceptionHandler {
      * @return Roles given to the User extracted from the Token
      */
     public List<SimpleGrantedAuthority> getRolesFromToken(final String token) {
-        final Claims claims = Jwts.parser().setSigningKey(getSignInKey()).parseClaimsJws(token).getBody();
+        return getRolesFromClaims(parseClaims(token));
+    }
+
+    /**
+     * Extract roles from already parsed claims
+     * @param claims The claims of the JWT
+     * @return Roles given to the User extracted from the claims
+     */
+    public List<SimpleGrantedAuthority> getRolesFromClaims(final Claims claims) {
         final List<SimpleGrantedAuthority> roles = new ArrayList<>();
         final List<String> rolesFromToken = claims.get("roles", List.class);
         if(null != rolesFromToken) {
@@ -119,7 +148,15 @@ public class JwtUtil extends GlobalExceptionHandler {
      * @return User ID of the User extracted from the token
      */
     public Integer getUserIdFromToken(final String token) {
-        final Claims claims = Jwts.parser().setSigningKey(getSignInKey()).parseClaimsJws(token).getBody();
+        return getUserIdFromClaims(parseClaims(token));
+    }
+
+    /**
+     * Function to get User Id from already parsed claims
+     * @param claims The claims of the JWT
+     * @return User ID of the User extracted from the claims
+     */
+    public Integer getUserIdFromClaims(final Claims claims) {
         return claims.get("id", Integer.class);
     }
 
@@ -129,7 +166,15 @@ public class JwtUtil extends GlobalExceptionHandler {
      * @return Get the first Role from the List of Roles given to the User
      */
     public String getRoleFromToken(final String token) {
-        final Claims claims = Jwts.parser().setSigningKey(getSignInKey()).parseClaimsJws(token).getBody();
+        return getRoleFromClaims(parseClaims(token));
+    }
+
+    /**
+     * Function to extract the first role from already parsed claims
+     * @param claims The claims of the JWT
+     * @return Get the first Role from the List of Roles given to the User
+     */
+    public String getRoleFromClaims(final Claims claims) {
         final List<String> rolesFromToken = claims.get("roles", List.class);
         if(!CollectionUtils.isEmpty(rolesFromToken)) {
             return rolesFromToken.get(0);
@@ -178,18 +223,22 @@ public class JwtUtil extends GlobalExceptionHandler {
      * @return {@link Date}
      */
     public Date getExpireTimeFromToken(final String token) {
-        final Claims claims = Jwts.parser().setSigningKey(getSignInKey()).parseClaimsJws(token).getBody();
-        return claims.getExpiration();
+        return parseClaims(token).getExpiration();
     }
 
     /**
      * Function to get {@link Key} using the SECRET_KEY.
      *
+     * The key is derived once and reused, the secret does not change at runtime.
+     *
      * @return the generated {@link Key}
      */
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+        if (null == signInKey) {
+            byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
+            signInKey = Keys.hmacShaKeyFor(keyBytes);
+        }
+        return signInKey;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.marinamooringmanagement.security.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded in-memory cache of the server side state of issued JWTs.
+ *
+ * <p>A token is remembered as valid once it has been found in {@code token_config}, and as revoked once it
+ * has been logged out or deleted on this node. A revoked entry lives until the expiry of its token, after
+ * which the JWT itself is rejected anyway. A valid entry lives for {@code security.token.cache.valid-ttl}
+ * at most, so a logout on another node is seen here once the entry has lapsed and the token is looked up
+ * again. When the cache is full the least recently used entry is dropped, which only costs one more
+ * database lookup for that token.
+ */
+@Component
+public class TokenStateCache {
+
+    public enum TokenState {
+        VALID,
+        REVOKED
+    }
+
+    private final Map<String, Entry> entries;
+
+    private final long validTtl;
+
+    public TokenStateCache(@Value("${security.token.cache.max-size}") final int maxSize,
+                           @Value("${security.token.cache.valid-ttl}") final long validTtl) {
+        this.validTtl = validTtl;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param token the JWT
+     * @return the cached state of the token, or {@code null} if unknown or expired
+     */
+    public synchronized TokenState get(final String token) {
+        final Entry entry = entries.get(token);
+        if (null == entry) return null;
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(token);
+            return null;
+        }
+        return entry.state();
+    }
+
+    /**
+     * Remembers a token as valid for the valid TTL, or until it expires if that is sooner. A revoked token is
+     * never turned valid again.
+     */
+    public synchronized void markValid(final String token, final Date expiresAt) {
+        final Entry entry = entries.get(token);
+        if (null != entry && entry.state() == TokenState.REVOKED) return;
+        if (null == expiresAt) return;
+        put(token, TokenState.VALID, new Date(Math.min(expiresAt.getTime(), System.currentTimeMillis() + validTtl)));
+    }
+
+    /**
+     * Remembers a token as revoked until it expires.
+     */
+    public synchronized void revoke(final String token, final Date expiresAt) {
+        put(token, TokenState.REVOKED, expiresAt);
+    }
+
+    private void put(final String token, final TokenState state, final Date expiresAt) {
+        if (null == token || null == expiresAt) return;
+        entries.put(token, new Entry(state, expiresAt.getTime()));
+    }
+
+    private record Entry(TokenState state, long expiresAt) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.marinamooringmanagement.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+
+/**
+ * Storage for the binary content of images, forms and voice memos.
+ *
+ * <p>Blobs are content addressed: the key of a blob is the lowercase hex SHA-256 of its bytes, so storing the
+ * same bytes twice returns the same key and keeps a single copy. A blob is immutable once stored. Entities keep
+ * only the key, size and content type of their blob.
+ */
+public interface BlobStore {
+
+    /**
+     * Stores the bytes read from the given stream. The stream is read to the end but not closed.
+     *
+     * @param inputStream the content
+     * @param contentType the media type of the content
+     * @return the key, size and content type of the stored blob
+     */
+    StoredBlob put(final InputStream inputStream, final String contentType);
+
+    /**
+     * @param data        the content
+     * @param contentType the media type of the content
+     * @return the key, size and content type of the stored blob
+     */
+    StoredBlob put(final byte[] data, final String contentType);
+
+    /**
+     * Opens the blob for reading. The caller has to close the returned stream.
+     *
+     * @param key the blob key
+     * @return a stream over the content of the blob
+     */
+    InputStream open(final String key);
+
+    /**
+     * @param key the blob key
+     * @return the whole content of the blob
+     */
+    byte[] read(final String key);
+
+    /**
+     * @param key the blob key
+     * @return the blob as a resource of known length that can be read repeatedly, as needed to serve HTTP range requests
+     */
+    Resource resource(final String key);
+
+    /**
+     * Stores a rendition derived from a blob, e.g. a thumbnail, next to it. Since the blob is immutable the
+     * variant never has to be invalidated.
+     *
+     * @param key     the key of the original blob
+     * @param variant the name of the variant
+     * @param data    the content of the variant
+     */
+    void putVariant(final String key, final String variant, final byte[] data);
+
+    /**
+     * @param key     the key of the original blob
+     * @param variant the name of the variant
+     * @return the content of the variant, or {@code null} if it has not been stored yet
+     */
+    byte[] readVariant(final String key, final String variant);
+
+    /**
+     * @param key the blob key
+     * @return whether a blob with the given key is stored
+     */
+    boolean exists(final String key);
+
+    record StoredBlob(String key, long size, String contentType) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.marinamooringmanagement.service;
+
+import com.marinamooringmanagement.constants.enums.DashboardMetric;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.Payment;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.model.entity.WorkOrderInvoice;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.DashboardStatisticsResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+/**
+ * Keeps the dashboard counters of every customer owner up to date, so the dashboard reads a handful of rows
+ * instead of counting moorings, work orders, invoices and payments on every load.
+ *
+ * <p>Services take the counters of an entity before they change it and hand them to {@link #record} together with
+ * the counters after the change, only the difference is written. The counters are updated in the transaction of
+ * the caller. A nightly {@link #reconcile} recounts everything from the source tables and corrects any drift.
+ */
+public interface DashboardStatisticsService {
+
+    /**
+     * A single counter an entity counts towards.
+     *
+     * @param customerOwnerId the customer owner the counter belongs to
+     * @param metric          the metric
+     * @param bucket          the month as {@code yyyyMM} for monthly metrics, {@code 0} for running totals
+     */
+    record CounterKey(Integer customerOwnerId, DashboardMetric metric, int bucket) {}
+
+    List<CounterKey> countersOf(final Mooring mooring);
+
+    List<CounterKey> countersOf(final WorkOrder workOrder);
+
+    List<CounterKey> countersOf(final WorkOrderInvoice workOrderInvoice);
+
+    List<CounterKey> countersOf(final Payment payment);
+
+    /**
+     * Decrements the counters only in {@code before} and increments the counters only in {@code after}.
+     *
+     * @param before the counters of the entities before the change, empty for new entities
+     * @param after  the counters of the entities after the change, empty for deleted entities
+     */
+    void record(final List<CounterKey> before, final List<CounterKey> after);
+
+    /**
+     * @param customerOwnerId the customer owner
+     * @return the running totals and the counters of the current and the previous month
+     */
+    DashboardStatisticsResponseDto fetchStatistics(final Integer customerOwnerId);
+
+    BasicRestResponse fetchDashboardStatistics(final HttpServletRequest request);
+
+    /**
+     * Recounts every counter from the source tables and overwrites the stored values, one transaction per
+     * customer owner.
+     */
+    void reconcile();
+}
@@ -0,0 +1,37 @@
+package com.marinamooringmanagement.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Exports the work order, mooring and invoice lists of a customer owner as CSV or Excel files.
+ *
+ * <p>The caller is authorized and the filter resolved before the response starts. The rows are then read in a
+ * read-only transaction through a forward-only cursor of {@code export.fetch-size} rows and written to the
+ * response as they arrive, so the memory used is the same for a thousand rows as for a million.
+ */
+public interface DataExportService {
+
+    /**
+     * @param searchText              text the work orders are filtered by, as for the work order list
+     * @param showCompletedWorkOrders {@code Yes} for the completed work orders, {@code No} for the others
+     * @param format                  {@code csv} or {@code xlsx}, {@code csv} if not given
+     */
+    ResponseEntity<StreamingResponseBody> exportWorkOrders(final String searchText, final String showCompletedWorkOrders,
+                                                           final String format, final HttpServletRequest request);
+
+    /**
+     * @param searchText text the invoices are filtered by, as for the invoice list
+     * @param format     {@code csv} or {@code xlsx}, {@code csv} if not given
+     */
+    ResponseEntity<StreamingResponseBody> exportWorkOrderInvoices(final String searchText, final String format,
+                                                                  final HttpServletRequest request);
+
+    /**
+     * @param searchText text the moorings are filtered by, as for the mooring list
+     * @param format     {@code csv} or {@code xlsx}, {@code csv} if not given
+     */
+    ResponseEntity<StreamingResponseBody> exportMoorings(final String searchText, final String format,
+                                                         final HttpServletRequest request);
+}
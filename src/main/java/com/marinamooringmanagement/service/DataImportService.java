@@ -0,0 +1,41 @@
+package com.marinamooringmanagement.service;
+
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.ImportResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Imports moorings and customers of a customer owner from CSV files, as exported from a spreadsheet.
+ *
+ * <p>The first row names the columns, in any order and case. Metadata, boatyards, service areas and customers are
+ * referred to by name or customer id. Every row is validated first, references are resolved from memory and with
+ * one query per {@code 1000} values. Only a file without errors is written, in one transaction with JDBC batch
+ * inserts of {@code import.batch-size} rows.
+ */
+public interface DataImportService {
+
+    BasicRestResponse importMoorings(final MultipartFile file, final Boolean dryRun, final HttpServletRequest request);
+
+    BasicRestResponse importCustomers(final MultipartFile file, final Boolean dryRun, final HttpServletRequest request);
+
+    /**
+     * @param user   the customer owner the moorings are imported for
+     * @param reader the CSV file
+     * @param dryRun {@code true} to validate the file without writing it
+     * @return the number of rows imported and the errors of the rows
+     */
+    ImportResponseDto importMoorings(final User user, final Reader reader, final boolean dryRun) throws IOException;
+
+    /**
+     * @param user   the customer owner the customers are imported for
+     * @param reader the CSV file
+     * @param dryRun {@code true} to validate the file without writing it
+     * @return the number of rows imported and the errors of the rows
+     */
+    ImportResponseDto importCustomers(final User user, final Reader reader, final boolean dryRun) throws IOException;
+}
@@ -0,0 +1,41 @@
+package com.marinamooringmanagement.service;
+
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Persistent queue of outgoing emails. Callers only write to the outbox, the emails are sent in batches by
+ * a bounded pool of workers, each batch over a single SMTP connection, and retried with exponential backoff.
+ */
+public interface EmailOutboxService {
+
+    /**
+     * Renders the due notification of a work order and queues it, unless the work order has already been
+     * queued for the given day.
+     *
+     * @param workOrder        the work order with technician, mooring and customer details
+     * @param notificationDate the day the notification belongs to
+     * @return whether the notification was queued
+     */
+    boolean enqueueWorkOrderNotification(final WorkOrder workOrder, final LocalDate notificationDate);
+
+    /**
+     * Renders one digest of the due work orders of a technician and queues it, unless a digest has already
+     * been queued for the technician for the given day.
+     *
+     * @param workOrders       the due work orders of the technician, all with the same technician
+     * @param notificationDate the day the notification belongs to
+     * @return whether the digest was queued
+     */
+    boolean enqueueTechnicianDigest(final List<WorkOrder> workOrders, final LocalDate notificationDate);
+
+    /**
+     * Hands due emails to the workers until the outbox is drained or every worker is busy.
+     */
+    void drain();
+
+    BasicRestResponse fetchMetrics();
+}
@@ -6,6 +6,8 @@ import com.marinamooringmanagement.model.request.SendEmailRequest;
 import com.marinamooringmanagement.model.response.SendEmailResponse;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.List;
+
 /**
  * EmailService interface defines methods for sending different types of emails.
  */
@@ -22,6 +24,22 @@ public interface EmailService {
 
     SendEmailResponse sendNotificationForWorkOrder(final WorkOrder workOrder);
 
+    /**
+     * Renders the due notification of a work order for its technician without sending it.
+     *
+     * @param workOrder The WorkOrder with technician, mooring and customer details.
+     * @return SendEmailRequest The rendered email.
+     */
+    SendEmailRequest createNotificationForWorkOrder(final WorkOrder workOrder);
+
+    /**
+     * Renders a single digest of the due work orders of one technician without sending it.
+     *
+     * @param workOrders The due WorkOrders of the technician, all with the same technician.
+     * @return SendEmailRequest The rendered email.
+     */
+    SendEmailRequest createDigestForTechnician(final List<WorkOrder> workOrders);
+
     /**
      * Sends an email using the provided SendEmailRequest object.
      *
@@ -29,4 +47,12 @@ public interface EmailService {
      * @return SendEmailResponse The response indicating if the email was sent successfully or not.
      */
     SendEmailResponse sendEmail(final SendEmailRequest sendEmailRequest);
+
+    /**
+     * Sends several emails over a single SMTP connection.
+     *
+     * @param sendEmailRequests The emails to send.
+     * @return List of SendEmailResponse One response per request, in the order of the requests.
+     */
+    List<SendEmailResponse> sendEmails(final List<SendEmailRequest> sendEmailRequests);
 }
\ No newline at end of file
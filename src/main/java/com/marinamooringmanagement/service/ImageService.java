@@ -1,19 +1,27 @@
 package com.marinamooringmanagement.service;
 
+import com.marinamooringmanagement.model.entity.Image;
 import com.marinamooringmanagement.model.request.ImageRequestDto;
 import com.marinamooringmanagement.model.request.MultipleImageRequestDto;
 import com.marinamooringmanagement.model.response.BasicRestResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
 
 public interface ImageService {
     BasicRestResponse uploadImage(final Integer entityId, final String entity, final MultipleImageRequestDto multipleImageRequestDto, final HttpServletRequest request);
 
+    BasicRestResponse uploadImageFiles(final Integer entityId, final String entity, final List<MultipartFile> files, final List<String> notes, final HttpServletRequest request);
+
     BasicRestResponse fetchImages(final Integer entityId, final String entity, final HttpServletRequest request);
 
     BasicRestResponse editImage(final Integer id, final String entity, final Integer entityId, final ImageRequestDto imageRequestDto, final HttpServletRequest request);
 
     BasicRestResponse viewImage(final Integer id, final HttpServletRequest request);
 
+    Image downloadImage(final Integer id, final HttpServletRequest request);
+
     BasicRestResponse deleteImage(final Integer id, final HttpServletRequest request);
 
 }
@@ -0,0 +1,38 @@
+package com.marinamooringmanagement.service;
+
+import com.marinamooringmanagement.constants.enums.ImageVariant;
+import com.marinamooringmanagement.model.dto.ImageDto;
+import com.marinamooringmanagement.model.entity.Image;
+import com.marinamooringmanagement.model.response.ImageResponseDto;
+
+/**
+ * Serves downscaled JPEG renditions of images for list and grid screens.
+ *
+ * <p>A variant is generated on its first request, stored next to the original blob and kept in a bounded
+ * in-memory LRU cache while it is requested frequently.
+ */
+public interface ImageVariantService {
+
+    /**
+     * @param image   the image
+     * @param variant the requested variant
+     * @return the JPEG bytes of the variant, or {@code null} if the format of the original cannot be decoded
+     */
+    byte[] fetchVariant(final Image image, final ImageVariant variant);
+
+    /**
+     * Fills the download URLs of the original and of every variant of the image.
+     *
+     * @param imageResponseDto the response of an image with its id set
+     * @return the same response
+     */
+    ImageResponseDto setDownloadUrls(final ImageResponseDto imageResponseDto);
+
+    /**
+     * Fills the download URLs of an image embedded in a customer, mooring or user response.
+     *
+     * @param imageDto the image with its id set
+     * @return the same image
+     */
+    ImageDto setDownloadUrls(final ImageDto imageDto);
+}
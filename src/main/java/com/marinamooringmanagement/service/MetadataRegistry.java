@@ -0,0 +1,61 @@
+package com.marinamooringmanagement.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Process-wide read cache for the small lookup tables under {@code model/entity/metadata}.
+ *
+ * <p>Every table is held as an immutable snapshot indexed by id and by name (status, type, condition, ...).
+ * Snapshots are loaded on first use, reloaded periodically and reloaded after every write to their table through
+ * JPA, see {@code MetadataRegistryListener}. The returned entities are shared between requests and must not be
+ * modified, their associations are loaded so they can be read outside of a session.
+ */
+public interface MetadataRegistry {
+
+    /**
+     * @param type the metadata entity class
+     * @return all rows of the table ordered by id
+     */
+    <T> List<T> findAll(final Class<T> type);
+
+    /**
+     * Returns one page of the table, ordered by id.
+     *
+     * @param type     the metadata entity class
+     * @param pageable the requested page
+     * @return the page of rows
+     */
+    <T> Page<T> findAll(final Class<T> type, final Pageable pageable);
+
+    /**
+     * @param type the metadata entity class
+     * @param id   the id of the row
+     * @return the row with the given id, if present
+     */
+    <T> Optional<T> findById(final Class<T> type, final Integer id);
+
+    /**
+     * Looks a row up by its natural name, e.g. {@code WorkOrderStatus.status} or {@code CustomerType.type}.
+     *
+     * @param type the metadata entity class
+     * @param name the exact name of the row
+     * @return the row with the given name, if present
+     */
+    <T> Optional<T> findByName(final Class<T> type, final String name);
+
+    /**
+     * Reloads the snapshot of a single table, to be called after the table has been written.
+     *
+     * @param type the metadata entity class
+     */
+    void refresh(final Class<?> type);
+
+    /**
+     * Reloads the snapshots of all tables.
+     */
+    void refreshAll();
+}
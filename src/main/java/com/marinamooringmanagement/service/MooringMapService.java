@@ -0,0 +1,50 @@
+package com.marinamooringmanagement.service;
+
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.MooringWithGPSCoordinateResponse;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+/**
+ * Spatial queries over the moorings of a customer owner for the harbor map.
+ *
+ * <p>Moorings are located by the latitude and longitude parsed from their GPS coordinates on save. Every query
+ * starts with a box on the index of user, latitude and longitude, radius and nearest queries then measure the
+ * exact great-circle distance of the moorings in the box. Moorings without parseable coordinates are never found.
+ */
+public interface MooringMapService {
+
+    BasicRestResponse fetchMooringsInViewport(final Double minLatitude, final Double minLongitude,
+                                              final Double maxLatitude, final Double maxLongitude,
+                                              final HttpServletRequest request);
+
+    BasicRestResponse fetchNearestMoorings(final Double latitude, final Double longitude, final Integer count,
+                                           final HttpServletRequest request);
+
+    BasicRestResponse fetchMooringsWithinRadius(final Double latitude, final Double longitude, final Double radiusInMeters,
+                                                final HttpServletRequest request);
+
+    /**
+     * A viewport crossing the antimeridian has a minimum longitude greater than its maximum longitude.
+     *
+     * @return at most {@code mooring.map.max-results} moorings inside the viewport
+     */
+    List<MooringWithGPSCoordinateResponse> findInViewport(final Integer customerOwnerId,
+                                                          final double minLatitude, final double minLongitude,
+                                                          final double maxLatitude, final double maxLongitude);
+
+    /**
+     * Searches boxes of growing size around the point until they hold enough moorings.
+     *
+     * @return the {@code count} moorings nearest to the point, nearest first
+     */
+    List<MooringWithGPSCoordinateResponse> findNearest(final Integer customerOwnerId, final double latitude,
+                                                       final double longitude, final int count);
+
+    /**
+     * @return at most {@code mooring.map.max-results} moorings within the radius of the point, nearest first
+     */
+    List<MooringWithGPSCoordinateResponse> findWithinRadius(final Integer customerOwnerId, final double latitude,
+                                                            final double longitude, final double radiusInMeters);
+}
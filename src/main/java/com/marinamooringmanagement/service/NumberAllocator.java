@@ -0,0 +1,22 @@
+package com.marinamooringmanagement.service;
+
+/**
+ * Hands out unique, increasing numbers from named sequences in the database.
+ *
+ * <p>Each node reserves a block of numbers at a time and hands them out from memory, so only every
+ * {@code block-size}th number costs a database round trip. Numbers are unique across nodes, but not gapless: the
+ * unused rest of a block is lost when the node stops.
+ */
+public interface NumberAllocator {
+
+    /**
+     * @return a new work order number, the configured prefix followed by the zero padded sequence value
+     */
+    String nextWorkOrderNumber();
+
+    /**
+     * @param sequenceName the name of the sequence, created on first use
+     * @return the next number of the sequence
+     */
+    long next(final String sequenceName);
+}
@@ -0,0 +1,34 @@
+package com.marinamooringmanagement.service.QBO;
+
+import com.intuit.ipp.exception.FMSException;
+import com.intuit.oauth2.exception.OAuthException;
+import com.marinamooringmanagement.model.entity.QBO.QBOUser;
+
+/**
+ * Mirrors the customers, items and payment methods of the QuickBooks Online companies into local tables, so
+ * screens and mappings read them without a round trip to QuickBooks.
+ *
+ * <p>The first sync of a company pages through every entity with {@code STARTPOSITION}/{@code MAXRESULTS}. Later
+ * syncs only pull what changed since the previous one through change data capture, and fall back to a paged query on
+ * {@code MetaData.LastUpdatedTime} when the change window of QuickBooks has been exceeded.
+ */
+public interface QBOMirrorSyncService {
+
+    /**
+     * Syncs the company of every connected QBO user.
+     */
+    void syncAll();
+
+    /**
+     * Syncs the company of the QBO user.
+     *
+     * @param qboUser the QBO user whose tokens are used
+     */
+    void sync(final QBOUser qboUser) throws FMSException, OAuthException;
+
+    /**
+     * @param realmId the QuickBooks company
+     * @return whether the customers of the company have been pulled at least once
+     */
+    boolean isCustomerMirrorReady(final String realmId);
+}
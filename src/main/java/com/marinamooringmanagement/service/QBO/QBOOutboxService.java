@@ -0,0 +1,40 @@
+package com.marinamooringmanagement.service.QBO;
+
+import com.marinamooringmanagement.model.entity.Payment;
+import com.marinamooringmanagement.model.entity.QBO.QBOUser;
+import com.marinamooringmanagement.model.entity.WorkOrderInvoice;
+
+import java.math.BigDecimal;
+
+/**
+ * Outbox of invoices and payments that still have to be created in QuickBooks Online.
+ * The enqueue methods take part in the caller's transaction, so the local entity and its outbox row are committed
+ * together. A background dispatcher pushes the rows and writes the QuickBooks ids back to the local entities.
+ */
+public interface QBOOutboxService {
+
+    /**
+     * Queues the creation of an invoice.
+     *
+     * @param workOrderInvoice    the saved local invoice
+     * @param qboUser             the QBO user whose company receives the invoice
+     * @param quickbookCustomerId the QuickBooks customer the invoice is billed to
+     */
+    void enqueueInvoice(final WorkOrderInvoice workOrderInvoice, final QBOUser qboUser, final String quickbookCustomerId);
+
+    /**
+     * Queues the creation of a payment.
+     *
+     * @param payment             the saved local payment
+     * @param qboUser             the QBO user whose company receives the payment
+     * @param quickbookCustomerId the QuickBooks customer who paid
+     * @param amount              the paid amount
+     * @param paymentMethodId     the QuickBooks payment method
+     */
+    void enqueuePayment(final Payment payment, final QBOUser qboUser, final String quickbookCustomerId, final BigDecimal amount, final String paymentMethodId);
+
+    /**
+     * Pushes the due rows of the outbox to QuickBooks.
+     */
+    void dispatch();
+}
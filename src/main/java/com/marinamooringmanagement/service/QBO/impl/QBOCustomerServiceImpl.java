@@ -7,32 +7,32 @@ import com.intuit.ipp.data.Customer;
 import com.intuit.ipp.data.CustomerMsg;
 import com.intuit.ipp.data.Error;
 import com.intuit.ipp.exception.FMSException;
-import com.intuit.ipp.exception.InvalidTokenException;
-import com.intuit.ipp.services.DataService;
 import com.intuit.ipp.services.QueryResult;
-import com.intuit.oauth2.client.OAuth2PlatformClient;
-import com.intuit.oauth2.data.BearerTokenResponse;
 import com.intuit.oauth2.exception.OAuthException;
 import com.marinamooringmanagement.client.OAuth2PlatformClientFactory;
 import com.marinamooringmanagement.constants.AppConstants;
 import com.marinamooringmanagement.exception.QBOOperationException;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
-import com.marinamooringmanagement.helper.QBOServiceHelper;
+import com.marinamooringmanagement.helper.QBOClientManager;
+import com.marinamooringmanagement.model.entity.QBO.QBOMirrorCustomer;
 import com.marinamooringmanagement.model.entity.QBO.QBOUser;
 import com.marinamooringmanagement.model.entity.QuickbookCustomer;
 import com.marinamooringmanagement.model.entity.User;
 import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.repositories.QBO.QBOMirrorCustomerRepository;
 import com.marinamooringmanagement.repositories.QBO.QBOUserRepository;
 import com.marinamooringmanagement.repositories.QuickbookCustomerRepository;
 import com.marinamooringmanagement.repositories.UserRepository;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
 import com.marinamooringmanagement.service.QBO.QBOCustomerService;
+import com.marinamooringmanagement.service.QBO.QBOMirrorSyncService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,8 +40,6 @@ import org.springframework.util.NumberUtils;
 import org.springframework.web.client.RestTemplate;
 
 import java.sql.Timestamp;
-import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,7 +51,7 @@ public class QBOCustomerServiceImpl implements QBOCustomerService {
     OAuth2PlatformClientFactory factory;
 
     @Autowired
-    public QBOServiceHelper helper;
+    private QBOClientManager qboClientManager;
 
     @Autowired
     private UserRepository userRepository;
@@ -67,6 +65,12 @@ public class QBOCustomerServiceImpl implements QBOCustomerService {
     @Autowired
     private QuickbookCustomerRepository quickbookCustomerRepository;
 
+    @Autowired
+    private QBOMirrorCustomerRepository qboMirrorCustomerRepository;
+
+    @Autowired
+    private QBOMirrorSyncService qboMirrorSyncService;
+
     private static final Logger logger = LoggerFactory.getLogger(QBOCustomerServiceImpl.class);
     private static final String failureMsg = "Failed";
 
@@ -83,87 +87,26 @@ public class QBOCustomerServiceImpl implements QBOCustomerService {
         BasicRestResponse response = BasicRestResponse.builder().build();
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
-            final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
-            final User user;
-            if (StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.FINANCE)) {
-                final User financeUser = userRepository.findUserByIdWithoutImage(LoggedInUserUtil.getLoggedInUserID())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No finance user found with the given id: %1$s", LoggedInUserUtil.getLoggedInUserID())));
-
-                user = userRepository.findUserByIdWithoutImage(financeUser.getCustomerOwnerId())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No customer owner user found with the given id: %1$s", financeUser.getCustomerOwnerId())));
-            } else {
-                user = authorizationUtil.checkAuthority(customerOwnerId);
-            }
-
-            final QBOUser qboUser;
-            if(StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.ADMINISTRATOR)) {
-                qboUser = qboUserRepository.findQBOUserByEmail(LoggedInUserUtil.getLoggedInUserEmail())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
-            } else {
-                qboUser = qboUserRepository.findQBOUserByEmail(user.getEmail())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
-            }
+            final QBOUser qboUser = findQBOUser(request);
 
             String realmId = qboUser.getRealmId();
             if (StringUtils.isEmpty(realmId)) {
                 throw new RuntimeException("No realm ID.  QBO calls only work if the accounting scope was passed!");
             }
-            String accessToken = qboUser.getAccessToken();
-
             try {
-                //get DataService
-                DataService service = helper.getDataService(realmId, accessToken);
+                // a company is pulled in full once, afterwards the scheduled sync keeps the mirror up to date
+                if (!qboMirrorSyncService.isCustomerMirrorReady(realmId)) qboMirrorSyncService.sync(qboUser);
 
-                // get required information of quickbooks customer
-                String sql = "SELECT id, givenName, familyName FROM Customer";
-                QueryResult queryResult = service.executeQuery(sql);
-
-                List<QuickbookCustomer> result = processResponseForCustomerList(failureMsg, queryResult);
+                List<QuickbookCustomer> result = qboMirrorCustomerRepository.findByRealmIdAndActiveTrue(realmId, Sort.by("givenName", "familyName"))
+                        .stream()
+                        .map(this::toQuickbookCustomer)
+                        .toList();
                 response.setContent(result);
                 response.setStatus(HttpStatus.OK.value());
-            }
-            /*
-             * Handle 401 status code -
-             * If a 401 response is received, refresh tokens should be used to get a new access token,
-             * and the API call should be tried again.
-             */ catch (InvalidTokenException e) {
-                logger.error("Error while calling executeQuery :: " + e.getMessage());
-
-                //refresh tokens
-                logger.info("received 401 during companyinfo call, refreshing tokens now");
-                OAuth2PlatformClient client = factory.getOAuth2PlatformClient();
-                String refreshToken = qboUser.getRefreshToken();
-
-                try {
-                    BearerTokenResponse bearerTokenResponse = client.refreshToken(refreshToken);
-
-                    qboUser.setLastModifiedDate(new Date(System.currentTimeMillis()));
-                    qboUser.setAccessToken(bearerTokenResponse.getAccessToken());
-                    qboUser.setRefreshToken(bearerTokenResponse.getRefreshToken());
-
-                    qboUserRepository.save(qboUser);
-
-                    //call company info again using new tokens
-                    logger.info("calling companyinfo using new tokens");
-                    DataService service = helper.getDataService(realmId, accessToken);
-
-                    // get all companyinfo
-                    String sql = "select CompanyName from companyinfo";
-                    QueryResult queryResult = service.executeQuery(sql);
-                    List<QuickbookCustomer> result = processResponseForCustomerList(failureMsg, queryResult);
-                    response.setContent(result);
-                    response.setStatus(HttpStatus.OK.value());
-
-                } catch (OAuthException e1) {
-                    logger.error("Error while calling bearer token :: " + e.getMessage());
-                    response.setMessage("Error while calling bearer token :: " + e.getMessage());
-                    response.setStatus(HttpStatus.FORBIDDEN.value());
-                } catch (FMSException e1) {
-                    logger.error("Error while calling bearer token :: " + e.getMessage());
-                    response.setMessage("Error while calling company currency :: " + e.getMessage());
-                    response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
-                }
-
+            } catch (OAuthException e) {
+                logger.error("Error while calling bearer token :: " + e.getMessage());
+                response.setMessage("Error while calling bearer token :: " + e.getMessage());
+                response.setStatus(HttpStatus.FORBIDDEN.value());
             } catch (FMSException e) {
                 List<Error> list = e.getErrorList();
                 list.forEach(error -> logger.error("Error while calling executeQuery :: " + error.getMessage()));
@@ -183,25 +126,7 @@ public class QBOCustomerServiceImpl implements QBOCustomerService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         ResponseEntity<String> responseEntity = null;
         try {
-            final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
-            final User user;
-            if (org.apache.commons.lang3.StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.FINANCE)) {
-                final User financeUser = userRepository.findUserByIdWithoutImage(LoggedInUserUtil.getLoggedInUserID())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No finance user found with the given id: %1$s", LoggedInUserUtil.getLoggedInUserID())));
-
-                user = userRepository.findUserByIdWithoutImage(financeUser.getCustomerOwnerId())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No customer owner user found with the given id: %1$s", financeUser.getCustomerOwnerId())));
-            } else {
-                user = authorizationUtil.checkAuthority(customerOwnerId);
-            }
-            final QBOUser qboUser;
-            if(StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.ADMINISTRATOR)) {
-                qboUser = qboUserRepository.findQBOUserByEmail(LoggedInUserUtil.getLoggedInUserEmail())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
-            } else {
-                qboUser = qboUserRepository.findQBOUserByEmail(user.getEmail())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
-            }
+            final QBOUser qboUser = findQBOUser(request);
 
             String realmId = qboUser.getRealmId();
             if (StringUtils.isEmpty(realmId)) {
@@ -232,21 +157,11 @@ public class QBOCustomerServiceImpl implements QBOCustomerService {
 
                 //refresh tokens
                 logger.info("received 401 during get quickbook customer by ID call, refreshing tokens now");
-                OAuth2PlatformClient client = factory.getOAuth2PlatformClient();
-                String refreshToken = qboUser.getRefreshToken();
-
-                BearerTokenResponse bearerTokenResponse = client.refreshToken(refreshToken);
-
-                qboUser.setLastModifiedDate(new Date(System.currentTimeMillis()));
-                qboUser.setAccessToken(bearerTokenResponse.getAccessToken());
-                qboUser.setRefreshToken(bearerTokenResponse.getRefreshToken());
-
-                qboUserRepository.save(qboUser);
-                final String newAccessToken = qboUser.getAccessToken();
+                final String newAccessToken = qboClientManager.refresh(qboUser).getAccessToken();
 
                 headers.set("Authorization", "Bearer " + newAccessToken);
 
-                responseEntity = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+                responseEntity = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
                 if (responseEntity.getStatusCode() == HttpStatus.OK) {
                     response.setContent(responseEntity.getBody());
                     response.setStatus(HttpStatus.OK.value());
@@ -264,7 +179,14 @@ public class QBOCustomerServiceImpl implements QBOCustomerService {
 
     @Transactional
     public QuickbookCustomer getQuickBooksCustomerByQuickbookCustomerResponse(com.marinamooringmanagement.model.entity.Customer customer, String quickbookCustomerId, HttpServletRequest request) {
-        // Call your fetchQBOCustomerById to get the ResponseEntity
+        Optional<QuickbookCustomer> optionalMappedQuickbookCustomer = quickbookCustomerRepository.findByQuickbookCustomerId(quickbookCustomerId);
+        if (optionalMappedQuickbookCustomer.isPresent()) return optionalMappedQuickbookCustomer.get();
+
+        final QBOUser qboUser = findQBOUser(request);
+        Optional<QBOMirrorCustomer> optionalMirrorCustomer = qboMirrorCustomerRepository.findByRealmIdAndQuickbookId(qboUser.getRealmId(), quickbookCustomerId);
+        if (optionalMirrorCustomer.isPresent()) return toQuickbookCustomer(optionalMirrorCustomer.get());
+
+        // not synced yet, e.g. created in QuickBooks since the last sync
         ResponseEntity<String> responseEntity = fetchQBOCustomerById(quickbookCustomerId, request);
 
         if (responseEntity.getStatusCode() == HttpStatus.OK) {
@@ -411,21 +333,37 @@ public class QBOCustomerServiceImpl implements QBOCustomerService {
 //        return response;
 //    }
 
-    private List<QuickbookCustomer> processResponseForCustomerList(String failureMsg, QueryResult queryResult) {
-        List<QuickbookCustomer> quickbookCustomerList = new ArrayList<>();
-        if (!queryResult.getEntities().isEmpty() && queryResult.getEntities().size() > 0) {
-            List<Customer> customerList = (List<Customer>) queryResult.getEntities();
+    private QBOUser findQBOUser(final HttpServletRequest request) {
+        final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+        final User user;
+        if (StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.FINANCE)) {
+            final User financeUser = userRepository.findUserByIdWithoutImage(LoggedInUserUtil.getLoggedInUserID())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No finance user found with the given id: %1$s", LoggedInUserUtil.getLoggedInUserID())));
 
-            for (Customer customer : customerList) {
-                QuickbookCustomer quickbookCustomer = QuickbookCustomer.builder().build();
-                quickbookCustomer.setQuickbookCustomerId(customer.getId());
-                quickbookCustomer.setQuickbookCustomerFirstName(customer.getGivenName());
-                quickbookCustomer.setQuickbookCustomerLastName(customer.getFamilyName());
+            user = userRepository.findUserByIdWithoutImage(financeUser.getCustomerOwnerId())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No customer owner user found with the given id: %1$s", financeUser.getCustomerOwnerId())));
+        } else {
+            user = authorizationUtil.checkAuthority(customerOwnerId);
+        }
 
-                quickbookCustomerList.add(quickbookCustomer);
-            }
+        final QBOUser qboUser;
+        if(StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.ADMINISTRATOR)) {
+            qboUser = qboUserRepository.findQBOUserByEmail(LoggedInUserUtil.getLoggedInUserEmail())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
+        } else {
+            qboUser = qboUserRepository.findQBOUserByEmail(user.getEmail())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
         }
-        return quickbookCustomerList;
+
+        return qboUser;
+    }
+
+    private QuickbookCustomer toQuickbookCustomer(final QBOMirrorCustomer mirrorCustomer) {
+        QuickbookCustomer quickbookCustomer = QuickbookCustomer.builder().build();
+        quickbookCustomer.setQuickbookCustomerId(mirrorCustomer.getQuickbookId());
+        quickbookCustomer.setQuickbookCustomerFirstName(mirrorCustomer.getGivenName());
+        quickbookCustomer.setQuickbookCustomerLastName(mirrorCustomer.getFamilyName());
+        return quickbookCustomer;
     }
 
     private QuickbookCustomer processResponseForCustomerById(String failureMsg, QueryResult queryResult) {
@@ -0,0 +1,299 @@
+package com.marinamooringmanagement.service.QBO.impl;
+
+import com.intuit.ipp.core.IEntity;
+import com.intuit.ipp.data.Customer;
+import com.intuit.ipp.data.EntityStatusEnum;
+import com.intuit.ipp.data.IntuitEntity;
+import com.intuit.ipp.data.Item;
+import com.intuit.ipp.data.PaymentMethod;
+import com.intuit.ipp.exception.FMSException;
+import com.intuit.ipp.services.CDCQueryResult;
+import com.intuit.ipp.services.QueryResult;
+import com.intuit.oauth2.exception.OAuthException;
+import com.marinamooringmanagement.constants.enums.QBOMirrorEntityType;
+import com.marinamooringmanagement.helper.QBOClientManager;
+import com.marinamooringmanagement.model.entity.Base;
+import com.marinamooringmanagement.model.entity.QBO.QBOMirrorCustomer;
+import com.marinamooringmanagement.model.entity.QBO.QBOMirrorItem;
+import com.marinamooringmanagement.model.entity.QBO.QBOMirrorPaymentMethod;
+import com.marinamooringmanagement.model.entity.QBO.QBOSyncState;
+import com.marinamooringmanagement.model.entity.QBO.QBOUser;
+import com.marinamooringmanagement.repositories.QBO.QBOMirrorCustomerRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOMirrorItemRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOMirrorPaymentMethodRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOMirrorRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOSyncStateRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOUserRepository;
+import com.marinamooringmanagement.service.QBO.QBOMirrorSyncService;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class QBOMirrorSyncServiceImpl implements QBOMirrorSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(QBOMirrorSyncServiceImpl.class);
+
+    private static final DateTimeFormatter QBO_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssxxx");
+
+    /**
+     * Change data capture returns at most this many entities, a full response may be truncated.
+     */
+    private static final int CDC_MAX_RESULTS = 1000;
+
+    @Autowired
+    private QBOClientManager qboClientManager;
+
+    @Autowired
+    private QBOUserRepository qboUserRepository;
+
+    @Autowired
+    private QBOSyncStateRepository qboSyncStateRepository;
+
+    @Autowired
+    private QBOMirrorCustomerRepository qboMirrorCustomerRepository;
+
+    @Autowired
+    private QBOMirrorItemRepository qboMirrorItemRepository;
+
+    @Autowired
+    private QBOMirrorPaymentMethodRepository qboMirrorPaymentMethodRepository;
+
+    @Value("${qbo.mirror.page-size}")
+    private int pageSize;
+
+    @Value("${qbo.mirror.cdc-window}")
+    private Duration cdcWindow;
+
+    @Value("${qbo.mirror.clock-skew}")
+    private Duration clockSkew;
+
+    @Override
+    public void syncAll() {
+        final Set<String> realmIds = new HashSet<>();
+        for (QBOUser qboUser : qboUserRepository.findAll()) {
+            if (StringUtils.isEmpty(qboUser.getRealmId()) || StringUtils.isEmpty(qboUser.getAccessToken())) continue;
+            if (!realmIds.add(qboUser.getRealmId())) continue;
+            try {
+                sync(qboUser);
+            } catch (Exception e) {
+                log.error(String.format("Error occurred while syncing QuickBooks company %1$s: %2$s", qboUser.getRealmId(), e.getLocalizedMessage()));
+            }
+        }
+    }
+
+    @Override
+    public void sync(final QBOUser qboUser) throws FMSException, OAuthException {
+        for (QBOMirrorEntityType entityType : QBOMirrorEntityType.values()) {
+            sync(qboUser, entityType);
+        }
+    }
+
+    @Override
+    public boolean isCustomerMirrorReady(final String realmId) {
+        return qboSyncStateRepository.findByRealmIdAndEntityType(realmId, QBOMirrorEntityType.CUSTOMER)
+                .map(syncState -> null != syncState.getChangedSince())
+                .orElse(false);
+    }
+
+    private void sync(final QBOUser qboUser, final QBOMirrorEntityType entityType) throws FMSException, OAuthException {
+        final String realmId = qboUser.getRealmId();
+        final QBOSyncState syncState = qboSyncStateRepository.findByRealmIdAndEntityType(realmId, entityType)
+                .orElseGet(() -> {
+                    final QBOSyncState newSyncState = QBOSyncState.builder()
+                            .realmId(realmId)
+                            .entityType(entityType)
+                            .build();
+                    newSyncState.setCreationDate(new Date(System.currentTimeMillis()));
+                    return newSyncState;
+                });
+
+        // the next sync starts a little before this one, changes are upserted so an overlap does no harm
+        final long startedAt = System.currentTimeMillis();
+        final Date changedSince = syncState.getChangedSince();
+
+        final int count;
+        if (null == changedSince || changedSince.getTime() < startedAt - cdcWindow.toMillis()) {
+            count = pull(qboUser, entityType, changedSince);
+        } else {
+            final List<? extends IEntity> changes = fetchChanges(qboUser, entityType, changedSince);
+            if (changes.size() >= CDC_MAX_RESULTS) {
+                count = pull(qboUser, entityType, changedSince);
+            } else {
+                save(realmId, entityType, changes);
+                count = changes.size();
+            }
+        }
+
+        syncState.setChangedSince(new Date(startedAt - clockSkew.toMillis()));
+        syncState.setLastSyncCount(count);
+        syncState.setLastModifiedDate(new Date(System.currentTimeMillis()));
+        qboSyncStateRepository.save(syncState);
+
+        log.debug(String.format("Synced %1$s %2$s entities of QuickBooks company %3$s", count, entityType.getEntityName(), realmId));
+    }
+
+    /**
+     * Pages through the entities, including inactive ones, ordered by id so a page boundary does not move while
+     * pages are saved.
+     *
+     * @param changedSince only entities updated after this time are pulled, {@code null} pulls every entity
+     * @return the number of pulled entities
+     */
+    private int pull(final QBOUser qboUser, final QBOMirrorEntityType entityType, final Date changedSince) throws FMSException, OAuthException {
+        final StringBuilder where = new StringBuilder("Active IN (true, false)");
+        if (null != changedSince) where.append(String.format(" AND MetaData.LastUpdatedTime > '%1$s'", format(changedSince)));
+
+        int count = 0;
+        int startPosition = 1;
+        while (true) {
+            final String sql = String.format("SELECT * FROM %1$s WHERE %2$s ORDERBY Id STARTPOSITION %3$s MAXRESULTS %4$s",
+                    entityType.getEntityName(), where, startPosition, pageSize);
+            final QueryResult queryResult = qboClientManager.execute(qboUser, dataService -> dataService.executeQuery(sql));
+            final List<? extends IEntity> entities = null == queryResult || null == queryResult.getEntities()
+                    ? Collections.emptyList()
+                    : queryResult.getEntities();
+
+            save(qboUser.getRealmId(), entityType, entities);
+            count += entities.size();
+            if (entities.size() < pageSize) return count;
+            startPosition += pageSize;
+        }
+    }
+
+    private List<? extends IEntity> fetchChanges(final QBOUser qboUser, final QBOMirrorEntityType entityType, final Date changedSince) throws FMSException, OAuthException {
+        final List<IntuitEntity> entities = List.of(prototype(entityType));
+        final List<CDCQueryResult> cdcQueryResults = qboClientManager.execute(qboUser, dataService -> dataService.executeCDCQuery(entities, format(changedSince)));
+        if (CollectionUtils.isEmpty(cdcQueryResults)) return Collections.emptyList();
+
+        final List<IEntity> changes = new ArrayList<>();
+        for (CDCQueryResult cdcQueryResult : cdcQueryResults) {
+            if (null == cdcQueryResult.getQueryResults()) continue;
+            final QueryResult queryResult = cdcQueryResult.getQueryResults().get(entityType.getEntityName());
+            if (null != queryResult && null != queryResult.getEntities()) changes.addAll(queryResult.getEntities());
+        }
+        return changes;
+    }
+
+    private void save(final String realmId, final QBOMirrorEntityType entityType, final List<? extends IEntity> entities) {
+        if (entities.isEmpty()) return;
+        switch (entityType) {
+            case CUSTOMER -> save(realmId, entities, Customer.class, qboMirrorCustomerRepository, QBOMirrorCustomer::getQuickbookId,
+                    quickbookId -> QBOMirrorCustomer.builder().realmId(realmId).quickbookId(quickbookId).build(),
+                    (customer, mirror) -> {
+                        mirror.setGivenName(customer.getGivenName());
+                        mirror.setFamilyName(customer.getFamilyName());
+                        mirror.setDisplayName(customer.getDisplayName());
+                        mirror.setCompanyName(customer.getCompanyName());
+                        mirror.setActive(!Boolean.FALSE.equals(customer.isActive()));
+                        mirror.setLastUpdatedTime(lastUpdatedTime(customer));
+                    });
+            case ITEM -> save(realmId, entities, Item.class, qboMirrorItemRepository, QBOMirrorItem::getQuickbookId,
+                    quickbookId -> QBOMirrorItem.builder().realmId(realmId).quickbookId(quickbookId).build(),
+                    (item, mirror) -> {
+                        mirror.setName(item.getName());
+                        mirror.setType(null == item.getType() ? null : item.getType().value());
+                        mirror.setUnitPrice(item.getUnitPrice());
+                        mirror.setActive(!Boolean.FALSE.equals(item.isActive()));
+                        mirror.setLastUpdatedTime(lastUpdatedTime(item));
+                    });
+            case PAYMENT_METHOD -> save(realmId, entities, PaymentMethod.class, qboMirrorPaymentMethodRepository, QBOMirrorPaymentMethod::getQuickbookId,
+                    quickbookId -> QBOMirrorPaymentMethod.builder().realmId(realmId).quickbookId(quickbookId).build(),
+                    (paymentMethod, mirror) -> {
+                        mirror.setName(paymentMethod.getName());
+                        mirror.setType(paymentMethod.getType());
+                        mirror.setActive(!Boolean.FALSE.equals(paymentMethod.isActive()));
+                        mirror.setLastUpdatedTime(lastUpdatedTime(paymentMethod));
+                    });
+        }
+    }
+
+    /**
+     * Upserts the mirrors of the changed entities and deletes the mirrors of deleted ones.
+     *
+     * @param idExtractor returns the QuickBooks id of a mirror
+     * @param creator     builds the mirror of an entity not mirrored yet from its QuickBooks id
+     * @param mapper      copies the fields of an entity to its mirror
+     */
+    private <T extends IntuitEntity, M extends Base> void save(final String realmId, final List<? extends IEntity> entities, final Class<T> entityClass,
+                                                              final QBOMirrorRepository<M> repository, final Function<M, String> idExtractor,
+                                                              final Function<String, M> creator, final BiConsumer<T, M> mapper) {
+        final Map<String, T> changes = changes(entities, entityClass);
+        final Map<String, M> mirrors = repository.findByRealmIdAndQuickbookIdIn(realmId, changes.keySet()).stream()
+                .collect(Collectors.toMap(idExtractor, Function.identity()));
+
+        final List<M> deleted = new ArrayList<>();
+        final List<M> saved = new ArrayList<>();
+        changes.forEach((quickbookId, change) -> {
+            M mirror = mirrors.get(quickbookId);
+            if (isDeleted(change)) {
+                if (null != mirror) deleted.add(mirror);
+                return;
+            }
+            if (null == mirror) {
+                mirror = creator.apply(quickbookId);
+                mirror.setCreationDate(new Date(System.currentTimeMillis()));
+            } else {
+                mirror.setLastModifiedDate(new Date(System.currentTimeMillis()));
+            }
+            mapper.accept(change, mirror);
+            saved.add(mirror);
+        });
+
+        if (!deleted.isEmpty()) repository.deleteAll(deleted);
+        if (!saved.isEmpty()) repository.saveAll(saved);
+    }
+
+    /**
+     * @return the entities by QuickBooks id, the last change of an entity wins if it occurs more than once
+     */
+    private static <T extends IntuitEntity> Map<String, T> changes(final List<? extends IEntity> entities, final Class<T> entityClass) {
+        final Map<String, T> changes = new LinkedHashMap<>();
+        for (IEntity entity : entities) {
+            if (!entityClass.isInstance(entity)) continue;
+            final T change = entityClass.cast(entity);
+            if (null != change.getId()) changes.put(change.getId(), change);
+        }
+        return changes;
+    }
+
+    private static IntuitEntity prototype(final QBOMirrorEntityType entityType) {
+        return switch (entityType) {
+            case CUSTOMER -> new Customer();
+            case ITEM -> new Item();
+            case PAYMENT_METHOD -> new PaymentMethod();
+        };
+    }
+
+    private static boolean isDeleted(final IntuitEntity entity) {
+        return EntityStatusEnum.DELETED == entity.getStatus();
+    }
+
+    private static Date lastUpdatedTime(final IntuitEntity entity) {
+        return null == entity.getMetaData() ? null : entity.getMetaData().getLastUpdatedTime();
+    }
+
+    private static String format(final Date date) {
+        return OffsetDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC).format(QBO_DATE_TIME);
+    }
+}
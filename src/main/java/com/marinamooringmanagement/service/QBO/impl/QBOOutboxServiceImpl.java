@@ -0,0 +1,334 @@
+package com.marinamooringmanagement.service.QBO.impl;
+
+import com.intuit.ipp.core.IEntity;
+import com.intuit.ipp.data.Fault;
+import com.intuit.ipp.data.IntuitEntity;
+import com.intuit.ipp.data.Invoice;
+import com.intuit.ipp.data.Line;
+import com.intuit.ipp.data.LineDetailTypeEnum;
+import com.intuit.ipp.data.OperationEnum;
+import com.intuit.ipp.data.ReferenceType;
+import com.intuit.ipp.data.SalesItemLineDetail;
+import com.intuit.ipp.exception.FMSException;
+import com.intuit.ipp.services.BatchOperation;
+import com.marinamooringmanagement.constants.enums.QBOOutboxEntityType;
+import com.marinamooringmanagement.constants.enums.QBOOutboxStatus;
+import com.marinamooringmanagement.helper.QBOClientManager;
+import com.marinamooringmanagement.model.entity.Payment;
+import com.marinamooringmanagement.model.entity.QBO.QBOOutbox;
+import com.marinamooringmanagement.model.entity.QBO.QBOUser;
+import com.marinamooringmanagement.model.entity.WorkOrderInvoice;
+import com.marinamooringmanagement.repositories.PaymentRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOOutboxRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOUserRepository;
+import com.marinamooringmanagement.repositories.WorkOrderInvoiceRepository;
+import com.marinamooringmanagement.service.QBO.QBOOutboxService;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class QBOOutboxServiceImpl implements QBOOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(QBOOutboxServiceImpl.class);
+
+    private static final List<QBOOutboxStatus> DUE_STATUSES = List.of(QBOOutboxStatus.PENDING, QBOOutboxStatus.PUSHING);
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    /**
+     * Maximum number of operations QuickBooks accepts in one batch request.
+     */
+    private static final int MAX_BATCH_ITEMS = 30;
+
+    @Autowired
+    private QBOOutboxRepository qboOutboxRepository;
+
+    @Autowired
+    private QBOUserRepository qboUserRepository;
+
+    @Autowired
+    private WorkOrderInvoiceRepository workOrderInvoiceRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private QBOClientManager qboClientManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${qbo.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${qbo.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${qbo.outbox.retry.initial-backoff}")
+    private Duration initialBackoff;
+
+    @Value("${qbo.outbox.retry.max-backoff}")
+    private Duration maxBackoff;
+
+    @Value("${qbo.outbox.lease}")
+    private Duration lease;
+
+    @Override
+    public void enqueueInvoice(final WorkOrderInvoice workOrderInvoice, final QBOUser qboUser, final String quickbookCustomerId) {
+        qboOutboxRepository.save(newOutbox(QBOOutboxEntityType.INVOICE, workOrderInvoice.getId(), qboUser, quickbookCustomerId, workOrderInvoice.getInvoiceAmount(), null));
+    }
+
+    @Override
+    public void enqueuePayment(final Payment payment, final QBOUser qboUser, final String quickbookCustomerId, final BigDecimal amount, final String paymentMethodId) {
+        qboOutboxRepository.save(newOutbox(QBOOutboxEntityType.PAYMENT, payment.getId(), qboUser, quickbookCustomerId, amount, paymentMethodId));
+    }
+
+    @Override
+    public void dispatch() {
+        List<QBOOutbox> batch;
+        do {
+            batch = claimBatch();
+            batch.stream()
+                    .collect(Collectors.groupingBy(QBOOutbox::getQboUserId, LinkedHashMap::new, Collectors.toList()))
+                    .forEach(this::push);
+        } while (batch.size() == batchSize);
+    }
+
+    private QBOOutbox newOutbox(final QBOOutboxEntityType entityType, final Integer entityId, final QBOUser qboUser,
+                                final String quickbookCustomerId, final BigDecimal amount, final String paymentMethodId) {
+        final Date now = new Date(System.currentTimeMillis());
+        final QBOOutbox qboOutbox = QBOOutbox.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .qboUserId(qboUser.getId())
+                .requestId(UUID.randomUUID().toString())
+                .quickbookCustomerId(quickbookCustomerId)
+                .amount(amount)
+                .paymentMethodId(paymentMethodId)
+                .status(QBOOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+        qboOutbox.setCreationDate(now);
+        qboOutbox.setLastModifiedDate(now);
+        return qboOutbox;
+    }
+
+    /**
+     * Locks the next due rows and leases them to this instance by moving them to {@link QBOOutboxStatus#PUSHING}.
+     */
+    private List<QBOOutbox> claimBatch() {
+        try {
+            final List<QBOOutbox> batch = transactionTemplate.execute(status -> {
+                final Date now = new Date();
+                final List<QBOOutbox> dueRows = qboOutboxRepository.findDueForUpdate(DUE_STATUSES, now, PageRequest.of(0, batchSize));
+                final Date leaseEnd = new Date(now.getTime() + lease.toMillis());
+                for (QBOOutbox qboOutbox : dueRows) {
+                    qboOutbox.setStatus(QBOOutboxStatus.PUSHING);
+                    qboOutbox.setNextAttemptAt(leaseEnd);
+                }
+                return qboOutboxRepository.saveAll(dueRows);
+            });
+            return null == batch ? Collections.emptyList() : batch;
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while claiming rows from the QBO outbox: %1$s", e.getLocalizedMessage()));
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Pushes the claimed rows of one QBO user in QuickBooks batch requests. Rows that were part of a batch whose
+     * outcome is unknown are sent again in that batch, new rows are split into batches of at most
+     * {@value #MAX_BATCH_ITEMS}.
+     */
+    private void push(final Integer qboUserId, final List<QBOOutbox> rows) {
+        final QBOUser qboUser;
+        try {
+            qboUser = qboUserRepository.findById(qboUserId)
+                    .orElseThrow(() -> new RuntimeException(String.format("No QBO user found with the given id: %1$s", qboUserId)));
+            if (StringUtils.isEmpty(qboUser.getRealmId()))
+                throw new RuntimeException("No realm ID. QBO calls only work if the accounting scope was passed!");
+        } catch (Exception e) {
+            rows.forEach(qboOutbox -> fail(qboOutbox, errorMessage(e)));
+            return;
+        }
+
+        final Map<String, List<QBOOutbox>> batches = new LinkedHashMap<>();
+        final List<QBOOutbox> newRows = new ArrayList<>();
+        for (QBOOutbox qboOutbox : rows) {
+            if (null == qboOutbox.getBatchRequestId()) newRows.add(qboOutbox);
+            else batches.computeIfAbsent(qboOutbox.getBatchRequestId(), batchRequestId -> new ArrayList<>()).add(qboOutbox);
+        }
+        for (int from = 0; from < newRows.size(); from += MAX_BATCH_ITEMS) {
+            batches.put(UUID.randomUUID().toString(), newRows.subList(from, Math.min(from + MAX_BATCH_ITEMS, newRows.size())));
+        }
+
+        batches.forEach((batchRequestId, batchRows) -> push(qboUser, batchRequestId, batchRows));
+    }
+
+    private void push(final QBOUser qboUser, final String batchRequestId, final List<QBOOutbox> rows) {
+        final BatchOperation batchOperation;
+        try {
+            // stored before the call, a retry after a lost response has to reuse the request id
+            rows.forEach(qboOutbox -> qboOutbox.setBatchRequestId(batchRequestId));
+            qboOutboxRepository.saveAll(rows);
+
+            batchOperation = qboClientManager.execute(qboUser, batchRequestId, dataService -> {
+                final BatchOperation operation = new BatchOperation();
+                for (QBOOutbox qboOutbox : rows) {
+                    operation.addEntity(toEntity(qboOutbox), OperationEnum.CREATE, qboOutbox.getRequestId());
+                }
+                dataService.executeBatch(operation);
+                return operation;
+            });
+        } catch (Exception e) {
+            final String error = errorMessage(e);
+            rows.forEach(qboOutbox -> fail(qboOutbox, error));
+            return;
+        }
+
+        final List<String> bIds = null == batchOperation.getBIds() ? Collections.emptyList() : batchOperation.getBIds();
+        for (QBOOutbox qboOutbox : rows) {
+            final String bId = qboOutbox.getRequestId();
+            try {
+                if (bIds.contains(bId) && batchOperation.isEntity(bId)) {
+                    complete(qboOutbox, ((IntuitEntity) batchOperation.getEntity(bId)).getId());
+                    continue;
+                }
+                // QuickBooks did not create the entity, the next attempt may go out in a different batch
+                qboOutbox.setBatchRequestId(null);
+                fail(qboOutbox, bIds.contains(bId) && batchOperation.isFault(bId)
+                        ? faultMessage(batchOperation.getFault(bId))
+                        : "Missing from the Quickbooks batch response");
+            } catch (Exception e) {
+                fail(qboOutbox, errorMessage(e));
+            }
+        }
+    }
+
+    private IEntity toEntity(final QBOOutbox qboOutbox) {
+        final ReferenceType customerRef = new ReferenceType();
+        customerRef.setValue(qboOutbox.getQuickbookCustomerId());
+
+        if (QBOOutboxEntityType.INVOICE == qboOutbox.getEntityType()) {
+            final Invoice invoice = new Invoice();
+            final List<Line> lineList = new ArrayList<>();
+
+            final Line line = new Line();
+            line.setAmount(qboOutbox.getAmount());
+
+            final SalesItemLineDetail salesItemLineDetail = new SalesItemLineDetail();
+            final ReferenceType itemRef = new ReferenceType();
+            itemRef.setValue("1");
+            itemRef.setName("Services");
+
+            salesItemLineDetail.setItemRef(itemRef);
+            line.setDetailType(LineDetailTypeEnum.SALES_ITEM_LINE_DETAIL);
+            line.setSalesItemLineDetail(salesItemLineDetail);
+
+            lineList.add(line);
+            invoice.setLine(lineList);
+            invoice.setCustomerRef(customerRef);
+
+            return invoice;
+        }
+
+        final com.intuit.ipp.data.Payment payment = new com.intuit.ipp.data.Payment();
+        payment.setCustomerRef(customerRef);
+        payment.setTotalAmt(qboOutbox.getAmount());
+
+        final ReferenceType paymentMethodRef = new ReferenceType();
+        paymentMethodRef.setValue(qboOutbox.getPaymentMethodId());
+        payment.setPaymentMethodRef(paymentMethodRef);
+
+        return payment;
+    }
+
+    private void complete(final QBOOutbox qboOutbox, final String quickbookId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            qboOutbox.setStatus(QBOOutboxStatus.PUSHED);
+            qboOutbox.setQuickbookId(quickbookId);
+            qboOutbox.setLastError(null);
+            qboOutbox.setLastModifiedDate(new Date(System.currentTimeMillis()));
+            qboOutboxRepository.save(qboOutbox);
+
+            if (QBOOutboxEntityType.INVOICE == qboOutbox.getEntityType()) {
+                workOrderInvoiceRepository.findById(qboOutbox.getEntityId()).ifPresent(workOrderInvoice -> {
+                    workOrderInvoice.setQuickbookInvoiceId(quickbookId);
+                    workOrderInvoiceRepository.save(workOrderInvoice);
+                });
+            } else {
+                paymentRepository.findById(qboOutbox.getEntityId()).ifPresent(payment -> {
+                    payment.setQuickbookPaymentId(quickbookId);
+                    paymentRepository.save(payment);
+                });
+            }
+        });
+        log.info(String.format("Pushed %1$s with id: %2$s to Quickbooks as %3$s", qboOutbox.getEntityType(), qboOutbox.getEntityId(), quickbookId));
+    }
+
+    private void fail(final QBOOutbox qboOutbox, final String error) {
+        final int attempts = qboOutbox.getAttempts() + 1;
+        qboOutbox.setAttempts(attempts);
+        qboOutbox.setLastError(StringUtils.abbreviate(error, MAX_ERROR_LENGTH));
+        qboOutbox.setLastModifiedDate(new Date(System.currentTimeMillis()));
+        if (attempts >= maxAttempts) {
+            qboOutbox.setStatus(QBOOutboxStatus.FAILED);
+            log.error(String.format("Giving up on pushing %1$s with id: %2$s to Quickbooks after %3$s attempts: %4$s", qboOutbox.getEntityType(), qboOutbox.getEntityId(), attempts, error));
+        } else {
+            qboOutbox.setStatus(QBOOutboxStatus.PENDING);
+            qboOutbox.setNextAttemptAt(new Date(System.currentTimeMillis() + backoff(attempts).toMillis()));
+            log.info(String.format("Pushing %1$s with id: %2$s to Quickbooks failed, attempt %3$s: %4$s", qboOutbox.getEntityType(), qboOutbox.getEntityId(), attempts, error));
+        }
+
+        try {
+            qboOutboxRepository.save(qboOutbox);
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while updating QBO outbox row with id: %1$s: %2$s", qboOutbox.getId(), e.getLocalizedMessage()));
+        }
+    }
+
+    private static String errorMessage(final Exception e) {
+        if (e instanceof FMSException fmsException && CollectionUtils.isNotEmpty(fmsException.getErrorList())) {
+            return fmsException.getErrorList().stream()
+                    .map(error -> String.format("%1$s %2$s", error.getMessage(), StringUtils.defaultString(error.getDetail())).trim())
+                    .collect(Collectors.joining("; "));
+        }
+        return e.getLocalizedMessage();
+    }
+
+    private static String faultMessage(final Fault fault) {
+        if (null == fault || CollectionUtils.isEmpty(fault.getError())) return "Quickbooks reported a fault without errors";
+        return fault.getError().stream()
+                .map(error -> String.format("%1$s %2$s", error.getMessage(), StringUtils.defaultString(error.getDetail())).trim())
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * @param attempts the number of failed attempts, at least 1
+     * @return the initial backoff doubled per further failed attempt, capped at the maximum backoff
+     */
+    private Duration backoff(final int attempts) {
+        final int doublings = Math.min(attempts - 1, 30);
+        final Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
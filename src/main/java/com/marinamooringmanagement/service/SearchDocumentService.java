@@ -0,0 +1,62 @@
+package com.marinamooringmanagement.service;
+
+import com.marinamooringmanagement.model.entity.Boatyard;
+import com.marinamooringmanagement.model.entity.Customer;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.ServiceArea;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+
+/**
+ * Maintains the search documents the list screens of work orders, moorings, customers, boatyards and users
+ * search in.
+ *
+ * <p>Services index an entity after they saved it. The document is only written when it changed, and when it
+ * did, the documents of the entities that copy values from it are rebuilt too, e.g. the moorings and work
+ * orders of a renamed customer. Rows without a document, such as rows written before the column existed, are
+ * filled by {@link #backfill}.
+ */
+public interface SearchDocumentService {
+
+    void index(final WorkOrder workOrder);
+
+    /**
+     * Also rebuilds the documents of the work orders of the mooring.
+     */
+    void index(final Mooring mooring);
+
+    /**
+     * Also rebuilds the documents of the moorings and work orders of the customer.
+     */
+    void index(final Customer customer);
+
+    /**
+     * Also rebuilds the documents of the work orders at the boatyard.
+     */
+    void index(final Boatyard boatyard);
+
+    /**
+     * Also rebuilds the documents of the work orders assigned to the user.
+     */
+    void index(final User user);
+
+    /**
+     * Service areas are not searched themselves, their name is part of the documents of their moorings and of
+     * the work orders on those moorings.
+     */
+    void index(final ServiceArea serviceArea);
+
+    /**
+     * Builds the missing documents, one transaction per batch. The first run after startup rebuilds the
+     * document of every row and writes the ones that changed.
+     *
+     * @return the number of documents written
+     */
+    int backfill();
+
+    /**
+     * Creates the trigram indexes on the search documents. Only PostgreSQL is supported, on other databases
+     * the documents are scanned.
+     */
+    void createIndexes();
+}
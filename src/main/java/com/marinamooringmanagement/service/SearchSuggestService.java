@@ -0,0 +1,44 @@
+package com.marinamooringmanagement.service;
+
+import com.marinamooringmanagement.constants.enums.EntityEnum;
+import com.marinamooringmanagement.model.entity.Boatyard;
+import com.marinamooringmanagement.model.entity.Customer;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.SuggestionResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+/**
+ * Answers search-as-you-type requests for moorings, customers, boatyards and work orders from an in-memory
+ * prefix index per customer owner.
+ *
+ * <p>The index of a customer owner is loaded on its first request with one small query per entity type and
+ * rebuilt after {@code search.suggest.refresh-interval}, which picks up changes made on other nodes. Changes
+ * made on this node are applied by the services through {@link #update} and {@link #remove} once their
+ * transaction committed.
+ */
+public interface SearchSuggestService {
+
+    BasicRestResponse fetchSuggestions(final String searchText, final Integer limit, final HttpServletRequest request);
+
+    /**
+     * @param customerOwnerId the customer owner
+     * @param searchText      the text typed so far, matched against the start of every word of the indexed values
+     * @param limit           the maximum number of suggestions
+     * @return the matching suggestions ordered by the matched value
+     */
+    List<SuggestionResponseDto> suggest(final Integer customerOwnerId, final String searchText, final int limit);
+
+    void update(final Mooring mooring);
+
+    void update(final Customer customer);
+
+    void update(final Boatyard boatyard);
+
+    void update(final WorkOrder workOrder);
+
+    void remove(final EntityEnum type, final Integer id);
+}
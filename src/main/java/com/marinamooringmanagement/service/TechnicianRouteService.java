@@ -0,0 +1,28 @@
+package com.marinamooringmanagement.service;
+
+import com.marinamooringmanagement.model.dto.RouteStop;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.TechnicianRouteResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+/**
+ * Plans the order in which a technician visits the moorings of the open work orders scheduled for a day.
+ *
+ * <p>The route is ordered by distance over the parsed latitude and longitude of the moorings. The optimizer
+ * stops after {@code route.optimizer.time-budget} milliseconds with the best order found so far.
+ */
+public interface TechnicianRouteService {
+
+    BasicRestResponse fetchTechnicianRoute(final Integer technicianId, final String date, final Double startLatitude,
+                                           final Double startLongitude, final HttpServletRequest request);
+
+    /**
+     * @param stops          the work orders to visit
+     * @param startLatitude  latitude the technician starts from, or {@code null} to start at the best stop
+     * @param startLongitude longitude the technician starts from, or {@code null} to start at the best stop
+     * @return the stops in visiting order and the work orders that cannot be placed on the route
+     */
+    TechnicianRouteResponseDto planRoute(final List<RouteStop> stops, final Double startLatitude, final Double startLongitude);
+}
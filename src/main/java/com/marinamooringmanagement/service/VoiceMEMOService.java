@@ -1,5 +1,6 @@
 package com.marinamooringmanagement.service;
 
+import com.marinamooringmanagement.model.entity.VoiceMEMO;
 import com.marinamooringmanagement.model.response.BasicRestResponse;
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -7,5 +8,7 @@ public interface VoiceMEMOService {
 
     BasicRestResponse fetchVoiceMEMO(final Integer id, final HttpServletRequest request);
 
+    VoiceMEMO downloadVoiceMEMO(final Integer id, final HttpServletRequest request);
+
     BasicRestResponse deleteVoiceMEMO(final Integer id, final HttpServletRequest request);
 }
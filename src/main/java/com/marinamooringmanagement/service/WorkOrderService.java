@@ -1,15 +1,17 @@
 package com.marinamooringmanagement.service;
 
 import com.marinamooringmanagement.model.request.BaseSearchRequest;
+import com.marinamooringmanagement.model.request.WorkOrderApprovalRequestDto;
 import com.marinamooringmanagement.model.request.WorkOrderRequestDto;
 import com.marinamooringmanagement.model.response.BasicRestResponse;
 import jakarta.servlet.http.HttpServletRequest;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 public interface WorkOrderService {
 
-    BasicRestResponse fetchWorkOrders(final BaseSearchRequest baseSearchRequest, final String searchText, final String showCompletedWorkOrders, final HttpServletRequest request);
+    BasicRestResponse fetchWorkOrders(final BaseSearchRequest baseSearchRequest, final String searchText, final String showCompletedWorkOrders, final String cursor, final HttpServletRequest request);
 
     BasicRestResponse saveWorkOrder(final WorkOrderRequestDto workOrderRequestDto, final HttpServletRequest request);
 
@@ -27,6 +29,8 @@ public interface WorkOrderService {
 
     BasicRestResponse approveWorkOrder(final Integer id, final HttpServletRequest request, final BigDecimal invoiceAmount);
 
+    BasicRestResponse approveWorkOrders(final List<WorkOrderApprovalRequestDto> workOrderApprovalRequestDtoList, final HttpServletRequest request);
+
     BasicRestResponse denyWorkOrder(final Integer id, final HttpServletRequest request, final String reportProblem);
 
     BasicRestResponse fetchWorkOrderInvoice(BaseSearchRequest baseSearchRequest, String searchText, HttpServletRequest request);
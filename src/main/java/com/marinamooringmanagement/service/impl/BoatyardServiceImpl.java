@@ -1,5 +1,6 @@
 package com.marinamooringmanagement.service.impl;
 
+import com.marinamooringmanagement.constants.enums.EntityEnum;
 import com.marinamooringmanagement.constants.AppConstants;
 import com.marinamooringmanagement.exception.DBOperationException;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
@@ -18,13 +19,15 @@ import com.marinamooringmanagement.model.response.*;
 import com.marinamooringmanagement.model.response.metadata.CountryResponseDto;
 import com.marinamooringmanagement.model.response.metadata.StateResponseDto;
 import com.marinamooringmanagement.repositories.*;
-import com.marinamooringmanagement.repositories.metadata.CountryRepository;
-import com.marinamooringmanagement.repositories.metadata.StateRepository;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.MetadataRegistry;
 import com.marinamooringmanagement.service.BoatyardService;
 import com.marinamooringmanagement.service.MooringService;
+import com.marinamooringmanagement.service.SearchDocumentService;
+import com.marinamooringmanagement.service.SearchSuggestService;
 import com.marinamooringmanagement.utils.DateUtil;
+import com.marinamooringmanagement.utils.GPSCoordinateParser;
 import com.marinamooringmanagement.utils.GPSUtil;
 import com.marinamooringmanagement.utils.SortUtils;
 import jakarta.servlet.http.HttpServletRequest;
@@ -57,12 +60,6 @@ public class BoatyardServiceImpl implements BoatyardService {
     @Autowired
     private BoatyardMapper boatyardMapper;
 
-    @Autowired
-    private StateRepository stateRepository;
-
-    @Autowired
-    private CountryRepository countryRepository;
-
     @Autowired
     private MooringMapper mooringMapper;
 
@@ -93,6 +90,15 @@ public class BoatyardServiceImpl implements BoatyardService {
     @Autowired
     private ServiceAreaMapper serviceAreaMapper;
 
+    @Autowired
+    private SearchDocumentService searchDocumentService;
+
+    @Autowired
+    private SearchSuggestService searchSuggestService;
+
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
     private static final Logger log = LoggerFactory.getLogger(BoatyardServiceImpl.class);
 
     /**
@@ -243,6 +249,7 @@ public class BoatyardServiceImpl implements BoatyardService {
             }
 
             boatyardRepository.deleteById(id);
+            searchSuggestService.remove(EntityEnum.BOATYARD, id);
 
             response.setMessage(String.format("BoatYard with ID %d deleted successfully", id));
             response.setStatus(HttpStatus.OK.value());
@@ -428,19 +435,21 @@ public class BoatyardServiceImpl implements BoatyardService {
             boatyard.setLastModifiedDate(new Date());
 
             if (null != boatyardRequestDto.getGpsCoordinates()) {
-                final String gpsCoordinates = GPSUtil.getGpsCoordinates(boatyardRequestDto.getGpsCoordinates());
-                boatyard.setGpsCoordinates(gpsCoordinates);
+                final long gpsCoordinates = GPSUtil.parseGpsCoordinates(boatyardRequestDto.getGpsCoordinates());
+                boatyard.setGpsCoordinates(GPSCoordinateParser.format(gpsCoordinates));
+                boatyard.setLatitude(GPSCoordinateParser.latitude(gpsCoordinates));
+                boatyard.setLongitude(GPSCoordinateParser.longitude(gpsCoordinates));
             }
 
             if (null != boatyardRequestDto.getStateId()) {
-                final Optional<State> optionalState = stateRepository.findById(boatyardRequestDto.getStateId());
+                final Optional<State> optionalState = metadataRegistry.findById(State.class, boatyardRequestDto.getStateId());
                 if (optionalState.isEmpty())
                     throw new ResourceNotFoundException(String.format("No state found with the given Id: %1$s", boatyardRequestDto.getStateId()));
                 boatyard.setState(optionalState.get());
             }
 
             if (null != boatyardRequestDto.getCountryId()) {
-                final Optional<Country> optionalCountry = countryRepository.findById(boatyardRequestDto.getCountryId());
+                final Optional<Country> optionalCountry = metadataRegistry.findById(Country.class, boatyardRequestDto.getCountryId());
                 if (optionalCountry.isEmpty())
                     throw new ResourceNotFoundException(String.format("No country found with the given Id: %1$s", boatyardRequestDto.getCountryId()));
                 boatyard.setCountry(optionalCountry.get());
@@ -460,6 +469,9 @@ public class BoatyardServiceImpl implements BoatyardService {
                 mooringRepository.saveAll(mooringList);
             }
 
+            searchDocumentService.index(savedBoatyard);
+            searchSuggestService.update(savedBoatyard);
+
             log.info(String.format("Boatyard saved successfully with ID: %d", boatyard.getId()));
         } catch (Exception e) {
             log.error(String.format("Error occurred during performSave() function: %s", e.getMessage()), e);
@@ -1,8 +1,10 @@
 package com.marinamooringmanagement.service.impl;
 
+import com.marinamooringmanagement.constants.enums.EntityEnum;
 import com.marinamooringmanagement.constants.AppConstants;
 import com.marinamooringmanagement.exception.DBOperationException;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
+import com.marinamooringmanagement.helper.BlobContentHelper;
 import com.marinamooringmanagement.mapper.*;
 import com.marinamooringmanagement.mapper.metadata.CountryMapper;
 import com.marinamooringmanagement.mapper.metadata.CustomerTypeMapper;
@@ -23,12 +25,13 @@ import com.marinamooringmanagement.model.response.*;
 import com.marinamooringmanagement.model.response.metadata.CountryResponseDto;
 import com.marinamooringmanagement.model.response.metadata.StateResponseDto;
 import com.marinamooringmanagement.repositories.*;
-import com.marinamooringmanagement.repositories.metadata.CountryRepository;
-import com.marinamooringmanagement.repositories.metadata.CustomerTypeRepository;
-import com.marinamooringmanagement.repositories.metadata.StateRepository;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.MetadataRegistry;
+import com.marinamooringmanagement.service.ImageVariantService;
 import com.marinamooringmanagement.service.CustomerService;
+import com.marinamooringmanagement.service.SearchDocumentService;
+import com.marinamooringmanagement.service.SearchSuggestService;
 import com.marinamooringmanagement.utils.DateUtil;
 import com.marinamooringmanagement.utils.ImageUtils;
 import com.marinamooringmanagement.utils.SortUtils;
@@ -54,6 +57,12 @@ public class CustomerServiceImpl implements CustomerService {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private BlobContentHelper blobContentHelper;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
     @Autowired
     private CustomerMapper customerMapper;
 
@@ -75,12 +84,6 @@ public class CustomerServiceImpl implements CustomerService {
     @Autowired
     private UserRepository userRepository;
 
-    @Autowired
-    private StateRepository stateRepository;
-
-    @Autowired
-    private CountryRepository countryRepository;
-
     @Autowired
     private BoatyardMapper boatyardMapper;
 
@@ -93,9 +96,6 @@ public class CustomerServiceImpl implements CustomerService {
     @Autowired
     private AuthorizationUtil authorizationUtil;
 
-    @Autowired
-    private CustomerTypeRepository customerTypeRepository;
-
     @Autowired
     private CustomerTypeMapper customerTypeMapper;
 
@@ -111,6 +111,15 @@ public class CustomerServiceImpl implements CustomerService {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private SearchDocumentService searchDocumentService;
+
+    @Autowired
+    private SearchSuggestService searchSuggestService;
+
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
     private static final Logger log = LoggerFactory.getLogger(CustomerServiceImpl.class);
 
     /**
@@ -254,7 +263,7 @@ public class CustomerServiceImpl implements CustomerService {
             if(null != customer.getImageList() && !customer.getImageList().isEmpty()) {
                 customerResponseDto.setImageDtoList(customer.getImageList()
                         .stream()
-                        .map(image -> imageMapper.toDto(ImageDto.builder().build(), image))
+                        .map(image -> imageVariantService.setDownloadUrls(imageMapper.toDto(ImageDto.builder().build(), image)))
                         .toList());
             }
 
@@ -312,7 +321,7 @@ public class CustomerServiceImpl implements CustomerService {
                             if(null != mooring.getImageList() && !mooring.getImageList().isEmpty()) {
                                 mooringResponseDto.setImageDtoList(mooring.getImageList()
                                         .stream()
-                                        .map(image -> imageMapper.toDto(ImageDto.builder().build(), image))
+                                        .map(image -> imageVariantService.setDownloadUrls(imageMapper.toDto(ImageDto.builder().build(), image)))
                                         .toList());
                             }
                             return mooringResponseDto;
@@ -379,7 +388,7 @@ public class CustomerServiceImpl implements CustomerService {
             if(null != customer.getImageList() && !customer.getImageList().isEmpty()) {
                 customerResponseDto.setImageDtoList(customer.getImageList()
                         .stream()
-                        .map(image -> imageMapper.toDto(ImageDto.builder().build(), image))
+                        .map(image -> imageVariantService.setDownloadUrls(imageMapper.toDto(ImageDto.builder().build(), image)))
                         .toList());
             }
 
@@ -438,7 +447,7 @@ public class CustomerServiceImpl implements CustomerService {
                             if(null != imageList && !imageList.isEmpty()) {
                                 mooringResponseDto.setImageDtoList(imageList
                                         .stream()
-                                        .map(image -> imageMapper.toDto(ImageDto.builder().build(), image))
+                                        .map(image -> imageVariantService.setDownloadUrls(imageMapper.toDto(ImageDto.builder().build(), image)))
                                         .toList());
                             }
                             return mooringResponseDto;
@@ -603,7 +612,7 @@ public class CustomerServiceImpl implements CustomerService {
                     if(null == imageRequestDto.getImageName()) throw new RuntimeException(String.format("No name provided for image at number: %1$s", imageNumber));
                     if(null == imageRequestDto.getImageData()) throw new RuntimeException(String.format("No image provided for: %1$s", imageRequestDto.getImageName()));
 
-                    image.setImageData(ImageUtils.validateEncodedString(imageRequestDto.getImageData()));
+                    blobContentHelper.store(image, ImageUtils.validateEncodedString(imageRequestDto.getImageData()));
                     image.setCreationDate(new Date(System.currentTimeMillis()));
                     image.setLastModifiedDate(new Date(System.currentTimeMillis()));
                     image.setCustomer(savedCustomer);
@@ -614,21 +623,21 @@ public class CustomerServiceImpl implements CustomerService {
             }
 
             if (null != customerRequestDto.getStateId()) {
-                final Optional<State> optionalState = stateRepository.findById(customerRequestDto.getStateId());
+                final Optional<State> optionalState = metadataRegistry.findById(State.class, customerRequestDto.getStateId());
                 if (optionalState.isEmpty())
                     throw new ResourceNotFoundException(String.format("No state found with the given Id: %1$s", customerRequestDto.getStateId()));
                 customer.setState(optionalState.get());
             }
 
             if (null != customerRequestDto.getCountryId()) {
-                final Optional<Country> optionalCountry = countryRepository.findById(customerRequestDto.getCountryId());
+                final Optional<Country> optionalCountry = metadataRegistry.findById(Country.class, customerRequestDto.getCountryId());
                 if (optionalCountry.isEmpty())
                     throw new ResourceNotFoundException(String.format("No country found with the given Id: %1$s", customerRequestDto.getCountryId()));
                 customer.setCountry(optionalCountry.get());
             }
 
             if(null != customerRequestDto.getCustomerTypeId()) {
-                final Optional<CustomerType> optionalCustomerType = customerTypeRepository.findById(customerRequestDto.getCustomerTypeId());
+                final Optional<CustomerType> optionalCustomerType = metadataRegistry.findById(CustomerType.class, customerRequestDto.getCustomerTypeId());
                 if(optionalCustomerType.isEmpty())
                     throw new RuntimeException(String.format("No customer type found with the given id: %1$s", customerRequestDto.getCustomerTypeId()));
                 customer.setCustomerType(optionalCustomerType.get());
@@ -685,6 +694,8 @@ public class CustomerServiceImpl implements CustomerService {
             }
             savedCustomer.setLastModifiedDate(new Date());
             customerRepository.save(savedCustomer);
+            searchDocumentService.index(savedCustomer);
+            searchSuggestService.update(savedCustomer);
 
             customerChangedLogs(initialCustomer, savedCustomer, user);
 
@@ -732,6 +743,7 @@ public class CustomerServiceImpl implements CustomerService {
             customer.setMooringList(new ArrayList<>());
             customerRepository.save(customer);
             customerRepository.deleteById(id);
+            searchSuggestService.remove(EntityEnum.CUSTOMER, id);
 
             response.setMessage(String.format("Customer with ID %d deleted successfully", id));
             response.setStatus(HttpStatus.OK.value());
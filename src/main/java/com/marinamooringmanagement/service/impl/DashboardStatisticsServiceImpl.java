@@ -0,0 +1,273 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.constants.enums.DashboardMetric;
+import com.marinamooringmanagement.model.entity.DashboardCounter;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.Payment;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.model.entity.WorkOrderInvoice;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.DashboardStatisticsResponseDto;
+import com.marinamooringmanagement.repositories.DashboardCounterRepository;
+import com.marinamooringmanagement.security.util.AuthorizationUtil;
+import com.marinamooringmanagement.service.DashboardStatisticsService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class DashboardStatisticsServiceImpl implements DashboardStatisticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStatisticsServiceImpl.class);
+
+    private static final int TOTAL = 0;
+
+    @Autowired
+    private DashboardCounterRepository dashboardCounterRepository;
+
+    @Autowired
+    private AuthorizationUtil authorizationUtil;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TransactionTemplate newTransactionTemplate;
+
+    public DashboardStatisticsServiceImpl(final PlatformTransactionManager transactionManager) {
+        // counters are updated in the transaction of the caller, or in their own one if there is none
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // a failed insert of a counter row must not mark the transaction of the caller for rollback
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public List<CounterKey> countersOf(final Mooring mooring) {
+        final List<CounterKey> counterKeys = new ArrayList<>();
+        if (null == mooring || null == mooring.getId() || null == mooring.getUser()) return counterKeys;
+
+        final Integer customerOwnerId = mooring.getUser().getId();
+        counterKeys.add(new CounterKey(customerOwnerId, DashboardMetric.MOORINGS, TOTAL));
+        if (null != mooring.getCreationDate())
+            counterKeys.add(new CounterKey(customerOwnerId, DashboardMetric.MOORINGS_CREATED, bucketOf(mooring.getCreationDate())));
+        return counterKeys;
+    }
+
+    @Override
+    public List<CounterKey> countersOf(final WorkOrder workOrder) {
+        final List<CounterKey> counterKeys = new ArrayList<>();
+        if (null == workOrder || null == workOrder.getId() || null == workOrder.getCustomerOwnerUser()) return counterKeys;
+
+        final Integer customerOwnerId = workOrder.getCustomerOwnerUser().getId();
+        final String status = (null == workOrder.getWorkOrderStatus()) ? null : workOrder.getWorkOrderStatus().getStatus();
+        final String payStatus = (null == workOrder.getWorkOrderPayStatus()) ? null : workOrder.getWorkOrderPayStatus().getStatus();
+
+        if (null != status && !StringUtils.equals(status, AppConstants.WorkOrderStatusConstants.COMPLETED))
+            counterKeys.add(new CounterKey(customerOwnerId, DashboardMetric.OPEN_WORK_ORDERS, TOTAL));
+        if (StringUtils.equals(status, AppConstants.WorkOrderStatusConstants.COMPLETED)
+                && StringUtils.equals(payStatus, AppConstants.WorkOrderPayStatusConstants.NOACTION))
+            counterKeys.add(new CounterKey(customerOwnerId, DashboardMetric.PENDING_PAY_APPROVALS, TOTAL));
+        if (null != workOrder.getCreationDate())
+            counterKeys.add(new CounterKey(customerOwnerId, DashboardMetric.WORK_ORDERS_CREATED, bucketOf(workOrder.getCreationDate())));
+        return counterKeys;
+    }
+
+    @Override
+    public List<CounterKey> countersOf(final WorkOrderInvoice workOrderInvoice) {
+        final List<CounterKey> counterKeys = new ArrayList<>();
+        if (null == workOrderInvoice || null == workOrderInvoice.getId() || null == workOrderInvoice.getCustomerOwnerUser()) return counterKeys;
+
+        // the invoice amount is the balance left after the payments made so far
+        if (null != workOrderInvoice.getInvoiceAmount() && workOrderInvoice.getInvoiceAmount().compareTo(BigDecimal.ZERO) > 0)
+            counterKeys.add(new CounterKey(workOrderInvoice.getCustomerOwnerUser().getId(), DashboardMetric.OUTSTANDING_INVOICES, TOTAL));
+        return counterKeys;
+    }
+
+    @Override
+    public List<CounterKey> countersOf(final Payment payment) {
+        final List<CounterKey> counterKeys = new ArrayList<>();
+        if (null == payment || null == payment.getId() || null == payment.getCustomerOwnerUser() || null == payment.getCreationDate()) return counterKeys;
+
+        counterKeys.add(new CounterKey(payment.getCustomerOwnerUser().getId(), DashboardMetric.PAYMENTS_RECEIVED, bucketOf(payment.getCreationDate())));
+        return counterKeys;
+    }
+
+    @Override
+    public void record(final List<CounterKey> before, final List<CounterKey> after) {
+        final Map<CounterKey, Long> deltas = new HashMap<>();
+        before.forEach(counterKey -> deltas.merge(counterKey, -1L, Long::sum));
+        after.forEach(counterKey -> deltas.merge(counterKey, 1L, Long::sum));
+        deltas.values().removeIf(delta -> 0L == delta);
+        if (deltas.isEmpty()) return;
+
+        transactionTemplate.executeWithoutResult(status -> deltas.forEach(this::increment));
+    }
+
+    @Override
+    public DashboardStatisticsResponseDto fetchStatistics(final Integer customerOwnerId) {
+        final YearMonth currentMonth = YearMonth.now();
+        final int thisMonth = bucketOf(currentMonth);
+        final int lastMonth = bucketOf(currentMonth.minusMonths(1));
+
+        final Map<CounterKey, Long> counters = dashboardCounterRepository.findByCustomerOwnerIdAndBucketIn(customerOwnerId, List.of(TOTAL, thisMonth, lastMonth))
+                .stream()
+                .collect(Collectors.toMap(
+                        dashboardCounter -> new CounterKey(customerOwnerId, dashboardCounter.getMetric(), dashboardCounter.getBucket()),
+                        DashboardCounter::getCounterValue));
+
+        return DashboardStatisticsResponseDto.builder()
+                .mooringCount(counter(counters, customerOwnerId, DashboardMetric.MOORINGS, TOTAL))
+                .mooringsCreatedThisMonth(counter(counters, customerOwnerId, DashboardMetric.MOORINGS_CREATED, thisMonth))
+                .mooringsCreatedLastMonth(counter(counters, customerOwnerId, DashboardMetric.MOORINGS_CREATED, lastMonth))
+                .openWorkOrderCount(counter(counters, customerOwnerId, DashboardMetric.OPEN_WORK_ORDERS, TOTAL))
+                .workOrdersCreatedThisMonth(counter(counters, customerOwnerId, DashboardMetric.WORK_ORDERS_CREATED, thisMonth))
+                .workOrdersCreatedLastMonth(counter(counters, customerOwnerId, DashboardMetric.WORK_ORDERS_CREATED, lastMonth))
+                .pendingPayApprovalCount(counter(counters, customerOwnerId, DashboardMetric.PENDING_PAY_APPROVALS, TOTAL))
+                .outstandingInvoiceCount(counter(counters, customerOwnerId, DashboardMetric.OUTSTANDING_INVOICES, TOTAL))
+                .paymentsReceivedThisMonth(counter(counters, customerOwnerId, DashboardMetric.PAYMENTS_RECEIVED, thisMonth))
+                .paymentsReceivedLastMonth(counter(counters, customerOwnerId, DashboardMetric.PAYMENTS_RECEIVED, lastMonth))
+                .build();
+    }
+
+    @Override
+    public BasicRestResponse fetchDashboardStatistics(final HttpServletRequest request) {
+        final BasicRestResponse response = BasicRestResponse.builder().build();
+        response.setTime(new Timestamp(System.currentTimeMillis()));
+        try {
+            final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+            final User user = authorizationUtil.checkAuthority(customerOwnerId);
+
+            response.setContent(fetchStatistics(user.getId()));
+            response.setMessage("Dashboard statistics fetched successfully.");
+            response.setStatus(HttpStatus.OK.value());
+        } catch (Exception e) {
+            response.setMessage(e.getLocalizedMessage());
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        return response;
+    }
+
+    @Override
+    public void reconcile() {
+        final Map<CounterKey, Long> expected = new HashMap<>();
+        collectTotals(expected, DashboardMetric.MOORINGS, dashboardCounterRepository.countMoorings());
+        collectMonthly(expected, DashboardMetric.MOORINGS_CREATED, dashboardCounterRepository.countMooringsCreated());
+        collectTotals(expected, DashboardMetric.OPEN_WORK_ORDERS, dashboardCounterRepository.countOpenWorkOrders());
+        collectMonthly(expected, DashboardMetric.WORK_ORDERS_CREATED, dashboardCounterRepository.countWorkOrdersCreated());
+        collectTotals(expected, DashboardMetric.PENDING_PAY_APPROVALS, dashboardCounterRepository.countPendingPayApprovals());
+        collectTotals(expected, DashboardMetric.OUTSTANDING_INVOICES, dashboardCounterRepository.countOutstandingInvoices());
+        collectMonthly(expected, DashboardMetric.PAYMENTS_RECEIVED, dashboardCounterRepository.countPaymentsReceived());
+
+        final Map<Integer, Map<CounterKey, Long>> expectedByCustomerOwner = new HashMap<>();
+        expected.forEach((counterKey, value) -> expectedByCustomerOwner
+                .computeIfAbsent(counterKey.customerOwnerId(), customerOwnerId -> new HashMap<>())
+                .put(counterKey, value));
+        dashboardCounterRepository.findCustomerOwnerIds().forEach(customerOwnerId -> expectedByCustomerOwner.putIfAbsent(customerOwnerId, Map.of()));
+
+        int corrected = 0;
+        for (Map.Entry<Integer, Map<CounterKey, Long>> entry : expectedByCustomerOwner.entrySet()) {
+            try {
+                final Integer count = transactionTemplate.execute(status -> reconcile(entry.getKey(), entry.getValue()));
+                if (null != count) corrected += count;
+            } catch (Exception e) {
+                log.error(String.format("Error occurred while reconciling dashboard counters of customer owner %1$s: %2$s", entry.getKey(), e.getLocalizedMessage()));
+            }
+        }
+        log.info(String.format("Dashboard counters of %1$s customer owners reconciled, %2$s counters corrected", expectedByCustomerOwner.size(), corrected));
+    }
+
+    /**
+     * @return the number of counters whose stored value differed from the recount
+     */
+    private int reconcile(final Integer customerOwnerId, final Map<CounterKey, Long> expected) {
+        final Date now = new Date(System.currentTimeMillis());
+        final Set<CounterKey> seen = new HashSet<>();
+        final List<DashboardCounter> changed = new ArrayList<>();
+
+        for (DashboardCounter dashboardCounter : dashboardCounterRepository.findByCustomerOwnerId(customerOwnerId)) {
+            final CounterKey counterKey = new CounterKey(customerOwnerId, dashboardCounter.getMetric(), dashboardCounter.getBucket());
+            seen.add(counterKey);
+            final long value = expected.getOrDefault(counterKey, 0L);
+            if (!Objects.equals(dashboardCounter.getCounterValue(), value)) {
+                log.debug(String.format("Dashboard counter %1$s was %2$s, recounted %3$s", counterKey, dashboardCounter.getCounterValue(), value));
+                dashboardCounter.setCounterValue(value);
+                dashboardCounter.setLastModifiedDate(now);
+                changed.add(dashboardCounter);
+            }
+        }
+        expected.forEach((counterKey, value) -> {
+            if (seen.contains(counterKey)) return;
+            log.debug(String.format("Dashboard counter %1$s missing, expected %2$s", counterKey, value));
+            changed.add(newDashboardCounter(counterKey, value, now));
+        });
+
+        dashboardCounterRepository.saveAll(changed);
+        return changed.size();
+    }
+
+    private void increment(final CounterKey counterKey, final long delta) {
+        if (0 < dashboardCounterRepository.increment(counterKey.customerOwnerId(), counterKey.metric(), counterKey.bucket(), delta)) return;
+
+        try {
+            newTransactionTemplate.executeWithoutResult(status ->
+                    dashboardCounterRepository.saveAndFlush(newDashboardCounter(counterKey, 0L, new Date(System.currentTimeMillis()))));
+        } catch (DataIntegrityViolationException e) {
+            // created by a concurrent update in the meantime
+            log.debug(String.format("Dashboard counter %1$s created concurrently", counterKey));
+        }
+        dashboardCounterRepository.increment(counterKey.customerOwnerId(), counterKey.metric(), counterKey.bucket(), delta);
+    }
+
+    private DashboardCounter newDashboardCounter(final CounterKey counterKey, final long value, final Date now) {
+        final DashboardCounter dashboardCounter = DashboardCounter.builder()
+                .customerOwnerId(counterKey.customerOwnerId())
+                .metric(counterKey.metric())
+                .bucket(counterKey.bucket())
+                .counterValue(value)
+                .build();
+        dashboardCounter.setCreationDate(now);
+        dashboardCounter.setLastModifiedDate(now);
+        return dashboardCounter;
+    }
+
+    private static void collectTotals(final Map<CounterKey, Long> expected, final DashboardMetric metric, final List<Object[]> rows) {
+        for (Object[] row : rows) {
+            expected.put(new CounterKey((Integer) row[0], metric, TOTAL), ((Number) row[1]).longValue());
+        }
+    }
+
+    private static void collectMonthly(final Map<CounterKey, Long> expected, final DashboardMetric metric, final List<Object[]> rows) {
+        for (Object[] row : rows) {
+            final int bucket = bucketOf(YearMonth.of(((Number) row[1]).intValue(), ((Number) row[2]).intValue()));
+            expected.put(new CounterKey((Integer) row[0], metric, bucket), ((Number) row[3]).longValue());
+        }
+    }
+
+    private static Long counter(final Map<CounterKey, Long> counters, final Integer customerOwnerId, final DashboardMetric metric, final int bucket) {
+        return counters.getOrDefault(new CounterKey(customerOwnerId, metric, bucket), 0L);
+    }
+
+    private static int bucketOf(final Date date) {
+        return bucketOf(YearMonth.from(date.toInstant().atZone(ZoneId.systemDefault())));
+    }
+
+    private static int bucketOf(final YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+}
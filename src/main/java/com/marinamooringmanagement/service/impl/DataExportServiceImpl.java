@@ -0,0 +1,260 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.constants.enums.ExportFormat;
+import com.marinamooringmanagement.exception.ResourceNotFoundException;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.repositories.UserRepository;
+import com.marinamooringmanagement.security.util.AuthorizationUtil;
+import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.DataExportService;
+import com.marinamooringmanagement.utils.CsvWriter;
+import com.marinamooringmanagement.utils.DateUtil;
+import com.marinamooringmanagement.utils.ExportWriter;
+import com.marinamooringmanagement.utils.XlsxWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Time;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+@Service
+public class DataExportServiceImpl implements DataExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(DataExportServiceImpl.class);
+
+    private static final String[] WORK_ORDER_HEADER = {
+            "Work Order Number", "Status", "Pay Status", "Mooring Number", "Customer Id", "Customer First Name",
+            "Customer Last Name", "Boatyard", "Technician First Name", "Technician Last Name", "Due Date",
+            "Scheduled Date", "Completed Date", "Time", "Problem", "Cost"};
+
+    private static final String WORK_ORDER_SELECT = "SELECT wo.work_order_number, wos.status, wops.status, m.mooring_id, " +
+            "c.customer_id, c.first_name, c.last_name, byd.boatyard_name, tu.first_name, tu.last_name, " +
+            "wo.due_date, wo.schedule_date, wo.completed_date, wo.time, wo.problem, wo.cost " +
+            "FROM work_order wo " +
+            "LEFT JOIN work_order_status wos ON wos.id = wo.work_order_status_id " +
+            "LEFT JOIN work_order_pay_status wops ON wops.id = wo.work_order_pay_status_id " +
+            "LEFT JOIN mooring m ON m.id = wo.mooring_id " +
+            "LEFT JOIN customer c ON c.id = wo.customer_id " +
+            "LEFT JOIN boatyard byd ON byd.id = wo.boatyard_id " +
+            "LEFT JOIN _user tu ON tu.id = wo.technician_user_id ";
+
+    // the filter of the work order list
+    private static final String WORK_ORDER_FILTER = "AND (? = '' OR wo.search_document LIKE CONCAT('%', LOWER(?), '%')) " +
+            "AND ((? = 'Yes' AND wos.status LIKE 'Completed') OR (? = 'No' AND wos.status NOT LIKE 'Completed')) " +
+            "ORDER BY wo.id";
+
+    private static final String[] WORK_ORDER_INVOICE_HEADER = {
+            "Invoice Id", "Invoice Date", "Invoice Amount", "Invoice Status", "QuickBooks Invoice Id", "Work Order Number",
+            "Work Order Status", "Pay Status", "Mooring Number", "Customer Id", "Customer First Name", "Customer Last Name",
+            "Completed Date", "Last Contact Time"};
+
+    private static final String WORK_ORDER_INVOICE_SELECT = "SELECT woi.id, woi.created_time, woi.invoice_amount, wois.status, " +
+            "woi.quickbook_invoice_id, wo.work_order_number, wos.status, wops.status, m.mooring_id, c.customer_id, " +
+            "c.first_name, c.last_name, wo.completed_date, woi.modified_date " +
+            "FROM work_order_invoice woi " +
+            "LEFT JOIN work_order_invoice_status wois ON wois.id = woi.work_order_invoice_status_id " +
+            "LEFT JOIN work_order wo ON wo.id = woi.work_order_id " +
+            "LEFT JOIN work_order_status wos ON wos.id = wo.work_order_status_id " +
+            "LEFT JOIN work_order_pay_status wops ON wops.id = wo.work_order_pay_status_id " +
+            "LEFT JOIN mooring m ON m.id = wo.mooring_id " +
+            "LEFT JOIN customer c ON c.id = m.customer_id " +
+            "WHERE woi.customer_owner_user_id = ? " +
+            // the filter of the invoice list
+            "AND (? = '' OR LOWER(wo.work_order_number) LIKE CONCAT('%', LOWER(?), '%') " +
+            "OR LOWER(c.first_name) LIKE CONCAT('%', LOWER(?), '%') " +
+            "OR LOWER(c.last_name) LIKE CONCAT('%', LOWER(?), '%')) " +
+            "ORDER BY woi.id";
+
+    private static final String[] MOORING_HEADER = {
+            "Mooring Number", "Customer Id", "Customer First Name", "Customer Last Name", "Harbor Or Area",
+            "GPS Coordinates", "Install Bottom Chain Date", "Install Top Chain Date", "Install Condition Of Eye Date",
+            "Inspection Date", "Boatyard", "Service Area", "Boat Id", "Boat Name", "Boat Size", "Boat Type",
+            "Boat Weight", "Size Of Weight", "Type Of Weight", "Eye Condition", "Top Chain Condition",
+            "Bottom Chain Condition", "Shackle Swivel Condition", "Pendant Condition", "Depth At Mean High Water", "Status"};
+
+    private static final String MOORING_SELECT = "SELECT m.mooring_id, c.customer_id, c.first_name, c.last_name, m.harbor, " +
+            "m.gps_coordinates, m.install_bottom_chain_date, m.install_top_chain_date, m.install_condition_of_eye_date, " +
+            "m.inspection_date, byd.boatyard_name, s.service_area_name, m.boat_id, m.boat_name, m.boat_size, bt.boat_type, " +
+            "m.boat_weight, m.size_of_weight, tw.type, ec._condition, tc._condition, bc._condition, sc._condition, " +
+            "m.pendant_condition, m.depth_at_high_water, ms.status " +
+            "FROM mooring m " +
+            "LEFT JOIN customer c ON c.id = m.customer_id " +
+            "LEFT JOIN boatyard byd ON byd.id = m.boatyard_id " +
+            "LEFT JOIN service_area s ON s.id = m.service_area_id " +
+            "LEFT JOIN boat_type bt ON bt.id = m.boat_type_id " +
+            "LEFT JOIN type_of_weight tw ON tw.id = m.type_of_weight_id " +
+            "LEFT JOIN eye_condition ec ON ec.id = m.eye_condition_id " +
+            "LEFT JOIN top_chain_condition tc ON tc.id = m.top_chain_condition_id " +
+            "LEFT JOIN bottom_chain_condition bc ON bc.id = m.bottom_chain_condition_id " +
+            "LEFT JOIN shackle_swivel_condition sc ON sc.id = m.shackle_swivel_condition_id " +
+            "LEFT JOIN mooring_status ms ON ms.id = m.status_id " +
+            "WHERE m.user_id = ? " +
+            // the filter of the mooring list
+            "AND (? = '' OR m.search_document LIKE CONCAT('%', LOWER(?), '%')) " +
+            "ORDER BY m.id";
+
+    @Autowired
+    private AuthorizationUtil authorizationUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final DataSource dataSource;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int fetchSize;
+
+    private volatile JdbcTemplate exportJdbcTemplate;
+
+    public DataExportServiceImpl(final DataSource dataSource,
+                                 final PlatformTransactionManager transactionManager,
+                                 @Value("${export.fetch-size}") final int fetchSize) {
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportWorkOrders(final String searchText, final String showCompletedWorkOrders,
+                                                                  final String format, final HttpServletRequest request) {
+        final ExportFormat exportFormat = ExportFormat.fromExtension(format);
+        final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+        final User user = authorizationUtil.checkAuthorityForTechnician(customerOwnerId);
+        // technicians export the work orders assigned to them
+        final String where = StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.TECHNICIAN)
+                ? "WHERE wo.technician_user_id = ? "
+                : "WHERE wo.customer_owner_user_id = ? ";
+        final String search = null == searchText ? "" : searchText;
+        final String completed = null == showCompletedWorkOrders ? AppConstants.BooleanStringConst.NO : showCompletedWorkOrders;
+
+        return export("work-orders", exportFormat, WORK_ORDER_HEADER, WORK_ORDER_SELECT + where + WORK_ORDER_FILTER,
+                new Object[]{user.getId(), search, search, completed, completed});
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportWorkOrderInvoices(final String searchText, final String format,
+                                                                         final HttpServletRequest request) {
+        final ExportFormat exportFormat = ExportFormat.fromExtension(format);
+        final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+        final User user;
+        if (StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.FINANCE)) {
+            final User financeUser = userRepository.findUserByIdWithoutImage(LoggedInUserUtil.getLoggedInUserID())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No finance user found with the given id: %1$s", LoggedInUserUtil.getLoggedInUserID())));
+
+            user = userRepository.findUserByIdWithoutImage(financeUser.getCustomerOwnerId())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No customer owner user found with the given id: %1$s", financeUser.getCustomerOwnerId())));
+        } else {
+            user = authorizationUtil.checkAuthority(customerOwnerId);
+        }
+        final String search = null == searchText ? "" : searchText;
+
+        return export("work-order-invoices", exportFormat, WORK_ORDER_INVOICE_HEADER, WORK_ORDER_INVOICE_SELECT,
+                new Object[]{user.getId(), search, search, search, search});
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportMoorings(final String searchText, final String format,
+                                                                final HttpServletRequest request) {
+        final ExportFormat exportFormat = ExportFormat.fromExtension(format);
+        final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+        final User user = authorizationUtil.checkAuthority(customerOwnerId);
+        final String search = null == searchText ? "" : searchText;
+
+        return export("moorings", exportFormat, MOORING_HEADER, MOORING_SELECT, new Object[]{user.getId(), search, search});
+    }
+
+    /**
+     * Builds the response. The body runs after the controller has returned, on a thread of its own.
+     */
+    private ResponseEntity<StreamingResponseBody> export(final String name, final ExportFormat format, final String[] header,
+                                                         final String sql, final Object[] args) {
+        final String fileName = String.format("%1$s-%2$s.%3$s", name, new SimpleDateFormat("yyyy-MM-dd").format(new Date()), format.getExtension());
+        final StreamingResponseBody body = outputStream -> write(name, format, header, sql, args, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .cacheControl(CacheControl.noStore())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Writes the header and then every row of the query as it is read from the cursor.
+     */
+    void write(final String name, final ExportFormat format, final String[] header, final String sql, final Object[] args,
+               final OutputStream outputStream) throws IOException {
+        final long start = System.currentTimeMillis();
+        final ExportWriter writer = format == ExportFormat.XLSX ? new XlsxWriter(outputStream, name) : new CsvWriter(outputStream);
+        writer.writeRow((Object[]) header);
+
+        final Object[] values = new Object[header.length];
+        final int[] rows = new int[1];
+        try {
+            transactionTemplate.executeWithoutResult(status -> exportJdbcTemplate().query(sql, (ResultSet resultSet) -> {
+                for (int i = 0; i < values.length; i++) values[i] = toCell(resultSet.getObject(i + 1));
+                try {
+                    writer.writeRow(values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            }, args));
+        } catch (UncheckedIOException e) {
+            // the client went away or the sheet is full
+            log.error(String.format("Export of %1$s stopped after %2$s rows: %3$s", name, rows[0], e.getCause().getLocalizedMessage()));
+            throw e.getCause();
+        }
+        writer.close();
+        log.info(String.format("Exported %1$s %2$s in %3$s ms", rows[0], name, System.currentTimeMillis() - start));
+    }
+
+    /**
+     * Dates are written as in the lists, {@code MM/dd/yyyy}.
+     */
+    private static Object toCell(final Object value) {
+        if (value instanceof Time) return value.toString();
+        if (value instanceof Date date) return DateUtil.dateToString(new Date(date.getTime()));
+        return value;
+    }
+
+    /**
+     * The export has its own template so that the fetch size applies to it alone. PostgreSQL reads through a
+     * cursor inside a transaction once a fetch size is set, MySQL only streams with a fetch size of
+     * {@link Integer#MIN_VALUE}.
+     */
+    private JdbcTemplate exportJdbcTemplate() {
+        JdbcTemplate jdbcTemplate = exportJdbcTemplate;
+        if (null == jdbcTemplate) {
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            final String databaseProductName = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            jdbcTemplate.setFetchSize(StringUtils.containsIgnoreCase(databaseProductName, "MySQL") ? Integer.MIN_VALUE : fetchSize);
+            exportJdbcTemplate = jdbcTemplate;
+        }
+        return jdbcTemplate;
+    }
+}
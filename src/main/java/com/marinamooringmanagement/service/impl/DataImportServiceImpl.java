@@ -0,0 +1,634 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.model.entity.Boatyard;
+import com.marinamooringmanagement.model.entity.Customer;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.ServiceArea;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.entity.metadata.*;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.ImportErrorResponseDto;
+import com.marinamooringmanagement.model.response.ImportResponseDto;
+import com.marinamooringmanagement.repositories.BoatyardRepository;
+import com.marinamooringmanagement.repositories.CustomerRepository;
+import com.marinamooringmanagement.repositories.MooringRepository;
+import com.marinamooringmanagement.repositories.ServiceAreaRepository;
+import com.marinamooringmanagement.security.util.AuthorizationUtil;
+import com.marinamooringmanagement.service.DashboardStatisticsService;
+import com.marinamooringmanagement.service.DataImportService;
+import com.marinamooringmanagement.service.MetadataRegistry;
+import com.marinamooringmanagement.service.SearchSuggestService;
+import com.marinamooringmanagement.utils.CsvReader;
+import com.marinamooringmanagement.utils.DateUtil;
+import com.marinamooringmanagement.utils.GPSCoordinateParser;
+import com.marinamooringmanagement.utils.SearchDocumentUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+@Service
+public class DataImportServiceImpl implements DataImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(DataImportServiceImpl.class);
+
+    // values per IN clause of the set based queries
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    // attempts at a customer id not taken yet before the row is rejected
+    private static final int CUSTOMER_ID_ATTEMPTS = 10;
+
+    // attempts at a boat id not taken yet before the row is rejected
+    private static final int BOAT_ID_ATTEMPTS = 20;
+
+    private static final Pattern EMAIL_ADDRESS = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+
+    private static final List<String> MOORING_COLUMNS = List.of(
+            "mooringNumber", "customerId", "harborOrArea", "gpsCoordinates", "installBottomChainDate",
+            "installTopChainDate", "installConditionOfEyeDate", "inspectionDate", "boatyard", "serviceArea",
+            "boatName", "boatSize", "boatType", "boatWeight", "sizeOfWeight", "typeOfWeight", "eyeCondition",
+            "topChainCondition", "bottomChainCondition", "shackleSwivelCondition", "pendantCondition",
+            "depthAtMeanHighWater", "status");
+
+    private static final List<String> CUSTOMER_COLUMNS = List.of(
+            "firstName", "lastName", "emailAddress", "phone", "notes", "address", "city", "state", "country",
+            "zipCode", "customerType");
+
+    private static final String INSERT_MOORING = "INSERT INTO mooring (mooring_id, harbor, gps_coordinates, latitude, longitude, " +
+            "install_bottom_chain_date, install_top_chain_date, install_condition_of_eye_date, inspection_date, " +
+            "boat_id, boat_name, boat_size, boat_type_id, boat_weight, size_of_weight, type_of_weight_id, " +
+            "eye_condition_id, top_chain_condition_id, bottom_chain_condition_id, shackle_swivel_condition_id, " +
+            "pendant_condition, depth_at_high_water, status_id, customer_id, user_id, boatyard_id, service_area_id, " +
+            "created_time, modified_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int[] INSERT_MOORING_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.DOUBLE,
+            Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.INTEGER, Types.INTEGER,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER,
+            Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER,
+            Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String INSERT_CUSTOMER = "INSERT INTO customer (first_name, last_name, customer_id, phone, " +
+            "email_address, notes, address, city, state_id, country_id, zipcode, customer_type_id, user_id, " +
+            "created_time, modified_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int[] INSERT_CUSTOMER_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.INTEGER, Types.INTEGER,
+            Types.TIMESTAMP, Types.TIMESTAMP};
+
+    @Autowired
+    private MooringRepository mooringRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private BoatyardRepository boatyardRepository;
+
+    @Autowired
+    private ServiceAreaRepository serviceAreaRepository;
+
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
+    @Autowired
+    private DashboardStatisticsService dashboardStatisticsService;
+
+    @Autowired
+    private SearchSuggestService searchSuggestService;
+
+    @Autowired
+    private AuthorizationUtil authorizationUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final int maxRows;
+
+    private final int maxErrors;
+
+    public DataImportServiceImpl(final PlatformTransactionManager transactionManager,
+                                 @Value("${import.batch-size}") final int batchSize,
+                                 @Value("${import.max-rows}") final int maxRows,
+                                 @Value("${import.max-errors}") final int maxErrors) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public BasicRestResponse importMoorings(final MultipartFile file, final Boolean dryRun, final HttpServletRequest request) {
+        return respond(file, request, "Moorings", (user, reader) -> importMoorings(user, reader, Boolean.TRUE.equals(dryRun)));
+    }
+
+    @Override
+    public BasicRestResponse importCustomers(final MultipartFile file, final Boolean dryRun, final HttpServletRequest request) {
+        return respond(file, request, "Customers", (user, reader) -> importCustomers(user, reader, Boolean.TRUE.equals(dryRun)));
+    }
+
+    @Override
+    public ImportResponseDto importMoorings(final User user, final Reader reader, final boolean dryRun) throws IOException {
+        final long start = System.currentTimeMillis();
+        final ImportErrors errors = new ImportErrors(maxErrors);
+        final List<ImportRow> rows = readRows(reader, MOORING_COLUMNS, List.of("mooringNumber"), errors);
+
+        // mooring numbers are unique across customer owners
+        final Map<String, Integer> rowOfNumber = new HashMap<>();
+        final Set<String> customerIds = new HashSet<>();
+        for (ImportRow row : rows) {
+            final String mooringNumber = row.get("mooringNumber");
+            if (null != mooringNumber && null != rowOfNumber.putIfAbsent(mooringNumber, row.rowNumber()))
+                errors.add(row.rowNumber(), "mooringNumber", String.format("Mooring number: %1$s is already in row %2$s", mooringNumber, rowOfNumber.get(mooringNumber)));
+            if (null != row.get("customerId")) customerIds.add(row.get("customerId"));
+        }
+        final Set<String> existingNumbers = new HashSet<>();
+        inChunks(rowOfNumber.keySet(), mooringRepository::findIdsByMooringNumbers).forEach(ids -> existingNumbers.add((String) ids[1]));
+
+        final Map<String, Customer> customers = new HashMap<>();
+        inChunks(customerIds, chunk -> customerRepository.findNamesByCustomerIds(user.getId(), chunk)).forEach(names ->
+                customers.put((String) names[1], Customer.builder().id((Integer) names[0]).customerId((String) names[1])
+                        .firstName((String) names[2]).lastName((String) names[3]).user(user).build()));
+
+        final Map<String, Boatyard> boatyards = byName(boatyardRepository.findAllBoatyardMetadata(user.getId()), Boatyard::getBoatyardName);
+        final Map<String, ServiceArea> serviceAreas = byName(serviceAreaRepository.findAllServiceAreaMetadata(user.getId()), ServiceArea::getServiceAreaName);
+        final Map<String, BoatType> boatTypes = metadataByName(BoatType.class, BoatType::getBoatType);
+        final Map<String, TypeOfWeight> typesOfWeight = metadataByName(TypeOfWeight.class, TypeOfWeight::getType);
+        final Map<String, EyeCondition> eyeConditions = metadataByName(EyeCondition.class, EyeCondition::getCondition);
+        final Map<String, TopChainCondition> topChainConditions = metadataByName(TopChainCondition.class, TopChainCondition::getCondition);
+        final Map<String, BottomChainCondition> bottomChainConditions = metadataByName(BottomChainCondition.class, BottomChainCondition::getCondition);
+        final Map<String, ShackleSwivelCondition> shackleSwivelConditions = metadataByName(ShackleSwivelCondition.class, ShackleSwivelCondition::getCondition);
+        final Map<String, MooringStatus> statuses = metadataByName(MooringStatus.class, MooringStatus::getStatus);
+
+        final Set<String> boatIds = rows.stream().anyMatch(row -> null != row.get("boatName"))
+                ? new HashSet<>(mooringRepository.findAllBoatIds()) : new HashSet<>();
+        final Date now = new Date();
+
+        final List<Mooring> moorings = new ArrayList<>();
+        for (ImportRow row : rows) {
+            final int rowNumber = row.rowNumber();
+            final Mooring mooring = new Mooring();
+            mooring.setMooringNumber(row.get("mooringNumber"));
+            if (existingNumbers.contains(mooring.getMooringNumber()))
+                errors.add(rowNumber, "mooringNumber", String.format("Given mooring number: %1$s is already present", mooring.getMooringNumber()));
+
+            if (null != row.get("customerId")) {
+                mooring.setCustomer(customers.get(row.get("customerId")));
+                if (null == mooring.getCustomer())
+                    errors.add(rowNumber, "customerId", String.format("No customer found with the given customer Id: %1$s", row.get("customerId")));
+            }
+
+            mooring.setHarborOrArea(row.get("harborOrArea"));
+            if (null != row.get("gpsCoordinates")) {
+                final long coordinates = GPSCoordinateParser.parse(row.get("gpsCoordinates"));
+                if (GPSCoordinateParser.isError(coordinates)) {
+                    errors.add(rowNumber, "gpsCoordinates", String.format("%1$s: %2$s", GPSCoordinateParser.errorMessage(coordinates), row.get("gpsCoordinates")));
+                } else {
+                    mooring.setGpsCoordinates(GPSCoordinateParser.format(coordinates));
+                    mooring.setLatitude(GPSCoordinateParser.latitude(coordinates));
+                    mooring.setLongitude(GPSCoordinateParser.longitude(coordinates));
+                }
+            }
+
+            mooring.setInstallBottomChainDate(date(row, "installBottomChainDate", errors));
+            mooring.setInstallTopChainDate(date(row, "installTopChainDate", errors));
+            mooring.setInstallConditionOfEyeDate(date(row, "installConditionOfEyeDate", errors));
+            mooring.setInspectionDate(date(row, "inspectionDate", errors));
+
+            mooring.setBoatName(row.get("boatName"));
+            if (null != mooring.getBoatName()) {
+                mooring.setBoatId(generateBoatId(boatIds));
+                if (null == mooring.getBoatId())
+                    errors.add(rowNumber, "boatName", String.format("No free boat id left for boat name: %1$s", mooring.getBoatName()));
+            }
+            mooring.setBoatSize(toString(integer(row, "boatSize", errors)));
+            mooring.setBoatWeight(toString(integer(row, "boatWeight", errors)));
+            mooring.setSizeOfWeight(integer(row, "sizeOfWeight", errors));
+            mooring.setDepthAtMeanHighWater(integer(row, "depthAtMeanHighWater", errors));
+            mooring.setPendantCondition(row.get("pendantCondition"));
+
+            mooring.setBoatType(resolve(row, "boatType", boatTypes, errors));
+            mooring.setTypeOfWeight(resolve(row, "typeOfWeight", typesOfWeight, errors));
+            mooring.setEyeCondition(resolve(row, "eyeCondition", eyeConditions, errors));
+            mooring.setTopChainCondition(resolve(row, "topChainCondition", topChainConditions, errors));
+            mooring.setBottomChainCondition(resolve(row, "bottomChainCondition", bottomChainConditions, errors));
+            mooring.setShackleSwivelCondition(resolve(row, "shackleSwivelCondition", shackleSwivelConditions, errors));
+            mooring.setMooringStatus(resolve(row, "status", statuses, errors));
+            mooring.setServiceArea(resolve(row, "serviceArea", serviceAreas, errors));
+            mooring.setBoatyard(resolve(row, "boatyard", boatyards, errors));
+            // a saved mooring keeps its boatyard only while its gear is off
+            if (null != mooring.getBoatyard() && null != mooring.getMooringStatus()
+                    && !StringUtils.equals(mooring.getMooringStatus().getStatus(), AppConstants.Status.GEAR_OFF))
+                errors.add(rowNumber, "boatyard", String.format("Boatyard can only be given for moorings with status: %1$s", AppConstants.Status.GEAR_OFF));
+
+            mooring.setUser(user);
+            mooring.setCreationDate(now);
+            mooring.setLastModifiedDate(now);
+            moorings.add(mooring);
+        }
+
+        if (errors.count() > 0 || dryRun) return response(rows.size(), 0, dryRun, errors);
+
+        transactionTemplate.executeWithoutResult(status -> insertMoorings(moorings));
+        log.info(String.format("Imported %1$s moorings for customer owner %2$s in %3$s ms", moorings.size(), user.getId(), System.currentTimeMillis() - start));
+        return response(rows.size(), moorings.size(), false, errors);
+    }
+
+    @Override
+    public ImportResponseDto importCustomers(final User user, final Reader reader, final boolean dryRun) throws IOException {
+        final long start = System.currentTimeMillis();
+        final ImportErrors errors = new ImportErrors(maxErrors);
+        final List<ImportRow> rows = readRows(reader, CUSTOMER_COLUMNS, List.of("firstName", "lastName"), errors);
+
+        // email addresses are unique across customer owners
+        final Map<String, Integer> rowOfEmailAddress = new HashMap<>();
+        for (ImportRow row : rows) {
+            final String emailAddress = row.get("emailAddress");
+            if (null != emailAddress && null != rowOfEmailAddress.putIfAbsent(emailAddress, row.rowNumber()))
+                errors.add(row.rowNumber(), "emailAddress", String.format("Email address: %1$s is already in row %2$s", emailAddress, rowOfEmailAddress.get(emailAddress)));
+        }
+        final Set<String> existingEmailAddresses = new HashSet<>(inChunks(rowOfEmailAddress.keySet(), customerRepository::findExistingEmailAddresses));
+
+        final Map<String, State> states = metadataByName(State.class, State::getName);
+        final Map<String, Country> countries = metadataByName(Country.class, Country::getName);
+        final Map<String, CustomerType> customerTypes = metadataByName(CustomerType.class, CustomerType::getType);
+        final Date now = new Date();
+
+        final List<Customer> customers = new ArrayList<>();
+        final Map<Customer, Integer> rowOfCustomer = new IdentityHashMap<>();
+        for (ImportRow row : rows) {
+            final int rowNumber = row.rowNumber();
+            final Customer customer = new Customer();
+            customer.setFirstName(row.get("firstName"));
+            customer.setLastName(row.get("lastName"));
+            if (null != customer.getLastName() && customer.getLastName().length() < 3)
+                errors.add(rowNumber, "lastName", "Last name should contain at least 3 character");
+
+            customer.setEmailAddress(row.get("emailAddress"));
+            if (null != customer.getEmailAddress()) {
+                if (!EMAIL_ADDRESS.matcher(customer.getEmailAddress()).matches())
+                    errors.add(rowNumber, "emailAddress", String.format("Invalid email address format: %1$s", customer.getEmailAddress()));
+                else if (existingEmailAddresses.contains(customer.getEmailAddress()))
+                    errors.add(rowNumber, "emailAddress", String.format("Given email address: %1$s  is already present", customer.getEmailAddress()));
+            }
+
+            customer.setPhone(row.get("phone"));
+            customer.setNotes(row.get("notes"));
+            customer.setAddress(row.get("address"));
+            customer.setCity(row.get("city"));
+            customer.setZipCode(row.get("zipCode"));
+            customer.setState(resolve(row, "state", states, errors));
+            customer.setCountry(resolve(row, "country", countries, errors));
+            customer.setCustomerType(resolve(row, "customerType", customerTypes, errors));
+
+            customer.setUser(user);
+            customer.setCreationDate(now);
+            customer.setLastModifiedDate(now);
+            customers.add(customer);
+            rowOfCustomer.put(customer, rowNumber);
+        }
+
+        if (errors.count() == 0) assignCustomerIds(customers, rowOfCustomer, errors);
+        if (errors.count() > 0 || dryRun) return response(rows.size(), 0, dryRun, errors);
+
+        transactionTemplate.executeWithoutResult(status -> insertCustomers(customers));
+        log.info(String.format("Imported %1$s customers for customer owner %2$s in %3$s ms", customers.size(), user.getId(), System.currentTimeMillis() - start));
+        return response(rows.size(), customers.size(), false, errors);
+    }
+
+    private void insertMoorings(final List<Mooring> moorings) {
+        final List<DashboardStatisticsService.CounterKey> counterKeys = new ArrayList<>();
+        for (int from = 0; from < moorings.size(); from += batchSize) {
+            final List<Mooring> batch = moorings.subList(from, Math.min(from + batchSize, moorings.size()));
+            final List<Object[]> values = new ArrayList<>(batch.size());
+            for (Mooring mooring : batch) {
+                values.add(new Object[]{
+                        mooring.getMooringNumber(), mooring.getHarborOrArea(), mooring.getGpsCoordinates(),
+                        mooring.getLatitude(), mooring.getLongitude(),
+                        timestamp(mooring.getInstallBottomChainDate()), timestamp(mooring.getInstallTopChainDate()),
+                        timestamp(mooring.getInstallConditionOfEyeDate()), timestamp(mooring.getInspectionDate()),
+                        mooring.getBoatId(), mooring.getBoatName(), mooring.getBoatSize(), idOf(mooring.getBoatType(), BoatType::getId),
+                        mooring.getBoatWeight(), mooring.getSizeOfWeight(), idOf(mooring.getTypeOfWeight(), TypeOfWeight::getId),
+                        idOf(mooring.getEyeCondition(), EyeCondition::getId), idOf(mooring.getTopChainCondition(), TopChainCondition::getId),
+                        idOf(mooring.getBottomChainCondition(), BottomChainCondition::getId),
+                        idOf(mooring.getShackleSwivelCondition(), ShackleSwivelCondition::getId),
+                        mooring.getPendantCondition(), mooring.getDepthAtMeanHighWater(), idOf(mooring.getMooringStatus(), MooringStatus::getId),
+                        idOf(mooring.getCustomer(), Customer::getId), mooring.getUser().getId(), idOf(mooring.getBoatyard(), Boatyard::getId),
+                        idOf(mooring.getServiceArea(), ServiceArea::getId),
+                        timestamp(mooring.getCreationDate()), timestamp(mooring.getLastModifiedDate())});
+            }
+            jdbcTemplate.batchUpdate(INSERT_MOORING, values, INSERT_MOORING_TYPES);
+
+            // the generated ids are read back by the unique mooring numbers
+            final Map<String, Integer> ids = new HashMap<>();
+            mooringRepository.findIdsByMooringNumbers(batch.stream().map(Mooring::getMooringNumber).toList())
+                    .forEach(row -> ids.put((String) row[1], (Integer) row[0]));
+            final List<Object[]> searchDocuments = new ArrayList<>(batch.size());
+            for (Mooring mooring : batch) {
+                mooring.setId(ids.get(mooring.getMooringNumber()));
+                searchDocuments.add(new Object[]{SearchDocumentUtils.of(mooring), mooring.getId()});
+                counterKeys.addAll(dashboardStatisticsService.countersOf(mooring));
+                searchSuggestService.update(mooring);
+            }
+            jdbcTemplate.batchUpdate("UPDATE mooring SET search_document = ? WHERE id = ?", searchDocuments);
+        }
+        dashboardStatisticsService.record(List.of(), counterKeys);
+    }
+
+    private void insertCustomers(final List<Customer> customers) {
+        for (int from = 0; from < customers.size(); from += batchSize) {
+            final List<Customer> batch = customers.subList(from, Math.min(from + batchSize, customers.size()));
+            final List<Object[]> values = new ArrayList<>(batch.size());
+            for (Customer customer : batch) {
+                values.add(new Object[]{
+                        customer.getFirstName(), customer.getLastName(), customer.getCustomerId(), customer.getPhone(),
+                        customer.getEmailAddress(), customer.getNotes(), customer.getAddress(), customer.getCity(),
+                        idOf(customer.getState(), State::getId), idOf(customer.getCountry(), Country::getId), customer.getZipCode(),
+                        idOf(customer.getCustomerType(), CustomerType::getId), customer.getUser().getId(),
+                        timestamp(customer.getCreationDate()), timestamp(customer.getLastModifiedDate())});
+            }
+            jdbcTemplate.batchUpdate(INSERT_CUSTOMER, values, INSERT_CUSTOMER_TYPES);
+
+            // the generated ids are read back by the unique customer ids
+            final Map<String, Integer> ids = new HashMap<>();
+            customerRepository.findIdsByCustomerIds(batch.stream().map(Customer::getCustomerId).toList())
+                    .forEach(row -> ids.put((String) row[1], (Integer) row[0]));
+            final List<Object[]> searchDocuments = new ArrayList<>(batch.size());
+            for (Customer customer : batch) {
+                customer.setId(ids.get(customer.getCustomerId()));
+                searchDocuments.add(new Object[]{SearchDocumentUtils.of(customer), customer.getId()});
+                searchSuggestService.update(customer);
+            }
+            jdbcTemplate.batchUpdate("UPDATE customer SET search_document = ? WHERE id = ?", searchDocuments);
+        }
+    }
+
+    /**
+     * Gives every customer an id of the first three letters of the last name and three random digits, as saving a
+     * customer does. Candidates are checked against the file and then against the database with one query per
+     * round, customers whose candidate is taken draw again.
+     */
+    private void assignCustomerIds(final List<Customer> customers, final Map<Customer, Integer> rowOfCustomer, final ImportErrors errors) {
+        final Set<String> assigned = new HashSet<>();
+        List<Customer> pending = customers;
+        for (int attempt = 0; attempt < CUSTOMER_ID_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            final Map<String, Customer> candidates = new HashMap<>();
+            for (Customer customer : pending) {
+                final String candidate = customer.getLastName().substring(0, 3).toUpperCase() + (100 + (int) (Math.random() * 900));
+                if (!assigned.contains(candidate) && null == candidates.putIfAbsent(candidate, customer))
+                    customer.setCustomerId(candidate);
+                else
+                    customer.setCustomerId(null);
+            }
+            inChunks(candidates.keySet(), customerRepository::findIdsByCustomerIds)
+                    .forEach(row -> candidates.get((String) row[1]).setCustomerId(null));
+
+            final List<Customer> remaining = new ArrayList<>();
+            for (Customer customer : pending) {
+                if (null == customer.getCustomerId()) remaining.add(customer);
+                else assigned.add(customer.getCustomerId());
+            }
+            pending = remaining;
+        }
+        for (Customer customer : pending)
+            errors.add(rowOfCustomer.get(customer), "lastName", String.format("No free customer id left for last name: %1$s", customer.getLastName()));
+    }
+
+    /**
+     * Reads the header and the rows of the file. Empty rows are skipped, values are trimmed and empty values are
+     * left out.
+     */
+    private List<ImportRow> readRows(final Reader reader, final List<String> columns, final List<String> requiredColumns,
+                                     final ImportErrors errors) throws IOException {
+        final Map<String, String> columnOfHeader = new HashMap<>();
+        columns.forEach(column -> columnOfHeader.put(normalizeHeader(column), column));
+
+        final List<ImportRow> rows = new ArrayList<>();
+        final CsvReader csvReader = new CsvReader(reader);
+        final List<String> header = csvReader.readRecord();
+        if (null == header) {
+            errors.add(1, null, "The file is empty");
+            return rows;
+        }
+        final String[] columnAt = new String[header.size()];
+        for (int i = 0; i < header.size(); i++) {
+            if (StringUtils.isBlank(header.get(i))) continue;
+            columnAt[i] = columnOfHeader.get(normalizeHeader(header.get(i)));
+            if (null == columnAt[i])
+                errors.add(1, header.get(i), String.format("Unknown column: %1$s, the columns are: %2$s", header.get(i), String.join(", ", columns)));
+        }
+        final Set<String> present = new HashSet<>(Arrays.asList(columnAt));
+        for (String column : requiredColumns)
+            if (!present.contains(column)) errors.add(1, column, String.format("Column: %1$s is missing", column));
+        if (errors.count() > 0) return rows;
+
+        List<String> record;
+        while (null != (record = csvReader.readRecord())) {
+            final int rowNumber = csvReader.getRecordNumber();
+            if (record.stream().allMatch(StringUtils::isBlank)) continue;
+            if (rows.size() == maxRows) {
+                errors.add(rowNumber, null, String.format("The file has more than %1$s rows", maxRows));
+                break;
+            }
+            if (record.size() > columnAt.length) {
+                errors.add(rowNumber, null, String.format("Row has %1$s values but the header has %2$s columns", record.size(), columnAt.length));
+                continue;
+            }
+            final Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < record.size(); i++) {
+                final String value = StringUtils.trimToNull(record.get(i));
+                if (null != columnAt[i] && null != value) values.put(columnAt[i], value);
+            }
+            final ImportRow row = new ImportRow(rowNumber, values);
+            for (String column : requiredColumns)
+                if (null == row.get(column)) errors.add(rowNumber, column, String.format("%1$s cannot be blank", column));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private <T> List<T> inChunks(final Collection<String> values, final Function<List<String>, List<T>> query) {
+        final List<String> all = new ArrayList<>(values);
+        final List<T> results = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += IN_CLAUSE_SIZE)
+            results.addAll(query.apply(all.subList(from, Math.min(from + IN_CLAUSE_SIZE, all.size()))));
+        return results;
+    }
+
+    private <T> Map<String, T> metadataByName(final Class<T> type, final Function<T, String> name) {
+        return byName(metadataRegistry.findAll(type), name);
+    }
+
+    private static <T> Map<String, T> byName(final List<T> values, final Function<T, String> name) {
+        final Map<String, T> byName = new HashMap<>();
+        for (T value : values) {
+            final String key = name.apply(value);
+            if (null != key) byName.putIfAbsent(key.trim().toLowerCase(Locale.ROOT), value);
+        }
+        return byName;
+    }
+
+    private static <T> T resolve(final ImportRow row, final String column, final Map<String, T> byName, final ImportErrors errors) {
+        final String name = row.get(column);
+        if (null == name) return null;
+        final T value = byName.get(name.toLowerCase(Locale.ROOT));
+        if (null == value) errors.add(row.rowNumber(), column, String.format("No %1$s found with the name: %2$s", column, name));
+        return value;
+    }
+
+    private static Date date(final ImportRow row, final String column, final ImportErrors errors) {
+        final String value = row.get(column);
+        if (null == value) return null;
+        try {
+            return DateUtil.stringToDate(value);
+        } catch (Exception e) {
+            errors.add(row.rowNumber(), column, String.format("Date: %1$s is not in the format MM/dd/yyyy", value));
+            return null;
+        }
+    }
+
+    private static Integer integer(final ImportRow row, final String column, final ImportErrors errors) {
+        final String value = row.get(column);
+        if (null == value) return null;
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            errors.add(row.rowNumber(), column, String.format("Value: %1$s is not a whole number", value));
+            return null;
+        }
+    }
+
+    /**
+     * @return a boat id not in {@code boatIds}, which it is added to, or {@code null} when every draw was taken
+     */
+    private static String generateBoatId(final Set<String> boatIds) {
+        for (int attempt = 0; attempt < BOAT_ID_ATTEMPTS; attempt++) {
+            final String boatId = "B" + (100 + (int) (Math.random() * 9000));
+            if (boatIds.add(boatId)) return boatId;
+        }
+        return null;
+    }
+
+    private static String normalizeHeader(final String header) {
+        return header.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String toString(final Integer value) {
+        return null == value ? null : value.toString();
+    }
+
+    private static Timestamp timestamp(final Date date) {
+        return null == date ? null : new Timestamp(date.getTime());
+    }
+
+    private static <T> Integer idOf(final T value, final Function<T, Integer> id) {
+        return null == value ? null : id.apply(value);
+    }
+
+    private ImportResponseDto response(final int totalRows, final int importedRows, final boolean dryRun, final ImportErrors errors) {
+        return ImportResponseDto.builder()
+                .totalRows(totalRows)
+                .importedRows(importedRows)
+                .dryRun(dryRun)
+                .errorCount(errors.count())
+                .errors(errors.errors())
+                .build();
+    }
+
+    private BasicRestResponse respond(final MultipartFile file, final HttpServletRequest request, final String entities,
+                                      final ImportFunction importFunction) {
+        final BasicRestResponse response = BasicRestResponse.builder().build();
+        response.setTime(new Timestamp(System.currentTimeMillis()));
+        try {
+            final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+            final User user = authorizationUtil.checkAuthority(customerOwnerId);
+            if (null == file || file.isEmpty()) throw new RuntimeException("No file provided");
+
+            final ImportResponseDto importResponse;
+            try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+                importResponse = importFunction.apply(user, reader);
+            }
+            response.setContent(importResponse);
+            if (importResponse.getErrorCount() > 0) {
+                response.setMessage(String.format("%1$s not imported, the file has %2$s errors.", entities, importResponse.getErrorCount()));
+                response.setStatus(HttpStatus.BAD_REQUEST.value());
+            } else {
+                response.setMessage(importResponse.getDryRun()
+                        ? String.format("%1$s validated successfully.", entities)
+                        : String.format("%1$s imported successfully.", entities));
+                response.setStatus(HttpStatus.OK.value());
+            }
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while importing %1$s: %2$s", entities.toLowerCase(Locale.ROOT), e.getLocalizedMessage()));
+            response.setMessage(e.getLocalizedMessage());
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        return response;
+    }
+
+    @FunctionalInterface
+    private interface ImportFunction {
+        ImportResponseDto apply(final User user, final Reader reader) throws IOException;
+    }
+
+    private record ImportRow(int rowNumber, Map<String, String> values) {
+
+        String get(final String column) {
+            return values.get(column);
+        }
+    }
+
+    /**
+     * Counts every error of a file and keeps the first ones for the response.
+     */
+    private static final class ImportErrors {
+
+        private final int max;
+
+        private final List<ImportErrorResponseDto> errors = new ArrayList<>();
+
+        private int count;
+
+        ImportErrors(final int max) {
+            this.max = max;
+        }
+
+        void add(final int rowNumber, final String column, final String message) {
+            if (count++ < max)
+                errors.add(ImportErrorResponseDto.builder().rowNumber(rowNumber).column(column).message(message).build());
+        }
+
+        int count() {
+            return count;
+        }
+
+        List<ImportErrorResponseDto> errors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.enums.EmailOutboxStatus;
+import com.marinamooringmanagement.model.entity.EmailOutbox;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.model.request.SendEmailRequest;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.EmailOutboxMetricsResponse;
+import com.marinamooringmanagement.model.response.SendEmailResponse;
+import com.marinamooringmanagement.repositories.EmailOutboxRepository;
+import com.marinamooringmanagement.service.EmailOutboxService;
+import com.marinamooringmanagement.service.EmailService;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Service
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxServiceImpl.class);
+
+    private static final List<EmailOutboxStatus> DUE_STATUSES = List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private static final String WORK_ORDER_DEDUP_KEY = "work-order:%1$s:%2$s";
+
+    private static final String DIGEST_DEDUP_KEY = "technician-digest:%1$s:%2$s";
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${email.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.retry.initial-backoff}")
+    private Duration initialBackoff;
+
+    @Value("${email.outbox.retry.max-backoff}")
+    private Duration maxBackoff;
+
+    @Value("${email.outbox.lease}")
+    private Duration lease;
+
+    private final int maxBatchesInFlight;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    private final AtomicInteger batchesInFlight = new AtomicInteger();
+
+    private final AtomicLong sent = new AtomicLong();
+
+    private final AtomicLong failedAttempts = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final AtomicLong batches = new AtomicLong();
+
+    private volatile double lastBatchThroughput;
+
+    public EmailOutboxServiceImpl(@Value("${email.outbox.workers}") final int workers) {
+        // one batch per worker plus one waiting batch per worker, so a worker never idles between two polls
+        maxBatchesInFlight = 2 * workers;
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("email-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean enqueueWorkOrderNotification(final WorkOrder workOrder, final LocalDate notificationDate) {
+        final String dedupKey = String.format(WORK_ORDER_DEDUP_KEY, workOrder.getId(), notificationDate);
+        return enqueue(dedupKey, workOrder.getId(), notificationDate, () -> emailService.createNotificationForWorkOrder(workOrder));
+    }
+
+    @Override
+    public boolean enqueueTechnicianDigest(final List<WorkOrder> workOrders, final LocalDate notificationDate) {
+        final String dedupKey = String.format(DIGEST_DEDUP_KEY, workOrders.get(0).getTechnicianUser().getEmail(), notificationDate);
+        return enqueue(dedupKey, null, notificationDate, () -> emailService.createDigestForTechnician(workOrders));
+    }
+
+    /**
+     * Queues an email unless one with the same dedup key exists. The email is only rendered once the check passed.
+     */
+    private boolean enqueue(final String dedupKey, final Integer workOrderId, final LocalDate notificationDate, final Supplier<SendEmailRequest> emailSupplier) {
+        if (emailOutboxRepository.existsByDedupKey(dedupKey)) {
+            log.info(String.format("Email %1$s already queued", dedupKey));
+            return false;
+        }
+
+        final SendEmailRequest sendEmailRequest = emailSupplier.get();
+        final EmailOutbox emailOutbox = EmailOutbox.builder()
+                .dedupKey(dedupKey)
+                .workOrderId(workOrderId)
+                .notificationDate(notificationDate)
+                .recipient(sendEmailRequest.getToList().get(0))
+                .subject(sendEmailRequest.getSubject())
+                .body(sendEmailRequest.getBody())
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(new Date())
+                .build();
+        emailOutbox.setCreationDate(new Date());
+
+        try {
+            emailOutboxRepository.save(emailOutbox);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // queued concurrently by another instance
+            return false;
+        }
+    }
+
+    @Override
+    public void drain() {
+        while (batchesInFlight.get() < maxBatchesInFlight) {
+            final List<EmailOutbox> batch = claimBatch();
+            if (batch.isEmpty()) return;
+
+            batchesInFlight.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    try {
+                        send(batch);
+                    } finally {
+                        batchesInFlight.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // the claimed emails are picked up again once their lease has expired
+                batchesInFlight.decrementAndGet();
+                log.info(String.format("Email outbox workers busy, %1$s emails postponed", batch.size()));
+                return;
+            }
+        }
+    }
+
+    @Override
+    public BasicRestResponse fetchMetrics() {
+        final BasicRestResponse response = BasicRestResponse.builder().build();
+        response.setTime(new Timestamp(System.currentTimeMillis()));
+        try {
+            response.setContent(EmailOutboxMetricsResponse.builder()
+                    .sent(sent.get())
+                    .failedAttempts(failedAttempts.get())
+                    .failed(failed.get())
+                    .batches(batches.get())
+                    .batchesInFlight(batchesInFlight.get())
+                    .lastBatchThroughput(lastBatchThroughput)
+                    .pendingInOutbox(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING))
+                    .failedInOutbox(emailOutboxRepository.countByStatus(EmailOutboxStatus.FAILED))
+                    .build());
+            response.setMessage("Email outbox metrics fetched successfully");
+            response.setStatus(HttpStatus.OK.value());
+        } catch (Exception e) {
+            response.setMessage(e.getLocalizedMessage());
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        return response;
+    }
+
+    /**
+     * Locks the next due emails and leases them to a worker by moving them to {@link EmailOutboxStatus#SENDING}.
+     * Emails of a worker that died keep their status and are claimed again once the lease has expired.
+     */
+    private List<EmailOutbox> claimBatch() {
+        try {
+            final List<EmailOutbox> batch = transactionTemplate.execute(status -> {
+                final Date now = new Date();
+                final List<EmailOutbox> dueEmails = emailOutboxRepository.findDueForUpdate(DUE_STATUSES, now, PageRequest.of(0, batchSize));
+                final Date leaseEnd = new Date(now.getTime() + lease.toMillis());
+                for (EmailOutbox emailOutbox : dueEmails) {
+                    emailOutbox.setStatus(EmailOutboxStatus.SENDING);
+                    emailOutbox.setNextAttemptAt(leaseEnd);
+                }
+                return emailOutboxRepository.saveAll(dueEmails);
+            });
+            return null == batch ? Collections.emptyList() : batch;
+        } catch (Exception e) {
+            log.error(String.format("Error occurred while claiming emails from the outbox: %1$s", e.getLocalizedMessage()));
+            return Collections.emptyList();
+        }
+    }
+
+    private void send(final List<EmailOutbox> batch) {
+        final List<SendEmailRequest> sendEmailRequests = batch.stream()
+                .map(emailOutbox -> SendEmailRequest.builder()
+                        .toList(List.of(emailOutbox.getRecipient()))
+                        .subject(emailOutbox.getSubject())
+                        .body(emailOutbox.getBody())
+                        .build())
+                .toList();
+
+        final long start = System.nanoTime();
+        final List<SendEmailResponse> responses = emailService.sendEmails(sendEmailRequests);
+        final long elapsedNanos = Math.max(1, System.nanoTime() - start);
+
+        final Date now = new Date();
+        int sentInBatch = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            final EmailOutbox emailOutbox = batch.get(i);
+            final SendEmailResponse response = responses.get(i);
+            emailOutbox.setLastModifiedDate(now);
+            if (response.isSuccess()) {
+                emailOutbox.setStatus(EmailOutboxStatus.SENT);
+                emailOutbox.setSentAt(now);
+                emailOutbox.setLastError(null);
+                sentInBatch++;
+                continue;
+            }
+
+            failedAttempts.incrementAndGet();
+            final int attempts = emailOutbox.getAttempts() + 1;
+            emailOutbox.setAttempts(attempts);
+            emailOutbox.setLastError(StringUtils.abbreviate(response.getResponse(), MAX_ERROR_LENGTH));
+            if (attempts >= maxAttempts) {
+                emailOutbox.setStatus(EmailOutboxStatus.FAILED);
+                failed.incrementAndGet();
+                log.error(String.format("Giving up on email with id: %1$s after %2$s attempts: %3$s", emailOutbox.getId(), attempts, response.getResponse()));
+            } else {
+                emailOutbox.setStatus(EmailOutboxStatus.PENDING);
+                emailOutbox.setNextAttemptAt(new Date(now.getTime() + backoff(attempts).toMillis()));
+            }
+        }
+
+        sent.addAndGet(sentInBatch);
+        batches.incrementAndGet();
+        lastBatchThroughput = sentInBatch * 1_000_000_000d / elapsedNanos;
+
+        try {
+            emailOutboxRepository.saveAll(batch);
+        } catch (Exception e) {
+            // the emails are claimed again after the lease, sent ones may then be delivered a second time
+            log.error(String.format("Error occurred while updating %1$s emails in the outbox: %2$s", batch.size(), e.getLocalizedMessage()));
+        }
+        log.info(String.format("Email outbox batch done, sent: %1$s, failed: %2$s", sentInBatch, batch.size() - sentInBatch));
+    }
+
+    /**
+     * @param attempts the number of failed attempts, at least 1
+     * @return the initial backoff doubled per further failed attempt, capped at the maximum backoff
+     */
+    private Duration backoff(final int attempts) {
+        final int doublings = Math.min(attempts - 1, 30);
+        final Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -1,6 +1,7 @@
 package com.marinamooringmanagement.service.impl;
 
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
+import com.marinamooringmanagement.model.entity.User;
 import com.marinamooringmanagement.model.entity.WorkOrder;
 import com.marinamooringmanagement.model.request.ForgetPasswordEmailRequest;
 import com.marinamooringmanagement.model.request.ResetPasswordEmailTemplate;
@@ -11,6 +12,7 @@ import com.marinamooringmanagement.service.EmailService;
 import com.marinamooringmanagement.service.ThymeleafService;
 import com.marinamooringmanagement.service.TokenService;
 import com.marinamooringmanagement.utils.EmailUtils;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.collections4.CollectionUtils;
@@ -19,12 +21,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -35,6 +40,10 @@ public class EmailServiceImpl implements EmailService {
 
     private static final Logger log = LoggerFactory.getLogger(EmailService.class);
 
+    private static final String WORK_ORDER_NOTIFICATION_TEMPLATE = "technician-notification-email-template";
+
+    private static final String TECHNICIAN_DIGEST_TEMPLATE = "technician-digest-email-template";
+
     @Autowired
     private JavaMailSender javaMailSender;
 
@@ -93,45 +102,57 @@ public class EmailServiceImpl implements EmailService {
     }
 
     public SendEmailResponse sendNotificationForWorkOrder(final WorkOrder workOrder) {
-        final SendEmailResponse response = SendEmailResponse.builder().build();
         try {
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(
-                    message,
-                    MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED,
-                    StandardCharsets.UTF_8.name()
-            );
-
-            Map<String, Object> variables = new HashMap<>();
-            variables.put("technicianUserFirstName", workOrder.getTechnicianUser().getFirstName());
-            variables.put("technicianUserLastName", workOrder.getTechnicianUser().getLastName());
-            variables.put("workOrderNumber", workOrder.getWorkOrderNumber());
-            variables.put("dueDate", workOrder.getDueDate().toString());
-            variables.put("scheduledDate", workOrder.getScheduledDate().toString());
-            variables.put("time", workOrder.getTime().toString());
-            variables.put("problem", workOrder.getProblem());
-            variables.put("mooringNumber", workOrder.getMooring().getMooringNumber());
-            variables.put("customerFirstName", workOrder.getMooring().getCustomer().getFirstName());
-            variables.put("customerLastName", workOrder.getMooring().getCustomer().getLastName());
-            variables.put("customerId", workOrder.getMooring().getCustomer().getCustomerId());
-            variables.put("workOrderStatus", workOrder.getWorkOrderStatus().getStatus());
-
-            helper.setFrom(fromMailID);
-            helper.setText(thymeleafService.createContent("technician-notification-email-template.html", variables), true);
-            helper.setTo(workOrder.getTechnicianUser().getEmail());
-            helper.setSubject(String.format("Work order with id: %1$s due notification", workOrder.getWorkOrderNumber()));
-
-            javaMailSender.send(message);
-
-            response.setResponse("Mail send successfully!!!");
-            response.setSuccess(false);
+            return sendEmail(createNotificationForWorkOrder(workOrder));
         } catch (Exception e) {
             log.error("Error occurred during mail send operation");
             log.error(e.getLocalizedMessage());
-            response.setResponse(e.getLocalizedMessage());
-            response.setSuccess(false);
+            return new SendEmailResponse(false, e.getLocalizedMessage());
         }
-        return response;
+    }
+
+    @Override
+    public SendEmailRequest createNotificationForWorkOrder(final WorkOrder workOrder) {
+        Map<String, Object> variables = workOrderVariables(workOrder);
+        variables.put("technicianUserFirstName", workOrder.getTechnicianUser().getFirstName());
+        variables.put("technicianUserLastName", workOrder.getTechnicianUser().getLastName());
+
+        return SendEmailRequest.builder()
+                .toList(List.of(workOrder.getTechnicianUser().getEmail()))
+                .subject(String.format("Work order with id: %1$s due notification", workOrder.getWorkOrderNumber()))
+                .body(thymeleafService.createContent(WORK_ORDER_NOTIFICATION_TEMPLATE, variables))
+                .build();
+    }
+
+    @Override
+    public SendEmailRequest createDigestForTechnician(final List<WorkOrder> workOrders) {
+        final User technicianUser = workOrders.get(0).getTechnicianUser();
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("technicianUserFirstName", technicianUser.getFirstName());
+        variables.put("technicianUserLastName", technicianUser.getLastName());
+        variables.put("workOrders", workOrders.stream().map(this::workOrderVariables).toList());
+
+        return SendEmailRequest.builder()
+                .toList(List.of(technicianUser.getEmail()))
+                .subject(String.format("%1$s work order/s due notification", workOrders.size()))
+                .body(thymeleafService.createContent(TECHNICIAN_DIGEST_TEMPLATE, variables))
+                .build();
+    }
+
+    private Map<String, Object> workOrderVariables(final WorkOrder workOrder) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("workOrderNumber", workOrder.getWorkOrderNumber());
+        variables.put("dueDate", workOrder.getDueDate().toString());
+        variables.put("scheduledDate", workOrder.getScheduledDate().toString());
+        variables.put("time", workOrder.getTime().toString());
+        variables.put("problem", workOrder.getProblem());
+        variables.put("mooringNumber", workOrder.getMooring().getMooringNumber());
+        variables.put("customerFirstName", workOrder.getMooring().getCustomer().getFirstName());
+        variables.put("customerLastName", workOrder.getMooring().getCustomer().getLastName());
+        variables.put("customerId", workOrder.getMooring().getCustomer().getCustomerId());
+        variables.put("workOrderStatus", workOrder.getWorkOrderStatus().getStatus());
+        return variables;
     }
 
     /**
@@ -144,37 +165,82 @@ public class EmailServiceImpl implements EmailService {
     @Override
     public SendEmailResponse sendEmail(final SendEmailRequest sendEmailRequest) {
         try {
-            final MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false);
-            mimeMessageHelper.setFrom(fromMailID);
+            javaMailSender.send(createMimeMessage(sendEmailRequest));
+            return new SendEmailResponse(true, "Email send Successfully!!!");
 
-            if(CollectionUtils.isNotEmpty(sendEmailRequest.getToList())) {
-                mimeMessageHelper.setTo(sendEmailRequest.getToList().toArray(new String[sendEmailRequest.getToList().size()]));
-            }
+        } catch (Exception e) {
+            log.info("Error occurred while sending email: {}", e.getLocalizedMessage());
+            return new SendEmailResponse(false, "Error occurred while sending email");
+        }
+    }
 
-            if(CollectionUtils.isNotEmpty(sendEmailRequest.getBccList())) {
-                mimeMessageHelper.setTo(sendEmailRequest.getBccList().toArray(new String[sendEmailRequest.getBccList().size()]));
+    /**
+     * Sends the emails in a single {@link JavaMailSender#send(MimeMessage...)} call, which opens one SMTP
+     * connection for all of them. A message rejected by the server does not stop the remaining ones.
+     *
+     * @param sendEmailRequests The emails to send.
+     * @return List of SendEmailResponse One response per request, in the order of the requests.
+     */
+    @Override
+    public List<SendEmailResponse> sendEmails(final List<SendEmailRequest> sendEmailRequests) {
+        final List<SendEmailResponse> responses = new ArrayList<>(sendEmailRequests.size());
+        final List<MimeMessage> mimeMessages = new ArrayList<>(sendEmailRequests.size());
+        final List<Integer> messageIndexes = new ArrayList<>(sendEmailRequests.size());
+
+        for (int i = 0; i < sendEmailRequests.size(); i++) {
+            try {
+                mimeMessages.add(createMimeMessage(sendEmailRequests.get(i)));
+                messageIndexes.add(i);
+                responses.add(new SendEmailResponse(true, "Email send Successfully!!!"));
+            } catch (Exception e) {
+                responses.add(new SendEmailResponse(false, e.getLocalizedMessage()));
             }
+        }
+        if (mimeMessages.isEmpty()) return responses;
 
-            if(CollectionUtils.isNotEmpty(sendEmailRequest.getCcList())) {
-                mimeMessageHelper.setTo(sendEmailRequest.getCcList().toArray(new String[sendEmailRequest.getCcList().size()]));
+        try {
+            javaMailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            final Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (int i = 0; i < mimeMessages.size(); i++) {
+                final Exception failure = failedMessages.isEmpty() ? e : failedMessages.get(mimeMessages.get(i));
+                if (null != failure) responses.set(messageIndexes.get(i), new SendEmailResponse(false, failure.getLocalizedMessage()));
             }
-
-            if(StringUtils.isNotEmpty(sendEmailRequest.getSubject())) {
-                mimeMessageHelper.setSubject(sendEmailRequest.getSubject());
+            log.info("Error occurred while sending {} of {} emails: {}", failedMessages.size(), mimeMessages.size(), e.getLocalizedMessage());
+        } catch (Exception e) {
+            for (Integer index : messageIndexes) {
+                responses.set(index, new SendEmailResponse(false, e.getLocalizedMessage()));
             }
+            log.info("Error occurred while sending emails: {}", e.getLocalizedMessage());
+        }
+        return responses;
+    }
 
-            if(StringUtils.isNotEmpty(sendEmailRequest.getBody())) {
-                mimeMessageHelper.setText(sendEmailRequest.getBody(), true);
-            }
+    private MimeMessage createMimeMessage(final SendEmailRequest sendEmailRequest) throws MessagingException {
+        final MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, StandardCharsets.UTF_8.name());
+        mimeMessageHelper.setFrom(fromMailID);
 
-            javaMailSender.send(mimeMessage);
-            return new SendEmailResponse(true, "Email send Successfully!!!");
+        if(CollectionUtils.isNotEmpty(sendEmailRequest.getToList())) {
+            mimeMessageHelper.setTo(sendEmailRequest.getToList().toArray(new String[sendEmailRequest.getToList().size()]));
+        }
 
-        } catch (Exception e) {
-            log.info("Error occurred while sending email: {}", e.getLocalizedMessage());
-            return new SendEmailResponse(false, "Error occurred while sending email");
+        if(CollectionUtils.isNotEmpty(sendEmailRequest.getBccList())) {
+            mimeMessageHelper.setBcc(sendEmailRequest.getBccList().toArray(new String[sendEmailRequest.getBccList().size()]));
+        }
+
+        if(CollectionUtils.isNotEmpty(sendEmailRequest.getCcList())) {
+            mimeMessageHelper.setCc(sendEmailRequest.getCcList().toArray(new String[sendEmailRequest.getCcList().size()]));
+        }
+
+        if(StringUtils.isNotEmpty(sendEmailRequest.getSubject())) {
+            mimeMessageHelper.setSubject(sendEmailRequest.getSubject());
+        }
+
+        if(StringUtils.isNotEmpty(sendEmailRequest.getBody())) {
+            mimeMessageHelper.setText(sendEmailRequest.getBody(), true);
         }
+        return mimeMessage;
     }
 
-}
\ No newline at end of file
+}
@@ -15,10 +15,14 @@ import com.marinamooringmanagement.model.request.EstimateRequestDto;
 import com.marinamooringmanagement.model.request.InventoryRequestDto;
 import com.marinamooringmanagement.model.response.*;
 import com.marinamooringmanagement.repositories.*;
-import com.marinamooringmanagement.repositories.metadata.WorkOrderStatusRepository;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.MetadataRegistry;
+import com.marinamooringmanagement.service.DashboardStatisticsService;
 import com.marinamooringmanagement.service.EstimateService;
+import com.marinamooringmanagement.service.NumberAllocator;
+import com.marinamooringmanagement.service.SearchDocumentService;
+import com.marinamooringmanagement.service.SearchSuggestService;
 import com.marinamooringmanagement.utils.DateUtil;
 import com.marinamooringmanagement.utils.SortUtils;
 import jakarta.persistence.criteria.*;
@@ -67,9 +71,6 @@ public class EstimateServiceImpl implements EstimateService {
     @Autowired
     private UserMapper userMapper;
 
-    @Autowired
-    private WorkOrderStatusRepository workOrderStatusRepository;
-
     @Autowired
     private MooringRepository mooringRepository;
 
@@ -83,7 +84,10 @@ public class EstimateServiceImpl implements EstimateService {
     private WorkOrderRepository workOrderRepository;
 
     @Autowired
-    private WorkOrderServiceImpl workOrderServiceImpl;
+    private DashboardStatisticsService dashboardStatisticsService;
+
+    @Autowired
+    private NumberAllocator numberAllocator;
 
     @Autowired
     private InventoryMapper inventoryMapper;
@@ -100,6 +104,15 @@ public class EstimateServiceImpl implements EstimateService {
     @Autowired
     private BoatyardRepository boatyardRepository;
 
+    @Autowired
+    private SearchDocumentService searchDocumentService;
+
+    @Autowired
+    private SearchSuggestService searchSuggestService;
+
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
     private static final Logger log = LoggerFactory.getLogger(EstimateServiceImpl.class);
 
     @Override
@@ -312,7 +325,7 @@ public class EstimateServiceImpl implements EstimateService {
             workOrder.setCreationDate(new Date(System.currentTimeMillis()));
             workOrder.setLastModifiedDate(new Date(System.currentTimeMillis()));
 
-            workOrder.setWorkOrderNumber(workOrderServiceImpl.createWorkOrderNumber());
+            workOrder.setWorkOrderNumber(numberAllocator.nextWorkOrderNumber());
 
             if (null != estimate.getTechnicianUser()) {
                 workOrder.setTechnicianUser(estimate.getTechnicianUser());
@@ -379,6 +392,9 @@ public class EstimateServiceImpl implements EstimateService {
             Integer estimateId = estimate.getId();
             estimateRepository.delete(estimate);
             WorkOrder savedWorkOrder = workOrderRepository.save(workOrder);
+            dashboardStatisticsService.record(List.of(), dashboardStatisticsService.countersOf(savedWorkOrder));
+            searchDocumentService.index(savedWorkOrder);
+            searchSuggestService.update(savedWorkOrder);
 
             response.setMessage(String.format("Estimate with the id: %1$s is successfully converted to work order with id: %2$s", estimateId, savedWorkOrder.getId()));
             response.setStatus(HttpStatus.OK.value());
@@ -498,7 +514,7 @@ public class EstimateServiceImpl implements EstimateService {
             }
 
             if (null != estimateRequestDto.getWorkOrderStatusId()) {
-                final Optional<WorkOrderStatus> optionalWorkOrderStatus = workOrderStatusRepository.findById(estimateRequestDto.getWorkOrderStatusId());
+                final Optional<WorkOrderStatus> optionalWorkOrderStatus = metadataRegistry.findById(WorkOrderStatus.class, estimateRequestDto.getWorkOrderStatusId());
                 if (optionalWorkOrderStatus.isEmpty())
                     throw new RuntimeException(String.format("No estimate status found with the given id: %1$s", estimateRequestDto.getWorkOrderStatusId()));
 
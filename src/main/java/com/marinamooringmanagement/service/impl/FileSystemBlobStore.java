@@ -0,0 +1,175 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.exception.ResourceNotFoundException;
+import com.marinamooringmanagement.service.BlobStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * {@link BlobStore} on the local filesystem.
+ *
+ * <p>A blob with key {@code ab12cd...} is kept at {@code <root>/ab/12/ab12cd...}. Uploads are first written to
+ * {@code <root>/tmp} while their hash is computed and then moved into place with an atomic rename, so a reader
+ * never sees a partially written blob. Variants derived from a blob are kept next to it as
+ * {@code <root>/ab/12/ab12cd....<variant>}.
+ */
+@Service
+@ConditionalOnProperty(name = "blob.store.type", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSystemBlobStore.class);
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private static final Pattern VARIANT_PATTERN = Pattern.compile("[a-z0-9-]+");
+
+    private final Path root;
+
+    private final Path tmp;
+
+    public FileSystemBlobStore(@Value("${blob.store.filesystem.root}") final String root) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tmp = this.root.resolve("tmp");
+        Files.createDirectories(this.tmp);
+        log.info(String.format("Storing blobs under %1$s", this.root));
+    }
+
+    @Override
+    public StoredBlob put(final InputStream inputStream, final String contentType) {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(tmp, "upload-", ".part");
+
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final long size;
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                size = new DigestInputStream(inputStream, digest).transferTo(outputStream);
+            }
+
+            final String key = HexFormat.of().formatHex(digest.digest());
+            final Path target = path(key);
+            if (Files.exists(target)) {
+                log.debug(String.format("Blob %1$s is already stored", key));
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // stored concurrently by another upload of the same content
+                    log.debug(String.format("Blob %1$s was stored concurrently", key));
+                }
+            }
+            return new StoredBlob(key, size, contentType);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException(String.format("Error occurred while storing blob: %1$s", e.getLocalizedMessage()), e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    @Override
+    public StoredBlob put(final byte[] data, final String contentType) {
+        return put(new ByteArrayInputStream(data), contentType);
+    }
+
+    @Override
+    public InputStream open(final String key) {
+        final Path path = existingPath(key);
+        try {
+            return Files.newInputStream(path);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Error occurred while reading blob %1$s: %2$s", key, e.getLocalizedMessage()), e);
+        }
+    }
+
+    @Override
+    public byte[] read(final String key) {
+        final Path path = existingPath(key);
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Error occurred while reading blob %1$s: %2$s", key, e.getLocalizedMessage()), e);
+        }
+    }
+
+    @Override
+    public Resource resource(final String key) {
+        return new FileSystemResource(existingPath(key));
+    }
+
+    @Override
+    public void putVariant(final String key, final String variant, final byte[] data) {
+        final Path target = variantPath(existingPath(key), variant);
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(tmp, "variant-", ".part");
+            Files.write(tempFile, data);
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Error occurred while storing variant %1$s of blob %2$s: %3$s", variant, key, e.getLocalizedMessage()), e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    @Override
+    public byte[] readVariant(final String key, final String variant) {
+        final Path path = variantPath(existingPath(key), variant);
+        try {
+            return Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Error occurred while reading variant %1$s of blob %2$s: %3$s", variant, key, e.getLocalizedMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean exists(final String key) {
+        return null != key && KEY_PATTERN.matcher(key).matches() && Files.exists(path(key));
+    }
+
+    private Path existingPath(final String key) {
+        if (!exists(key)) throw new ResourceNotFoundException(String.format("No blob found with the given key: %1$s", key));
+        return path(key);
+    }
+
+    private Path path(final String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private Path variantPath(final Path path, final String variant) {
+        if (!VARIANT_PATTERN.matcher(variant).matches()) throw new IllegalArgumentException(String.format("Invalid variant name: %1$s", variant));
+        return path.resolveSibling(path.getFileName() + "." + variant);
+    }
+
+    private void deleteQuietly(final Path path) {
+        if (null == path) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn(String.format("Could not delete temporary file %1$s: %2$s", path, e.getLocalizedMessage()));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.marinamooringmanagement.service.impl;
 
 import com.marinamooringmanagement.constants.AppConstants;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
+import com.marinamooringmanagement.helper.BlobContentHelper;
 import com.marinamooringmanagement.mapper.FormMapper;
 import com.marinamooringmanagement.mapper.UserMapper;
 import com.marinamooringmanagement.model.entity.Form;
@@ -32,7 +33,6 @@ import org.springframework.stereotype.Service;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 
@@ -44,6 +44,9 @@ public class FormServiceImpl implements FormService {
     @Autowired
     private FormMapper formMapper;
 
+    @Autowired
+    private BlobContentHelper blobContentHelper;
+
     @Autowired
     private FormRepository formRepository;
 
@@ -248,8 +251,7 @@ public class FormServiceImpl implements FormService {
             if(null != form.getCreatedBy()) formResponseDto.setSubmittedBy(form.getCreatedBy());
             if(null != form.getUser()) formResponseDto.setUserResponseDto(userMapper.mapToUserResponseDto(UserResponseDto.builder().build(), form.getUser()));
 
-            String encodedData = Base64.getEncoder().encodeToString(form.getFormData());
-            formResponseDto.setEncodedData(encodedData);
+            formResponseDto.setEncodedData(blobContentHelper.encode(blobContentHelper.read(form)));
 
             response.setContent(formResponseDto);
             response.setMessage(String.format("Form with the id: %1$s fetched successfully", id));
@@ -288,7 +290,7 @@ public class FormServiceImpl implements FormService {
 
             if(null != formRequestDto.getEncodedFormData()) {
                 byte[] formData = PDFUtils.isPdfFile(formRequestDto.getEncodedFormData());
-                form.setFormData(formData);
+                blobContentHelper.store(form, formData);
             } else {
                 if(null == id) throw new RuntimeException("Form data cannot be null during save");
             }
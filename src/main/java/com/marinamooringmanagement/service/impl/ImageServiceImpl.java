@@ -2,6 +2,7 @@ package com.marinamooringmanagement.service.impl;
 
 import com.marinamooringmanagement.constants.AppConstants;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
+import com.marinamooringmanagement.helper.BlobContentHelper;
 import com.marinamooringmanagement.mapper.ImageMapper;
 import com.marinamooringmanagement.mapper.UserMapper;
 import com.marinamooringmanagement.model.dto.ImageDto;
@@ -16,6 +17,7 @@ import com.marinamooringmanagement.security.exception.AuthorizationException;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
 import com.marinamooringmanagement.service.ImageService;
+import com.marinamooringmanagement.service.ImageVariantService;
 import com.marinamooringmanagement.utils.ImageUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.ObjectUtils;
@@ -26,8 +28,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Timestamp;
 import java.util.*;
 
@@ -40,6 +44,12 @@ public class ImageServiceImpl implements ImageService {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private BlobContentHelper blobContentHelper;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
     @Autowired
     private WorkOrderRepository workOrderRepository;
 
@@ -67,35 +77,46 @@ public class ImageServiceImpl implements ImageService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
 
         try {
-            if(StringUtils.equals(entity, AppConstants.EntityConstants.CUSTOMER)) {
-                final Customer customer = customerRepository.findById(entityId).orElseThrow(() -> new ResourceNotFoundException(String.format("No customer found with the given id: %1$s", entityId)));
-                List<Image> imageList = uploadImagesToEntity(multipleImageRequestDto, (null != customer.getImageList()) ? customer.getImageList() : new ArrayList<>());
-                customer.setImageList(imageList);
-                customerRepository.save(customer);
-            } else if(StringUtils.equals(entity, AppConstants.EntityConstants.WORK_ORDER)) {
-                final WorkOrder workOrder = workOrderRepository.findById(entityId).orElseThrow(() -> new ResourceNotFoundException(String.format("No work order found with the given id: %1$s", entityId)));
-                List<Image> imageList = uploadImagesToEntity(multipleImageRequestDto, (null != workOrder.getImageList()) ? workOrder.getImageList() : new ArrayList<>());
-                workOrder.setImageList(imageList);
-                workOrderRepository.save(workOrder);
-            } else if(StringUtils.equals(entity, AppConstants.EntityConstants.MOORING)) {
-                final Mooring mooring = mooringRepository.findById(entityId).orElseThrow(() -> new ResourceNotFoundException(String.format("No mooring found with the given id: %1$s", entityId)));
-                List<Image> imageList = uploadImagesToEntity(multipleImageRequestDto, (null != mooring.getImageList()) ? mooring.getImageList() : new ArrayList<>());
-                mooring.setImageList(imageList);
-                mooringRepository.save(mooring);
-            } else if(StringUtils.equals(entity, AppConstants.EntityConstants.USER)) {
-                final User user = userRepository.findById(entityId).orElseThrow(() -> new ResourceNotFoundException(String.format("No user found with the given id: %1$s", entityId)));
-                final Image image = uploadImageToEntity(multipleImageRequestDto, user.getImage());
-                image.setUser(user);
-                imageRepository.save(image);
-                final UserDto userDto = userMapper.mapToUserDto(UserDto.builder().build(), user);
-                final ImageDto imageDto = imageMapper.toDto(ImageDto.builder().build(), user.getImage());
-                userDto.setImageDto(imageDto);
-                response.setContent(userDto);
-                response.setMessage(String.format("Image uploaded successfully for the user with id: %1$s", entityId));
-                response.setStatus(HttpStatus.OK.value());
-            } else {
-                throw new RuntimeException(String.format("Given entity: %1$s is not authorized to have images"));
+            final List<Image> imageList = StringUtils.equals(entity, AppConstants.EntityConstants.USER)
+                    ? List.of(uploadImageToEntity(multipleImageRequestDto, null))
+                    : uploadImagesToEntity(multipleImageRequestDto, new ArrayList<>());
+            attachImagesToEntity(entityId, entity, imageList, response);
+        } catch (Exception e) {
+            response.setMessage(e.getLocalizedMessage());
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        return response;
+    }
+
+    @Override
+    public BasicRestResponse uploadImageFiles(Integer entityId, String entity, List<MultipartFile> files, List<String> notes, HttpServletRequest request) {
+        final BasicRestResponse response = BasicRestResponse.builder().build();
+        response.setTime(new Timestamp(System.currentTimeMillis()));
+
+        try {
+            if(null == files || files.isEmpty()) throw new RuntimeException("No image to upload");
+            if(StringUtils.equals(entity, AppConstants.EntityConstants.USER) && files.size() > 1) throw new RuntimeException("Multiple images to upload");
+
+            final List<Image> imageList = new ArrayList<>();
+            int imageNumber = 1;
+            for(MultipartFile file : files) {
+                if(null == file.getOriginalFilename()) throw new RuntimeException(String.format("No name provided for image at number: %1$s", imageNumber));
+                if(file.isEmpty()) throw new RuntimeException(String.format("No image provided for: %1$s", file.getOriginalFilename()));
+
+                final Image image = Image.builder()
+                        .imageName(file.getOriginalFilename())
+                        .note((null != notes && notes.size() >= imageNumber) ? notes.get(imageNumber - 1) : null)
+                        .build();
+                try (InputStream inputStream = file.getInputStream()) {
+                    blobContentHelper.store(image, inputStream);
+                }
+                image.setCreationDate(new Date(System.currentTimeMillis()));
+                image.setLastModifiedDate(new Date(System.currentTimeMillis()));
+                imageList.add(image);
+
+                imageNumber++;
             }
+            attachImagesToEntity(entityId, entity, imageList, response);
         } catch (Exception e) {
             response.setMessage(e.getLocalizedMessage());
             response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
@@ -103,6 +124,52 @@ public class ImageServiceImpl implements ImageService {
         return response;
     }
 
+    private void attachImagesToEntity(final Integer entityId, final String entity, final List<Image> uploadedImageList, final BasicRestResponse response) {
+        if(StringUtils.equals(entity, AppConstants.EntityConstants.CUSTOMER)) {
+            final Customer customer = customerRepository.findById(entityId).orElseThrow(() -> new ResourceNotFoundException(String.format("No customer found with the given id: %1$s", entityId)));
+            List<Image> imageList = (null != customer.getImageList()) ? customer.getImageList() : new ArrayList<>();
+            uploadedImageList.forEach(image -> image.setCustomer(customer));
+            imageList.addAll(uploadedImageList);
+            customer.setImageList(imageList);
+            customerRepository.save(customer);
+        } else if(StringUtils.equals(entity, AppConstants.EntityConstants.WORK_ORDER)) {
+            final WorkOrder workOrder = workOrderRepository.findById(entityId).orElseThrow(() -> new ResourceNotFoundException(String.format("No work order found with the given id: %1$s", entityId)));
+            List<Image> imageList = (null != workOrder.getImageList()) ? workOrder.getImageList() : new ArrayList<>();
+            uploadedImageList.forEach(image -> image.setWorkOrder(workOrder));
+            imageList.addAll(uploadedImageList);
+            workOrder.setImageList(imageList);
+            workOrderRepository.save(workOrder);
+        } else if(StringUtils.equals(entity, AppConstants.EntityConstants.MOORING)) {
+            final Mooring mooring = mooringRepository.findById(entityId).orElseThrow(() -> new ResourceNotFoundException(String.format("No mooring found with the given id: %1$s", entityId)));
+            List<Image> imageList = (null != mooring.getImageList()) ? mooring.getImageList() : new ArrayList<>();
+            uploadedImageList.forEach(image -> image.setMooring(mooring));
+            imageList.addAll(uploadedImageList);
+            mooring.setImageList(imageList);
+            mooringRepository.save(mooring);
+        } else if(StringUtils.equals(entity, AppConstants.EntityConstants.USER)) {
+            final User user = userRepository.findById(entityId).orElseThrow(() -> new ResourceNotFoundException(String.format("No user found with the given id: %1$s", entityId)));
+            final Image uploadedImage = uploadedImageList.get(0);
+            final Image image = (null != user.getImage()) ? user.getImage() : Image.builder().build();
+            image.setImageName(uploadedImage.getImageName());
+            image.setNote(uploadedImage.getNote());
+            image.setBlobKey(uploadedImage.getBlobKey());
+            image.setBlobSize(uploadedImage.getBlobSize());
+            image.setContentType(uploadedImage.getContentType());
+            if(null == image.getCreationDate()) image.setCreationDate(uploadedImage.getCreationDate());
+            image.setLastModifiedDate(uploadedImage.getLastModifiedDate());
+            image.setUser(user);
+            imageRepository.save(image);
+            final UserDto userDto = userMapper.mapToUserDto(UserDto.builder().build(), user);
+            final ImageDto imageDto = imageVariantService.setDownloadUrls(imageMapper.toDto(ImageDto.builder().build(), image));
+            userDto.setImageDto(imageDto);
+            response.setContent(userDto);
+            response.setMessage(String.format("Image uploaded successfully for the user with id: %1$s", entityId));
+            response.setStatus(HttpStatus.OK.value());
+        } else {
+            throw new RuntimeException(String.format("Given entity: %1$s is not authorized to have images", entity));
+        }
+    }
+
     private Image uploadImageToEntity(MultipleImageRequestDto multipleImageRequestDto, Image image) throws IOException {
         try {
             if(image == null) image = Image.builder().build();
@@ -111,7 +178,7 @@ public class ImageServiceImpl implements ImageService {
             if(imageRequestDtoList.size() > 1) throw new RuntimeException("Multiple images to upload");
             final ImageRequestDto imageRequestDto = imageRequestDtoList.get(0);
             if(null == imageRequestDto.getImageData()) throw new RuntimeException("No image data provided");
-            image.setImageData(ImageUtils.validateEncodedString(imageRequestDto.getImageData()));
+            blobContentHelper.store(image, ImageUtils.validateEncodedString(imageRequestDto.getImageData()));
         } catch (Exception e) {
             throw e;
         }
@@ -145,7 +212,7 @@ public class ImageServiceImpl implements ImageService {
                     imageResponseDtoList = mapToImageResponseDtoList(imageList);
                 }
             } else {
-                throw new RuntimeException(String.format("Given entity: %1$s is not authorized to have images"));
+                throw new RuntimeException(String.format("Given entity: %1$s is not authorized to have images", entity));
             }
 
             response.setContent(imageResponseDtoList);
@@ -220,7 +287,7 @@ public class ImageServiceImpl implements ImageService {
 
                 mooringRepository.save(mooring);
             } else {
-                throw new RuntimeException(String.format("Given entity: %1$s is not authorized to have images"));
+                throw new RuntimeException(String.format("Given entity: %1$s is not authorized to have images", entity));
             }
 
             response.setMessage("Images edited successfully");
@@ -238,32 +305,12 @@ public class ImageServiceImpl implements ImageService {
         BasicRestResponse response = BasicRestResponse.builder().build();
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
-            final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
-            final User user;
-
-            if(StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.TECHNICIAN)){
-                final User technicianUser = userRepository.findUserByIdWithoutImage(LoggedInUserUtil.getLoggedInUserID())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No technician user found with the given id: %1$s", LoggedInUserUtil.getLoggedInUserID())));
-
-                user = userRepository.findUserByIdWithoutImage(technicianUser.getCustomerOwnerId())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No customer owner user found with the given id: %1$s", technicianUser.getCustomerOwnerId())));
-
-            } else {
-                user = authorizationUtil.checkAuthority(customerOwnerId);
-            }
-
-            Image image = imageRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException(String.format("No image found with the given id: %1$s", id)));
-            log.info(String.format("Downloading image with id: %1$s", id));
-
-            if(null != image.getCustomerOwnerUser() && ObjectUtils.notEqual(user.getId(), image.getCustomerOwnerUser().getId())) {
-                log.error(String.format("Image with id: %1$s is associated with other user", id));
-                throw new RuntimeException(String.format("Image with id: %1$s is associated with other user", id));
-            }
+            final Image image = downloadImage(id, request);
 
             ImageResponseDto imageResponseDto = imageMapper.toResponseDto(ImageResponseDto.builder().build(), image);
+            imageVariantService.setDownloadUrls(imageResponseDto);
 
-            String encodedData = Base64.getEncoder().encodeToString(image.getImageData());
-            imageResponseDto.setEncodedData(encodedData);
+            imageResponseDto.setEncodedData(blobContentHelper.encode(blobContentHelper.read(image)));
 
             response.setContent(imageResponseDto);
             response.setMessage(String.format("Image with the id: %1$s fetched successfully", id));
@@ -275,6 +322,33 @@ public class ImageServiceImpl implements ImageService {
         return response;
     }
 
+    @Override
+    public Image downloadImage(Integer id, HttpServletRequest request) {
+        final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+        final User user;
+
+        if(StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.TECHNICIAN)){
+            final User technicianUser = userRepository.findUserByIdWithoutImage(LoggedInUserUtil.getLoggedInUserID())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No technician user found with the given id: %1$s", LoggedInUserUtil.getLoggedInUserID())));
+
+            user = userRepository.findUserByIdWithoutImage(technicianUser.getCustomerOwnerId())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No customer owner user found with the given id: %1$s", technicianUser.getCustomerOwnerId())));
+
+        } else {
+            user = authorizationUtil.checkAuthority(customerOwnerId);
+        }
+
+        Image image = imageRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException(String.format("No image found with the given id: %1$s", id)));
+        log.info(String.format("Downloading image with id: %1$s", id));
+
+        if(null != image.getCustomerOwnerUser() && ObjectUtils.notEqual(user.getId(), image.getCustomerOwnerUser().getId())) {
+            log.error(String.format("Image with id: %1$s is associated with other user", id));
+            throw new RuntimeException(String.format("Image with id: %1$s is associated with other user", id));
+        }
+
+        return image;
+    }
+
     @Override
     public BasicRestResponse deleteImage(Integer id, HttpServletRequest request) {
         BasicRestResponse response = BasicRestResponse.builder().build();
@@ -330,7 +404,7 @@ public class ImageServiceImpl implements ImageService {
                 if(null == imageRequestDto.getImageName()) throw new RuntimeException(String.format("No name provided for image at number: %1$s", imageNumber));
                 if(null == imageRequestDto.getImageData()) throw new RuntimeException(String.format("No image provided for: %1$s", imageRequestDto.getImageName()));
 
-                image.setImageData(ImageUtils.validateEncodedString(imageRequestDto.getImageData()));
+                blobContentHelper.store(image, ImageUtils.validateEncodedString(imageRequestDto.getImageData()));
                 image.setCreationDate(new Date(System.currentTimeMillis()));
                 image.setLastModifiedDate(new Date(System.currentTimeMillis()));
                 imageList.add(image);
@@ -345,6 +419,7 @@ public class ImageServiceImpl implements ImageService {
         List<ImageResponseDto> imageResponseDtoList = new ArrayList<>();
         for(Image image: imageList) {
             ImageResponseDto imageResponseDto = imageMapper.toResponseDto(ImageResponseDto.builder().build(), image);
+            imageVariantService.setDownloadUrls(imageResponseDto);
             imageResponseDtoList.add(imageResponseDto);
         }
         return imageResponseDtoList;
@@ -0,0 +1,195 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.enums.ImageVariant;
+import com.marinamooringmanagement.model.dto.ImageDto;
+import com.marinamooringmanagement.model.entity.Image;
+import com.marinamooringmanagement.model.response.ImageResponseDto;
+import com.marinamooringmanagement.service.BlobStore;
+import com.marinamooringmanagement.service.ImageVariantService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class ImageVariantServiceImpl implements ImageVariantService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantServiceImpl.class);
+
+    private static final String DOWNLOAD_URL = "/api/v1/image/downloadImage/%1$s";
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Value("${image.variant.jpeg.quality}")
+    private float jpegQuality;
+
+    private final Map<ImageVariant, Integer> variantSizes = new EnumMap<>(ImageVariant.class);
+
+    private final VariantCache variantCache;
+
+    public ImageVariantServiceImpl(@Value("${image.variant.thumb.size}") final int thumbSize,
+                                   @Value("${image.variant.medium.size}") final int mediumSize,
+                                   @Value("${image.variant.cache.max-size}") final DataSize cacheMaxSize) {
+        variantSizes.put(ImageVariant.THUMB, thumbSize);
+        variantSizes.put(ImageVariant.MEDIUM, mediumSize);
+        variantCache = new VariantCache(cacheMaxSize.toBytes());
+    }
+
+    @Override
+    public byte[] fetchVariant(final Image image, final ImageVariant variant) {
+        final String blobKey = image.getBlobKey();
+        if (null == blobKey) return null;
+
+        final String cacheKey = blobKey + "." + variant.getVariantName();
+        byte[] data = variantCache.get(cacheKey);
+        if (null != data) return data;
+
+        data = blobStore.readVariant(blobKey, variant.getVariantName());
+        if (null == data) {
+            data = generate(blobKey, variantSizes.get(variant));
+            if (null == data) return null;
+            blobStore.putVariant(blobKey, variant.getVariantName(), data);
+            log.debug(String.format("Generated %1$s variant of image with id: %2$s", variant.getVariantName(), image.getId()));
+        }
+        variantCache.put(cacheKey, data);
+        return data;
+    }
+
+    @Override
+    public ImageResponseDto setDownloadUrls(final ImageResponseDto imageResponseDto) {
+        if (null == imageResponseDto.getId()) return imageResponseDto;
+        imageResponseDto.setUrl(downloadUrl(imageResponseDto.getId(), null));
+        imageResponseDto.setThumbUrl(downloadUrl(imageResponseDto.getId(), ImageVariant.THUMB));
+        imageResponseDto.setMediumUrl(downloadUrl(imageResponseDto.getId(), ImageVariant.MEDIUM));
+        return imageResponseDto;
+    }
+
+    @Override
+    public ImageDto setDownloadUrls(final ImageDto imageDto) {
+        if (null == imageDto.getId()) return imageDto;
+        imageDto.setUrl(downloadUrl(imageDto.getId(), null));
+        imageDto.setThumbUrl(downloadUrl(imageDto.getId(), ImageVariant.THUMB));
+        imageDto.setMediumUrl(downloadUrl(imageDto.getId(), ImageVariant.MEDIUM));
+        return imageDto;
+    }
+
+    private static String downloadUrl(final Integer id, final ImageVariant variant) {
+        final String url = String.format(DOWNLOAD_URL, id);
+        return null == variant ? url : url + "?variant=" + variant.getVariantName();
+    }
+
+    /**
+     * Decodes the original with source subsampling, so a 12 megapixel photo is never fully rasterized for a
+     * thumbnail, scales it to fit into {@code maxSize} and re-encodes it as JPEG.
+     */
+    private byte[] generate(final String blobKey, final int maxSize) {
+        try (InputStream inputStream = blobStore.open(blobKey);
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            final Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) return null;
+
+            final ImageReader reader = readers.next();
+            final BufferedImage source;
+            try {
+                reader.setInput(imageInputStream, true, true);
+                final int longerEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                final int subsampling = Math.max(1, longerEdge / (2 * maxSize));
+                final ImageReadParam readParam = reader.getDefaultReadParam();
+                readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                source = reader.read(0, readParam);
+            } finally {
+                reader.dispose();
+            }
+
+            final double scale = Math.min(1d, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+            final int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+            final int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+            final BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            final Graphics2D graphics = target.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                // JPEG has no alpha channel, transparent areas become white
+                graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            return encodeJpeg(target);
+        } catch (IOException e) {
+            log.error(String.format("Error occurred while generating variant of blob %1$s: %2$s", blobKey, e.getLocalizedMessage()));
+            return null;
+        }
+    }
+
+    private byte[] encodeJpeg(final BufferedImage image) throws IOException {
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            final ImageWriteParam writeParam = writer.getDefaultWriteParam();
+            writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            writeParam.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), writeParam);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * LRU cache of variant bytes bounded by their total size.
+     */
+    private static class VariantCache {
+
+        private final long maxBytes;
+
+        private long totalBytes;
+
+        private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        VariantCache(final long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized byte[] get(final String key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(final String key, final byte[] data) {
+            if (data.length > maxBytes) return;
+            final byte[] previous = entries.put(key, data);
+            if (null != previous) totalBytes -= previous.length;
+            totalBytes += data.length;
+
+            final Iterator<byte[]> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+    }
+}
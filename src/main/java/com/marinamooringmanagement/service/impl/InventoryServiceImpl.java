@@ -13,11 +13,11 @@ import com.marinamooringmanagement.model.response.BasicRestResponse;
 import com.marinamooringmanagement.model.response.InventoryResponseDto;
 import com.marinamooringmanagement.model.response.VendorResponseDto;
 import com.marinamooringmanagement.repositories.InventoryRepository;
-import com.marinamooringmanagement.repositories.metadata.InventoryTypeRepository;
 import com.marinamooringmanagement.repositories.UserRepository;
 import com.marinamooringmanagement.repositories.VendorRepository;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.MetadataRegistry;
 import com.marinamooringmanagement.service.InventoryService;
 import com.marinamooringmanagement.utils.ConversionUtils;
 import com.marinamooringmanagement.utils.SortUtils;
@@ -61,15 +61,15 @@ public class InventoryServiceImpl implements InventoryService {
     @Autowired
     private InventoryRepository inventoryRepository;
 
-    @Autowired
-    private InventoryTypeRepository inventoryTypeRepository;
-
     @Autowired
     private VendorMapper vendorMapper;
 
     @Autowired
     private AuthorizationUtil authorizationUtil;
 
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
     private static final Logger log = LoggerFactory.getLogger(InventoryServiceImpl.class);
 
     @Override
@@ -275,7 +275,7 @@ public class InventoryServiceImpl implements InventoryService {
             }
 
             if (null != inventoryRequestDto.getInventoryTypeId()) {
-                Optional<InventoryType> optionalInventoryType = inventoryTypeRepository.findById(inventoryRequestDto.getInventoryTypeId());
+                Optional<InventoryType> optionalInventoryType = metadataRegistry.findById(InventoryType.class, inventoryRequestDto.getInventoryTypeId());
                 if (optionalInventoryType.isEmpty())
                     throw new RuntimeException(String.format("No inventory type found with the given id: %1$s", inventoryRequestDto.getInventoryTypeId()));
                 final InventoryType inventoryType = optionalInventoryType.get();
@@ -0,0 +1,229 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.model.entity.metadata.*;
+import com.marinamooringmanagement.repositories.PennantConditionRepository;
+import com.marinamooringmanagement.repositories.WorkOrderPayStatusRepository;
+import com.marinamooringmanagement.repositories.metadata.*;
+import com.marinamooringmanagement.service.MetadataRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Service
+public class MetadataRegistryImpl implements MetadataRegistry {
+
+    @Autowired
+    private BoatTypeRepository boatTypeRepository;
+
+    @Autowired
+    private BottomChainConditionRepository bottomChainConditionRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CustomerTypeRepository customerTypeRepository;
+
+    @Autowired
+    private EyeConditionRepository eyeConditionRepository;
+
+    @Autowired
+    private InventoryTypeRepository inventoryTypeRepository;
+
+    @Autowired
+    private MooringDueServiceStatusRepository mooringDueServiceStatusRepository;
+
+    @Autowired
+    private MooringStatusRepository mooringStatusRepository;
+
+    @Autowired
+    private PaymentTypeRepository paymentTypeRepository;
+
+    @Autowired
+    private PennantConditionRepository pennantConditionRepository;
+
+    @Autowired
+    private ServiceAreaTypeRepository serviceAreaTypeRepository;
+
+    @Autowired
+    private ShackleSwivelConditionRepository shackleSwivelConditionRepository;
+
+    @Autowired
+    private SizeOfWeightRepository sizeOfWeightRepository;
+
+    @Autowired
+    private StateRepository stateRepository;
+
+    @Autowired
+    private TopChainConditionRepository topChainConditionRepository;
+
+    @Autowired
+    private TypeOfWeightRepository typeOfWeightRepository;
+
+    @Autowired
+    private WorkOrderInvoiceStatusRepository workOrderInvoiceStatusRepository;
+
+    @Autowired
+    private WorkOrderPayStatusRepository workOrderPayStatusRepository;
+
+    @Autowired
+    private WorkOrderStatusRepository workOrderStatusRepository;
+
+    private static final Logger log = LoggerFactory.getLogger(MetadataRegistryImpl.class);
+
+    private final Map<Class<?>, Table<?>> tables = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Snapshot<?>> snapshots = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> List<T> findAll(final Class<T> type) {
+        return snapshot(type).all();
+    }
+
+    @Override
+    public <T> Page<T> findAll(final Class<T> type, final Pageable pageable) {
+        final List<T> all = snapshot(type).all();
+        final int start = (int) Math.min(pageable.getOffset(), all.size());
+        final int end = Math.min(start + pageable.getPageSize(), all.size());
+        return new PageImpl<>(all.subList(start, end), pageable, all.size());
+    }
+
+    @Override
+    public <T> Optional<T> findById(final Class<T> type, final Integer id) {
+        if (null == id) return Optional.empty();
+        return Optional.ofNullable(snapshot(type).byId().get(id));
+    }
+
+    @Override
+    public <T> Optional<T> findByName(final Class<T> type, final String name) {
+        if (null == name) return Optional.empty();
+        return Optional.ofNullable(snapshot(type).byName().get(name));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void refresh(final Class<?> type) {
+        final Table<?> table = table(type);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            load(table);
+            return;
+        }
+        // reload once the write is visible to other transactions, each table once however many rows were written
+        Set<Table<?>> pending = (Set<Table<?>>) TransactionSynchronizationManager.getResource(this);
+        if (null == pending) {
+            final Set<Table<?>> written = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, written);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    written.forEach(MetadataRegistryImpl.this::load);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MetadataRegistryImpl.this);
+                }
+            });
+            pending = written;
+        }
+        pending.add(table);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${metadata.registry.refresh.interval}")
+    public void refreshAll() {
+        for (Table<?> table : tables.values()) {
+            try {
+                load(table);
+            } catch (Exception e) {
+                // keep serving the previous snapshot
+                log.error(String.format("Error occurred while loading metadata table %1$s: %2$s", table.type().getSimpleName(), e.getLocalizedMessage()));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Snapshot<T> snapshot(final Class<T> type) {
+        Snapshot<T> snapshot = (Snapshot<T>) snapshots.get(type);
+        if (null == snapshot) snapshot = load(table(type));
+        return snapshot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Table<T> table(final Class<T> type) {
+        final Table<T> table = (Table<T>) tables.get(type);
+        if (null == table) throw new IllegalArgumentException(String.format("%1$s is not a metadata table", type.getSimpleName()));
+        return table;
+    }
+
+    private <T> Snapshot<T> load(final Table<T> table) {
+        final List<T> rows = table.loader().get();
+        final Map<Integer, T> byId = new LinkedHashMap<>();
+        final Map<String, T> byName = new LinkedHashMap<>();
+        for (T row : rows) {
+            byId.put(table.id().apply(row), row);
+            final String name = table.name().apply(row);
+            if (null != name) byName.putIfAbsent(name, row);
+        }
+        final Snapshot<T> snapshot = new Snapshot<>(List.copyOf(rows), Map.copyOf(byId), Map.copyOf(byName));
+        snapshots.put(table.type(), snapshot);
+        log.debug(String.format("Loaded %1$s rows of metadata table %2$s", rows.size(), table.type().getSimpleName()));
+        return snapshot;
+    }
+
+    @PostConstruct
+    public void registerTables() {
+        register(BoatType.class, boatTypeRepository, BoatType::getId, BoatType::getBoatType);
+        register(BottomChainCondition.class, bottomChainConditionRepository, BottomChainCondition::getId, BottomChainCondition::getCondition);
+        // the snapshots are used outside of any session, countries are loaded with their states and states with their country
+        register(Country.class, () -> countryRepository.findAllWithStates(), Country::getId, Country::getName);
+        register(CustomerType.class, customerTypeRepository, CustomerType::getId, CustomerType::getType);
+        register(EyeCondition.class, eyeConditionRepository, EyeCondition::getId, EyeCondition::getCondition);
+        register(InventoryType.class, inventoryTypeRepository, InventoryType::getId, InventoryType::getType);
+        register(MooringDueServiceStatus.class, mooringDueServiceStatusRepository, MooringDueServiceStatus::getId, MooringDueServiceStatus::getStatus);
+        register(MooringStatus.class, mooringStatusRepository, MooringStatus::getId, MooringStatus::getStatus);
+        register(PaymentType.class, paymentTypeRepository, PaymentType::getId, PaymentType::getType);
+        register(PennantCondition.class, pennantConditionRepository, PennantCondition::getId, PennantCondition::getCondition);
+        register(ServiceAreaType.class, serviceAreaTypeRepository, ServiceAreaType::getId, ServiceAreaType::getType);
+        register(ShackleSwivelCondition.class, shackleSwivelConditionRepository, ShackleSwivelCondition::getId, ShackleSwivelCondition::getCondition);
+        register(SizeOfWeight.class, sizeOfWeightRepository, SizeOfWeight::getId, SizeOfWeight::getWeight);
+        register(State.class, () -> stateRepository.findAllWithCountry(), State::getId, State::getName);
+        register(TopChainCondition.class, topChainConditionRepository, TopChainCondition::getId, TopChainCondition::getCondition);
+        register(TypeOfWeight.class, typeOfWeightRepository, TypeOfWeight::getId, TypeOfWeight::getType);
+        register(WorkOrderInvoiceStatus.class, workOrderInvoiceStatusRepository, WorkOrderInvoiceStatus::getId, WorkOrderInvoiceStatus::getStatus);
+        register(WorkOrderPayStatus.class, workOrderPayStatusRepository, WorkOrderPayStatus::getId, WorkOrderPayStatus::getStatus);
+        register(WorkOrderStatus.class, workOrderStatusRepository, WorkOrderStatus::getId, WorkOrderStatus::getStatus);
+    }
+
+    private <T> void register(final Class<T> type, final JpaRepository<T, Integer> repository,
+                              final Function<T, Integer> id, final Function<T, String> name) {
+        register(type, () -> repository.findAll(Sort.by("id")), id, name);
+    }
+
+    private <T> void register(final Class<T> type, final Supplier<List<T>> loader,
+                              final Function<T, Integer> id, final Function<T, String> name) {
+        tables.putIfAbsent(type, new Table<>(type, loader, id, name));
+    }
+
+    private record Table<T>(Class<T> type, Supplier<List<T>> loader,
+                            Function<T, Integer> id, Function<T, String> name) {
+    }
+
+    private record Snapshot<T>(List<T> all, Map<Integer, T> byId, Map<String, T> byName) {
+    }
+}
@@ -14,6 +14,7 @@ import com.marinamooringmanagement.repositories.*;
 import com.marinamooringmanagement.repositories.metadata.*;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.MetadataRegistry;
 import com.marinamooringmanagement.service.MetadataService;
 import com.marinamooringmanagement.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -33,33 +34,6 @@ import java.util.Optional;
 
 @Service
 public class MetadataServiceImpl implements MetadataService {
-    @Autowired
-    private MooringStatusRepository mooringStatusRepository;
-
-    @Autowired
-    private BoatTypeRepository boatTypeRepository;
-
-    @Autowired
-    private SizeOfWeightRepository sizeOfWeightRepository;
-
-    @Autowired
-    private TypeOfWeightRepository typeOfWeightRepository;
-
-    @Autowired
-    private TopChainConditionRepository topChainConditionRepository;
-
-    @Autowired
-    private EyeConditionRepository eyeConditionRepository;
-
-    @Autowired
-    private BottomChainConditionRepository bottomChainConditionRepository;
-
-    @Autowired
-    private ShackleSwivelConditionRepository shackleSwivelConditionRepository;
-
-    @Autowired
-    private PennantConditionRepository pennantConditionRepository;
-
     @Autowired
     private CustomerRepository customerRepository;
 
@@ -99,9 +73,6 @@ public class MetadataServiceImpl implements MetadataService {
     @Autowired
     private PennantConditionMapper pennantConditionMapper;
 
-    @Autowired
-    private InventoryTypeRepository inventoryTypeRepository;
-
     @Autowired
     private InventoryTypeMapper inventoryTypeMapper;
 
@@ -123,24 +94,15 @@ public class MetadataServiceImpl implements MetadataService {
     @Autowired
     private MooringServiceImpl mooringServiceImpl;
 
-    @Autowired
-    private WorkOrderStatusRepository workOrderStatusRepository;
-
     @Autowired
     private WorkOrderStatusMapper workOrderStatusMapper;
 
     @Autowired
     private UserMapper userMapper;
 
-    @Autowired
-    private CustomerTypeRepository customerTypeRepository;
-
     @Autowired
     private CustomerTypeMapper customerTypeMapper;
 
-    @Autowired
-    private ServiceAreaTypeRepository serviceAreaTypeRepository;
-
     @Autowired
     private ServiceAreaTypeMapper serviceAreaTypeMapper;
 
@@ -150,9 +112,6 @@ public class MetadataServiceImpl implements MetadataService {
     @Autowired
     private QuickbookCustomerRepository quickbookCustomerRepository;
 
-    @Autowired
-    private PaymentTypeRepository paymentTypeRepository;
-
     @Autowired
     private PaymentTypeMapper paymentTypeMapper;
 
@@ -171,6 +130,9 @@ public class MetadataServiceImpl implements MetadataService {
     @Autowired
     private InventoryRepository inventoryRepository;
 
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
     @Override
     public BasicRestResponse fetchMooringStatus(BaseSearchRequest baseSearchRequest) {
         Page<MooringStatus> content = null;
@@ -178,7 +140,7 @@ public class MetadataServiceImpl implements MetadataService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
 
-            content = mooringStatusRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(MooringStatus.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<MooringStatusDto> mooringStatusDtoList = content
                     .getContent()
@@ -203,7 +165,7 @@ public class MetadataServiceImpl implements MetadataService {
         BasicRestResponse response = BasicRestResponse.builder().build();
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
-            content = boatTypeRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(BoatType.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<BoatTypeDto> boatTypeDtoList = content
                     .getContent()
@@ -228,7 +190,7 @@ public class MetadataServiceImpl implements MetadataService {
         BasicRestResponse response = BasicRestResponse.builder().build();
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
-            content = sizeOfWeightRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(SizeOfWeight.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<SizeOfWeightDto> sizeOfWeightDtoList = content
                     .getContent()
@@ -254,7 +216,7 @@ public class MetadataServiceImpl implements MetadataService {
         BasicRestResponse response = BasicRestResponse.builder().build();
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
-            content = typeOfWeightRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(TypeOfWeight.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<TypeOfWeightDto> typeOfWeightDtoList = content
                     .getContent()
@@ -280,7 +242,7 @@ public class MetadataServiceImpl implements MetadataService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
 
-            content = topChainConditionRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(TopChainCondition.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<TopChainConditionDto> topChainConditionDtoList = content
                     .getContent()
@@ -306,7 +268,7 @@ public class MetadataServiceImpl implements MetadataService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
 
-            content = eyeConditionRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(EyeCondition.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<EyeConditionDto> eyeConditionDtoList = content
                     .getContent()
@@ -332,7 +294,7 @@ public class MetadataServiceImpl implements MetadataService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
 
-            content = bottomChainConditionRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(BottomChainCondition.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<BottomChainConditionDto> bottomChainConditionDtoList = content
                     .getContent()
@@ -359,7 +321,7 @@ public class MetadataServiceImpl implements MetadataService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
 
-            content = shackleSwivelConditionRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(ShackleSwivelCondition.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<ShackleSwivelConditionDto> shackleSwivelConditionDtoList = content
                     .getContent()
@@ -450,7 +412,7 @@ public class MetadataServiceImpl implements MetadataService {
         BasicRestResponse response = BasicRestResponse.builder().build();
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
-            content = inventoryTypeRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(InventoryType.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<InventoryTypeDto> inventoryTypeDtoList = content
                     .getContent()
@@ -782,7 +744,7 @@ public class MetadataServiceImpl implements MetadataService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
 
-            content = workOrderStatusRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(WorkOrderStatus.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<WorkOrderStatusDto> workOrderStatusDtoList;
             workOrderStatusDtoList = content
@@ -811,7 +773,7 @@ public class MetadataServiceImpl implements MetadataService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
 
-            content = customerTypeRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(CustomerType.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<CustomerTypeDto> customerTypeDtoList = content
                     .getContent()
@@ -838,7 +800,7 @@ public class MetadataServiceImpl implements MetadataService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
 
-            content = serviceAreaTypeRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(ServiceAreaType.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<ServiceAreaTypeDto> serviceAreaTypeDtoList = content
                     .getContent()
@@ -928,7 +890,7 @@ public class MetadataServiceImpl implements MetadataService {
         BasicRestResponse response = BasicRestResponse.builder().build();
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
-            content = paymentTypeRepository.findAll(PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
+            content = metadataRegistry.findAll(PaymentType.class, PageRequest.of(baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize()));
 
             List<PaymentTypeDto> paymentTypeDtoList = content
                     .getContent()
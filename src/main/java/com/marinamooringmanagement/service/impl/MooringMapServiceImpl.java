@@ -0,0 +1,210 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.model.dto.MooringLocation;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.MooringWithGPSCoordinateResponse;
+import com.marinamooringmanagement.repositories.MooringRepository;
+import com.marinamooringmanagement.security.util.AuthorizationUtil;
+import com.marinamooringmanagement.service.MooringMapService;
+import com.marinamooringmanagement.utils.GPSUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+@Service
+public class MooringMapServiceImpl implements MooringMapService {
+
+    // half the circumference of the earth, no two points are farther apart
+    private static final double MAX_DISTANCE_IN_METERS = Math.PI * GPSUtil.EARTH_RADIUS_IN_METERS;
+
+    @Autowired
+    private MooringRepository mooringRepository;
+
+    @Autowired
+    private AuthorizationUtil authorizationUtil;
+
+    private final int maxResults;
+
+    private final double nearestInitialRadius;
+
+    public MooringMapServiceImpl(@Value("${mooring.map.max-results}") final int maxResults,
+                                 @Value("${mooring.map.nearest.initial-radius}") final double nearestInitialRadius) {
+        this.maxResults = maxResults;
+        this.nearestInitialRadius = nearestInitialRadius;
+    }
+
+    @Override
+    public BasicRestResponse fetchMooringsInViewport(final Double minLatitude, final Double minLongitude,
+                                                     final Double maxLatitude, final Double maxLongitude,
+                                                     final HttpServletRequest request) {
+        return respond(request, "Moorings in the viewport fetched successfully.",
+                user -> findInViewport(user.getId(), minLatitude, minLongitude, maxLatitude, maxLongitude));
+    }
+
+    @Override
+    public BasicRestResponse fetchNearestMoorings(final Double latitude, final Double longitude, final Integer count,
+                                                  final HttpServletRequest request) {
+        return respond(request, "Nearest moorings fetched successfully.",
+                user -> findNearest(user.getId(), latitude, longitude, count));
+    }
+
+    @Override
+    public BasicRestResponse fetchMooringsWithinRadius(final Double latitude, final Double longitude, final Double radiusInMeters,
+                                                       final HttpServletRequest request) {
+        return respond(request, "Moorings within the radius fetched successfully.",
+                user -> findWithinRadius(user.getId(), latitude, longitude, radiusInMeters));
+    }
+
+    @Override
+    public List<MooringWithGPSCoordinateResponse> findInViewport(final Integer customerOwnerId,
+                                                                 final double minLatitude, final double minLongitude,
+                                                                 final double maxLatitude, final double maxLongitude) {
+        checkPoint(minLatitude, minLongitude);
+        checkPoint(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude)
+            throw new RuntimeException(String.format("Minimum latitude: %1$s is greater than maximum latitude: %2$s", minLatitude, maxLatitude));
+
+        final List<MooringLocation> locations = findInBox(minLatitude, minLongitude, maxLatitude, maxLongitude,
+                (boxMinLatitude, boxMaxLatitude, boxMinLongitude, boxMaxLongitude) -> mooringRepository.findLocationsInBox(
+                        customerOwnerId, boxMinLatitude, boxMaxLatitude, boxMinLongitude, boxMaxLongitude, PageRequest.of(0, maxResults)));
+        return locations.stream()
+                .limit(maxResults)
+                .map(location -> toResponse(location, null))
+                .toList();
+    }
+
+    @Override
+    public List<MooringWithGPSCoordinateResponse> findNearest(final Integer customerOwnerId, final double latitude,
+                                                              final double longitude, final int count) {
+        checkPoint(latitude, longitude);
+        if (count < 1 || count > maxResults)
+            throw new RuntimeException(String.format("Count: %1$s is not between 1 and %2$s", count, maxResults));
+
+        // every mooring outside the radius is farther away than every mooring inside it
+        double radius = nearestInitialRadius;
+        List<MooringWithGPSCoordinateResponse> moorings;
+        do {
+            moorings = withinRadius(customerOwnerId, latitude, longitude, radius, count);
+            radius *= 4;
+        } while (moorings.size() < count && radius < 4 * MAX_DISTANCE_IN_METERS);
+        return moorings.subList(0, Math.min(count, moorings.size()));
+    }
+
+    @Override
+    public List<MooringWithGPSCoordinateResponse> findWithinRadius(final Integer customerOwnerId, final double latitude,
+                                                                   final double longitude, final double radiusInMeters) {
+        checkPoint(latitude, longitude);
+        if (radiusInMeters <= 0)
+            throw new RuntimeException(String.format("Radius: %1$s is not positive", radiusInMeters));
+
+        return withinRadius(customerOwnerId, latitude, longitude, radiusInMeters, maxResults);
+    }
+
+    /**
+     * Selects the nearest moorings in the box around the circle and keeps those within the radius, nearest first.
+     * At most {@code limit} moorings are read from each box, and returned.
+     */
+    private List<MooringWithGPSCoordinateResponse> withinRadius(final Integer customerOwnerId, final double latitude,
+                                                                final double longitude, final double radiusInMeters,
+                                                                final int limit) {
+        final double angularRadius = Math.min(radiusInMeters, MAX_DISTANCE_IN_METERS) / GPSUtil.EARTH_RADIUS_IN_METERS;
+        final double deltaLatitude = Math.toDegrees(angularRadius);
+        final double minLatitude = latitude - deltaLatitude;
+        final double maxLatitude = latitude + deltaLatitude;
+
+        double minLongitude = -180;
+        double maxLongitude = 180;
+        // a circle around a pole, or too large to be bounded by longitudes, spans all longitudes
+        if (minLatitude > -90 && maxLatitude < 90) {
+            final double sinDeltaLongitude = Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude));
+            if (sinDeltaLongitude < 1 && angularRadius < Math.PI / 2) {
+                final double deltaLongitude = Math.toDegrees(Math.asin(sinDeltaLongitude));
+                minLongitude = longitude - deltaLongitude;
+                maxLongitude = longitude + deltaLongitude;
+                if (minLongitude < -180) minLongitude += 360;
+                if (maxLongitude > 180) maxLongitude -= 360;
+            }
+        }
+
+        final List<MooringWithGPSCoordinateResponse> moorings = new ArrayList<>();
+        final List<MooringLocation> locations = findInBox(Math.max(-90, minLatitude), minLongitude, Math.min(90, maxLatitude), maxLongitude,
+                (boxMinLatitude, boxMaxLatitude, boxMinLongitude, boxMaxLongitude) -> mooringRepository.findNearestLocationsInBox(
+                        customerOwnerId, boxMinLatitude, boxMaxLatitude, boxMinLongitude, boxMaxLongitude, latitude, longitude, PageRequest.of(0, limit)));
+        for (MooringLocation location : locations) {
+            final double distance = GPSUtil.distanceInMeters(latitude, longitude, location.getLatitude(), location.getLongitude());
+            if (distance <= radiusInMeters) moorings.add(toResponse(location, distance));
+        }
+        moorings.sort(Comparator.comparing(MooringWithGPSCoordinateResponse::getDistanceInMeters));
+        return moorings.subList(0, Math.min(limit, moorings.size()));
+    }
+
+    /**
+     * A box crossing the antimeridian is queried as the two boxes on either side of it, so both stay ranges on
+     * the index.
+     */
+    private List<MooringLocation> findInBox(final double minLatitude, final double minLongitude,
+                                            final double maxLatitude, final double maxLongitude, final BoxQuery query) {
+        if (minLongitude <= maxLongitude)
+            return query.find(minLatitude, maxLatitude, minLongitude, maxLongitude);
+
+        final List<MooringLocation> locations = new ArrayList<>(query.find(minLatitude, maxLatitude, minLongitude, 180d));
+        locations.addAll(query.find(minLatitude, maxLatitude, -180d, maxLongitude));
+        return locations;
+    }
+
+    private MooringWithGPSCoordinateResponse toResponse(final MooringLocation location, final Double distanceInMeters) {
+        return MooringWithGPSCoordinateResponse.builder()
+                .id(location.getId())
+                .mooringNumber(location.getMooringNumber())
+                .gpsCoordinates(location.getGpsCoordinates())
+                .statusId(location.getStatusId())
+                .latitude(location.getLatitude())
+                .longitude(location.getLongitude())
+                .distanceInMeters(distanceInMeters)
+                .build();
+    }
+
+    private void checkPoint(final double latitude, final double longitude) {
+        if (!GPSUtil.isValidLatitude(latitude))
+            throw new RuntimeException(String.format("Latitude: %1$s is not valid", latitude));
+        if (!GPSUtil.isValidLongitude(longitude))
+            throw new RuntimeException(String.format("Longitude: %1$s is not valid", longitude));
+    }
+
+    private BasicRestResponse respond(final HttpServletRequest request, final String message,
+                                      final Function<User, List<MooringWithGPSCoordinateResponse>> query) {
+        final BasicRestResponse response = BasicRestResponse.builder().build();
+        response.setTime(new Timestamp(System.currentTimeMillis()));
+        try {
+            final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+            final User user = authorizationUtil.checkAuthority(customerOwnerId);
+
+            final List<MooringWithGPSCoordinateResponse> moorings = query.apply(user);
+            response.setContent(moorings);
+            response.setCurrentSize(moorings.size());
+            response.setMessage(message);
+            response.setStatus(HttpStatus.OK.value());
+        } catch (Exception e) {
+            response.setMessage(e.getLocalizedMessage());
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        return response;
+    }
+
+    @FunctionalInterface
+    private interface BoxQuery {
+
+        List<MooringLocation> find(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude);
+    }
+}
@@ -1,9 +1,11 @@
 package com.marinamooringmanagement.service.impl;
 
+import com.marinamooringmanagement.constants.enums.EntityEnum;
 import com.marinamooringmanagement.constants.AppConstants;
 import com.marinamooringmanagement.exception.DBOperationException;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
 import com.marinamooringmanagement.exception.handler.GlobalExceptionHandler;
+import com.marinamooringmanagement.helper.BlobContentHelper;
 import com.marinamooringmanagement.mapper.*;
 import com.marinamooringmanagement.mapper.metadata.MooringStatusMapper;
 import com.marinamooringmanagement.model.dto.ImageDto;
@@ -17,8 +19,14 @@ import com.marinamooringmanagement.model.request.MooringRequestDto;
 import com.marinamooringmanagement.repositories.metadata.*;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.ImageVariantService;
+import com.marinamooringmanagement.service.DashboardStatisticsService;
+import com.marinamooringmanagement.service.MetadataRegistry;
 import com.marinamooringmanagement.service.MooringService;
+import com.marinamooringmanagement.service.SearchDocumentService;
+import com.marinamooringmanagement.service.SearchSuggestService;
 import com.marinamooringmanagement.utils.DateUtil;
+import com.marinamooringmanagement.utils.GPSCoordinateParser;
 import com.marinamooringmanagement.utils.GPSUtil;
 import com.marinamooringmanagement.utils.ImageUtils;
 import com.marinamooringmanagement.utils.SortUtils;
@@ -61,40 +69,31 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
     private MooringMapper mooringMapper;
 
     @Autowired
-    private MooringRepository mooringRepository;
-
-    @Autowired
-    private BoatyardRepository boatyardRepository;
+    private BlobContentHelper blobContentHelper;
 
     @Autowired
-    private CustomerRepository customerRepository;
-
-    @Autowired
-    private CustomerMapper customerMapper;
-
-    @Autowired
-    private MooringStatusMapper mooringStatusMapper;
+    private ImageVariantService imageVariantService;
 
     @Autowired
-    private MooringStatusRepository mooringStatusRepository;
+    private MooringRepository mooringRepository;
 
     @Autowired
-    private BoatTypeRepository boatTypeRepository;
+    private DashboardStatisticsService dashboardStatisticsService;
 
     @Autowired
-    private TypeOfWeightRepository typeOfWeightRepository;
+    private BoatyardRepository boatyardRepository;
 
     @Autowired
-    private TopChainConditionRepository topChainConditionRepository;
+    private CustomerRepository customerRepository;
 
     @Autowired
-    private EyeConditionRepository eyeConditionRepository;
+    private CustomerMapper customerMapper;
 
     @Autowired
-    private BottomChainConditionRepository bottomChainConditionRepository;
+    private MooringStatusMapper mooringStatusMapper;
 
     @Autowired
-    private ShackleSwivelConditionRepository shackleSwivelConditionRepository;
+    private MetadataRegistry metadataRegistry;
 
     @Autowired
     private LoggedInUserUtil loggedInUserUtil;
@@ -108,9 +107,6 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
     @Autowired
     private AuthorizationUtil authorizationUtil;
 
-    @Autowired
-    private CustomerTypeRepository customerTypeRepository;
-
     @Autowired
     private UserMapper userMapper;
 
@@ -126,6 +122,12 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private SearchDocumentService searchDocumentService;
+
+    @Autowired
+    private SearchSuggestService searchSuggestService;
+
     /**
      * Fetches a list of moorings based on the provided search request parameters and search text.
      *
@@ -184,7 +186,7 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
                         if (null != mooring.getImageList() && !mooring.getImageList().isEmpty()) {
                             mooringResponseDto.setImageDtoList(mooring.getImageList()
                                     .stream()
-                                    .map(image -> imageMapper.toDto(ImageDto.builder().build(), image))
+                                    .map(image -> imageVariantService.setDownloadUrls(imageMapper.toDto(ImageDto.builder().build(), image)))
                                     .toList());
                         }
                         return mooringResponseDto;
@@ -311,7 +313,9 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
                 customerRepository.save(customer);
             }
 
+            dashboardStatisticsService.record(dashboardStatisticsService.countersOf(savedMooring), List.of());
             mooringRepository.deleteById(id);
+            searchSuggestService.remove(EntityEnum.MOORING, id);
             Optional<Mooring> optionalMooringAfterDeleteOperation = mooringRepository.findById(id);
             final String message = optionalMooringAfterDeleteOperation.isEmpty() ? String.format("Mooring with id %1$s deleted successfully", id) : String.format("Failed to delete mooring with the given id %1$s", id);
             response.setMessage(message);
@@ -357,7 +361,7 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
             if (null != mooring.getImageList() && !mooring.getImageList().isEmpty()) {
                 mooringResponseDto.setImageDtoList(mooring.getImageList()
                         .stream()
-                        .map(image -> imageMapper.toDto(ImageDto.builder().build(), image))
+                        .map(image -> imageVariantService.setDownloadUrls(imageMapper.toDto(ImageDto.builder().build(), image)))
                         .toList());
             }
 
@@ -381,11 +385,10 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
             final int customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
             final User user = authorizationUtil.checkAuthority(customerOwnerId);
 
-            long currentMonthMooringCount;
-            long previousMonthMooringCount;
+            final DashboardStatisticsResponseDto dashboardStatisticsResponseDto = dashboardStatisticsService.fetchStatistics(user.getId());
 
-            currentMonthMooringCount = mooringRepository.getCurrentMonthMooringCount(user.getId());
-            previousMonthMooringCount = mooringRepository.getPreviousMonthMooringCount(user.getId());
+            final long currentMonthMooringCount = dashboardStatisticsResponseDto.getMooringCount();
+            final long previousMonthMooringCount = dashboardStatisticsResponseDto.getMooringsCreatedLastMonth();
 
             if (previousMonthMooringCount == 0) {
                 response.setContent(100);
@@ -424,6 +427,7 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
             if (id == null) mooring.setCreationDate(new Date(System.currentTimeMillis()));
 
             final Mooring initialMooring = copyMooring(mooring);
+            final List<DashboardStatisticsService.CounterKey> counterKeysBefore = dashboardStatisticsService.countersOf(mooring);
 
             Optional<Mooring> optionalMooring;
             if (null != mooringRequestDto.getMooringNumber() && !mooringRequestDto.getMooringNumber().isBlank()) {
@@ -456,7 +460,7 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
                     if (null == imageRequestDto.getImageData())
                         throw new RuntimeException(String.format("No image provided for: %1$s", imageRequestDto.getImageName()));
 
-                    image.setImageData(ImageUtils.validateEncodedString(imageRequestDto.getImageData()));
+                    blobContentHelper.store(image, ImageUtils.validateEncodedString(imageRequestDto.getImageData()));
                     image.setCreationDate(new Date(System.currentTimeMillis()));
                     image.setLastModifiedDate(new Date(System.currentTimeMillis()));
                     image.setMooring(mooring);
@@ -492,8 +496,10 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
             }
 
             if (null != mooringRequestDto.getGpsCoordinates() && !mooringRequestDto.getGpsCoordinates().isEmpty()) {
-                final String gpsCoordinates = GPSUtil.getGpsCoordinates(mooringRequestDto.getGpsCoordinates());
-                mooring.setGpsCoordinates(gpsCoordinates);
+                final long gpsCoordinates = GPSUtil.parseGpsCoordinates(mooringRequestDto.getGpsCoordinates());
+                mooring.setGpsCoordinates(GPSCoordinateParser.format(gpsCoordinates));
+                mooring.setLatitude(GPSCoordinateParser.latitude(gpsCoordinates));
+                mooring.setLongitude(GPSCoordinateParser.longitude(gpsCoordinates));
             }
 
             Optional<Customer> optionalCustomer;
@@ -506,7 +512,7 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
                 if (!customer.getUser().getId().equals((customerOwnerId == -1) ? loggedInUserUtil.getLoggedInUserID() : customerOwnerId))
                     throw new RuntimeException(String.format("Customer with the id: %1$s is associated with some other customer owner", mooringRequestDto.getCustomerId()));
 
-                final CustomerType customerType = customerTypeRepository.findByType(AppConstants.CustomerTypeConstants.DOCK);
+                final CustomerType customerType = metadataRegistry.findByName(CustomerType.class, AppConstants.CustomerTypeConstants.DOCK).orElse(null);
                 if (null != mooringRequestDto.getAddDock() && mooringRequestDto.getAddDock())
                     customer.setCustomerType(customerType);
             } else {
@@ -540,48 +546,48 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
             }
 
             if (null != mooringRequestDto.getStatusId()) {
-                final MooringStatus mooringStatus = mooringStatusRepository.findById(mooringRequestDto.getStatusId())
+                final MooringStatus mooringStatus = metadataRegistry.findById(MooringStatus.class, mooringRequestDto.getStatusId())
                         .orElseThrow(() -> new ResourceNotFoundException(String.format("No status found with the given id: %1$s", mooringRequestDto.getStatusId())));
 
                 mooring.setMooringStatus(mooringStatus);
             }
 
             if (null != mooringRequestDto.getBoatTypeId()) {
-                Optional<BoatType> optionalBoatType = boatTypeRepository.findById(mooringRequestDto.getBoatTypeId());
+                Optional<BoatType> optionalBoatType = metadataRegistry.findById(BoatType.class, mooringRequestDto.getBoatTypeId());
                 if (optionalBoatType.isEmpty())
                     throw new ResourceNotFoundException(String.format("No boat type found with the given id: %1$s", mooringRequestDto.getBoatTypeId()));
                 mooring.setBoatType(optionalBoatType.get());
             }
 
             if (null != mooringRequestDto.getTypeOfWeightId()) {
-                Optional<TypeOfWeight> optionalTypeOfWeight = typeOfWeightRepository.findById(mooringRequestDto.getTypeOfWeightId());
+                Optional<TypeOfWeight> optionalTypeOfWeight = metadataRegistry.findById(TypeOfWeight.class, mooringRequestDto.getTypeOfWeightId());
                 if (optionalTypeOfWeight.isEmpty())
                     throw new ResourceNotFoundException(String.format("No Type of weight found with the given id: %1$s", mooringRequestDto.getTypeOfWeightId()));
                 mooring.setTypeOfWeight(optionalTypeOfWeight.get());
             }
 
             if (null != mooringRequestDto.getEyeConditionId()) {
-                Optional<EyeCondition> optionalEyeCondition = eyeConditionRepository.findById(mooringRequestDto.getEyeConditionId());
+                Optional<EyeCondition> optionalEyeCondition = metadataRegistry.findById(EyeCondition.class, mooringRequestDto.getEyeConditionId());
                 if (optionalEyeCondition.isEmpty())
                     throw new ResourceNotFoundException(String.format("No Eye condition found with the given id: %1$s", mooringRequestDto.getEyeConditionId()));
                 mooring.setEyeCondition(optionalEyeCondition.get());
             }
 
             if (null != mooringRequestDto.getTopChainConditionId()) {
-                Optional<TopChainCondition> optionalTopChainCondition = topChainConditionRepository.findById(mooringRequestDto.getTopChainConditionId());
+                Optional<TopChainCondition> optionalTopChainCondition = metadataRegistry.findById(TopChainCondition.class, mooringRequestDto.getTopChainConditionId());
                 if (optionalTopChainCondition.isEmpty())
                     throw new ResourceNotFoundException(String.format("No Top chain condition found with the given id: %1$s", mooringRequestDto.getTopChainConditionId()));
                 mooring.setTopChainCondition(optionalTopChainCondition.get());
             }
 
             if (null != mooringRequestDto.getBottomChainConditionId()) {
-                Optional<BottomChainCondition> optionalBottomChainCondition = bottomChainConditionRepository.findById(mooringRequestDto.getBottomChainConditionId());
+                Optional<BottomChainCondition> optionalBottomChainCondition = metadataRegistry.findById(BottomChainCondition.class, mooringRequestDto.getBottomChainConditionId());
                 if (optionalBottomChainCondition.isEmpty())
                     throw new ResourceNotFoundException(String.format("No Bottom chain condition found with the given id: %1$s", mooringRequestDto.getBottomChainConditionId()));
                 mooring.setBottomChainCondition(optionalBottomChainCondition.get());
             }
             if (null != mooringRequestDto.getShackleSwivelConditionId()) {
-                Optional<ShackleSwivelCondition> optionalShackleSwivelCondition = shackleSwivelConditionRepository.findById(mooringRequestDto.getShackleSwivelConditionId());
+                Optional<ShackleSwivelCondition> optionalShackleSwivelCondition = metadataRegistry.findById(ShackleSwivelCondition.class, mooringRequestDto.getShackleSwivelConditionId());
                 if (optionalShackleSwivelCondition.isEmpty())
                     throw new ResourceNotFoundException(String.format("No Shackle swivel condition found with the given id: %1$s", mooringRequestDto.getShackleSwivelConditionId()));
                 mooring.setShackleSwivelCondition(optionalShackleSwivelCondition.get());
@@ -591,6 +597,9 @@ public class MooringServiceImpl extends GlobalExceptionHandler implements Moorin
 
             Mooring savedMooring = mooringRepository.save(mooring);
             Mooring finalSavedMooring = savedMooring;
+            dashboardStatisticsService.record(counterKeysBefore, dashboardStatisticsService.countersOf(savedMooring));
+            searchDocumentService.index(savedMooring);
+            searchSuggestService.update(savedMooring);
 
             if(null != mooring.getMooringStatus() && !StringUtils.equals(mooring.getMooringStatus().getStatus(), AppConstants.Status.GEAR_OFF)) {
                 mooring.setBoatyard(null);
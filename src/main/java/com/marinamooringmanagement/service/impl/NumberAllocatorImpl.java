@@ -0,0 +1,116 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.model.entity.NumberSequence;
+import com.marinamooringmanagement.repositories.NumberSequenceRepository;
+import com.marinamooringmanagement.service.NumberAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class NumberAllocatorImpl implements NumberAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(NumberAllocatorImpl.class);
+
+    public static final String WORK_ORDER_SEQUENCE = "work_order_number";
+
+    @Autowired
+    private NumberSequenceRepository numberSequenceRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int blockSize;
+
+    private final long initialValue;
+
+    private final String workOrderNumberFormat;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public NumberAllocatorImpl(final PlatformTransactionManager transactionManager,
+                               @Value("${number.allocator.block-size}") final int blockSize,
+                               @Value("${number.allocator.initial-value}") final long initialValue,
+                               @Value("${work-order.number.prefix}") final String workOrderNumberPrefix,
+                               @Value("${work-order.number.width}") final int workOrderNumberWidth) {
+        // blocks are reserved in their own transaction, the row lock must not be held until the caller commits
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+        this.initialValue = initialValue;
+        this.workOrderNumberFormat = workOrderNumberPrefix.replace("%", "%%") + "%0" + workOrderNumberWidth + "d";
+    }
+
+    @Override
+    public String nextWorkOrderNumber() {
+        return String.format(workOrderNumberFormat, next(WORK_ORDER_SEQUENCE));
+    }
+
+    @Override
+    public long next(final String sequenceName) {
+        final Block block = blocks.computeIfAbsent(sequenceName, name -> new Block());
+        synchronized (block) {
+            if (block.next >= block.end) {
+                block.next = reserve(sequenceName);
+                block.end = block.next + blockSize;
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * @return the first number of a newly reserved block
+     */
+    private long reserve(final String sequenceName) {
+        try {
+            return reserveBlock(sequenceName);
+        } catch (DataIntegrityViolationException e) {
+            // another node created the sequence at the same time, it exists now
+            log.debug(String.format("Sequence %1$s created concurrently, reserving again", sequenceName));
+            return reserveBlock(sequenceName);
+        }
+    }
+
+    private long reserveBlock(final String sequenceName) {
+        final Long start = transactionTemplate.execute(status -> {
+            final Date now = new Date(System.currentTimeMillis());
+            final NumberSequence numberSequence = numberSequenceRepository.findByName(sequenceName)
+                    .orElseGet(() -> {
+                        final NumberSequence newNumberSequence = NumberSequence.builder()
+                                .name(sequenceName)
+                                .nextValue(initialValue)
+                                .build();
+                        newNumberSequence.setCreationDate(now);
+                        return newNumberSequence;
+                    });
+
+            final long first = numberSequence.getNextValue();
+            numberSequence.setNextValue(first + blockSize);
+            numberSequence.setLastModifiedDate(now);
+            numberSequenceRepository.saveAndFlush(numberSequence);
+            return first;
+        });
+        if (null == start) throw new RuntimeException(String.format("Unable to reserve numbers of sequence %1$s", sequenceName));
+        log.debug(String.format("Reserved numbers %1$s to %2$s of sequence %3$s", start, start + blockSize - 1, sequenceName));
+        return start;
+    }
+
+    /**
+     * Numbers reserved by this node that have not been handed out yet, {@code next} until {@code end} exclusive.
+     */
+    private static class Block {
+
+        private long next;
+
+        private long end;
+    }
+}
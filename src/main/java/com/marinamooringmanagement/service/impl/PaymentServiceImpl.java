@@ -1,31 +1,24 @@
 package com.marinamooringmanagement.service.impl;
 
-import com.intuit.ipp.data.Error;
-import com.intuit.ipp.data.ReferenceType;
-import com.intuit.ipp.exception.FMSException;
-import com.intuit.ipp.exception.InvalidTokenException;
-import com.intuit.ipp.services.DataService;
-import com.intuit.oauth2.client.OAuth2PlatformClient;
-import com.intuit.oauth2.data.BearerTokenResponse;
-import com.intuit.oauth2.exception.OAuthException;
-import com.marinamooringmanagement.client.OAuth2PlatformClientFactory;
 import com.marinamooringmanagement.constants.AppConstants;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
-import com.marinamooringmanagement.helper.QBOServiceHelper;
 import com.marinamooringmanagement.mapper.PaymentMapper;
 import com.marinamooringmanagement.model.entity.*;
 import com.marinamooringmanagement.model.entity.QBO.QBOUser;
 import com.marinamooringmanagement.model.entity.metadata.PaymentType;
 import com.marinamooringmanagement.model.request.PaymentRequestDto;
 import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.PaymentResponseDto;
 import com.marinamooringmanagement.repositories.PaymentRepository;
 import com.marinamooringmanagement.repositories.QBO.QBOUserRepository;
 import com.marinamooringmanagement.repositories.UserRepository;
 import com.marinamooringmanagement.repositories.WorkOrderInvoiceRepository;
-import com.marinamooringmanagement.repositories.metadata.PaymentTypeRepository;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.MetadataRegistry;
+import com.marinamooringmanagement.service.DashboardStatisticsService;
 import com.marinamooringmanagement.service.PaymentService;
+import com.marinamooringmanagement.service.QBO.QBOOutboxService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -37,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -49,9 +43,6 @@ public class PaymentServiceImpl implements PaymentService {
     @Autowired
     private PaymentMapper paymentMapper;
 
-    @Autowired
-    private PaymentTypeRepository paymentTypeRepository;
-
     @Autowired
     private WorkOrderInvoiceRepository workOrderInvoiceRepository;
 
@@ -59,16 +50,19 @@ public class PaymentServiceImpl implements PaymentService {
     private PaymentRepository paymentRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private DashboardStatisticsService dashboardStatisticsService;
 
     @Autowired
-    private QBOServiceHelper helper;
+    private UserRepository userRepository;
 
     @Autowired
     private QBOUserRepository qboUserRepository;
 
     @Autowired
-    private OAuth2PlatformClientFactory factory;
+    private QBOOutboxService qboOutboxService;
+
+    @Autowired
+    private MetadataRegistry metadataRegistry;
 
     private static final Logger log = LoggerFactory.getLogger(PaymentServiceImpl.class);
 
@@ -113,20 +107,6 @@ public class PaymentServiceImpl implements PaymentService {
             if (null == quickBookCustomerIdStr)
                 throw new RuntimeException(String.format("Work Order invoice with the id: %1$s is not connected with any Quickbook customer", workOrderInvoiceId));
 
-            com.intuit.ipp.data.Payment payment = new com.intuit.ipp.data.Payment();
-
-            // Set the customer reference
-            ReferenceType customerRef = new ReferenceType();
-            customerRef.setValue(quickBookCustomerIdStr);
-            payment.setCustomerRef(customerRef);
-
-            // Set the total amount
-            payment.setTotalAmt(paymentRequestDto.getAmount());
-
-            ReferenceType paymentMethodRef = new ReferenceType();
-            paymentMethodRef.setValue(paymentRequestDto.getPaymentTypeId().toString());
-            payment.setPaymentMethodRef(paymentMethodRef);
-
             final QBOUser qboUser;
             if(StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.ADMINISTRATOR)) {
                 qboUser = qboUserRepository.findQBOUserByEmail(LoggedInUserUtil.getLoggedInUserEmail())
@@ -136,72 +116,37 @@ public class PaymentServiceImpl implements PaymentService {
                         .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
             }
 
-            String realmId = qboUser.getRealmId();
-            if (StringUtils.isEmpty(realmId)) {
+            if (StringUtils.isEmpty(qboUser.getRealmId())) {
                 throw new RuntimeException("No realm ID. QBO calls only work if the accounting scope was passed!");
             }
-            String accessToken = qboUser.getAccessToken();
 
-            // Save the payment using DataService
-            try {
-                DataService dataService = helper.getDataService(realmId, accessToken);
+            final PaymentType paymentType = metadataRegistry.findById(PaymentType.class, paymentRequestDto.getPaymentTypeId())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No payment type found with the given id: %1$s", paymentRequestDto.getPaymentTypeId())));
 
-                com.intuit.ipp.data.Payment savedPayment = dataService.add(payment);
-
-                final BigDecimal afterOperationInvoiceAmount = workOrderInvoice.getInvoiceAmount().subtract(paymentRequestDto.getAmount());
-
-                workOrderInvoice.setInvoiceAmount(afterOperationInvoiceAmount);
-                workOrderInvoiceRepository.save(workOrderInvoice);
-
-                response.setContent(savedPayment);
-                response.setMessage("Payment saved successfully");
-                response.setStatus(HttpStatus.OK.value());
-
-            } /*
-             * Handle 401 status code -
-             * If a 401 response is received, refresh tokens should be used to get a new access token,
-             * and the API call should be tried again.
-             */ catch (InvalidTokenException e) {
-                log.error("Error while calling executeQuery :: " + e.getMessage());
-
-                //refresh tokens
-                log.info("received 401 during companyinfo call, refreshing tokens now");
-                OAuth2PlatformClient client = factory.getOAuth2PlatformClient();
-                String refreshToken = qboUser.getRefreshToken();
-
-                try {
-                    BearerTokenResponse bearerTokenResponse = client.refreshToken(refreshToken);
+            Payment payment = paymentMapper.mapToEntity(Payment.builder().build(), paymentRequestDto);
+            payment.setCreationDate(new Date(System.currentTimeMillis()));
+            payment.setLastModifiedDate(new Date(System.currentTimeMillis()));
+            payment.setPaymentType(paymentType);
+            payment.setCustomerOwnerUser(user);
+            payment.setWorkOrderInvoice(workOrderInvoice);
+            payment = paymentRepository.save(payment);
 
-                    qboUser.setLastModifiedDate(new Date(System.currentTimeMillis()));
-                    qboUser.setAccessToken(bearerTokenResponse.getAccessToken());
-                    qboUser.setRefreshToken(bearerTokenResponse.getRefreshToken());
+            final List<DashboardStatisticsService.CounterKey> counterKeysBefore = dashboardStatisticsService.countersOf(workOrderInvoice);
+            final BigDecimal afterOperationInvoiceAmount = workOrderInvoice.getInvoiceAmount().subtract(paymentRequestDto.getAmount());
 
-                    qboUserRepository.save(qboUser);
+            workOrderInvoice.setInvoiceAmount(afterOperationInvoiceAmount);
+            workOrderInvoiceRepository.save(workOrderInvoice);
 
-                    //call company info again using new tokens
-                    log.info("Saving payment using new token");
-                    DataService dataService = helper.getDataService(realmId, accessToken);
+            final List<DashboardStatisticsService.CounterKey> counterKeysAfter = new ArrayList<>(dashboardStatisticsService.countersOf(workOrderInvoice));
+            counterKeysAfter.addAll(dashboardStatisticsService.countersOf(payment));
+            dashboardStatisticsService.record(counterKeysBefore, counterKeysAfter);
 
-                    com.intuit.ipp.data.Payment savedPayment = dataService.add(payment);
+            // pushed to Quickbooks by the QBO outbox once this transaction has committed
+            qboOutboxService.enqueuePayment(payment, qboUser, quickBookCustomerIdStr, paymentRequestDto.getAmount(), paymentRequestDto.getPaymentTypeId().toString());
 
-                    response.setContent(savedPayment);
-                    response.setMessage("Payment saved successfully");
-                    response.setStatus(HttpStatus.OK.value());
-                } catch (OAuthException e1) {
-                    log.error("Error while calling bearer token :: " + e.getMessage());
-                    response.setMessage("Error while calling bearer token :: " + e.getMessage());
-                    response.setStatus(HttpStatus.FORBIDDEN.value());
-                } catch (FMSException e1) {
-                    log.error("Error while calling bearer token :: " + e.getMessage());
-                    response.setMessage("Error while calling company currency :: " + e.getMessage());
-                    response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
-                }
-            } catch (FMSException e) {
-                List<Error> list = e.getErrorList();
-                list.forEach(error -> log.error("Error while calling executeQuery :: " + error.getMessage()));
-                response.setMessage("Error while calling executeQuery :: " + e.getMessage());
-                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
-            }
+            response.setContent(paymentMapper.mapToResponseDto(PaymentResponseDto.builder().build(), payment));
+            response.setMessage("Payment saved successfully, it will be saved to Quickbooks shortly");
+            response.setStatus(HttpStatus.OK.value());
         } catch (Exception e) {
             response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
             response.setMessage(e.getMessage());
@@ -234,7 +179,7 @@ public class PaymentServiceImpl implements PaymentService {
             payment = paymentMapper.mapToEntity(payment, paymentRequestDto);
 
             if (null != paymentRequestDto.getPaymentTypeId()) {
-                final PaymentType paymentType = paymentTypeRepository.findById(paymentRequestDto.getPaymentTypeId())
+                final PaymentType paymentType = metadataRegistry.findById(PaymentType.class, paymentRequestDto.getPaymentTypeId())
                         .orElseThrow(() -> new ResourceNotFoundException(String.format("No payment type found with the given id: %1$s", paymentRequestDto.getPaymentTypeId())));
                 payment.setPaymentType(paymentType);
             }
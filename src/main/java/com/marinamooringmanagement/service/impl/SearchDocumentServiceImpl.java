@@ -0,0 +1,204 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.model.entity.Boatyard;
+import com.marinamooringmanagement.model.entity.Customer;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.ServiceArea;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.repositories.BoatyardRepository;
+import com.marinamooringmanagement.repositories.CustomerRepository;
+import com.marinamooringmanagement.repositories.MooringRepository;
+import com.marinamooringmanagement.repositories.UserRepository;
+import com.marinamooringmanagement.repositories.WorkOrderRepository;
+import com.marinamooringmanagement.service.SearchDocumentService;
+import com.marinamooringmanagement.utils.SearchDocumentUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Service
+public class SearchDocumentServiceImpl implements SearchDocumentService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchDocumentServiceImpl.class);
+
+    private static final List<String> TABLES = List.of("work_order", "mooring", "customer", "boatyard", "_user");
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private MooringRepository mooringRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private BoatyardRepository boatyardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private volatile boolean rebuilt;
+
+    public SearchDocumentServiceImpl(final PlatformTransactionManager transactionManager,
+                                     @Value("${search.document.batch-size}") final int batchSize) {
+        // documents are written in the transaction of the caller, or in their own one if there is none
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void index(final WorkOrder workOrder) {
+        if (null == workOrder || null == workOrder.getId()) return;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (update(SearchDocumentUtils.of(workOrder), workOrder.getSearchDocument(), workOrder::setSearchDocument))
+                workOrderRepository.save(workOrder);
+        });
+    }
+
+    @Override
+    public void index(final Mooring mooring) {
+        if (null == mooring || null == mooring.getId()) return;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!update(SearchDocumentUtils.of(mooring), mooring.getSearchDocument(), mooring::setSearchDocument)) return;
+            mooringRepository.save(mooring);
+            workOrderRepository.findAllByMooringId(mooring.getId()).forEach(this::index);
+        });
+    }
+
+    @Override
+    public void index(final Customer customer) {
+        if (null == customer || null == customer.getId()) return;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!update(SearchDocumentUtils.of(customer), customer.getSearchDocument(), customer::setSearchDocument)) return;
+            customerRepository.save(customer);
+            mooringRepository.findAllByCustomerId(customer.getId()).forEach(this::index);
+            workOrderRepository.findAllByCustomerId(customer.getId()).forEach(this::index);
+        });
+    }
+
+    @Override
+    public void index(final Boatyard boatyard) {
+        if (null == boatyard || null == boatyard.getId()) return;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!update(SearchDocumentUtils.of(boatyard), boatyard.getSearchDocument(), boatyard::setSearchDocument)) return;
+            boatyardRepository.save(boatyard);
+            workOrderRepository.findAllByBoatyardId(boatyard.getId()).forEach(this::index);
+        });
+    }
+
+    @Override
+    public void index(final User user) {
+        if (null == user || null == user.getId()) return;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!update(SearchDocumentUtils.of(user), user.getSearchDocument(), user::setSearchDocument)) return;
+            userRepository.save(user);
+            workOrderRepository.findAllByTechnicianUserId(user.getId()).forEach(this::index);
+        });
+    }
+
+    @Override
+    public void index(final ServiceArea serviceArea) {
+        if (null == serviceArea || null == serviceArea.getId()) return;
+        transactionTemplate.executeWithoutResult(status ->
+                mooringRepository.findAllByServiceAreaId(serviceArea.getId()).forEach(this::index));
+    }
+
+    @Override
+    public int backfill() {
+        // the first run rebuilds every document, so documents built by an older version are brought up to date
+        final boolean all = !rebuilt;
+        final int written = this.<WorkOrder>backfill(all ? workOrderRepository::findAllAfterId : workOrderRepository::findAllWithoutSearchDocument,
+                WorkOrder::getId, SearchDocumentUtils::of, WorkOrder::getSearchDocument, WorkOrder::setSearchDocument, workOrderRepository::saveAll)
+                + this.<Mooring>backfill(all ? mooringRepository::findAllAfterId : mooringRepository::findAllWithoutSearchDocument,
+                Mooring::getId, SearchDocumentUtils::of, Mooring::getSearchDocument, Mooring::setSearchDocument, mooringRepository::saveAll)
+                + this.<Customer>backfill(all ? customerRepository::findAllAfterId : customerRepository::findAllWithoutSearchDocument,
+                Customer::getId, SearchDocumentUtils::of, Customer::getSearchDocument, Customer::setSearchDocument, customerRepository::saveAll)
+                + this.<Boatyard>backfill(all ? boatyardRepository::findAllAfterId : boatyardRepository::findAllWithoutSearchDocument,
+                Boatyard::getId, SearchDocumentUtils::of, Boatyard::getSearchDocument, Boatyard::setSearchDocument, boatyardRepository::saveAll)
+                + this.<User>backfill(all ? userRepository::findAllAfterId : userRepository::findAllWithoutSearchDocument,
+                User::getId, SearchDocumentUtils::of, User::getSearchDocument, User::setSearchDocument, userRepository::saveAll);
+        rebuilt = true;
+        return written;
+    }
+
+    @Override
+    public void createIndexes() {
+        final String databaseProductName = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!StringUtils.containsIgnoreCase(databaseProductName, "PostgreSQL")) {
+            log.info(String.format("Trigram indexes are not supported on %1$s, search documents are scanned", databaseProductName));
+            return;
+        }
+
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        for (String table : TABLES) {
+            final String index = String.format("idx_%1$s_search_document", table);
+            // a concurrent build that failed leaves an invalid index behind, which IF NOT EXISTS would keep
+            final List<Boolean> valid = jdbcTemplate.queryForList("SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?", Boolean.class, index);
+            if (valid.contains(Boolean.FALSE)) {
+                log.warn(String.format("Search document index %1$s is invalid, rebuilding it", index));
+                jdbcTemplate.execute(String.format("DROP INDEX CONCURRENTLY IF EXISTS %1$s", index));
+            }
+            // outside of a transaction, so the index is built without blocking writes to the table
+            jdbcTemplate.execute(String.format("CREATE INDEX CONCURRENTLY IF NOT EXISTS %1$s ON %2$s USING gin (search_document gin_trgm_ops)", index, table));
+        }
+    }
+
+    /**
+     * Walks the rows the loader returns in id order, a batch per transaction until a batch comes back short,
+     * and saves the rows whose document differs from the one built now.
+     */
+    private <T> int backfill(final BiFunction<Integer, Pageable, List<T>> loader, final Function<T, Integer> idGetter,
+                             final Function<T, String> builder, final Function<T, String> getter,
+                             final BiConsumer<T, String> setter, final Consumer<List<T>> saver) {
+        int written = 0;
+        Integer afterId = 0;
+        List<T> batch;
+        do {
+            final Integer from = afterId;
+            final List<T> changed = new ArrayList<>();
+            batch = transactionTemplate.execute(status -> {
+                final List<T> loaded = loader.apply(from, PageRequest.of(0, batchSize));
+                loaded.stream()
+                        .filter(entity -> update(builder.apply(entity), getter.apply(entity), document -> setter.accept(entity, document)))
+                        .forEach(changed::add);
+                if (!changed.isEmpty()) saver.accept(changed);
+                return loaded;
+            });
+            if (null == batch || batch.isEmpty()) break;
+            written += changed.size();
+            afterId = idGetter.apply(batch.get(batch.size() - 1));
+        } while (batch.size() == batchSize);
+        return written;
+    }
+
+    private static boolean update(final String document, final String current, final Consumer<String> setter) {
+        if (StringUtils.equals(document, current)) return false;
+        setter.accept(document);
+        return true;
+    }
+}
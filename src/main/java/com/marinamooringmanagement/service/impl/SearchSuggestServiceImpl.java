@@ -0,0 +1,335 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.constants.enums.EntityEnum;
+import com.marinamooringmanagement.model.entity.Boatyard;
+import com.marinamooringmanagement.model.entity.Customer;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.SuggestionResponseDto;
+import com.marinamooringmanagement.repositories.BoatyardRepository;
+import com.marinamooringmanagement.repositories.CustomerRepository;
+import com.marinamooringmanagement.repositories.MooringRepository;
+import com.marinamooringmanagement.repositories.WorkOrderRepository;
+import com.marinamooringmanagement.security.util.AuthorizationUtil;
+import com.marinamooringmanagement.service.SearchSuggestService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+@Service
+public class SearchSuggestServiceImpl implements SearchSuggestService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchSuggestServiceImpl.class);
+
+    // separates the indexed term from the entity key, sorts before every character a term can contain
+    private static final char TERM_SEPARATOR = '\u0000';
+
+    @Autowired
+    private MooringRepository mooringRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private BoatyardRepository boatyardRepository;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private AuthorizationUtil authorizationUtil;
+
+    private final long refreshInterval;
+
+    private final int defaultLimit;
+
+    private final int maxLimit;
+
+    private final Map<Integer, OwnerIndex> indexes = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Loading> loadings = new ConcurrentHashMap<>();
+
+    public SearchSuggestServiceImpl(@Value("${search.suggest.refresh-interval}") final long refreshInterval,
+                                    @Value("${search.suggest.default-limit}") final int defaultLimit,
+                                    @Value("${search.suggest.max-limit}") final int maxLimit) {
+        this.refreshInterval = refreshInterval;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public BasicRestResponse fetchSuggestions(final String searchText, final Integer limit, final HttpServletRequest request) {
+        final BasicRestResponse response = BasicRestResponse.builder().build();
+        response.setTime(new Timestamp(System.currentTimeMillis()));
+        try {
+            final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+            final User user = authorizationUtil.checkAuthority(customerOwnerId);
+
+            response.setContent(suggest(user.getId(), searchText, null == limit ? defaultLimit : Math.min(limit, maxLimit)));
+            response.setMessage("Suggestions fetched successfully.");
+            response.setStatus(HttpStatus.OK.value());
+        } catch (Exception e) {
+            response.setMessage(e.getLocalizedMessage());
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        return response;
+    }
+
+    @Override
+    public List<SuggestionResponseDto> suggest(final Integer customerOwnerId, final String searchText, final int limit) {
+        final String prefix = normalize(searchText);
+        if (null == customerOwnerId || prefix.isEmpty() || limit <= 0) return List.of();
+        return indexOf(customerOwnerId).find(prefix, limit);
+    }
+
+    @Override
+    public void update(final Mooring mooring) {
+        if (null == mooring || null == mooring.getId() || null == mooring.getUser()) return;
+        put(mooring.getUser().getId(), mooringEntry(mooring.getId(), mooring.getMooringNumber(), mooring.getBoatName()));
+    }
+
+    @Override
+    public void update(final Customer customer) {
+        if (null == customer || null == customer.getId() || null == customer.getUser()) return;
+        put(customer.getUser().getId(), customerEntry(customer.getId(), customer.getFirstName(), customer.getLastName(), customer.getCustomerId()));
+    }
+
+    @Override
+    public void update(final Boatyard boatyard) {
+        if (null == boatyard || null == boatyard.getId() || null == boatyard.getUser()) return;
+        put(boatyard.getUser().getId(), boatyardEntry(boatyard.getId(), boatyard.getBoatyardName(), boatyard.getBoatyardId()));
+    }
+
+    @Override
+    public void update(final WorkOrder workOrder) {
+        if (null == workOrder || null == workOrder.getId() || null == workOrder.getCustomerOwnerUser()) return;
+        put(workOrder.getCustomerOwnerUser().getId(), workOrderEntry(workOrder.getId(), workOrder.getWorkOrderNumber()));
+    }
+
+    @Override
+    public void remove(final EntityEnum type, final Integer id) {
+        if (null == id) return;
+        final String entityKey = entityKey(type, id);
+        final Consumer<OwnerIndex> change = index -> index.remove(entityKey);
+        afterCommit(() -> {
+            loadings.values().forEach(loading -> loading.record(change));
+            indexes.values().forEach(change);
+        });
+    }
+
+    /**
+     * Only indexes that are loaded or being loaded are updated, an index loaded later reads the change from the
+     * database.
+     */
+    private void put(final Integer customerOwnerId, final Entry entry) {
+        final Consumer<OwnerIndex> change = index -> index.put(entry);
+        afterCommit(() -> {
+            final Loading loading = loadings.get(customerOwnerId);
+            if (null != loading) loading.record(change);
+            final OwnerIndex index = indexes.get(customerOwnerId);
+            if (null != index) change.accept(index);
+        });
+    }
+
+    /**
+     * Loads the index of a customer owner when it is missing or due for a refresh. The database is read outside of
+     * any lock, one request per customer owner loads while the others wait for it, or keep using the index being
+     * refreshed. Changes committed during the load are recorded and applied to the new index before it is used.
+     */
+    private OwnerIndex indexOf(final Integer customerOwnerId) {
+        final OwnerIndex index = indexes.get(customerOwnerId);
+        if (null != index && System.currentTimeMillis() - index.loadedAt < refreshInterval) return index;
+
+        final Loading loading = new Loading();
+        final Loading running = loadings.putIfAbsent(customerOwnerId, loading);
+        if (null != running) return null != index ? index : running.result.join();
+        try {
+            final OwnerIndex loaded = load(customerOwnerId);
+            loading.install(customerOwnerId, loaded, indexes);
+            return loaded;
+        } catch (RuntimeException e) {
+            loading.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadings.remove(customerOwnerId, loading);
+        }
+    }
+
+    private OwnerIndex load(final Integer customerOwnerId) {
+        final long start = System.currentTimeMillis();
+        final OwnerIndex index = new OwnerIndex(start);
+        mooringRepository.findSuggestions(customerOwnerId)
+                .forEach(row -> index.put(mooringEntry((Integer) row[0], (String) row[1], (String) row[2])));
+        customerRepository.findSuggestions(customerOwnerId)
+                .forEach(row -> index.put(customerEntry((Integer) row[0], (String) row[1], (String) row[2], (String) row[3])));
+        boatyardRepository.findSuggestions(customerOwnerId)
+                .forEach(row -> index.put(boatyardEntry((Integer) row[0], (String) row[1], (String) row[2])));
+        workOrderRepository.findSuggestions(customerOwnerId)
+                .forEach(row -> index.put(workOrderEntry((Integer) row[0], (String) row[1])));
+        log.debug(String.format("Loaded the suggestion index of customer owner %1$s with %2$s terms in %3$s ms",
+                customerOwnerId, index.terms.size(), System.currentTimeMillis() - start));
+        return index;
+    }
+
+    private static Entry mooringEntry(final Integer id, final String mooringNumber, final String boatName) {
+        final String label = StringUtils.isBlank(boatName) ? mooringNumber : mooringNumber + " - " + boatName;
+        return new Entry(EntityEnum.MOORING, id, label, mooringNumber, boatName);
+    }
+
+    private static Entry customerEntry(final Integer id, final String firstName, final String lastName, final String customerId) {
+        final String label = StringUtils.trimToEmpty(StringUtils.defaultString(firstName) + " " + StringUtils.defaultString(lastName));
+        return new Entry(EntityEnum.CUSTOMER, id, label, label, customerId);
+    }
+
+    private static Entry boatyardEntry(final Integer id, final String boatyardName, final String boatyardId) {
+        return new Entry(EntityEnum.BOATYARD, id, boatyardName, boatyardName, boatyardId);
+    }
+
+    private static Entry workOrderEntry(final Integer id, final String workOrderNumber) {
+        return new Entry(EntityEnum.WORK_ORDER, id, workOrderNumber, workOrderNumber);
+    }
+
+    private static String entityKey(final EntityEnum type, final Integer id) {
+        return type.name() + ":" + id;
+    }
+
+    private static String normalize(final String value) {
+        return null == value ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    /**
+     * An indexed entity. Every value is indexed as a whole and by each of its words, so "lake" finds the
+     * boatyard "Silver Lake Marina" and "silver l" finds it too.
+     */
+    private record Entry(EntityEnum type, Integer id, String label, String... values) {
+
+        Set<String> terms() {
+            final Set<String> terms = new LinkedHashSet<>();
+            for (String value : values) {
+                final String normalized = normalize(value);
+                if (normalized.isEmpty()) continue;
+                terms.add(normalized);
+                for (String word : normalized.split("\\s+")) terms.add(word);
+            }
+            return terms;
+        }
+    }
+
+    /**
+     * An index being loaded, with the changes committed while the database is read.
+     */
+    private static class Loading {
+
+        private final CompletableFuture<OwnerIndex> result = new CompletableFuture<>();
+
+        private final List<Consumer<OwnerIndex>> changes = new ArrayList<>();
+
+        private boolean installed;
+
+        synchronized void record(final Consumer<OwnerIndex> change) {
+            if (!installed) changes.add(change);
+        }
+
+        /**
+         * Applies the recorded changes and installs the index. A change recorded before this is replayed here, a
+         * change made after it finds the index installed.
+         */
+        synchronized void install(final Integer customerOwnerId, final OwnerIndex index, final Map<Integer, OwnerIndex> indexes) {
+            changes.forEach(change -> change.accept(index));
+            changes.clear();
+            indexes.put(customerOwnerId, index);
+            installed = true;
+            result.complete(index);
+        }
+    }
+
+    /**
+     * The terms of the entities of one customer owner in a sorted map, a prefix search is a range scan. Writers
+     * are serialized, readers never block.
+     */
+    static class OwnerIndex {
+
+        private final long loadedAt;
+
+        private final ConcurrentSkipListMap<String, SuggestionResponseDto> terms = new ConcurrentSkipListMap<>();
+
+        private final Map<String, List<String>> termKeysOf = new ConcurrentHashMap<>();
+
+        OwnerIndex(final long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        synchronized void put(final Entry entry) {
+            final String entityKey = entityKey(entry.type(), entry.id());
+            remove(entityKey);
+            if (null == entry.label()) return;
+
+            final SuggestionResponseDto suggestion = SuggestionResponseDto.builder()
+                    .id(entry.id())
+                    .label(entry.label())
+                    .type(entry.type())
+                    .build();
+            final List<String> termKeys = new ArrayList<>();
+            for (String term : entry.terms()) {
+                final String termKey = term + TERM_SEPARATOR + entityKey;
+                terms.put(termKey, suggestion);
+                termKeys.add(termKey);
+            }
+            termKeysOf.put(entityKey, termKeys);
+        }
+
+        synchronized void remove(final String entityKey) {
+            final List<String> termKeys = termKeysOf.remove(entityKey);
+            if (null != termKeys) termKeys.forEach(terms::remove);
+        }
+
+        List<SuggestionResponseDto> find(final String prefix, final int limit) {
+            final ConcurrentNavigableMap<String, SuggestionResponseDto> range = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+            // an entity matching by several terms is suggested once, at its first match
+            final Map<String, SuggestionResponseDto> suggestions = new LinkedHashMap<>();
+            for (Map.Entry<String, SuggestionResponseDto> term : range.entrySet()) {
+                final SuggestionResponseDto suggestion = term.getValue();
+                suggestions.putIfAbsent(entityKey(suggestion.getType(), suggestion.getId()), suggestion);
+                if (suggestions.size() == limit) break;
+            }
+            return new ArrayList<>(suggestions.values());
+        }
+    }
+}
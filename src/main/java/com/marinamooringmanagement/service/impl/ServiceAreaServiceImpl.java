@@ -26,14 +26,14 @@ import com.marinamooringmanagement.repositories.CustomerRepository;
 import com.marinamooringmanagement.repositories.MooringRepository;
 import com.marinamooringmanagement.repositories.ServiceAreaRepository;
 import com.marinamooringmanagement.repositories.UserRepository;
-import com.marinamooringmanagement.repositories.metadata.CountryRepository;
-import com.marinamooringmanagement.repositories.metadata.ServiceAreaTypeRepository;
-import com.marinamooringmanagement.repositories.metadata.StateRepository;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.MetadataRegistry;
 import com.marinamooringmanagement.service.MooringService;
 import com.marinamooringmanagement.service.ServiceAreaService;
+import com.marinamooringmanagement.service.SearchDocumentService;
 import com.marinamooringmanagement.utils.DateUtil;
+import com.marinamooringmanagement.utils.GPSCoordinateParser;
 import com.marinamooringmanagement.utils.GPSUtil;
 import com.marinamooringmanagement.utils.SortUtils;
 import jakarta.persistence.criteria.*;
@@ -65,12 +65,6 @@ public class ServiceAreaServiceImpl implements ServiceAreaService {
     @Autowired
     private ServiceAreaMapper serviceAreaMapper;
 
-    @Autowired
-    private StateRepository stateRepository;
-
-    @Autowired
-    private CountryRepository countryRepository;
-
     @Autowired
     private MooringMapper mooringMapper;
 
@@ -98,15 +92,18 @@ public class ServiceAreaServiceImpl implements ServiceAreaService {
     @Autowired
     private AuthorizationUtil authorizationUtil;
 
-    @Autowired
-    private ServiceAreaTypeRepository serviceAreaTypeRepository;
-
     @Autowired
     private ServiceAreaTypeMapper serviceAreaTypeMapper;
 
     @Autowired
     private BoatyardMapper boatyardMapper;
 
+    @Autowired
+    private SearchDocumentService searchDocumentService;
+
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
     private static final Logger log = LoggerFactory.getLogger(ServiceAreaServiceImpl.class);
 
     @Override
@@ -371,31 +368,34 @@ public class ServiceAreaServiceImpl implements ServiceAreaService {
             serviceArea.setLastModifiedDate(new Date());
 
             if (null != serviceAreaRequestDto.getGpsCoordinates()) {
-                final String gpsCoordinates = GPSUtil.getGpsCoordinates(serviceAreaRequestDto.getGpsCoordinates());
-                serviceArea.setGpsCoordinates(gpsCoordinates);
+                final long gpsCoordinates = GPSUtil.parseGpsCoordinates(serviceAreaRequestDto.getGpsCoordinates());
+                serviceArea.setGpsCoordinates(GPSCoordinateParser.format(gpsCoordinates));
+                serviceArea.setLatitude(GPSCoordinateParser.latitude(gpsCoordinates));
+                serviceArea.setLongitude(GPSCoordinateParser.longitude(gpsCoordinates));
             }
 
             if(null != serviceAreaRequestDto.getServiceAreaTypeId()) {
-                final ServiceAreaType serviceAreaType = serviceAreaTypeRepository.findById(serviceAreaRequestDto.getServiceAreaTypeId())
+                final ServiceAreaType serviceAreaType = metadataRegistry.findById(ServiceAreaType.class, serviceAreaRequestDto.getServiceAreaTypeId())
                         .orElseThrow(() -> new ResourceNotFoundException(String.format("No service area type found with the given id: %1$s", serviceAreaRequestDto.getServiceAreaTypeId())));
                 serviceArea.setServiceAreaType(serviceAreaType);
             }
 
             if (null != serviceAreaRequestDto.getStateId()) {
-                final Optional<State> optionalState = stateRepository.findById(serviceAreaRequestDto.getStateId());
+                final Optional<State> optionalState = metadataRegistry.findById(State.class, serviceAreaRequestDto.getStateId());
                 if (optionalState.isEmpty())
                     throw new ResourceNotFoundException(String.format("No state found with the given Id: %1$s", serviceAreaRequestDto.getStateId()));
                 serviceArea.setState(optionalState.get());
             }
 
             if (null != serviceAreaRequestDto.getCountryId()) {
-                final Optional<Country> optionalCountry = countryRepository.findById(serviceAreaRequestDto.getCountryId());
+                final Optional<Country> optionalCountry = metadataRegistry.findById(Country.class, serviceAreaRequestDto.getCountryId());
                 if (optionalCountry.isEmpty())
                     throw new ResourceNotFoundException(String.format("No country found with the given Id: %1$s", serviceAreaRequestDto.getCountryId()));
                 serviceArea.setCountry(optionalCountry.get());
             }
 
             serviceAreaRepository.save(serviceArea);
+            if (null != id) searchDocumentService.index(serviceArea);
 
             log.info(String.format("Service area saved successfully with ID: %d", serviceArea.getId()));
         } catch (Exception e) {
@@ -0,0 +1,144 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.model.dto.RouteStop;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.RouteStopResponseDto;
+import com.marinamooringmanagement.model.response.TechnicianRouteResponseDto;
+import com.marinamooringmanagement.repositories.WorkOrderRepository;
+import com.marinamooringmanagement.security.util.AuthorizationUtil;
+import com.marinamooringmanagement.service.TechnicianRouteService;
+import com.marinamooringmanagement.utils.DateUtil;
+import com.marinamooringmanagement.utils.GPSUtil;
+import com.marinamooringmanagement.utils.RouteOptimizer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class TechnicianRouteServiceImpl implements TechnicianRouteService {
+
+    private static final Logger log = LoggerFactory.getLogger(TechnicianRouteServiceImpl.class);
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private AuthorizationUtil authorizationUtil;
+
+    private final long timeBudget;
+
+    public TechnicianRouteServiceImpl(@Value("${route.optimizer.time-budget}") final long timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    @Override
+    public BasicRestResponse fetchTechnicianRoute(final Integer technicianId, final String date, final Double startLatitude,
+                                                  final Double startLongitude, final HttpServletRequest request) {
+        final BasicRestResponse response = BasicRestResponse.builder().build();
+        response.setTime(new Timestamp(System.currentTimeMillis()));
+        try {
+            final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+            final User technicianUser = authorizationUtil.checkForTechnician(technicianId, customerOwnerId);
+
+            if (null == startLatitude ^ null == startLongitude)
+                throw new RuntimeException("Start latitude and start longitude must be given together");
+            if (null != startLatitude && (!GPSUtil.isValidLatitude(startLatitude) || !GPSUtil.isValidLongitude(startLongitude)))
+                throw new RuntimeException(String.format("Start point: %1$s %2$s is not valid", startLatitude, startLongitude));
+
+            final Date dayStart = DateUtil.stringToDate(date);
+            final Date dayEnd = new Date(dayStart.getTime() + TimeUnit.DAYS.toMillis(1));
+            final List<RouteStop> stops = workOrderRepository.findRouteStops(technicianId, technicianUser.getCustomerOwnerId(), dayStart, dayEnd);
+
+            final TechnicianRouteResponseDto route = planRoute(stops, startLatitude, startLongitude);
+            route.setTechnicianId(technicianId);
+            route.setDate(date);
+
+            response.setContent(route);
+            response.setCurrentSize(route.getStops().size());
+            response.setMessage("Technician route fetched successfully.");
+            response.setStatus(HttpStatus.OK.value());
+        } catch (Exception e) {
+            response.setMessage(e.getLocalizedMessage());
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        return response;
+    }
+
+    @Override
+    public TechnicianRouteResponseDto planRoute(final List<RouteStop> stops, final Double startLatitude, final Double startLongitude) {
+        final List<RouteStopResponseDto> located = new ArrayList<>();
+        final List<RouteStopResponseDto> unlocated = new ArrayList<>();
+        for (RouteStop stop : stops) {
+            final RouteStopResponseDto stopResponse = toResponse(stop);
+            if (null == stopResponse.getLatitude()) unlocated.add(stopResponse);
+            else located.add(stopResponse);
+        }
+
+        final double[] latitudes = new double[located.size()];
+        final double[] longitudes = new double[located.size()];
+        for (int i = 0; i < located.size(); i++) {
+            latitudes[i] = located.get(i).getLatitude();
+            longitudes[i] = located.get(i).getLongitude();
+        }
+
+        final long start = System.nanoTime();
+        final int[] order = RouteOptimizer.optimize(latitudes, longitudes, startLatitude, startLongitude, timeBudget);
+        log.debug(String.format("Ordered a route of %1$s stops in %2$s ms", order.length, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+
+        final List<RouteStopResponseDto> route = new ArrayList<>();
+        double totalDistance = 0;
+        Double previousLatitude = startLatitude;
+        Double previousLongitude = startLongitude;
+        for (int index : order) {
+            final RouteStopResponseDto stop = located.get(index);
+            final double distance = null == previousLatitude ? 0
+                    : GPSUtil.distanceInMeters(previousLatitude, previousLongitude, stop.getLatitude(), stop.getLongitude());
+            stop.setSequence(route.size() + 1);
+            stop.setDistanceFromPreviousInMeters(distance);
+            totalDistance += distance;
+            route.add(stop);
+            previousLatitude = stop.getLatitude();
+            previousLongitude = stop.getLongitude();
+        }
+
+        return TechnicianRouteResponseDto.builder()
+                .stops(route)
+                .unlocatedStops(unlocated)
+                .totalDistanceInMeters(totalDistance)
+                .build();
+    }
+
+    /**
+     * Moorings saved before their location was stored are located by parsing their GPS coordinates.
+     */
+    private RouteStopResponseDto toResponse(final RouteStop stop) {
+        Double latitude = stop.getLatitude();
+        Double longitude = stop.getLongitude();
+        if (null == latitude || null == longitude) {
+            final double[] location = GPSUtil.toDecimalDegrees(stop.getGpsCoordinates());
+            latitude = null == location ? null : location[0];
+            longitude = null == location ? null : location[1];
+        }
+        return RouteStopResponseDto.builder()
+                .workOrderId(stop.getWorkOrderId())
+                .workOrderNumber(stop.getWorkOrderNumber())
+                .mooringId(stop.getMooringId())
+                .mooringNumber(stop.getMooringNumber())
+                .gpsCoordinates(stop.getGpsCoordinates())
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.marinamooringmanagement.service.impl;
 import com.marinamooringmanagement.constants.AppConstants;
 import com.marinamooringmanagement.exception.DBOperationException;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
+import com.marinamooringmanagement.helper.BlobContentHelper;
 import com.marinamooringmanagement.mapper.RoleMapper;
 import com.marinamooringmanagement.mapper.metadata.CountryMapper;
 import com.marinamooringmanagement.mapper.metadata.StateMapper;
@@ -19,8 +20,6 @@ import com.marinamooringmanagement.repositories.*;
 import com.marinamooringmanagement.mapper.UserMapper;
 import com.marinamooringmanagement.model.request.NewPasswordRequest;
 import com.marinamooringmanagement.model.request.UserRequestDto;
-import com.marinamooringmanagement.repositories.metadata.CountryRepository;
-import com.marinamooringmanagement.repositories.metadata.StateRepository;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.JwtUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
@@ -57,22 +56,22 @@ public class UserServiceImpl implements UserService {
     private TokenRepository tokenRepository;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private BlobContentHelper blobContentHelper;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private ImageVariantService imageVariantService;
 
     @Autowired
-    private UserRepository userRepository;
+    private JwtUtil jwtUtil;
 
     @Autowired
-    private RoleRepository roleRepository;
+    private PasswordEncoder passwordEncoder;
 
     @Autowired
-    private StateRepository stateRepository;
+    private UserRepository userRepository;
 
     @Autowired
-    private CountryRepository countryRepository;
+    private RoleRepository roleRepository;
 
     @Autowired
     private UserMapper mapper;
@@ -116,6 +115,12 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private SearchDocumentService searchDocumentService;
+
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
     /**
      * Fetches a list of users based on the provided search request parameters, customer admin ID, and search text.
      *
@@ -305,6 +310,7 @@ public class UserServiceImpl implements UserService {
                 for (User user : userAssociatedWithCurrCustomerOwner) {
                     List<Token> tokenList = tokenRepository.findByUserId(user.getId());
                     tokenRepository.deleteAll(tokenList);
+                    jwtUtil.revokeTokens(tokenList);
                     user.setDisabled(true);
                     userRepository.save(user);
                 }
@@ -312,7 +318,10 @@ public class UserServiceImpl implements UserService {
 
             //  Tokens assigned with the user(to be deleted) are deleted.
             final List<Token> tokenList = tokenRepository.findByUserId(userId);
-            if (null != tokenList && !tokenList.isEmpty()) tokenRepository.deleteAll(tokenList);
+            if (null != tokenList && !tokenList.isEmpty()) {
+                tokenRepository.deleteAll(tokenList);
+                jwtUtil.revokeTokens(tokenList);
+            }
 
             // deleting the user
             userToBeDeleted.setDisabled(true);
@@ -381,9 +390,8 @@ public class UserServiceImpl implements UserService {
                 if(null != userEntity.getImage()) {
                     final Image image = userEntity.getImage();
                     ImageDto imageDto = ImageDto.builder().build();
-                    if (null != image.getImageData()) imageDto.setImageData(image.getImageData());
                     if (null != image.getId()) imageDto.setId(image.getId());
-                    user.setImageDto(imageDto);
+                    user.setImageDto(imageVariantService.setDownloadUrls(imageDto));
                 }
             }
         }
@@ -620,7 +628,7 @@ public class UserServiceImpl implements UserService {
             //Setting up the image
             if(null != userRequestDto.getEncodedImage()) {
                 final Image image = Image.builder().build();
-                image.setImageData(ImageUtils.validateEncodedString(userRequestDto.getEncodedImage()));
+                blobContentHelper.store(image, ImageUtils.validateEncodedString(userRequestDto.getEncodedImage()));
                 image.setCreationDate(new Date(System.currentTimeMillis()));
                 image.setLastModifiedDate(new Date(System.currentTimeMillis()));
                 image.setUser(user);
@@ -660,7 +668,7 @@ public class UserServiceImpl implements UserService {
 
             //Setting the state if not null
             if (null != userRequestDto.getStateId()) {
-                final Optional<State> optionalState = stateRepository.findById(userRequestDto.getStateId());
+                final Optional<State> optionalState = metadataRegistry.findById(State.class, userRequestDto.getStateId());
                 if (optionalState.isPresent()) {
                     user.setState(optionalState.get());
                 } else {
@@ -670,7 +678,7 @@ public class UserServiceImpl implements UserService {
 
             //Setting the country if not null
             if (null != userRequestDto.getCountryId()) {
-                final Optional<Country> optionalCountry = countryRepository.findById(userRequestDto.getCountryId());
+                final Optional<Country> optionalCountry = metadataRegistry.findById(Country.class, userRequestDto.getCountryId());
                 if (optionalCountry.isPresent()) {
                     user.setCountry(optionalCountry.get());
                 } else {
@@ -679,6 +687,7 @@ public class UserServiceImpl implements UserService {
             }
 
             savedUser = userRepository.save(user);
+            searchDocumentService.index(savedUser);
 
         } catch (Exception e) {
             log.error("Error occurred during perform save method {}", e.getLocalizedMessage());
@@ -15,10 +15,9 @@ import com.marinamooringmanagement.model.response.metadata.CountryResponseDto;
 import com.marinamooringmanagement.model.response.metadata.StateResponseDto;
 import com.marinamooringmanagement.model.response.VendorResponseDto;
 import com.marinamooringmanagement.repositories.*;
-import com.marinamooringmanagement.repositories.metadata.CountryRepository;
-import com.marinamooringmanagement.repositories.metadata.StateRepository;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.MetadataRegistry;
 import com.marinamooringmanagement.service.VendorService;
 import com.marinamooringmanagement.utils.ConversionUtils;
 import com.marinamooringmanagement.utils.PhoneNumberUtil;
@@ -60,12 +59,6 @@ public class VendorServiceImpl implements VendorService {
     @Autowired
     private VendorRepository vendorRepository;
 
-    @Autowired
-    private StateRepository stateRepository;
-
-    @Autowired
-    private CountryRepository countryRepository;
-
     @Autowired
     private UserRepository userRepository;
 
@@ -84,6 +77,9 @@ public class VendorServiceImpl implements VendorService {
     @Autowired
     private InventoryRepository inventoryRepository;
 
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
     /**
      * Fetches a list of vendors based on the provided search request parameters and search text.
      *
@@ -357,7 +353,7 @@ public class VendorServiceImpl implements VendorService {
             }
 
             if (null != vendorRequestDto.getStateId()) {
-                final Optional<State> optionalState = stateRepository.findById(vendorRequestDto.getStateId());
+                final Optional<State> optionalState = metadataRegistry.findById(State.class, vendorRequestDto.getStateId());
                 if (optionalState.isEmpty())
                     throw new ResourceNotFoundException(String.format("No state found with the given Id: %1$s", vendorRequestDto.getStateId()));
                 vendor.setState(optionalState.get());
@@ -366,7 +362,7 @@ public class VendorServiceImpl implements VendorService {
             }
 
             if (null != vendorRequestDto.getCountryId()) {
-                final Optional<Country> optionalCountry = countryRepository.findById(vendorRequestDto.getCountryId());
+                final Optional<Country> optionalCountry = metadataRegistry.findById(Country.class, vendorRequestDto.getCountryId());
                 if (optionalCountry.isEmpty())
                     throw new ResourceNotFoundException(String.format("No country found with the given Id: %1$s", vendorRequestDto.getCountryId()));
                 vendor.setCountry(optionalCountry.get());
@@ -375,7 +371,7 @@ public class VendorServiceImpl implements VendorService {
             }
 
             if (null != vendorRequestDto.getRemitStateId()) {
-                final Optional<State> optionalState = stateRepository.findById(vendorRequestDto.getRemitStateId());
+                final Optional<State> optionalState = metadataRegistry.findById(State.class, vendorRequestDto.getRemitStateId());
                 if (optionalState.isEmpty())
                     throw new ResourceNotFoundException(String.format("No state found with the given Id: %1$s", vendorRequestDto.getRemitStateId()));
                 vendor.setRemitState(optionalState.get());
@@ -384,7 +380,7 @@ public class VendorServiceImpl implements VendorService {
             }
 
             if (null != vendorRequestDto.getRemitCountryId()) {
-                final Optional<Country> optionalCountry = countryRepository.findById(vendorRequestDto.getRemitCountryId());
+                final Optional<Country> optionalCountry = metadataRegistry.findById(Country.class, vendorRequestDto.getRemitCountryId());
                 if (optionalCountry.isEmpty())
                     throw new ResourceNotFoundException(String.format("No country found with the given Id: %1$s", vendorRequestDto.getRemitCountryId()));
                 vendor.setRemitCountry(optionalCountry.get());
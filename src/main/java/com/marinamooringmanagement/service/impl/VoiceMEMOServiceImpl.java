@@ -2,6 +2,7 @@ package com.marinamooringmanagement.service.impl;
 
 import com.marinamooringmanagement.constants.AppConstants;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
+import com.marinamooringmanagement.helper.BlobContentHelper;
 import com.marinamooringmanagement.mapper.VoiceMEMOMapper;
 import com.marinamooringmanagement.model.entity.User;
 import com.marinamooringmanagement.model.entity.VoiceMEMO;
@@ -22,7 +23,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.sql.Timestamp;
-import java.util.Base64;
 
 @Service
 public class VoiceMEMOServiceImpl implements VoiceMEMOService {
@@ -32,6 +32,9 @@ public class VoiceMEMOServiceImpl implements VoiceMEMOService {
     @Autowired
     private VoiceMEMORepository voiceMEMORepository;
 
+    @Autowired
+    private BlobContentHelper blobContentHelper;
+
     @Autowired
     private VoiceMEMOMapper voiceMEMOMapper;
 
@@ -47,32 +50,10 @@ public class VoiceMEMOServiceImpl implements VoiceMEMOService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
 
-            final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
-            final User user;
-
-            if(StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.TECHNICIAN)){
-                final User technicianUser = userRepository.findUserByIdWithoutImage(LoggedInUserUtil.getLoggedInUserID())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No technician user found with the given id: %1$s", LoggedInUserUtil.getLoggedInUserID())));
-
-                user = userRepository.findUserByIdWithoutImage(technicianUser.getCustomerOwnerId())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No customer owner user found with the given id: %1$s", technicianUser.getCustomerOwnerId())));
-
-            } else {
-                user = authorizationUtil.checkAuthority(customerOwnerId);
-            }
-
-            VoiceMEMO voiceMEMO = voiceMEMORepository.findById(id)
-                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No voice MEMO found with the given id: %1$s", id)));
-
-            log.info(String.format("Downloading voice MEMO with id: %1$s", id));
-            if(ObjectUtils.notEqual(user.getId(), voiceMEMO.getUser().getId())) {
-                log.error(String.format("Voice MEMO with id: %1$s is associated with other user", id));
-                throw new RuntimeException(String.format("Voice MEMO with id: %1$s is associated with other user", id));
-            }
+            final VoiceMEMO voiceMEMO = downloadVoiceMEMO(id, request);
 
             VoiceMEMOResponseDto voiceMEMOResponseDto = voiceMEMOMapper.toResponseDto(VoiceMEMOResponseDto.builder().build(), voiceMEMO);
-            String encodedData = Base64.getEncoder().encodeToString(voiceMEMO.getData());
-            voiceMEMOResponseDto.setEncodedData(encodedData);
+            voiceMEMOResponseDto.setEncodedData(blobContentHelper.encode(blobContentHelper.read(voiceMEMO)));
 
             response.setStatus(HttpStatus.OK.value());
             response.setContent(voiceMEMOResponseDto);
@@ -84,6 +65,34 @@ public class VoiceMEMOServiceImpl implements VoiceMEMOService {
         return response;
     }
 
+    @Override
+    public VoiceMEMO downloadVoiceMEMO(Integer id, HttpServletRequest request) {
+        final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+        final User user;
+
+        if(StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.TECHNICIAN)){
+            final User technicianUser = userRepository.findUserByIdWithoutImage(LoggedInUserUtil.getLoggedInUserID())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No technician user found with the given id: %1$s", LoggedInUserUtil.getLoggedInUserID())));
+
+            user = userRepository.findUserByIdWithoutImage(technicianUser.getCustomerOwnerId())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No customer owner user found with the given id: %1$s", technicianUser.getCustomerOwnerId())));
+
+        } else {
+            user = authorizationUtil.checkAuthority(customerOwnerId);
+        }
+
+        VoiceMEMO voiceMEMO = voiceMEMORepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format("No voice MEMO found with the given id: %1$s", id)));
+
+        log.info(String.format("Downloading voice MEMO with id: %1$s", id));
+        if(ObjectUtils.notEqual(user.getId(), voiceMEMO.getUser().getId())) {
+            log.error(String.format("Voice MEMO with id: %1$s is associated with other user", id));
+            throw new RuntimeException(String.format("Voice MEMO with id: %1$s is associated with other user", id));
+        }
+
+        return voiceMEMO;
+    }
+
     @Override
     public BasicRestResponse deleteVoiceMEMO(Integer id, HttpServletRequest request) {
         BasicRestResponse response = BasicRestResponse.builder().build();
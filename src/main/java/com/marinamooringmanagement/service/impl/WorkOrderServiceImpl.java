@@ -1,21 +1,18 @@
 package com.marinamooringmanagement.service.impl;
 
-import com.intuit.ipp.data.*;
 import com.intuit.ipp.exception.AuthenticationException;
-import com.intuit.ipp.exception.FMSException;
-import com.intuit.ipp.exception.InvalidTokenException;
-import com.intuit.ipp.services.DataService;
-import com.intuit.oauth2.client.OAuth2PlatformClient;
-import com.intuit.oauth2.data.BearerTokenResponse;
-import com.intuit.oauth2.exception.OAuthException;
-import com.marinamooringmanagement.client.OAuth2PlatformClientFactory;
+import com.marinamooringmanagement.constants.enums.EntityEnum;
 import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.constants.enums.WorkOrderSortKey;
 import com.marinamooringmanagement.exception.DBOperationException;
+import com.marinamooringmanagement.exception.InvalidPaginationRequestException;
 import com.marinamooringmanagement.exception.MathException;
 import com.marinamooringmanagement.exception.ResourceNotFoundException;
-import com.marinamooringmanagement.helper.QBOServiceHelper;
+import com.marinamooringmanagement.helper.BlobContentHelper;
+import com.marinamooringmanagement.helper.WorkOrderChildrenLoader;
 import com.marinamooringmanagement.mapper.*;
 import com.marinamooringmanagement.mapper.metadata.*;
+import com.marinamooringmanagement.model.dto.MooringDueServiceSummary;
 import com.marinamooringmanagement.model.dto.*;
 import com.marinamooringmanagement.model.dto.metadata.*;
 import com.marinamooringmanagement.model.entity.*;
@@ -30,15 +27,18 @@ import com.marinamooringmanagement.model.response.metadata.CountryResponseDto;
 import com.marinamooringmanagement.model.response.metadata.StateResponseDto;
 import com.marinamooringmanagement.repositories.*;
 import com.marinamooringmanagement.repositories.QBO.QBOUserRepository;
-import com.marinamooringmanagement.repositories.metadata.MooringDueServiceStatusRepository;
-import com.marinamooringmanagement.repositories.metadata.MooringStatusRepository;
-import com.marinamooringmanagement.repositories.metadata.WorkOrderInvoiceStatusRepository;
-import com.marinamooringmanagement.repositories.metadata.WorkOrderStatusRepository;
 import com.marinamooringmanagement.security.exception.AuthorizationException;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.DashboardStatisticsService;
+import com.marinamooringmanagement.service.ImageVariantService;
+import com.marinamooringmanagement.service.MetadataRegistry;
+import com.marinamooringmanagement.service.NumberAllocator;
 import com.marinamooringmanagement.service.NotificationService;
+import com.marinamooringmanagement.service.QBO.QBOOutboxService;
 import com.marinamooringmanagement.service.WorkOrderService;
+import com.marinamooringmanagement.service.SearchDocumentService;
+import com.marinamooringmanagement.service.SearchSuggestService;
 import com.marinamooringmanagement.utils.*;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.ObjectUtils;
@@ -57,6 +57,7 @@ import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -65,9 +66,21 @@ public class WorkOrderServiceImpl implements WorkOrderService {
     @Autowired
     private AuthorizationUtil authorizationUtil;
 
+    @Autowired
+    private BlobContentHelper blobContentHelper;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
     @Autowired
     private WorkOrderRepository workOrderRepository;
 
+    @Autowired
+    private DashboardStatisticsService dashboardStatisticsService;
+
+    @Autowired
+    private NumberAllocator numberAllocator;
+
     @Autowired
     private WorkOrderMapper workOrderMapper;
 
@@ -83,9 +96,6 @@ public class WorkOrderServiceImpl implements WorkOrderService {
     @Autowired
     private UserMapper userMapper;
 
-    @Autowired
-    private WorkOrderStatusRepository workOrderStatusRepository;
-
     @Autowired
     private MooringRepository mooringRepository;
 
@@ -104,21 +114,12 @@ public class WorkOrderServiceImpl implements WorkOrderService {
     @Autowired
     private MooringDueServiceStatusMapper mooringDueServiceStatusMapper;
 
-    @Autowired
-    private MooringDueServiceStatusRepository mooringDueServiceStatusRepository;
-
-    @Autowired
-    private WorkOrderPayStatusRepository workOrderPayStatusRepository;
-
     @Autowired
     private WorkOrderPayStatusMapper workOrderPayStatusMapper;
 
     @Autowired
     private WorkOrderInvoiceRepository workOrderInvoiceRepository;
 
-    @Autowired
-    private WorkOrderInvoiceStatusRepository workOrderInvoiceStatusRepository;
-
     @Autowired
     private WorkOrderInvoiceMapper workOrderInvoiceMapper;
 
@@ -152,14 +153,11 @@ public class WorkOrderServiceImpl implements WorkOrderService {
     @Autowired
     private VendorMapper vendorMapper;
 
-    @Autowired
-    private QBOServiceHelper helper;
-
     @Autowired
     private QBOUserRepository qboUserRepository;
 
     @Autowired
-    private OAuth2PlatformClientFactory factory;
+    private QBOOutboxService qboOutboxService;
 
     @Autowired
     private VoiceMEMORepository voiceMEMORepository;
@@ -167,9 +165,6 @@ public class WorkOrderServiceImpl implements WorkOrderService {
     @Autowired
     private VoiceMEMOMapper voiceMEMOMapper;
 
-    @Autowired
-    private MooringStatusRepository mooringStatusRepository;
-
     @Autowired
     private StateMapper stateMapper;
 
@@ -185,10 +180,24 @@ public class WorkOrderServiceImpl implements WorkOrderService {
     @Autowired
     private BoatyardRepository boatyardRepository;
 
+    @Autowired
+    private WorkOrderChildrenLoader workOrderChildrenLoader;
+
+    @Autowired
+    private MetadataRegistry metadataRegistry;
+
+    @Autowired
+    private SearchDocumentService searchDocumentService;
+
+    @Autowired
+    private SearchSuggestService searchSuggestService;
+
     private static final Logger log = LoggerFactory.getLogger(WorkOrderServiceImpl.class);
 
+    private static final String FORM_DOWNLOAD_URL = "/api/v1/form/downloadForm/%1$s";
+
     @Override
-    public BasicRestResponse fetchWorkOrders(final BaseSearchRequest baseSearchRequest, final String searchText, final String showCompletedWorkOrders, final HttpServletRequest request) {
+    public BasicRestResponse fetchWorkOrders(final BaseSearchRequest baseSearchRequest, final String searchText, final String showCompletedWorkOrders, final String cursor, final HttpServletRequest request) {
         final BasicRestResponse response = BasicRestResponse.builder().build();
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
@@ -199,27 +208,52 @@ public class WorkOrderServiceImpl implements WorkOrderService {
 
             final String loggedInUserRole = LoggedInUserUtil.getLoggedInUserRole();
 
-            final Pageable pageable = PageRequest.of(
-                    baseSearchRequest.getPageNumber(),
-                    baseSearchRequest.getPageSize(),
-                    SortUtils.getSort(baseSearchRequest.getSortBy(), baseSearchRequest.getSortDir()));
-
-            final List<WorkOrder> workOrderList;
+            final boolean technician;
             if (StringUtils.equals(loggedInUserRole, AppConstants.Role.ADMINISTRATOR)
                     || StringUtils.equals(loggedInUserRole, AppConstants.Role.CUSTOMER_OWNER)) {
-                workOrderList = workOrderRepository.findAll((null == searchText) ? "" : searchText, user.getId(), showCompletedWorkOrders);
+                technician = false;
             } else if (StringUtils.equals(loggedInUserRole, AppConstants.Role.TECHNICIAN)) {
-                workOrderList = workOrderRepository.findAllByTechnicianUser((null == searchText) ? "" : searchText, user.getId(), showCompletedWorkOrders);
+                technician = true;
             } else {
                 throw new RuntimeException("No authorized");
             }
 
-            int start = (int) pageable.getOffset();
-            int end = Math.min(start + pageable.getPageSize(), workOrderList.size());
+            if (baseSearchRequest.getPageNumber() < 0 || baseSearchRequest.getPageSize() < 1)
+                throw new InvalidPaginationRequestException("Page number must not be negative and page size must be positive");
+
+            final WorkOrderSortKey sortKey = WorkOrderSortKey.fromFieldName(baseSearchRequest.getSortBy());
+            final String sortDir = StringUtils.equalsIgnoreCase(baseSearchRequest.getSortDir(), "desc") ? "desc" : "asc";
+
+            final WorkOrderPageRequest pageRequest = WorkOrderPageRequest.builder()
+                    .searchText((null == searchText) ? "" : searchText)
+                    .userId(user.getId())
+                    .technician(technician)
+                    .showCompletedWorkOrders(showCompletedWorkOrders)
+                    .sortKey(sortKey)
+                    .ascending(StringUtils.equals(sortDir, "asc"))
+                    .pageNumber(baseSearchRequest.getPageNumber())
+                    .pageSize(baseSearchRequest.getPageSize())
+                    .cursor(CursorUtils.decode(cursor, sortKey.getFieldName(), sortDir))
+                    .build();
+
+            final List<WorkOrder> fetchedWorkOrders = workOrderRepository.findPage(pageRequest);
+            final boolean hasNextPage = fetchedWorkOrders.size() > pageRequest.getPageSize();
+            final List<WorkOrder> paginatedWorkOrder = hasNextPage
+                    ? fetchedWorkOrders.subList(0, pageRequest.getPageSize())
+                    : fetchedWorkOrders;
+
+            if (hasNextPage) {
+                final WorkOrder lastWorkOrder = paginatedWorkOrder.get(paginatedWorkOrder.size() - 1);
+                response.setNextCursor(CursorUtils.encode(KeysetCursor.builder()
+                        .sortBy(sortKey.getFieldName())
+                        .sortDir(sortDir)
+                        .sortValue(sortKey.format(sortKey.extract(lastWorkOrder)))
+                        .lastId(lastWorkOrder.getId())
+                        .build()));
+            }
 
-            List<WorkOrder> paginatedWorkOrder;
-            if (start > workOrderList.size()) paginatedWorkOrder = new ArrayList<>();
-            else paginatedWorkOrder = workOrderList.subList(start, end);
+            final WorkOrderChildrenLoader.WorkOrderChildren workOrderChildren = workOrderChildrenLoader.load(
+                    paginatedWorkOrder.stream().map(WorkOrder::getId).toList(), false);
 
             final List<WorkOrderResponseDto> workOrderResponseDtoList = paginatedWorkOrder
                     .stream()
@@ -265,45 +299,12 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                         if (null != workOrder.getCompletedDate())
                             workOrderResponseDto.setCompletedDate(DateUtil.dateToString(workOrder.getCompletedDate()));
 
-                        List<Image> imageList = imageRepository.findImagesByWorkOrderIdWithoutData(workOrder.getId());
-                        List<Form> formList = formRepository.findFormsByWorkOrderIdWithoutData(workOrder.getId());
-                        List<Inventory> inventoryList = inventoryRepository.findInventoriesByWorkOrder(workOrder.getId());
-                        List<VoiceMEMO> voiceMEMOList = voiceMEMORepository.findVoiceMEMOsByWorkOrderIdWithoutData(workOrder.getId());
-
-                        if (null != imageList && !imageList.isEmpty()) {
-                            workOrderResponseDto.setImageResponseDtoList(imageList
-                                    .stream()
-                                    .map(image -> imageMapper.toResponseDto(ImageResponseDto.builder().build(), image))
-                                    .toList());
-                        }
-                        if (null != formList && !formList.isEmpty()) {
-                            workOrderResponseDto.setFormResponseDtoList(formList
-                                    .stream()
-                                    .map(form -> formMapper.toResponseDto(FormResponseDto.builder().build(), form))
-                                    .toList());
-                        }
-                        if (null != inventoryList && !inventoryList.isEmpty()) {
-                            workOrderResponseDto.setInventoryResponseDtoList(inventoryList
-                                    .stream()
-                                    .map(inventory -> {
-                                        final InventoryResponseDto inventoryResponseDto = inventoryMapper.mapToInventoryResponseDto(InventoryResponseDto.builder().build(), inventory);
-                                        VendorResponseDto vendorResponseDto = vendorMapper.mapToVendorResponseDto(VendorResponseDto.builder().build(), inventory.getVendor());
-                                        inventoryResponseDto.setVendorResponseDto(vendorResponseDto);
-                                        return inventoryResponseDto;
-                                    })
-                                    .toList());
-                        }
-                        if (null != voiceMEMOList && !voiceMEMOList.isEmpty()) {
-                            workOrderResponseDto.setVoiceMEMOResponseDtoList(voiceMEMOList
-                                    .stream()
-                                    .map(voiceMEMO -> voiceMEMOMapper.toResponseDto(VoiceMEMOResponseDto.builder().build(), voiceMEMO))
-                                    .toList());
-                        }
+                        setChildResponseDtoLists(workOrderResponseDto, workOrder.getId(), workOrderChildren);
                         return workOrderResponseDto;
                     })
                     .collect(Collectors.toList());
 
-            response.setTotalSize(workOrderList.size());
+            response.setTotalSize(workOrderRepository.countPage(pageRequest));
             response.setCurrentSize(workOrderResponseDtoList.size());
             response.setMessage("All work orders fetched successfully.");
             response.setStatus(HttpStatus.OK.value());
@@ -383,7 +384,12 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                 throw new RuntimeException(String.format("Work order with the id: %1$s is not associated with any customer owner", workOrderId));
             }
 
+            final List<DashboardStatisticsService.CounterKey> counterKeysBefore = new ArrayList<>(dashboardStatisticsService.countersOf(savedWorkOrder));
+            counterKeysBefore.addAll(dashboardStatisticsService.countersOf(savedWorkOrder.getWorkOrderInvoice()));
+            dashboardStatisticsService.record(counterKeysBefore, List.of());
+
             workOrderRepository.delete(savedWorkOrder);
+            searchSuggestService.remove(EntityEnum.WORK_ORDER, savedWorkOrder.getId());
 
             Optional<WorkOrder> optionalWorkOrderAfterDeletion = workOrderRepository.findById(workOrderId);
 
@@ -453,6 +459,9 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                 paginatedWorkOrder = workOrderList.subList(start, end);
             }
 
+            final WorkOrderChildrenLoader.WorkOrderChildren workOrderChildren = workOrderChildrenLoader.load(
+                    paginatedWorkOrder.stream().map(WorkOrder::getId).toList(), false);
+
             workOrderResponseDtoList = paginatedWorkOrder
                     .stream()
                     .map(workOrder -> {
@@ -476,6 +485,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                         if (null != workOrder.getCompletedDate())
                             workOrderResponseDto.setCompletedDate(DateUtil.dateToString(workOrder.getCompletedDate()));
 
+                        setChildResponseDtoLists(workOrderResponseDto, workOrder.getId(), workOrderChildren);
                         return workOrderResponseDto;
                     })
                     .toList();
@@ -548,6 +558,9 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                 paginatedWorkOrder = workOrderList.subList(start, end);
             }
 
+            final WorkOrderChildrenLoader.WorkOrderChildren workOrderChildren = workOrderChildrenLoader.load(
+                    paginatedWorkOrder.stream().map(WorkOrder::getId).toList(), false);
+
             workOrderResponseDtoList = paginatedWorkOrder
                     .stream()
                     .map(workOrder -> {
@@ -571,6 +584,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                         if (null != workOrder.getCompletedDate())
                             workOrderResponseDto.setCompletedDate(DateUtil.dateToString(workOrder.getCompletedDate()));
 
+                        setChildResponseDtoLists(workOrderResponseDto, workOrder.getId(), workOrderChildren);
                         return workOrderResponseDto;
                     })
                     .toList();
@@ -599,22 +613,24 @@ public class WorkOrderServiceImpl implements WorkOrderService {
 
             List<WorkOrderResponseDto> openWorkOrderResponseDtoList;
 
-            List<WorkOrder> workOrderList = workOrderRepository.findAll("", user.getId(), AppConstants.BooleanStringConst.NO);
-
-            final Pageable pageable = PageRequest.of(
-                    baseSearchRequest.getPageNumber(),
-                    baseSearchRequest.getPageSize(),
-                    SortUtils.getSort(baseSearchRequest.getSortBy(), baseSearchRequest.getSortDir()));
-
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), workOrderList.size());
-
-            List<WorkOrder> paginatedWorkOrder;
-            if (start > workOrderList.size()) {
-                paginatedWorkOrder = new ArrayList<>();
-            } else {
-                paginatedWorkOrder = workOrderList.subList(start, end);
-            }
+            if (baseSearchRequest.getPageNumber() < 0 || baseSearchRequest.getPageSize() < 1)
+                throw new InvalidPaginationRequestException("Page number must not be negative and page size must be positive");
+
+            final WorkOrderPageRequest pageRequest = WorkOrderPageRequest.builder()
+                    .searchText("")
+                    .userId(user.getId())
+                    .technician(false)
+                    .showCompletedWorkOrders(AppConstants.BooleanStringConst.NO)
+                    .sortKey(WorkOrderSortKey.fromFieldName(baseSearchRequest.getSortBy()))
+                    .ascending(!StringUtils.equalsIgnoreCase(baseSearchRequest.getSortDir(), "desc"))
+                    .pageNumber(baseSearchRequest.getPageNumber())
+                    .pageSize(baseSearchRequest.getPageSize())
+                    .build();
+
+            final List<WorkOrder> fetchedWorkOrders = workOrderRepository.findPage(pageRequest);
+            final List<WorkOrder> paginatedWorkOrder = fetchedWorkOrders.size() > pageRequest.getPageSize()
+                    ? fetchedWorkOrders.subList(0, pageRequest.getPageSize())
+                    : fetchedWorkOrders;
 
             openWorkOrderResponseDtoList =
                     paginatedWorkOrder
@@ -667,10 +683,12 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                             .collect(Collectors.toList());
 
             allWorkOrdersAndMooringDueForServiceResponse.setWorkOrderResponseDtoList(openWorkOrderResponseDtoList);
-            allWorkOrdersAndMooringDueForServiceResponse.setMooringDueServiceResponseDtoList(getMooringDueServiceResponseDtoList(workOrderList));
+            allWorkOrdersAndMooringDueForServiceResponse.setMooringDueServiceResponseDtoList(getMooringDueServiceResponseDtoList(
+                    workOrderRepository.findMooringDueForService(user.getId(), false, dueSoonBefore(), baseSearchRequest.getPageNumber(), baseSearchRequest.getPageSize())));
+            allWorkOrdersAndMooringDueForServiceResponse.setMooringDueServiceTotalSize(workOrderRepository.countMooringDueForService(user.getId(), false));
 
             response.setCurrentSize(openWorkOrderResponseDtoList.size());
-            response.setTotalSize(workOrderList.size());
+            response.setTotalSize(workOrderRepository.countPage(pageRequest));
             response.setMessage(String.format("All open work orders and mooring due for service with customer owner of given id: %1$s fetched successfully", user.getId()));
             response.setStatus(HttpStatus.OK.value());
             response.setContent(allWorkOrdersAndMooringDueForServiceResponse);
@@ -700,7 +718,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                 user = authorizationUtil.checkAuthority(customerOwnerId);
             }
 
-            final WorkOrderPayStatus workOrderPayStatus = workOrderPayStatusRepository.findByStatus(payStatus).orElseThrow(() -> new ResourceNotFoundException(String.format("No work order pay status found with status name as %1$s", payStatus)));
+            final WorkOrderPayStatus workOrderPayStatus = metadataRegistry.findByName(WorkOrderPayStatus.class, payStatus).orElseThrow(() -> new ResourceNotFoundException(String.format("No work order pay status found with status name as %1$s", payStatus)));
 
             final Pageable pageable = PageRequest.of(
                     baseSearchRequest.getPageNumber(),
@@ -766,169 +784,124 @@ public class WorkOrderServiceImpl implements WorkOrderService {
         BasicRestResponse response = BasicRestResponse.builder().build();
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
-            final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
-            final User user;
-            if (StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.FINANCE)) {
-                final User financeUser = userRepository.findUserByIdWithoutImage(LoggedInUserUtil.getLoggedInUserID())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No finance user found with the given id: %1$s", LoggedInUserUtil.getLoggedInUserID())));
-
-                user = userRepository.findUserByIdWithoutImage(financeUser.getCustomerOwnerId())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No customer owner user found with the given id: %1$s", financeUser.getCustomerOwnerId())));
-            } else {
-                user = authorizationUtil.checkAuthority(customerOwnerId);
-            }
+            final User user = findApprovingUser(request);
 
             WorkOrder workOrder = workOrderRepository.findById(id)
                     .orElseThrow(() -> new ResourceNotFoundException(String.format("No work order found with the given id: %1$s", id)));
 
-            String quickBookCustomerIdStr = null;
-
-            final Mooring workOrderMappedMooring = workOrder.getMooring();
-            if (null != workOrderMappedMooring) {
-                final Customer mooringMappedCustomer = workOrderMappedMooring.getCustomer();
-                if (null != mooringMappedCustomer) {
-                    final QuickbookCustomer customerMappedQuickbookCustomer = mooringMappedCustomer.getQuickBookCustomer();
-                    if (null != customerMappedQuickbookCustomer) {
-                        quickBookCustomerIdStr = customerMappedQuickbookCustomer.getQuickbookCustomerId();
-                    }
-                }
-            }
-
-            if (null == quickBookCustomerIdStr)
-                throw new RuntimeException(String.format("Work Order invoice with the id: %1$s is not connected with any Quickbook customer", id));
-
-            if (null == workOrder.getCustomerOwnerUser())
-                throw new RuntimeException(String.format("Work order with the id: %1$s is not associated with any customer owner", id));
-            if (ObjectUtils.notEqual(workOrder.getCustomerOwnerUser().getId(), user.getId()))
-                throw new RuntimeException(String.format("Work order with the id: %1$s is associated with other customer owner", id));
-
-            if (null == workOrder.getWorkOrderStatus() || null == workOrder.getWorkOrderStatus().getStatus())
-                throw new RuntimeException(String.format("Work order  with the given id: %1$s doesn't contain any status", id));
-            if (null == workOrder.getWorkOrderPayStatus() || null == workOrder.getWorkOrderPayStatus().getStatus())
-                throw new RuntimeException(String.format("Work order  with the given id: %1$s doesn't contain any pay status", id));
+            final String quickBookCustomerIdStr = validateForApproval(workOrder, user);
 
-            if (!StringUtils.equals(workOrder.getWorkOrderStatus().getStatus(), AppConstants.WorkOrderStatusConstants.COMPLETED))
-                throw new RuntimeException(String.format("Work order with the given id: %1$s is in %2$s status", id, workOrder.getWorkOrderStatus().getStatus()));
-            if (null == workOrder.getWorkOrderPayStatus() || null == workOrder.getWorkOrderPayStatus().getStatus())
-                throw new RuntimeException(String.format("Work order with the given id: %1$s doesn't consist of pay status", id));
-            if (!StringUtils.equals(workOrder.getWorkOrderPayStatus().getStatus(), AppConstants.WorkOrderPayStatusConstants.NOACTION))
-                throw new RuntimeException(String.format("Work order with the given id: %1$s has already gone through an action", id));
+            final QBOUser qboUser = findQBOUser(user);
 
-            WorkOrderInvoiceStatus workOrderInvoiceStatus = workOrderInvoiceStatusRepository.findByStatus(AppConstants.WorkOrderInvoiceStatusConstants.PENDING)
+            WorkOrderInvoiceStatus workOrderInvoiceStatus = metadataRegistry.findByName(WorkOrderInvoiceStatus.class, AppConstants.WorkOrderInvoiceStatusConstants.PENDING)
                     .orElseThrow(() -> new ResourceNotFoundException(String.format("No work order invoice status found with the status as: %1$s", AppConstants.WorkOrderInvoiceStatusConstants.PENDING)));
 
-            WorkOrderPayStatus workOrderPayStatus = workOrderPayStatusRepository.findByStatus(AppConstants.WorkOrderPayStatusConstants.APPROVED)
+            WorkOrderPayStatus workOrderPayStatus = metadataRegistry.findByName(WorkOrderPayStatus.class, AppConstants.WorkOrderPayStatusConstants.APPROVED)
                     .orElseThrow(() -> new ResourceNotFoundException(String.format("No work order pay status found with the status as %1$s", AppConstants.WorkOrderPayStatusConstants.APPROVED)));
 
+            final List<DashboardStatisticsService.CounterKey> counterKeysBefore = dashboardStatisticsService.countersOf(workOrder);
             workOrder.setWorkOrderPayStatus(workOrderPayStatus);
             workOrderRepository.save(workOrder);
 
-            WorkOrderInvoice workOrderInvoice = WorkOrderInvoice.builder().build();
-            workOrderInvoice.setCreationDate(new Date(System.currentTimeMillis()));
-            workOrderInvoice.setLastModifiedDate(new Date(System.currentTimeMillis()));
-            workOrderInvoice.setInvoiceAmount(invoiceAmount);
-            workOrderInvoice.setWorkOrder(workOrder);
-            workOrderInvoice.setWorkOrderInvoiceStatus(workOrderInvoiceStatus);
-            workOrderInvoice.setCustomerOwnerUser(user);
-            workOrderInvoice.setPaymentList(new ArrayList<>());
-
-            workOrderInvoiceRepository.save(workOrderInvoice);
-
-            Invoice invoice = new Invoice();
-            List<Line> lineList = new ArrayList<>();
-
-            Line line = new Line();
-            line.setAmount(invoiceAmount); // Set the amount
-
-            // Create a SalesItemLineDetail for the line
-            SalesItemLineDetail salesItemLineDetail = new SalesItemLineDetail();
-            ReferenceType itemRef = new ReferenceType();
-            itemRef.setValue("1"); // Set the appropriate value for the item reference
-            itemRef.setName("Services"); // Set the name if required
-
-            salesItemLineDetail.setItemRef(itemRef);
-            line.setDetailType(LineDetailTypeEnum.SALES_ITEM_LINE_DETAIL);
-            line.setSalesItemLineDetail(salesItemLineDetail);
-
-            // Add the line to the list and set it in the invoice
-            lineList.add(line);
-            invoice.setLine(lineList);
-
-            // Set customer reference
-            ReferenceType customerRef = new ReferenceType();
-            customerRef.setValue(quickBookCustomerIdStr);
-            invoice.setCustomerRef(customerRef);
-
-            final QBOUser qboUser;
-            if (StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.ADMINISTRATOR)) {
-                qboUser = qboUserRepository.findQBOUserByEmail(LoggedInUserUtil.getLoggedInUserEmail())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
-            } else {
-                qboUser = qboUserRepository.findQBOUserByEmail(user.getEmail())
-                        .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
-            }
+            final WorkOrderInvoice savedWorkOrderInvoice = workOrderInvoiceRepository.save(newWorkOrderInvoice(workOrder, invoiceAmount, workOrderInvoiceStatus, user));
 
-            String realmId = qboUser.getRealmId();
-            if (StringUtils.isEmpty(realmId)) {
-                throw new RuntimeException("No realm ID. QBO calls only work if the accounting scope was passed!");
-            }
-            String accessToken = qboUser.getAccessToken();
+            final List<DashboardStatisticsService.CounterKey> counterKeysAfter = new ArrayList<>(dashboardStatisticsService.countersOf(workOrder));
+            counterKeysAfter.addAll(dashboardStatisticsService.countersOf(savedWorkOrderInvoice));
+            dashboardStatisticsService.record(counterKeysBefore, counterKeysAfter);
 
-            // Save the payment using DataService
-            try {
-                DataService dataService = helper.getDataService(realmId, accessToken);
+            // pushed to Quickbooks by the QBO outbox once this transaction has committed
+            qboOutboxService.enqueueInvoice(savedWorkOrderInvoice, qboUser, quickBookCustomerIdStr);
+
+            response.setContent(workOrderInvoiceMapper.mapToWorkOrderInvoiceResponseDto(WorkOrderInvoiceResponseDto.builder().build(), savedWorkOrderInvoice));
+            response.setMessage("Work order approved and it's invoice will be saved to Quickbooks shortly!");
+            response.setStatus(HttpStatus.OK.value());
+        } catch (Exception e) {
+            response.setMessage(e.getLocalizedMessage());
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        return response;
+    }
 
-                Invoice savedInvoice = dataService.add(invoice);
+    @Override
+    @Transactional
+    public BasicRestResponse approveWorkOrders(final List<WorkOrderApprovalRequestDto> workOrderApprovalRequestDtoList, final HttpServletRequest request) {
+        BasicRestResponse response = BasicRestResponse.builder().build();
+        response.setTime(new Timestamp(System.currentTimeMillis()));
+        try {
+            if (null == workOrderApprovalRequestDtoList || workOrderApprovalRequestDtoList.isEmpty())
+                throw new RuntimeException("No work orders given for approval");
 
-                response.setContent(savedInvoice);
-                response.setMessage("Work order approved and it's invoice saved successfully!");
-                response.setStatus(HttpStatus.OK.value());
+            final User user = findApprovingUser(request);
+            final QBOUser qboUser = findQBOUser(user);
 
-            } /*
-             * Handle 401 status code -
-             * If a 401 response is received, refresh tokens should be used to get a new access token,
-             * and the API call should be tried again.
-             */ catch (InvalidTokenException e) {
-                log.error("Error while calling executeQuery :: " + e.getMessage());
+            WorkOrderInvoiceStatus workOrderInvoiceStatus = metadataRegistry.findByName(WorkOrderInvoiceStatus.class, AppConstants.WorkOrderInvoiceStatusConstants.PENDING)
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No work order invoice status found with the status as: %1$s", AppConstants.WorkOrderInvoiceStatusConstants.PENDING)));
 
-                //refresh tokens
-                log.info("received 401 during companyinfo call, refreshing tokens now");
-                OAuth2PlatformClient client = factory.getOAuth2PlatformClient();
-                String refreshToken = qboUser.getRefreshToken();
+            WorkOrderPayStatus workOrderPayStatus = metadataRegistry.findByName(WorkOrderPayStatus.class, AppConstants.WorkOrderPayStatusConstants.APPROVED)
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No work order pay status found with the status as %1$s", AppConstants.WorkOrderPayStatusConstants.APPROVED)));
 
+            final Map<Integer, WorkOrder> workOrderMap = workOrderRepository.findWorkOrdersForApproval(workOrderApprovalRequestDtoList.stream()
+                            .map(WorkOrderApprovalRequestDto::getWorkOrderId)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(WorkOrder::getId, workOrder -> workOrder));
+
+            final List<WorkOrderApprovalResponseDto> workOrderApprovalResponseDtoList = new ArrayList<>();
+            final List<WorkOrderApprovalResponseDto> approvedResponseDtoList = new ArrayList<>();
+            final List<WorkOrderInvoice> workOrderInvoiceList = new ArrayList<>();
+            final List<String> quickBookCustomerIdList = new ArrayList<>();
+            final Set<Integer> workOrderIds = new HashSet<>();
+            final List<DashboardStatisticsService.CounterKey> counterKeysBefore = new ArrayList<>();
+            final List<DashboardStatisticsService.CounterKey> counterKeysAfter = new ArrayList<>();
+
+            for (WorkOrderApprovalRequestDto workOrderApprovalRequestDto : workOrderApprovalRequestDtoList) {
+                final Integer id = workOrderApprovalRequestDto.getWorkOrderId();
+                final WorkOrderApprovalResponseDto workOrderApprovalResponseDto = WorkOrderApprovalResponseDto.builder()
+                        .workOrderId(id)
+                        .approved(false)
+                        .build();
+                workOrderApprovalResponseDtoList.add(workOrderApprovalResponseDto);
                 try {
-                    BearerTokenResponse bearerTokenResponse = client.refreshToken(refreshToken);
-
-                    qboUser.setLastModifiedDate(new Date(System.currentTimeMillis()));
-                    qboUser.setAccessToken(bearerTokenResponse.getAccessToken());
-                    qboUser.setRefreshToken(bearerTokenResponse.getRefreshToken());
-
-                    qboUserRepository.save(qboUser);
-
-                    //call company info again using new tokens
-                    log.info("Saving payment using new token");
-                    DataService dataService = helper.getDataService(realmId, accessToken);
-
-                    Invoice savedInvoice = dataService.add(invoice);
-
-                    response.setContent(savedInvoice);
-                    response.setMessage("Work order approved and it's invoice saved successfully!");
-                    response.setStatus(HttpStatus.OK.value());
-                } catch (OAuthException e1) {
-                    log.error("Error while calling bearer token :: " + e.getMessage());
-                    response.setMessage("Error while calling bearer token :: " + e.getMessage());
-                    response.setStatus(HttpStatus.FORBIDDEN.value());
-                } catch (FMSException e1) {
-                    log.error("Error while calling bearer token :: " + e.getMessage());
-                    response.setMessage("Error while calling company currency :: " + e.getMessage());
-                    response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+                    if (!workOrderIds.add(id))
+                        throw new RuntimeException(String.format("Work order with the id: %1$s is given more than once", id));
+
+                    final WorkOrder workOrder = workOrderMap.get(id);
+                    if (null == workOrder)
+                        throw new ResourceNotFoundException(String.format("No work order found with the given id: %1$s", id));
+
+                    quickBookCustomerIdList.add(validateForApproval(workOrder, user));
+
+                    // flushed with the other approvals when the transaction commits
+                    counterKeysBefore.addAll(dashboardStatisticsService.countersOf(workOrder));
+                    workOrder.setWorkOrderPayStatus(workOrderPayStatus);
+                    counterKeysAfter.addAll(dashboardStatisticsService.countersOf(workOrder));
+                    workOrderInvoiceList.add(newWorkOrderInvoice(workOrder, workOrderApprovalRequestDto.getInvoiceAmount(), workOrderInvoiceStatus, user));
+                    approvedResponseDtoList.add(workOrderApprovalResponseDto);
+                } catch (Exception e) {
+                    workOrderApprovalResponseDto.setMessage(e.getLocalizedMessage());
                 }
-            } catch (FMSException e) {
-                List<com.intuit.ipp.data.Error> list = e.getErrorList();
-                list.forEach(error -> log.error("Error while calling executeQuery :: " + error.getMessage()));
-                response.setMessage("Error while calling executeQuery :: " + e.getMessage());
-                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
             }
+
+            final List<WorkOrderInvoice> savedWorkOrderInvoiceList = workOrderInvoiceRepository.saveAll(workOrderInvoiceList);
+
+            for (int i = 0; i < savedWorkOrderInvoiceList.size(); i++) {
+                final WorkOrderInvoice savedWorkOrderInvoice = savedWorkOrderInvoiceList.get(i);
+                counterKeysAfter.addAll(dashboardStatisticsService.countersOf(savedWorkOrderInvoice));
+                // pushed to Quickbooks in batches by the QBO outbox once this transaction has committed
+                qboOutboxService.enqueueInvoice(savedWorkOrderInvoice, qboUser, quickBookCustomerIdList.get(i));
+
+                final WorkOrderApprovalResponseDto workOrderApprovalResponseDto = approvedResponseDtoList.get(i);
+                workOrderApprovalResponseDto.setApproved(true);
+                workOrderApprovalResponseDto.setWorkOrderInvoiceId(savedWorkOrderInvoice.getId());
+                workOrderApprovalResponseDto.setMessage("Work order approved and it's invoice will be saved to Quickbooks shortly!");
+            }
+
+            dashboardStatisticsService.record(counterKeysBefore, counterKeysAfter);
+
+            response.setContent(workOrderApprovalResponseDtoList);
+            response.setMessage(String.format("%1$s of %2$s work orders approved", savedWorkOrderInvoiceList.size(), workOrderApprovalResponseDtoList.size()));
+            response.setStatus(HttpStatus.OK.value());
         } catch (Exception e) {
             response.setMessage(e.getLocalizedMessage());
             response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
@@ -936,6 +909,91 @@ public class WorkOrderServiceImpl implements WorkOrderService {
         return response;
     }
 
+    /**
+     * @return the customer owner on whose behalf work orders are approved
+     */
+    private User findApprovingUser(final HttpServletRequest request) {
+        final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
+        if (StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.FINANCE)) {
+            final User financeUser = userRepository.findUserByIdWithoutImage(LoggedInUserUtil.getLoggedInUserID())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No finance user found with the given id: %1$s", LoggedInUserUtil.getLoggedInUserID())));
+
+            return userRepository.findUserByIdWithoutImage(financeUser.getCustomerOwnerId())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No customer owner user found with the given id: %1$s", financeUser.getCustomerOwnerId())));
+        }
+        return authorizationUtil.checkAuthority(customerOwnerId);
+    }
+
+    private QBOUser findQBOUser(final User user) {
+        final QBOUser qboUser;
+        if (StringUtils.equals(LoggedInUserUtil.getLoggedInUserRole(), AppConstants.Role.ADMINISTRATOR)) {
+            qboUser = qboUserRepository.findQBOUserByEmail(LoggedInUserUtil.getLoggedInUserEmail())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
+        } else {
+            qboUser = qboUserRepository.findQBOUserByEmail(user.getEmail())
+                    .orElseThrow(() -> new ResourceNotFoundException(String.format("No QBO user found with the given email: %1$s", user.getEmail())));
+        }
+
+        if (StringUtils.isEmpty(qboUser.getRealmId())) {
+            throw new RuntimeException("No realm ID. QBO calls only work if the accounting scope was passed!");
+        }
+        return qboUser;
+    }
+
+    /**
+     * Checks that the work order can be approved by the customer owner.
+     *
+     * @return the id of the Quickbooks customer the invoice of the work order is billed to
+     */
+    private String validateForApproval(final WorkOrder workOrder, final User user) {
+        final Integer id = workOrder.getId();
+        String quickBookCustomerIdStr = null;
+
+        final Mooring workOrderMappedMooring = workOrder.getMooring();
+        if (null != workOrderMappedMooring) {
+            final Customer mooringMappedCustomer = workOrderMappedMooring.getCustomer();
+            if (null != mooringMappedCustomer) {
+                final QuickbookCustomer customerMappedQuickbookCustomer = mooringMappedCustomer.getQuickBookCustomer();
+                if (null != customerMappedQuickbookCustomer) {
+                    quickBookCustomerIdStr = customerMappedQuickbookCustomer.getQuickbookCustomerId();
+                }
+            }
+        }
+
+        if (null == quickBookCustomerIdStr)
+            throw new RuntimeException(String.format("Work Order invoice with the id: %1$s is not connected with any Quickbook customer", id));
+
+        if (null == workOrder.getCustomerOwnerUser())
+            throw new RuntimeException(String.format("Work order with the id: %1$s is not associated with any customer owner", id));
+        if (ObjectUtils.notEqual(workOrder.getCustomerOwnerUser().getId(), user.getId()))
+            throw new RuntimeException(String.format("Work order with the id: %1$s is associated with other customer owner", id));
+
+        if (null == workOrder.getWorkOrderStatus() || null == workOrder.getWorkOrderStatus().getStatus())
+            throw new RuntimeException(String.format("Work order  with the given id: %1$s doesn't contain any status", id));
+        if (null == workOrder.getWorkOrderPayStatus() || null == workOrder.getWorkOrderPayStatus().getStatus())
+            throw new RuntimeException(String.format("Work order  with the given id: %1$s doesn't contain any pay status", id));
+
+        if (!StringUtils.equals(workOrder.getWorkOrderStatus().getStatus(), AppConstants.WorkOrderStatusConstants.COMPLETED))
+            throw new RuntimeException(String.format("Work order with the given id: %1$s is in %2$s status", id, workOrder.getWorkOrderStatus().getStatus()));
+        if (!StringUtils.equals(workOrder.getWorkOrderPayStatus().getStatus(), AppConstants.WorkOrderPayStatusConstants.NOACTION))
+            throw new RuntimeException(String.format("Work order with the given id: %1$s has already gone through an action", id));
+
+        return quickBookCustomerIdStr;
+    }
+
+    private WorkOrderInvoice newWorkOrderInvoice(final WorkOrder workOrder, final BigDecimal invoiceAmount,
+                                                 final WorkOrderInvoiceStatus workOrderInvoiceStatus, final User user) {
+        WorkOrderInvoice workOrderInvoice = WorkOrderInvoice.builder().build();
+        workOrderInvoice.setCreationDate(new Date(System.currentTimeMillis()));
+        workOrderInvoice.setLastModifiedDate(new Date(System.currentTimeMillis()));
+        workOrderInvoice.setInvoiceAmount(invoiceAmount);
+        workOrderInvoice.setWorkOrder(workOrder);
+        workOrderInvoice.setWorkOrderInvoiceStatus(workOrderInvoiceStatus);
+        workOrderInvoice.setCustomerOwnerUser(user);
+        workOrderInvoice.setPaymentList(new ArrayList<>());
+        return workOrderInvoice;
+    }
+
     @Override
     public BasicRestResponse denyWorkOrder(final Integer id, final HttpServletRequest request, final String reportProblem) {
         BasicRestResponse response = BasicRestResponse.builder().build();
@@ -966,17 +1024,20 @@ public class WorkOrderServiceImpl implements WorkOrderService {
             if (null != workOrder.getWorkOrderInvoice())
                 throw new RuntimeException(String.format("Work order with the given id: %1$s already contains an invoice with the id: %2$s", workOrder.getId(), workOrder.getWorkOrderInvoice().getId()));
 
-            WorkOrderStatus workOrderStatus = workOrderStatusRepository.findByStatus(AppConstants.WorkOrderStatusConstants.DENIED)
+            final List<DashboardStatisticsService.CounterKey> counterKeysBefore = dashboardStatisticsService.countersOf(workOrder);
+
+            WorkOrderStatus workOrderStatus = metadataRegistry.findByName(WorkOrderStatus.class, AppConstants.WorkOrderStatusConstants.DENIED)
                     .orElseThrow(() -> new ResourceNotFoundException(String.format("No work order status found with the given status as %1$s", AppConstants.WorkOrderStatusConstants.DENIED)));
             workOrder.setWorkOrderStatus(workOrderStatus);
 
-            WorkOrderPayStatus workOrderPayStatus = workOrderPayStatusRepository.findByStatus(AppConstants.WorkOrderPayStatusConstants.NOACTION)
+            WorkOrderPayStatus workOrderPayStatus = metadataRegistry.findByName(WorkOrderPayStatus.class, AppConstants.WorkOrderPayStatusConstants.NOACTION)
                     .orElseThrow(() -> new ResourceNotFoundException(String.format("No work order pay status found with the status as %1$s", AppConstants.WorkOrderPayStatusConstants.NOACTION)));
             workOrder.setWorkOrderPayStatus(workOrderPayStatus);
 
             workOrder.setReasonForDenial(reportProblem);
 
             workOrderRepository.save(workOrder);
+            dashboardStatisticsService.record(counterKeysBefore, dashboardStatisticsService.countersOf(workOrder));
 
             response.setMessage("Work order denied successfully!");
             response.setContent(workOrderMapper.mapToWorkOrderDto(WorkOrderDto.builder().build(), workOrder));
@@ -1092,10 +1153,11 @@ public class WorkOrderServiceImpl implements WorkOrderService {
         response.setTime(new Timestamp(System.currentTimeMillis()));
         try {
 
-            List<WorkOrder> workOrderList = workOrderRepository.findAllByTechnicianUser("", LoggedInUserUtil.getLoggedInUserID(), AppConstants.BooleanStringConst.NO);
+            final List<MooringDueServiceSummary> mooringDueServiceSummaryList =
+                    workOrderRepository.findMooringDueForService(LoggedInUserUtil.getLoggedInUserID(), true, dueSoonBefore(), 0, 0);
 
-            if (null != workOrderList && !workOrderList.isEmpty()) {
-                List<MooringDueServiceResponseDto> mooringDueServiceResponseDtoList = getMooringDueServiceResponseDtoList(workOrderList);
+            if (!mooringDueServiceSummaryList.isEmpty()) {
+                List<MooringDueServiceResponseDto> mooringDueServiceResponseDtoList = getMooringDueServiceResponseDtoList(mooringDueServiceSummaryList);
                 response.setMessage("Mooring due for service fetched successfully");
                 response.setContent(mooringDueServiceResponseDtoList);
             } else {
@@ -1166,11 +1228,12 @@ public class WorkOrderServiceImpl implements WorkOrderService {
             if (null != workOrder.getCompletedDate())
                 workOrderResponseDto.setCompletedDate(DateUtil.dateToString(workOrder.getCompletedDate()));
 
-            List<Inventory> inventoryList = inventoryRepository.findByWorkOrderId(workOrder.getId());
+            final WorkOrderChildrenLoader.WorkOrderChildren workOrderChildren = workOrderChildrenLoader.load(List.of(workOrder.getId()), true);
+            List<Inventory> inventoryList = workOrderChildren.getInventories(workOrder.getId());
 
-            workOrderResponseDto.setImageResponseDtoList(getImageResponseDtoListByWorkOrderId(workOrder.getId()));
-            workOrderResponseDto.setFormResponseDtoList(getFormResponseDtoListByWorkOrderId(workOrder.getId()));
-            workOrderResponseDto.setVoiceMEMOResponseDtoList(getVoiceMEMOResponseDtoListByWorkOrderId(workOrder.getId()));
+            workOrderResponseDto.setImageResponseDtoList(getImageResponseDtoList(workOrderChildren.getImages(workOrder.getId())));
+            workOrderResponseDto.setFormResponseDtoList(getFormResponseDtoList(workOrderChildren.getForms(workOrder.getId())));
+            workOrderResponseDto.setVoiceMEMOResponseDtoList(getVoiceMEMOResponseDtoList(workOrderChildren.getVoiceMEMOs(workOrder.getId())));
 
             if (null != inventoryList && !inventoryList.isEmpty()) {
                 workOrderResponseDto.setInventoryResponseDtoList(inventoryList
@@ -1195,8 +1258,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
     }
 
     @Transactional
-    public List<ImageResponseDto> getImageResponseDtoListByWorkOrderId(final Integer workOrderId) {
-        List<Image> imageList = imageRepository.findByWorkOrderId(workOrderId);
+    public List<ImageResponseDto> getImageResponseDtoList(final List<Image> imageList) {
         List<ImageResponseDto> imageResponseDtoList = new ArrayList<>();
         if (null != imageList && !imageList.isEmpty()) {
             imageResponseDtoList = imageList
@@ -1204,12 +1266,8 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                     .map(image -> {
                         ImageResponseDto imageResponseDto = ImageResponseDto.builder().build();
                         imageMapper.toResponseDto(imageResponseDto, image);
-                        if (null != image.getImageData()) {
-                            String encodedData = Base64.getEncoder().encodeToString(image.getImageData());
-                            if (null != encodedData) {
-                                imageResponseDto.setEncodedData(encodedData);
-                            }
-                        }
+                        // the content is fetched through the download URLs, lists never carry originals
+                        imageVariantService.setDownloadUrls(imageResponseDto);
                         return imageResponseDto;
                     })
                     .toList();
@@ -1218,8 +1276,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
     }
 
     @Transactional
-    public List<FormResponseDto> getFormResponseDtoListByWorkOrderId(final Integer workOrderId) {
-        List<Form> formList = formRepository.findByWorkOrderId(workOrderId);
+    public List<FormResponseDto> getFormResponseDtoList(final List<Form> formList) {
         List<FormResponseDto> formResponseDtoList = new ArrayList<>();
         if (null != formList && !formList.isEmpty()) {
             formResponseDtoList = formList
@@ -1227,12 +1284,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                     .map(form -> {
                         FormResponseDto formResponseDto = FormResponseDto.builder().build();
                         formMapper.toResponseDto(formResponseDto, form);
-                        if (null != form.getFormData()) {
-                            String encodedData = Base64.getEncoder().encodeToString(form.getFormData());
-                            if (null != encodedData) {
-                                formResponseDto.setEncodedData(encodedData);
-                            }
-                        }
+                        if (null != form.getId()) formResponseDto.setUrl(String.format(FORM_DOWNLOAD_URL, form.getId()));
                         return formResponseDto;
                     })
                     .toList();
@@ -1240,8 +1292,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
         return formResponseDtoList;
     }
 
-    public List<VoiceMEMOResponseDto> getVoiceMEMOResponseDtoListByWorkOrderId(final Integer workOrderId) {
-        List<VoiceMEMO> voiceMEMOList = voiceMEMORepository.findByWorkOrderId(workOrderId);
+    public List<VoiceMEMOResponseDto> getVoiceMEMOResponseDtoList(final List<VoiceMEMO> voiceMEMOList) {
         List<VoiceMEMOResponseDto> voiceMEMOResponseDtoList = new ArrayList<>();
         if (null != voiceMEMOList && !voiceMEMOList.isEmpty()) {
             voiceMEMOResponseDtoList = voiceMEMOList
@@ -1249,8 +1300,8 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                     .map(voiceMEMO -> {
                         VoiceMEMOResponseDto voiceMEMOResponseDto = VoiceMEMOResponseDto.builder().build();
                         voiceMEMOMapper.toResponseDto(voiceMEMOResponseDto, voiceMEMO);
-                        if (null != voiceMEMO.getData()) {
-                            String encodedData = Base64.getEncoder().encodeToString(voiceMEMO.getData());
+                        final String encodedData = blobContentHelper.encode(blobContentHelper.read(voiceMEMO));
+                        if (null != encodedData) {
                             voiceMEMOResponseDto.setEncodedData(encodedData);
                         } else {
                             String nullCheckString = "Data is NULL";
@@ -1269,6 +1320,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
         boolean mooringStatusFlag = false;
 
         try {
+            final List<DashboardStatisticsService.CounterKey> counterKeysBefore = dashboardStatisticsService.countersOf(workOrder);
             if (null == workOrderId) workOrder.setLastModifiedDate(new Date(System.currentTimeMillis()));
 
             final Integer customerOwnerId = request.getIntHeader(AppConstants.HeaderConstants.CUSTOMER_OWNER_ID);
@@ -1292,7 +1344,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
             workOrderMapper.mapToWorkOrder(workOrder, workOrderRequestDto);
 
             if (null == workOrderId) {
-                final String workOrderNumber = createWorkOrderNumber();
+                final String workOrderNumber = numberAllocator.nextWorkOrderNumber();
                 workOrder.setWorkOrderNumber(workOrderNumber);
                 workOrder.setCreationDate(new Date(System.currentTimeMillis()));
             }
@@ -1342,7 +1394,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                 for (ImageRequestDto imageRequestDto : workOrderRequestDto.getImageRequestDtoList()) {
                     Image image = imageMapper.toEntity(Image.builder().build(), imageRequestDto);
                     if (null != imageRequestDto.getImageData()) {
-                        image.setImageData(ImageUtils.validateEncodedString(imageRequestDto.getImageData()));
+                        blobContentHelper.store(image, ImageUtils.validateEncodedString(imageRequestDto.getImageData()));
                     }
                     image.setCreationDate(new Date(System.currentTimeMillis()));
                     image.setLastModifiedDate(new Date(System.currentTimeMillis()));
@@ -1409,7 +1461,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
 
                     if (null != formRequestDto.getEncodedFormData()) {
                         byte[] formData = PDFUtils.isPdfFile(formRequestDto.getEncodedFormData());
-                        childForm.setFormData(formData);
+                        blobContentHelper.store(childForm, formData);
                     } else {
                         throw new RuntimeException("Form data cannot be null during save");
                     }
@@ -1452,7 +1504,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                     }
 
                     byte[] decodedBytes = Base64.getDecoder().decode(voiceMEMORequestDto.getEncodedData());
-                    voiceMEMO.setData(decodedBytes);
+                    blobContentHelper.store(voiceMEMO, decodedBytes);
                     voiceMEMO.setWorkOrder(workOrder);
                     voiceMEMO.setUser(user);
                     voiceMEMOList.add(voiceMEMO);
@@ -1555,7 +1607,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
 
                 log.info("Inside work order status update");
 
-                final Optional<WorkOrderStatus> optionalWorkOrderStatus = workOrderStatusRepository.findById(workOrderRequestDto.getWorkOrderStatusId());
+                final Optional<WorkOrderStatus> optionalWorkOrderStatus = metadataRegistry.findById(WorkOrderStatus.class, workOrderRequestDto.getWorkOrderStatusId());
                 if (optionalWorkOrderStatus.isEmpty())
                     throw new RuntimeException(String.format("No work order status found with the given id: %1$s", workOrderRequestDto.getWorkOrderStatusId()));
 
@@ -1571,7 +1623,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
                             throw new RuntimeException(String.format("Completed date was after today date: %1$s", new Date()));
                     }
 
-                    final WorkOrderPayStatus workOrderPayStatus = workOrderPayStatusRepository.findByStatus(AppConstants.WorkOrderPayStatusConstants.NOACTION)
+                    final WorkOrderPayStatus workOrderPayStatus = metadataRegistry.findByName(WorkOrderPayStatus.class, AppConstants.WorkOrderPayStatusConstants.NOACTION)
                             .orElseThrow(() -> new ResourceNotFoundException(String.format("No work order pay status found with the status as: %1$s", AppConstants.WorkOrderPayStatusConstants.NOACTION)));
                     workOrder.setWorkOrderPayStatus(workOrderPayStatus);
 
@@ -1703,7 +1755,7 @@ public class WorkOrderServiceImpl implements WorkOrderService {
             if (null != workOrderRequestDto.getMooringStatusId()) {
                 if (null != workOrder.getMooring()) {
 
-                    MooringStatus mooringStatus = mooringStatusRepository.findById(workOrderRequestDto.getMooringStatusId())
+                    MooringStatus mooringStatus = metadataRegistry.findById(MooringStatus.class, workOrderRequestDto.getMooringStatusId())
                             .orElseThrow(() -> new ResourceNotFoundException(String.format("No mooring status found with the given id: %1$s", workOrderRequestDto.getMooringStatusId())));
 
                     Mooring mooring = mooringRepository.findById(workOrder.getMooring().getId()).orElseThrow(() -> new ResourceNotFoundException(String.format("No mooring found with the given id: %1$s", workOrder.getMooring().getId())));
@@ -1736,6 +1788,9 @@ public class WorkOrderServiceImpl implements WorkOrderService {
             }
 
             WorkOrder savedWorkOrder = workOrderRepository.save(workOrder);
+            dashboardStatisticsService.record(counterKeysBefore, dashboardStatisticsService.countersOf(savedWorkOrder));
+            searchDocumentService.index(savedWorkOrder);
+            searchSuggestService.update(savedWorkOrder);
 
             if (workOrderId == null && null != workOrder.getTechnicianUser()) {
                 notificationService.createNotificationForSaveWorkOrder(savedWorkOrder);
@@ -1775,40 +1830,8 @@ public class WorkOrderServiceImpl implements WorkOrderService {
             if (null != savedWorkOrder.getCompletedDate())
                 workOrderResponseDto.setCompletedDate(DateUtil.dateToString(savedWorkOrder.getCompletedDate()));
 
-            List<Image> imageList = imageRepository.findImagesByWorkOrderIdWithoutData(savedWorkOrder.getId());
-            List<Form> formList = formRepository.findFormsByWorkOrderIdWithoutData(savedWorkOrder.getId());
-            List<Inventory> inventoryList = inventoryRepository.findInventoriesByWorkOrder(savedWorkOrder.getId());
-            List<VoiceMEMO> voiceMEMOList = voiceMEMORepository.findVoiceMEMOsByWorkOrderIdWithoutData(savedWorkOrder.getId());
-
-            if (null != imageList && !imageList.isEmpty()) {
-                workOrderResponseDto.setImageResponseDtoList(imageList
-                        .stream()
-                        .map(image -> imageMapper.toResponseDto(ImageResponseDto.builder().build(), image))
-                        .toList());
-            }
-            if (null != formList && !formList.isEmpty()) {
-                workOrderResponseDto.setFormResponseDtoList(formList
-                        .stream()
-                        .map(form -> formMapper.toResponseDto(FormResponseDto.builder().build(), form))
-                        .toList());
-            }
-            if (null != inventoryList && !inventoryList.isEmpty()) {
-                workOrderResponseDto.setInventoryResponseDtoList(inventoryList
-                        .stream()
-                        .map(inventory -> {
-                            final InventoryResponseDto inventoryResponseDto = inventoryMapper.mapToInventoryResponseDto(InventoryResponseDto.builder().build(), inventory);
-                            VendorResponseDto vendorResponseDto = vendorMapper.mapToVendorResponseDto(VendorResponseDto.builder().build(), inventory.getVendor());
-                            inventoryResponseDto.setVendorResponseDto(vendorResponseDto);
-                            return inventoryResponseDto;
-                        })
-                        .toList());
-            }
-            if (null != voiceMEMOList && !voiceMEMOList.isEmpty()) {
-                workOrderResponseDto.setVoiceMEMOResponseDtoList(voiceMEMOList
-                        .stream()
-                        .map(voiceMEMO -> voiceMEMOMapper.toResponseDto(VoiceMEMOResponseDto.builder().build(), voiceMEMO))
-                        .toList());
-            }
+            final WorkOrderChildrenLoader.WorkOrderChildren workOrderChildren = workOrderChildrenLoader.load(List.of(savedWorkOrder.getId()), false);
+            setChildResponseDtoLists(workOrderResponseDto, savedWorkOrder.getId(), workOrderChildren);
             return workOrderResponseDto;
 
         } catch (Exception e) {
@@ -1818,131 +1841,113 @@ public class WorkOrderServiceImpl implements WorkOrderService {
 
     }
 
-    private List<MooringDueServiceResponseDto> getMooringDueServiceResponseDtoList(final List<WorkOrder> workOrderList) {
-
-        LocalDate currentDate = LocalDate.now();
-        LocalDate dateAfter31Days = currentDate.plusDays(31);
-
-        HashMap<String, MooringDueServiceResponseDto> mooringDueServiceResponseDtoHashMap = new HashMap<>();
-
-        for (WorkOrder workOrder : workOrderList) {
-            if (null == workOrder.getMooring()) continue;
-            MooringDueServiceResponseDto mooringDueServiceResponseDto = MooringDueServiceResponseDto.builder().build();
-
-            if (null != workOrder.getCustomer()) {
-                final Customer customer = workOrder.getCustomer();
-                mooringDueServiceResponseDto.setCustomerResponseDto(customerMapper.mapToCustomerResponseDto(CustomerResponseDto.builder().build(), customer));
-            }
-
-            if (null != workOrder.getBoatyard()) {
-                final Boatyard boatyard = workOrder.getBoatyard();
-                mooringDueServiceResponseDto.setBoatyardResponseDto(boatyardMapper.mapToBoatYardResponseDto(BoatyardResponseDto.builder().build(), boatyard));
-            }
-
-            final Mooring mooring = workOrder.getMooring();
-
-            mooringMapper.mapToMooringDueServiceResponseDto(mooringDueServiceResponseDto, mooring);
-
-            Optional<MooringDueServiceStatus> optionalMooringDueServiceStatus;
-
-            final MooringDueServiceStatus mooringDueServiceStatus;
-            final MooringDueServiceStatusDto mooringDueServiceStatusDto;
-
-            if (workOrder.getWorkOrderStatus().getStatus().equals(AppConstants.WorkOrderStatusConstants.CLOSE)) {
-
-                if (mooringDueServiceResponseDto.getMooringDueServiceStatusDto() != null) continue;
-
-                optionalMooringDueServiceStatus = mooringDueServiceStatusRepository.findByStatus(AppConstants.MooringDueServiceStatusConstants.COMPLETE);
-                if (optionalMooringDueServiceStatus.isEmpty())
-                    throw new RuntimeException(String.format("No mooring due for service status found with the status as complete"));
-
-                mooringDueServiceStatus = optionalMooringDueServiceStatus.get();
-                mooringDueServiceStatusDto = MooringDueServiceStatusDto.builder().build();
-                mooringDueServiceStatusMapper.toDto(mooringDueServiceStatusDto, mooringDueServiceStatus);
-
-                mooringDueServiceResponseDto.setMooringDueServiceStatusDto(mooringDueServiceStatusDto);
-            } else {
-                optionalMooringDueServiceStatus = mooringDueServiceStatusRepository.findByStatus(AppConstants.MooringDueServiceStatusConstants.PENDING);
-                if (optionalMooringDueServiceStatus.isEmpty())
-                    throw new RuntimeException(String.format("No mooring due for service status found with the status as pending"));
-
-                mooringDueServiceStatus = optionalMooringDueServiceStatus.get();
-                mooringDueServiceStatusDto = MooringDueServiceStatusDto.builder().build();
-                mooringDueServiceStatusMapper.toDto(mooringDueServiceStatusDto, mooringDueServiceStatus);
-
-                mooringDueServiceResponseDto.setMooringDueServiceStatusDto(mooringDueServiceStatusDto);
-            }
-
-            if (mooringDueServiceResponseDtoHashMap.containsKey(mooringDueServiceResponseDto.getMooringNumber())) {
+    private void setChildResponseDtoLists(final WorkOrderResponseDto workOrderResponseDto, final Integer workOrderId, final WorkOrderChildrenLoader.WorkOrderChildren workOrderChildren) {
+        List<Image> imageList = workOrderChildren.getImages(workOrderId);
+        List<Form> formList = workOrderChildren.getForms(workOrderId);
+        List<Inventory> inventoryList = workOrderChildren.getInventories(workOrderId);
+        List<VoiceMEMO> voiceMEMOList = workOrderChildren.getVoiceMEMOs(workOrderId);
 
-                MooringDueServiceResponseDto mooringDueServiceResponseDtoFromMap = mooringDueServiceResponseDtoHashMap.get(mooringDueServiceResponseDto.getMooringNumber());
+        if (!imageList.isEmpty()) {
+            workOrderResponseDto.setImageResponseDtoList(imageList
+                    .stream()
+                    .map(image -> imageVariantService.setDownloadUrls(imageMapper.toResponseDto(ImageResponseDto.builder().build(), image)))
+                    .toList());
+        }
+        if (!formList.isEmpty()) {
+            workOrderResponseDto.setFormResponseDtoList(formList
+                    .stream()
+                    .map(form -> formMapper.toResponseDto(FormResponseDto.builder().build(), form))
+                    .toList());
+        }
+        if (!inventoryList.isEmpty()) {
+            workOrderResponseDto.setInventoryResponseDtoList(inventoryList
+                    .stream()
+                    .map(inventory -> {
+                        final InventoryResponseDto inventoryResponseDto = inventoryMapper.mapToInventoryResponseDto(InventoryResponseDto.builder().build(), inventory);
+                        VendorResponseDto vendorResponseDto = vendorMapper.mapToVendorResponseDto(VendorResponseDto.builder().build(), inventory.getVendor());
+                        inventoryResponseDto.setVendorResponseDto(vendorResponseDto);
+                        return inventoryResponseDto;
+                    })
+                    .toList());
+        }
+        if (!voiceMEMOList.isEmpty()) {
+            workOrderResponseDto.setVoiceMEMOResponseDtoList(voiceMEMOList
+                    .stream()
+                    .map(voiceMEMO -> voiceMEMOMapper.toResponseDto(VoiceMEMOResponseDto.builder().build(), voiceMEMO))
+                    .toList());
+        }
+    }
 
-                if (
-                        null != mooringDueServiceStatusDto
-                                && mooringDueServiceResponseDtoFromMap.getMooringDueServiceStatusDto().getStatus().equals(AppConstants.MooringDueServiceStatusConstants.COMPLETE)
-                                && !mooringDueServiceResponseDtoFromMap.getMooringDueServiceStatusDto().getStatus().equals(mooringDueServiceStatusDto.getStatus())
-                ) {
-                    mooringDueServiceResponseDtoFromMap.setMooringDueServiceStatusDto(mooringDueServiceStatusDto);
-                }
+    /**
+     * @return the start of the day 31 days from today, service dates before it are due within 30 days
+     */
+    private Date dueSoonBefore() {
+        return Date.from(LocalDate.now().plusDays(31).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
 
-                if (null != mooringDueServiceResponseDtoFromMap.getMooringServiceDate()) {
-                    String mooringDueServiceDateStr = mooringDueServiceResponseDtoFromMap.getMooringServiceDate();
-                    LocalDate mooringDueServiceDate = DateUtil.stringToLocalDate(mooringDueServiceDateStr);
+    /**
+     * Builds the rows of the mooring due for service list. The moorings of the rows are loaded with their
+     * associations in one query and mapped as before, the service date, under 30 and status come from the summary.
+     */
+    private List<MooringDueServiceResponseDto> getMooringDueServiceResponseDtoList(final List<MooringDueServiceSummary> mooringDueServiceSummaryList) {
+        if (mooringDueServiceSummaryList.isEmpty()) return new ArrayList<>();
 
-                    if (mooringDueServiceDate.isBefore(dateAfter31Days))
-                        mooringDueServiceResponseDtoFromMap.setUnder30(true);
+        final MooringDueServiceStatusDto pendingStatusDto = findMooringDueServiceStatusDto(AppConstants.MooringDueServiceStatusConstants.PENDING);
+        final MooringDueServiceStatusDto completeStatusDto = findMooringDueServiceStatusDto(AppConstants.MooringDueServiceStatusConstants.COMPLETE);
 
-                    if (null != workOrder.getDueDate()) {
-                        Date savedDueDate = workOrder.getDueDate();
-                        Date mooringServiceDate = DateUtil.stringToDate(mooringDueServiceResponseDtoFromMap.getMooringServiceDate());
-                        if (savedDueDate.before(mooringServiceDate)) {
-                            mooringDueServiceResponseDtoFromMap.setMooringServiceDate(DateUtil.dateToString(workOrder.getDueDate()));
-                        }
+        final Map<Integer, Mooring> mooringById = mooringRepository.findAllWithDetailsByIdIn(mooringDueServiceSummaryList
+                        .stream()
+                        .map(MooringDueServiceSummary::getMooringId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Mooring::getId, Function.identity()));
+
+        return mooringDueServiceSummaryList
+                .stream()
+                .filter(summary -> mooringById.containsKey(summary.getMooringId()))
+                .map(summary -> {
+                    final Mooring mooring = mooringById.get(summary.getMooringId());
+                    final MooringDueServiceResponseDto mooringDueServiceResponseDto = MooringDueServiceResponseDto.builder().build();
+                    mooringMapper.mapToMooringDueServiceResponseDto(mooringDueServiceResponseDto, mooring);
+
+                    if (null != mooring.getInstallBottomChainDate())
+                        mooringDueServiceResponseDto.setInstallBottomChainDate(DateUtil.dateToString(mooring.getInstallBottomChainDate()));
+                    if (null != mooring.getInstallTopChainDate())
+                        mooringDueServiceResponseDto.setInstallTopChainDate(DateUtil.dateToString(mooring.getInstallTopChainDate()));
+                    if (null != mooring.getInstallConditionOfEyeDate())
+                        mooringDueServiceResponseDto.setInstallConditionOfEyeDate(DateUtil.dateToString(mooring.getInstallConditionOfEyeDate()));
+                    if (null != mooring.getInspectionDate())
+                        mooringDueServiceResponseDto.setInspectionDate(DateUtil.dateToString(mooring.getInspectionDate()));
+
+                    if (null != mooring.getServiceArea())
+                        mooringDueServiceResponseDto.setServiceAreaResponseDto(serviceAreaMapper.mapToResponseDto(ServiceAreaResponseDto.builder().build(), mooring.getServiceArea()));
+
+                    if (null != mooring.getCustomer()) {
+                        final Customer customer = mooring.getCustomer();
+                        mooringDueServiceResponseDto.setCustomerResponseDto(customerMapper.mapToCustomerResponseDto(CustomerResponseDto.builder().build(), customer));
+                        if (null != customer.getFirstName() && null != customer.getLastName())
+                            mooringDueServiceResponseDto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
                     }
-                }
-            } else {
-                if (null == workOrder.getDueDate()) continue;
-
-                mooringDueServiceResponseDto.setMooringServiceDate(DateUtil.dateToString(workOrder.getDueDate()));
-
-                String mooringDueServiceDateStr = mooringDueServiceResponseDto.getMooringServiceDate();
-                LocalDate mooringDueServiceDate = DateUtil.stringToLocalDate(mooringDueServiceDateStr);
 
-                if (mooringDueServiceDate.isBefore(dateAfter31Days)) mooringDueServiceResponseDto.setUnder30(true);
-
-                if (null != workOrder.getMooring()) {
-                    if (null != workOrder.getMooring().getInstallBottomChainDate())
-                        mooringDueServiceResponseDto.setInstallBottomChainDate(DateUtil.dateToString(workOrder.getMooring().getInstallBottomChainDate()));
-                    if (null != workOrder.getMooring().getInstallTopChainDate())
-                        mooringDueServiceResponseDto.setInstallTopChainDate(DateUtil.dateToString(workOrder.getMooring().getInstallTopChainDate()));
-                    if (null != workOrder.getMooring().getInstallConditionOfEyeDate())
-                        mooringDueServiceResponseDto.setInstallConditionOfEyeDate(DateUtil.dateToString(workOrder.getMooring().getInstallConditionOfEyeDate()));
-                    if (null != workOrder.getMooring().getInspectionDate())
-                        mooringDueServiceResponseDto.setInspectionDate(DateUtil.dateToString(workOrder.getMooring().getInspectionDate()));
-                    if (null != workOrder.getMooring().getServiceArea())
-                        mooringDueServiceResponseDto.setServiceAreaResponseDto(serviceAreaMapper.mapToResponseDto(ServiceAreaResponseDto.builder().build(), workOrder.getMooring().getServiceArea()));
-                    mooringDueServiceResponseDtoHashMap.put(mooringDueServiceResponseDto.getMooringNumber(), mooringDueServiceResponseDto);
-                }
-            }
+                    if (null != mooring.getBoatyard()) {
+                        final Boatyard boatyard = mooring.getBoatyard();
+                        mooringDueServiceResponseDto.setBoatyardResponseDto(boatyardMapper.mapToBoatYardResponseDto(BoatyardResponseDto.builder().build(), boatyard));
+                        mooringDueServiceResponseDto.setMainContact(boatyard.getMainContact());
+                    }
 
-        }
-        Collection<MooringDueServiceResponseDto> mooringDueServiceResponseDtoCollection = mooringDueServiceResponseDtoHashMap.values();
-        return new ArrayList<>(mooringDueServiceResponseDtoCollection);
+                    mooringDueServiceResponseDto.setMooringServiceDate(DateUtil.dateToString(summary.getMooringServiceDate()));
+                    mooringDueServiceResponseDto.setUnder30(summary.getUnder30());
+                    mooringDueServiceResponseDto.setMooringDueServiceStatusDto(Boolean.TRUE.equals(summary.getPending()) ? pendingStatusDto : completeStatusDto);
+                    return mooringDueServiceResponseDto;
+                })
+                .collect(Collectors.toList());
     }
 
-    public String createWorkOrderNumber() {
-        final StringBuilder workOrderNumber = new StringBuilder();
-        workOrderNumber.append("WOR");
-
-
-        int randomThreeDigitNumber = 100 + (int) (Math.random() * 900);
-        String randomThreeDigitNumberStr = Integer.toString(randomThreeDigitNumber);
-        workOrderNumber.append(randomThreeDigitNumberStr);
-
-        final String workOrderNumberStr = workOrderNumber.toString();
-
-        Optional<WorkOrder> optionalWorkOrder = workOrderRepository.findByWorkOrderNumber(workOrderNumberStr);
-        if (optionalWorkOrder.isPresent()) createWorkOrderNumber();
-        return workOrderNumberStr;
+    private MooringDueServiceStatusDto findMooringDueServiceStatusDto(final String status) {
+        final MooringDueServiceStatus mooringDueServiceStatus = metadataRegistry.findByName(MooringDueServiceStatus.class, status)
+                .orElseThrow(() -> new RuntimeException(String.format("No mooring due for service status found with the status as %1$s", status)));
+        final MooringDueServiceStatusDto mooringDueServiceStatusDto = MooringDueServiceStatusDto.builder().build();
+        mooringDueServiceStatusMapper.toDto(mooringDueServiceStatusDto, mooringDueServiceStatus);
+        return mooringDueServiceStatusDto;
     }
 }
@@ -0,0 +1,45 @@
+package com.marinamooringmanagement.utils;
+
+import java.nio.charset.StandardCharsets;
+
+public class ContentTypeUtils {
+
+    public static final String OCTET_STREAM = "application/octet-stream";
+
+    public static final String PDF = "application/pdf";
+
+    /**
+     * Detects the media type of a file from the magic bytes at its start.
+     *
+     * @param header   the first bytes of the file, at least 12 are needed to tell all supported types apart
+     * @param fallback the media type to return when the header is not recognised
+     * @return the detected media type or the fallback
+     */
+    public static String detect(final byte[] header, final String fallback) {
+        if (null == header) return fallback;
+
+        if (startsWith(header, 0, 0x89, 'P', 'N', 'G')) return "image/png";
+        if (startsWith(header, 0, 0xFF, 0xD8, 0xFF)) return "image/jpeg";
+        if (startsWith(header, 0, 'G', 'I', 'F', '8')) return "image/gif";
+        if (startsWith(header, 0, 'B', 'M')) return "image/bmp";
+        if (startsWith(header, 0, 'R', 'I', 'F', 'F') && startsWith(header, 8, 'W', 'E', 'B', 'P')) return "image/webp";
+        if (startsWith(header, 0, 'R', 'I', 'F', 'F') && startsWith(header, 8, 'W', 'A', 'V', 'E')) return "audio/wav";
+        if (startsWith(header, 0, '%', 'P', 'D', 'F', '-')) return PDF;
+        if (startsWith(header, 0, 'I', 'D', '3') || startsWith(header, 0, 0xFF, 0xFB)) return "audio/mpeg";
+        if (startsWith(header, 0, 'O', 'g', 'g', 'S')) return "audio/ogg";
+        if (startsWith(header, 0, 0x1A, 0x45, 0xDF, 0xA3)) return "audio/webm";
+        if (startsWith(header, 4, 'f', 't', 'y', 'p')) {
+            final String brand = new String(header, 8, Math.min(4, header.length - 8), StandardCharsets.US_ASCII);
+            return brand.startsWith("M4A") ? "audio/mp4" : (brand.startsWith("hei") ? "image/heic" : "video/mp4");
+        }
+        return fallback;
+    }
+
+    private static boolean startsWith(final byte[] header, final int offset, final int... magic) {
+        if (header.length < offset + magic.length) return false;
+        for (int i = 0; i < magic.length; i++) {
+            if ((header[offset + i] & 0xFF) != magic[i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+package com.marinamooringmanagement.utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma separated values one record at a time, as written by spreadsheet applications (RFC 4180). Fields
+ * may be quoted, a quoted field may contain commas, line breaks and quotes written twice.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+
+    private final StringBuilder field = new StringBuilder();
+
+    private int recordNumber;
+
+    private boolean firstCharacter = true;
+
+    public CsvReader(final Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * @return the fields of the next record, or {@code null} at the end of the input
+     * @throws IOException if the input cannot be read or ends inside a quoted field
+     */
+    public List<String> readRecord() throws IOException {
+        int ch = read();
+        if (ch == -1) return null;
+
+        final List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean afterQuote = false;
+        while (true) {
+            if (quoted) {
+                if (ch == -1)
+                    throw new IOException(String.format("Record %1$s ends inside a quoted field", recordNumber + 1));
+                if (ch == '"') {
+                    quoted = false;
+                    afterQuote = true;
+                } else {
+                    field.append((char) ch);
+                }
+            } else if (ch == '"') {
+                // a quote inside a quoted field is written twice
+                if (afterQuote) field.append('"');
+                quoted = true;
+                afterQuote = false;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (ch == '\r' || ch == '\n' || ch == -1) {
+                if (ch == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') reader.reset();
+                }
+                fields.add(field.toString());
+                recordNumber++;
+                return fields;
+            } else {
+                field.append((char) ch);
+                afterQuote = false;
+            }
+            ch = read();
+        }
+    }
+
+    /**
+     * @return the number of records read so far
+     */
+    public int getRecordNumber() {
+        return recordNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        int ch = reader.read();
+        if (firstCharacter) {
+            firstCharacter = false;
+            if (ch == BYTE_ORDER_MARK) ch = reader.read();
+        }
+        return ch;
+    }
+}
@@ -0,0 +1,75 @@
+package com.marinamooringmanagement.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes comma separated values in UTF-8 as read by {@link CsvReader} and spreadsheet applications (RFC 4180).
+ * The file starts with a byte order mark so that spreadsheet applications detect the encoding. A text field that
+ * a spreadsheet would read as a formula is prefixed with an apostrophe and quoted.
+ */
+public class CsvWriter implements ExportWriter {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Writer writer;
+
+    public CsvWriter(final OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(BYTE_ORDER_MARK);
+    }
+
+    @Override
+    public void writeRow(final Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            final Object value = values[i];
+            if (null == value) continue;
+            if (value instanceof BigDecimal decimal) writer.write(decimal.toPlainString());
+            else if (value instanceof Number) writer.write(value.toString());
+            else writeField(value.toString());
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(final String text) throws IOException {
+        final boolean formula = isFormula(text);
+        final String field = formula ? "'" + text : text;
+        boolean quote = formula;
+        for (int i = 0; i < field.length() && !quote; i++) {
+            final char ch = field.charAt(i);
+            quote = ch == ',' || ch == '"' || ch == '\r' || ch == '\n';
+        }
+        if (!quote) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < field.length(); i++) {
+            final char ch = field.charAt(i);
+            // a quote inside a quoted field is written twice
+            if (ch == '"') writer.write('"');
+            writer.write(ch);
+        }
+        writer.write('"');
+    }
+
+    /**
+     * @return whether a spreadsheet would evaluate the text as a formula
+     */
+    private static boolean isFormula(final String text) {
+        if (text.isEmpty()) return false;
+        final char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
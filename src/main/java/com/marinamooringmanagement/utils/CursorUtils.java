@@ -0,0 +1,63 @@
+package com.marinamooringmanagement.utils;
+
+import com.marinamooringmanagement.exception.InvalidPaginationRequestException;
+import com.marinamooringmanagement.model.request.KeysetCursor;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class CursorUtils {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encodes a keyset cursor into an opaque, URL safe token.
+     *
+     * @param cursor the cursor to encode
+     * @return the token, or {@code null} if the cursor is {@code null}
+     */
+    public static String encode(final KeysetCursor cursor) {
+        if (null == cursor) return null;
+        final String raw = String.join(SEPARATOR,
+                cursor.getSortBy(),
+                cursor.getSortDir(),
+                String.valueOf(cursor.getLastId()),
+                cursor.getSortValue());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode(KeysetCursor)} and checks that it was issued for the
+     * same sort the client is requesting now.
+     *
+     * @param token   the opaque cursor token
+     * @param sortBy  the requested sort field
+     * @param sortDir the requested sort direction
+     * @return the decoded cursor, or {@code null} if no token was given
+     * @throws InvalidPaginationRequestException if the token is malformed or belongs to another sort
+     */
+    public static KeysetCursor decode(final String token, final String sortBy, final String sortDir) {
+        if (StringUtils.isBlank(token)) return null;
+        final KeysetCursor cursor;
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // the sort value goes last so that it may itself contain the separator
+            final String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4) throw new InvalidPaginationRequestException("Malformed cursor");
+            cursor = KeysetCursor.builder()
+                    .sortBy(parts[0])
+                    .sortDir(parts[1])
+                    .lastId(Integer.valueOf(parts[2]))
+                    .sortValue(parts[3])
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPaginationRequestException("Malformed cursor", e);
+        }
+        if (!StringUtils.equalsIgnoreCase(cursor.getSortBy(), sortBy)
+                || !StringUtils.equalsIgnoreCase(cursor.getSortDir(), sortDir)) {
+            throw new InvalidPaginationRequestException("Cursor does not match the requested sort order");
+        }
+        return cursor;
+    }
+}
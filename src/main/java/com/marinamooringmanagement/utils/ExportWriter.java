@@ -0,0 +1,22 @@
+package com.marinamooringmanagement.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes the rows of an export one at a time, nothing but the row being written is held in memory.
+ */
+public interface ExportWriter extends Closeable {
+
+    /**
+     * @param values the cells of the row, strings and numbers are written as such and {@code null} as an empty cell
+     * @throws IOException if the row cannot be written
+     */
+    void writeRow(final Object... values) throws IOException;
+
+    /**
+     * Completes the file and flushes it. The underlying stream is left open.
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,244 @@
+package com.marinamooringmanagement.utils;
+
+/**
+ * Parses GPS coordinates in a single pass over their characters, without allocating and without exceptions.
+ *
+ * <p>The coordinates are a latitude and a longitude separated by whitespace, each either in decimal degrees
+ * ({@code 41.52}) or in degrees and decimal minutes separated by dots ({@code 41.31.2}), with an optional sign.
+ * Commas are ignored. The result is a {@code long} packing both values in millionths of a degree, the precision
+ * the coordinates are stored with, or one of the negative error codes.
+ */
+public class GPSCoordinateParser {
+
+    public static final long NO_COORDINATES = -1;
+
+    public static final long INVALID_LATITUDE_FORMAT = -2;
+
+    public static final long INVALID_LONGITUDE_FORMAT = -3;
+
+    public static final long LATITUDE_OUT_OF_RANGE = -4;
+
+    public static final long LONGITUDE_OUT_OF_RANGE = -5;
+
+    private static final long MICROS_PER_DEGREE = 1_000_000;
+
+    private static final long MAX_LATITUDE = 90 * MICROS_PER_DEGREE;
+
+    private static final long MAX_LONGITUDE = 180 * MICROS_PER_DEGREE;
+
+    // decimals of minutes beyond what a double holds exactly are ignored
+    private static final int MAX_MINUTE_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = new double[MAX_MINUTE_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    /**
+     * @return the packed coordinates, or a negative error code
+     */
+    public static long parse(final CharSequence coordinates) {
+        if (null == coordinates) return NO_COORDINATES;
+        final int length = coordinates.length();
+
+        int latitudeStart = 0;
+        while (latitudeStart < length && isWhitespace(coordinates.charAt(latitudeStart))) latitudeStart++;
+        if (latitudeStart == length) return NO_COORDINATES;
+        int latitudeEnd = latitudeStart;
+        while (latitudeEnd < length && !isWhitespace(coordinates.charAt(latitudeEnd))) latitudeEnd++;
+
+        int longitudeStart = latitudeEnd;
+        while (longitudeStart < length && isWhitespace(coordinates.charAt(longitudeStart))) longitudeStart++;
+        int longitudeEnd = longitudeStart;
+        while (longitudeEnd < length && !isWhitespace(coordinates.charAt(longitudeEnd))) longitudeEnd++;
+        int end = longitudeEnd;
+        while (end < length && isWhitespace(coordinates.charAt(end))) end++;
+        if (longitudeStart == longitudeEnd || end != length) return INVALID_LONGITUDE_FORMAT;
+
+        final long latitude = parseDegrees(coordinates, latitudeStart, latitudeEnd, MAX_LATITUDE);
+        if (latitude == Long.MIN_VALUE) return INVALID_LATITUDE_FORMAT;
+        if (latitude == Long.MAX_VALUE) return LATITUDE_OUT_OF_RANGE;
+        final long longitude = parseDegrees(coordinates, longitudeStart, longitudeEnd, MAX_LONGITUDE);
+        if (longitude == Long.MIN_VALUE) return INVALID_LONGITUDE_FORMAT;
+        if (longitude == Long.MAX_VALUE) return LONGITUDE_OUT_OF_RANGE;
+
+        return pack(latitude, longitude);
+    }
+
+    /**
+     * Parses every coordinate of the batch, invalid ones are set to their error code.
+     */
+    public static long[] parseAll(final CharSequence[] coordinates) {
+        final long[] parsed = new long[coordinates.length];
+        for (int i = 0; i < coordinates.length; i++) parsed[i] = parse(coordinates[i]);
+        return parsed;
+    }
+
+    /**
+     * Normalizes every coordinate of the batch to the format returned by {@link #format}, invalid ones are set
+     * to {@code null}.
+     */
+    public static String[] normalizeAll(final CharSequence[] coordinates) {
+        final String[] normalized = new String[coordinates.length];
+        final StringBuilder builder = new StringBuilder(24);
+        for (int i = 0; i < coordinates.length; i++) {
+            final long parsed = parse(coordinates[i]);
+            if (isError(parsed)) continue;
+            builder.setLength(0);
+            normalized[i] = appendTo(builder, parsed).toString();
+        }
+        return normalized;
+    }
+
+    public static boolean isError(final long coordinates) {
+        return coordinates < 0;
+    }
+
+    public static long latitudeInMicroDegrees(final long coordinates) {
+        return (coordinates >>> 32) - MAX_LATITUDE;
+    }
+
+    public static long longitudeInMicroDegrees(final long coordinates) {
+        return (coordinates & 0xFFFFFFFFL) - MAX_LONGITUDE;
+    }
+
+    public static double latitude(final long coordinates) {
+        return (double) latitudeInMicroDegrees(coordinates) / MICROS_PER_DEGREE;
+    }
+
+    public static double longitude(final long coordinates) {
+        return (double) longitudeInMicroDegrees(coordinates) / MICROS_PER_DEGREE;
+    }
+
+    /**
+     * @return the latitude and the longitude in decimal degrees with six decimals separated by a space, the
+     * format the coordinates are stored in
+     */
+    public static String format(final long coordinates) {
+        return appendTo(new StringBuilder(24), coordinates).toString();
+    }
+
+    public static StringBuilder appendTo(final StringBuilder builder, final long coordinates) {
+        appendMicroDegrees(builder, latitudeInMicroDegrees(coordinates));
+        builder.append(' ');
+        appendMicroDegrees(builder, longitudeInMicroDegrees(coordinates));
+        return builder;
+    }
+
+    public static String errorMessage(final long error) {
+        if (error == NO_COORDINATES) return "No GPS coordinates";
+        if (error == INVALID_LATITUDE_FORMAT) return "Latitude is in wrong format";
+        if (error == INVALID_LONGITUDE_FORMAT) return "Longitude is in wrong format";
+        if (error == LATITUDE_OUT_OF_RANGE) return "Latitude is not valid";
+        if (error == LONGITUDE_OUT_OF_RANGE) return "Longitude is not valid";
+        return null;
+    }
+
+    private static long pack(final long latitude, final long longitude) {
+        return (latitude + MAX_LATITUDE) << 32 | (longitude + MAX_LONGITUDE);
+    }
+
+    /**
+     * @return the value in millionths of a degree, {@link Long#MIN_VALUE} if it is not a number in either format
+     * and {@link Long#MAX_VALUE} if its magnitude is greater than {@code max}
+     */
+    private static long parseDegrees(final CharSequence value, final int start, final int end, final long max) {
+        int position = start;
+        while (position < end && value.charAt(position) == ',') position++;
+        boolean negative = false;
+        if (position < end && (value.charAt(position) == '-' || value.charAt(position) == '+')) {
+            negative = value.charAt(position) == '-';
+            position++;
+        }
+
+        // the groups of digits before, between and after the dots
+        long degrees = 0;
+        int degreeDigits = 0;
+        // the second group read as the decimals of decimal degrees, the first six, the seventh and any after
+        long decimals = 0;
+        int decimalDigits = 0;
+        int roundingDigit = 0;
+        boolean remainder = false;
+        // the second group read as whole minutes, the third as the decimals of the minutes
+        long minutes = 0;
+        long minuteDecimals = 0;
+        int minuteDecimalDigits = 0;
+        int dots = 0;
+        for (; position < end; position++) {
+            final char ch = value.charAt(position);
+            if (ch == ',') continue;
+            if (ch == '.') {
+                if (++dots > 2) return Long.MIN_VALUE;
+                continue;
+            }
+            if (ch < '0' || ch > '9') return Long.MIN_VALUE;
+            final int digit = ch - '0';
+            if (dots == 0) {
+                degrees = degrees * 10 + digit;
+                degreeDigits++;
+                if (degrees > 1000) return Long.MAX_VALUE;
+            } else if (dots == 1) {
+                if (decimalDigits < 6) decimals = decimals * 10 + digit;
+                else if (decimalDigits == 6) roundingDigit = digit;
+                else if (digit != 0) remainder = true;
+                decimalDigits++;
+                minutes = minutes * 10 + digit;
+                if (minutes > 1_000_000) minutes = 1_000_000;
+            } else if (minuteDecimalDigits < MAX_MINUTE_DIGITS) {
+                minuteDecimals = minuteDecimals * 10 + digit;
+                minuteDecimalDigits++;
+            }
+        }
+
+        final long micros;
+        if (dots == 1) {
+            // decimal degrees, rounded half up at the sixth decimal
+            if (degreeDigits == 0 && decimalDigits == 0) return Long.MIN_VALUE;
+            for (int scale = decimalDigits; scale < 6; scale++) decimals *= 10;
+            final long truncated = degrees * MICROS_PER_DEGREE + decimals;
+            if (truncated > max || (truncated == max && (roundingDigit != 0 || remainder))) return Long.MAX_VALUE;
+            micros = roundingDigit >= 5 ? truncated + 1 : truncated;
+        } else if (dots == 2) {
+            // degrees and decimal minutes
+            if (minuteDecimalDigits == 0) return Long.MIN_VALUE;
+            final long mantissa = minutes * (long) POWERS_OF_TEN[minuteDecimalDigits] + minuteDecimals;
+            // one correctly rounded division while the digits fit a double exactly, as parsing them would
+            final double decimalMinutes = mantissa < 1L << 53
+                    ? mantissa / POWERS_OF_TEN[minuteDecimalDigits]
+                    : minutes + minuteDecimals / POWERS_OF_TEN[minuteDecimalDigits];
+            final double decimalDegrees = degrees + decimalMinutes / 60;
+            if (decimalDegrees * MICROS_PER_DEGREE > max) return Long.MAX_VALUE;
+            micros = roundHalfUp(decimalDegrees);
+        } else {
+            return Long.MIN_VALUE;
+        }
+        return negative ? -micros : micros;
+    }
+
+    /**
+     * Rounds a positive value to millionths, half up on its decimal representation as
+     * {@code String.format("%.6f")} does. The half is compared as the double nearest to it, scaling the value
+     * instead could round it across the half.
+     */
+    private static long roundHalfUp(final double decimalDegrees) {
+        final long truncated = (long) Math.floor(decimalDegrees * MICROS_PER_DEGREE);
+        return decimalDegrees >= (truncated + 0.5) / MICROS_PER_DEGREE ? truncated + 1 : truncated;
+    }
+
+    private static void appendMicroDegrees(final StringBuilder builder, final long microDegrees) {
+        long value = microDegrees;
+        if (value < 0) {
+            builder.append('-');
+            value = -value;
+        }
+        builder.append(value / MICROS_PER_DEGREE).append('.');
+        final long decimals = value % MICROS_PER_DEGREE;
+        for (long divisor = MICROS_PER_DEGREE / 10; divisor > 0; divisor /= 10) builder.append((char) ('0' + decimals / divisor % 10));
+    }
+
+    private static boolean isWhitespace(final char ch) {
+        return ch == ' ' || ch == '\t';
+    }
+}
@@ -4,78 +4,24 @@ import com.marinamooringmanagement.exception.handler.GlobalExceptionHandler;
 
 public class GPSUtil extends GlobalExceptionHandler {
 
-    public static String getGpsCoordinates(String givenGpsCoordinates) {
-        try {
-            String gpsCoordinates = givenGpsCoordinates.replace(",", "");
-
-            boolean westernHemisphere = false;
-            boolean southernHemisphere = false;
-
-            int spaceInd = 0;
-            while (gpsCoordinates.charAt(spaceInd) != ' ') spaceInd++;
-            if (spaceInd == gpsCoordinates.length() - 1)
-                throw new RuntimeException(String.format("Invalid GPS Coordinate: %1$s format", gpsCoordinates));
-
-            String latitude = gpsCoordinates.substring(0, spaceInd);
-            String longitude = gpsCoordinates.substring(spaceInd);
-
-            double decimalLatitude = 0;
-            double decimalLongitude = 0;
-
-            int latDotCount = 0;
-            for (char ch : latitude.toCharArray()) if (ch == '.') latDotCount++;
-            if (latDotCount < 1 || latDotCount > 3)
-                throw new RuntimeException(String.format("Latitude: %1$s is in wrong format", latitude));
-            if (latDotCount == 2) {
-
-                int zeroIndLat = 0;
-                while (latitude.charAt(zeroIndLat) == '0' || latitude.charAt(zeroIndLat) == ' ') zeroIndLat++;
-                latitude = latitude.substring(zeroIndLat);
-
-                if(latitude.charAt(0) == '-') {
-                    southernHemisphere = true;
-                    latitude = latitude.substring(1);
-                }
-
-                decimalLatitude = convertToDecimalDegrees(latitude);
-
-                if(southernHemisphere) decimalLatitude = -decimalLatitude;
-            }
-            else decimalLatitude = Double.parseDouble(latitude);
-
-            int longDotCount = 0;
-            for (char ch : longitude.toCharArray()) if (ch == '.') longDotCount++;
-            if (longDotCount < 1 || longDotCount > 3)
-                throw new RuntimeException(String.format("Longitude: %1$s is in wrong format", longitude));
-            if (longDotCount == 2) {
-
-                int zeroIndLong = 0;
-                while (longitude.charAt(zeroIndLong) == '0' || longitude.charAt(zeroIndLong) == ' ') zeroIndLong++;
-                longitude = longitude.substring(zeroIndLong);
+    public static final double EARTH_RADIUS_IN_METERS = 6_371_008.8;
 
-                if(latitude.charAt(0) == '-') {
-                    westernHemisphere = true;
-                    longitude = longitude.substring(1);
-                }
-
-                decimalLongitude = convertToDecimalDegrees(longitude);
-
-                if (westernHemisphere) decimalLongitude = -decimalLongitude;
-            }
-            else decimalLongitude = Double.parseDouble(longitude);
-
-            if (!isValidLatitude(decimalLatitude))
-                throw new RuntimeException(String.format("Latitude: %1$s is not valid", latitude));
-            if (!isValidLongitude(decimalLongitude))
-                throw new RuntimeException(String.format("Longitude: %1$s is not valid", longitude));
-
-            String latitudeString = String.format("%.6f", decimalLatitude);
-            String longitudeString = String.format("%.6f", decimalLongitude);
+    /**
+     * Normalizes coordinates in decimal degrees or in degrees and decimal minutes to decimal degrees with six
+     * decimals, see {@link GPSCoordinateParser}.
+     */
+    public static String getGpsCoordinates(String givenGpsCoordinates) {
+        return GPSCoordinateParser.format(parseGpsCoordinates(givenGpsCoordinates));
+    }
 
-            return latitudeString + " " + longitudeString;
-        } catch (Exception e) {
+    /**
+     * @return the coordinates packed by {@link GPSCoordinateParser#parse}
+     */
+    public static long parseGpsCoordinates(final String givenGpsCoordinates) {
+        final long coordinates = GPSCoordinateParser.parse(givenGpsCoordinates);
+        if (GPSCoordinateParser.isError(coordinates))
             throw new RuntimeException("Wrong GPS coordinate");
-        }
+        return coordinates;
     }
 
     public static double convertToDecimalDegrees(String dmm) throws NumberFormatException {
@@ -95,6 +41,38 @@ public class GPSUtil extends GlobalExceptionHandler {
         }
     }
 
+    /**
+     * @param gpsCoordinates coordinates as returned by {@link #getGpsCoordinates}, latitude and longitude in
+     *                       decimal degrees separated by a space
+     * @return the latitude and the longitude, or {@code null} if the coordinates are not in that format
+     */
+    public static double[] toDecimalDegrees(final String gpsCoordinates) {
+        if (null == gpsCoordinates) return null;
+        final String[] parts = gpsCoordinates.trim().split("\\s+");
+        if (parts.length != 2) return null;
+        try {
+            // the coordinates are formatted with the default locale, which may use a decimal comma
+            final double latitude = Double.parseDouble(parts[0].replace(',', '.'));
+            final double longitude = Double.parseDouble(parts[1].replace(',', '.'));
+            if (!isValidLatitude(latitude) || !isValidLongitude(longitude)) return null;
+            return new double[]{latitude, longitude};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the great-circle distance between two points in meters, by the haversine formula
+     */
+    public static double distanceInMeters(final double latitude1, final double longitude1, final double latitude2, final double longitude2) {
+        final double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        final double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        final double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return 2 * EARTH_RADIUS_IN_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
     public static boolean isValidLatitude(double latitude) {
         return latitude >= -90 && latitude <= 90;
     }
@@ -1,11 +1,9 @@
 package com.marinamooringmanagement.utils;
 
-import javax.imageio.ImageIO;
-import java.io.ByteArrayInputStream;
+import org.apache.commons.lang3.StringUtils;
+
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Base64;
-import java.util.List;
 
 public class ImageUtils {
 
@@ -13,7 +11,7 @@ public class ImageUtils {
         try {
             byte[] decodedBytes = Base64.getDecoder().decode(encodedString);
 
-            boolean isValidFile = isValidFile(decodedBytes);
+            boolean isValidFile = isImage(decodedBytes);
 
             if (isValidFile) return decodedBytes;
             else throw new RuntimeException("Invalid image file");
@@ -22,19 +20,14 @@ public class ImageUtils {
         }
     }
 
-    private static boolean isValidFile(byte[] decodedBytes) throws IOException {
-
-        try (InputStream inputStream = new ByteArrayInputStream(decodedBytes)){
-            return isImage(inputStream);
-        } catch (Exception e) {
-            throw e;
-        }
-
-    }
-
-    private static boolean isImage(InputStream inputStream) throws IOException {
-        if(ImageIO.read(inputStream) == null) return false;
-        return true;
+    /**
+     * Checks the magic bytes of a file, the image itself is not decoded.
+     *
+     * @param header the file or at least its first bytes
+     * @return whether the file is in one of the supported image formats
+     */
+    public static boolean isImage(final byte[] header) {
+        return StringUtils.startsWith(ContentTypeUtils.detect(header, null), "image/");
     }
 
 }
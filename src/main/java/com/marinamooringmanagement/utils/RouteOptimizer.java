@@ -0,0 +1,217 @@
+package com.marinamooringmanagement.utils;
+
+/**
+ * Orders the stops of a route so that the total distance traveled is short. The route is open, it ends at its
+ * last stop. The order is built by nearest neighbor and improved by 2-opt and Or-opt moves until no move
+ * shortens it or the time budget is spent, which for a day of work orders is well before the budget.
+ */
+public class RouteOptimizer {
+
+    private static final double EPSILON = 1e-7;
+
+    // longest segment of consecutive stops an Or-opt move relocates
+    private static final int MAX_SEGMENT_LENGTH = 3;
+
+    // stands for the position after the last stop, the distance to it is zero
+    private static final int END = -1;
+
+    private final double[][] distances;
+
+    private final long deadline;
+
+    private RouteOptimizer(final double[][] distances, final long deadline) {
+        this.distances = distances;
+        this.deadline = deadline;
+    }
+
+    /**
+     * @param latitudes      latitudes of the stops in decimal degrees
+     * @param longitudes     longitudes of the stops in decimal degrees
+     * @param startLatitude  latitude the route starts from, or {@code null} to start at whichever stop is best
+     * @param startLongitude longitude the route starts from, or {@code null} to start at whichever stop is best
+     * @param timeBudgetInMillis time after which the best order found so far is returned
+     * @return the indexes of the stops in visiting order
+     */
+    public static int[] optimize(final double[] latitudes, final double[] longitudes,
+                                 final Double startLatitude, final Double startLongitude,
+                                 final long timeBudgetInMillis) {
+        final int stops = latitudes.length;
+        if (stops == 0) return new int[0];
+        final boolean fixedStart = null != startLatitude && null != startLongitude;
+
+        // node 0 is the start, without a fixed start it is at distance zero from every stop
+        final double[][] distances = new double[stops + 1][stops + 1];
+        for (int i = 0; i < stops; i++) {
+            for (int j = i + 1; j < stops; j++) {
+                distances[i + 1][j + 1] = distances[j + 1][i + 1] = GPSUtil.distanceInMeters(latitudes[i], longitudes[i], latitudes[j], longitudes[j]);
+            }
+            if (fixedStart)
+                distances[0][i + 1] = distances[i + 1][0] = GPSUtil.distanceInMeters(startLatitude, startLongitude, latitudes[i], longitudes[i]);
+        }
+
+        final RouteOptimizer optimizer = new RouteOptimizer(distances, System.nanoTime() + timeBudgetInMillis * 1_000_000);
+        final int[] route = fixedStart ? optimizer.nearestNeighbor(0) : optimizer.bestNearestNeighbor();
+        optimizer.improve(route);
+
+        final int[] order = new int[stops];
+        for (int i = 0; i < stops; i++) order[i] = route[i + 1] - 1;
+        return order;
+    }
+
+    /**
+     * @return the length of the route visiting the points in the given order, in meters
+     */
+    public static double length(final double[] latitudes, final double[] longitudes, final int[] order) {
+        double length = 0;
+        for (int i = 1; i < order.length; i++)
+            length += GPSUtil.distanceInMeters(latitudes[order[i - 1]], longitudes[order[i - 1]], latitudes[order[i]], longitudes[order[i]]);
+        return length;
+    }
+
+    /**
+     * Without a fixed start every stop is tried as the first one, the shortest route is kept.
+     */
+    private int[] bestNearestNeighbor() {
+        int[] best = null;
+        double bestLength = Double.MAX_VALUE;
+        for (int first = 1; first < distances.length && (null == best || !expired()); first++) {
+            final int[] route = nearestNeighbor(first);
+            final double length = length(route);
+            if (length < bestLength) {
+                best = route;
+                bestLength = length;
+            }
+        }
+        return best;
+    }
+
+    private int[] nearestNeighbor(final int first) {
+        final int nodes = distances.length;
+        final int[] route = new int[nodes];
+        final boolean[] visited = new boolean[nodes];
+        visited[0] = true;
+        int position = 1;
+        if (first != 0) {
+            route[position++] = first;
+            visited[first] = true;
+        }
+        while (position < nodes) {
+            final int last = route[position - 1];
+            int next = -1;
+            for (int node = 1; node < nodes; node++) {
+                if (!visited[node] && (next == -1 || distances[last][node] < distances[last][next])) next = node;
+            }
+            route[position++] = next;
+            visited[next] = true;
+        }
+        return route;
+    }
+
+    private void improve(final int[] route) {
+        boolean improved = true;
+        while (improved && !expired()) {
+            improved = twoOpt(route);
+            improved |= orOpt(route);
+        }
+    }
+
+    /**
+     * Reverses the part of the route between two edges when connecting its ends the other way is shorter.
+     */
+    private boolean twoOpt(final int[] route) {
+        final int nodes = route.length;
+        boolean improved = false;
+        for (int i = 1; i < nodes - 1 && !expired(); i++) {
+            for (int j = i + 1; j < nodes; j++) {
+                final int before = route[i - 1];
+                final int first = route[i];
+                final int last = route[j];
+                final int after = j + 1 < nodes ? route[j + 1] : END;
+                final double delta = distance(before, last) + distance(first, after) - distance(before, first) - distance(last, after);
+                if (delta < -EPSILON) {
+                    reverse(route, i, j);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Moves a run of up to {@link #MAX_SEGMENT_LENGTH} consecutive stops, in either direction, to the place in the
+     * route where it adds the least distance.
+     */
+    private boolean orOpt(final int[] route) {
+        final int nodes = route.length;
+        boolean improved = false;
+        for (int length = 1; length <= MAX_SEGMENT_LENGTH; length++) {
+            for (int i = 1; i + length <= nodes && !expired(); i++) {
+                final int end = i + length - 1;
+                final int before = route[i - 1];
+                final int first = route[i];
+                final int last = route[end];
+                final int after = end + 1 < nodes ? route[end + 1] : END;
+                final double removed = distance(before, first) + distance(last, after) - distance(before, after);
+
+                for (int k = 0; k < nodes; k++) {
+                    if (k >= i - 1 && k <= end) continue;
+                    final int previous = route[k];
+                    final int next = k + 1 < nodes ? route[k + 1] : END;
+                    final double base = distance(previous, next);
+                    final double forward = distance(previous, first) + distance(last, next) - base;
+                    final double reversed = distance(previous, last) + distance(first, next) - base;
+                    final double added = Math.min(forward, reversed);
+                    if (added - removed < -EPSILON) {
+                        move(route, i, end, k, reversed < forward);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Moves the stops between {@code from} and {@code to} behind the stop at {@code target}.
+     */
+    private static void move(final int[] route, final int from, final int to, final int target, final boolean reversed) {
+        final int length = to - from + 1;
+        final int[] segment = new int[length];
+        for (int i = 0; i < length; i++) segment[i] = route[reversed ? to - i : from + i];
+
+        final int[] rest = new int[route.length - length];
+        int position = 0;
+        int insertAt = -1;
+        for (int i = 0; i < route.length; i++) {
+            if (i >= from && i <= to) continue;
+            rest[position++] = route[i];
+            if (i == target) insertAt = position;
+        }
+        System.arraycopy(rest, 0, route, 0, insertAt);
+        System.arraycopy(segment, 0, route, insertAt, length);
+        System.arraycopy(rest, insertAt, route, insertAt + length, rest.length - insertAt);
+    }
+
+    private static void reverse(final int[] route, int from, int to) {
+        while (from < to) {
+            final int node = route[from];
+            route[from++] = route[to];
+            route[to--] = node;
+        }
+    }
+
+    private double length(final int[] route) {
+        double length = 0;
+        for (int i = 1; i < route.length; i++) length += distances[route[i - 1]][route[i]];
+        return length;
+    }
+
+    private double distance(final int from, final int to) {
+        return from == END || to == END ? 0 : distances[from][to];
+    }
+
+    private boolean expired() {
+        return System.nanoTime() - deadline > 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.marinamooringmanagement.utils;
+
+import com.marinamooringmanagement.model.entity.Boatyard;
+import com.marinamooringmanagement.model.entity.Customer;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds the search documents of the searchable entities. A document holds the lower-case values the list
+ * screens search in, one per line, so a single {@code LIKE '%text%'} on it replaces an {@code OR} over every
+ * searched column and can be served by a trigram index.
+ */
+public class SearchDocumentUtils {
+
+    public static final int MAX_LENGTH = 2000;
+
+    private static final String SEPARATOR = "\n";
+
+    public static String of(final WorkOrder workOrder) {
+        final Mooring mooring = workOrder.getMooring();
+        return join(workOrder.getId(), workOrder.getWorkOrderNumber(), workOrder.getProblem(),
+                fullName(workOrder.getCustomer()),
+                null == mooring ? null : mooring.getMooringNumber(),
+                null == mooring || null == mooring.getServiceArea() ? null : mooring.getServiceArea().getServiceAreaName(),
+                null == workOrder.getBoatyard() ? null : workOrder.getBoatyard().getBoatyardName(),
+                fullName(workOrder.getTechnicianUser()));
+    }
+
+    public static String of(final Mooring mooring) {
+        return join(mooring.getId(), mooring.getMooringNumber(), fullName(mooring.getCustomer()),
+                null == mooring.getServiceArea() ? null : mooring.getServiceArea().getServiceAreaName(),
+                mooring.getGpsCoordinates());
+    }
+
+    public static String of(final Customer customer) {
+        return join(customer.getId(), fullName(customer), customer.getCustomerId(), customer.getEmailAddress(), customer.getPhone(),
+                null == customer.getState() ? null : customer.getState().getName(),
+                null == customer.getCustomerType() ? null : customer.getCustomerType().getType(),
+                null == customer.getCountry() ? null : customer.getCountry().getName());
+    }
+
+    public static String of(final Boatyard boatyard) {
+        return join(boatyard.getId(), boatyard.getBoatyardName(), boatyard.getAddress(), boatyard.getBoatyardId());
+    }
+
+    public static String of(final User user) {
+        return join(user.getId(), fullName(user), user.getEmail(), user.getPhoneNumber(),
+                null == user.getRole() ? null : user.getRole().getName());
+    }
+
+    /**
+     * Joins the non-empty values into a document. A full name is kept as one value, so a search for
+     * "first last" still matches while a search never spans two unrelated values.
+     */
+    public static String join(final Object... values) {
+        final String document = Stream.of(values)
+                .filter(Objects::nonNull)
+                .map(value -> value.toString().trim().toLowerCase(Locale.ROOT))
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.joining(SEPARATOR));
+        return document.length() > MAX_LENGTH ? document.substring(0, MAX_LENGTH) : document;
+    }
+
+    private static String fullName(final Customer customer) {
+        if (null == customer) return null;
+        return fullName(customer.getFirstName(), customer.getLastName());
+    }
+
+    private static String fullName(final User user) {
+        if (null == user) return null;
+        return fullName(user.getFirstName(), user.getLastName());
+    }
+
+    private static String fullName(final String firstName, final String lastName) {
+        if (null == firstName) return lastName;
+        if (null == lastName) return firstName;
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,61 @@
+package com.marinamooringmanagement.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that fails as soon as more than a given number of bytes has been read from it, so an
+ * oversized upload is rejected while it is streamed instead of after it has been buffered.
+ */
+public class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxSize;
+
+    private long count;
+
+    private long mark;
+
+    public SizeLimitedInputStream(final InputStream in, final long maxSize) {
+        super(in);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b != -1) count(1);
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int n = super.read(b, off, len);
+        if (n > 0) count(n);
+        return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        final long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public synchronized void mark(final int readLimit) {
+        super.mark(readLimit);
+        mark = count;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        super.reset();
+        count = mark;
+    }
+
+    private void count(final long n) throws IOException {
+        count += n;
+        if (count > maxSize) throw new IOException(String.format("File exceeds the maximum size of %1$s bytes", maxSize));
+    }
+}
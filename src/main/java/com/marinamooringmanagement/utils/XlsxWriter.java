@@ -0,0 +1,148 @@
+package com.marinamooringmanagement.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes a workbook of a single sheet in the Office Open XML format (.xlsx) while the rows are produced. The
+ * parts of the package are written ahead of the sheet and strings are written inline instead of in a shared
+ * string table, so the memory used does not grow with the number of rows.
+ */
+public class XlsxWriter implements ExportWriter {
+
+    // rows a sheet holds, header included
+    public static final int MAX_ROWS = 1_048_576;
+
+    private static final String CONTENT_TYPES = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">" +
+            "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>" +
+            "<Default Extension=\"xml\" ContentType=\"application/xml\"/>" +
+            "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>" +
+            "<Override PartName=\"/xl/worksheets/sheet1.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>" +
+            "</Types>";
+
+    private static final String RELATIONSHIPS = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+            "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"xl/workbook.xml\"/>" +
+            "</Relationships>";
+
+    private static final String WORKBOOK_RELATIONSHIPS = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+            "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet1.xml\"/>" +
+            "</Relationships>";
+
+    private final ZipOutputStream zip;
+
+    private final Writer writer;
+
+    private int rowNumber;
+
+    public XlsxWriter(final OutputStream outputStream, final String sheetName) throws IOException {
+        this.zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+
+        writeEntry("[Content_Types].xml", CONTENT_TYPES);
+        writeEntry("_rels/.rels", RELATIONSHIPS);
+        writeEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELATIONSHIPS);
+        final StringBuilder workbook = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" ")
+                .append("xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">")
+                .append("<sheets><sheet name=\"");
+        appendEscaped(workbook, sheetName);
+        workbook.append("\" sheetId=\"1\" r:id=\"rId1\"/></sheets></workbook>");
+        writeEntry("xl/workbook.xml", workbook.toString());
+
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+                "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+    }
+
+    /**
+     * @throws IOException also once the sheet holds {@link #MAX_ROWS} rows
+     */
+    @Override
+    public void writeRow(final Object... values) throws IOException {
+        if (rowNumber == MAX_ROWS) throw new IOException(String.format("A sheet cannot hold more than %1$s rows", MAX_ROWS));
+        rowNumber++;
+        writer.write("<row r=\"");
+        writer.write(Integer.toString(rowNumber));
+        writer.write("\">");
+        for (int i = 0; i < values.length; i++) {
+            final Object value = values[i];
+            if (null == value) continue;
+            writer.write("<c r=\"");
+            writeColumnName(i);
+            writer.write(Integer.toString(rowNumber));
+            if (value instanceof Number) {
+                writer.write("\"><v>");
+                writer.write(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString());
+                writer.write("</v></c>");
+            } else {
+                writer.write("\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                writeEscaped(value.toString());
+                writer.write("</t></is></c>");
+            }
+        }
+        writer.write("</row>");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+    }
+
+    private void writeEntry(final String name, final String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    /**
+     * Writes the letters of the column, {@code A} to {@code Z}, then {@code AA} and so on.
+     */
+    private void writeColumnName(final int column) throws IOException {
+        if (column >= 26) writeColumnName(column / 26 - 1);
+        writer.write('A' + column % 26);
+    }
+
+    private void writeEscaped(final String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            switch (ch) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '"' -> writer.write("&quot;");
+                default -> {
+                    // control characters are not allowed in XML 1.0
+                    if (ch >= 0x20 || ch == '\t' || ch == '\n' || ch == '\r') writer.write(ch);
+                }
+            }
+        }
+    }
+
+    private static void appendEscaped(final StringBuilder builder, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            switch (ch) {
+                case '&' -> builder.append("&amp;");
+                case '<' -> builder.append("&lt;");
+                case '>' -> builder.append("&gt;");
+                case '"' -> builder.append("&quot;");
+                default -> builder.append(ch);
+            }
+        }
+    }
+}
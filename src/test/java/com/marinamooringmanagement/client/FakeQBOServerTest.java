@@ -0,0 +1,190 @@
+package com.marinamooringmanagement.client;
+
+import com.intuit.ipp.core.IEntity;
+import com.intuit.ipp.data.Customer;
+import com.intuit.ipp.data.Item;
+import com.intuit.ipp.data.OperationEnum;
+import com.intuit.ipp.services.BatchOperation;
+import com.intuit.ipp.services.DataService;
+import com.intuit.ipp.services.QueryResult;
+import com.intuit.ipp.util.Config;
+import com.marinamooringmanagement.helper.QBOClientManager;
+import com.marinamooringmanagement.helper.QBOServiceHelper;
+import com.marinamooringmanagement.model.entity.QBO.QBOUser;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Drives the fake server through the QuickBooks SDK, as the application does.
+ */
+class FakeQBOServerTest {
+
+    private static final String REALM_ID = "4620816365";
+
+    private FakeQBOServer fakeQBOServer;
+
+    private QBOServiceHelper qboServiceHelper;
+
+    private int port;
+
+    // the SDK configuration of this thread, restored after each test
+    private final Map<String, String> config = new HashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakeQBOServer = new FakeQBOServer();
+        // any free port
+        ReflectionTestUtils.setField(fakeQBOServer, "port", 0);
+        ReflectionTestUtils.setField(fakeQBOServer, "threads", 2);
+        ReflectionTestUtils.setField(fakeQBOServer, "fixtures", "classpath:qbo-fake/*.json");
+        ReflectionTestUtils.setField(fakeQBOServer, "latency", Duration.ZERO);
+        ReflectionTestUtils.setField(fakeQBOServer, "latencyJitter", Duration.ZERO);
+        ReflectionTestUtils.setField(fakeQBOServer, "errorRate", 0.0);
+        ReflectionTestUtils.setField(fakeQBOServer, "throttleRate", 0.0);
+        fakeQBOServer.start();
+        port = ((HttpServer) ReflectionTestUtils.getField(fakeQBOServer, "server")).getAddress().getPort();
+
+        final OAuth2PlatformClientFactory factory = mock(OAuth2PlatformClientFactory.class);
+        when(factory.getPropertyValue("IntuitAccountingAPIHost")).thenReturn(String.format("http://localhost:%1$s", port));
+        qboServiceHelper = new QBOServiceHelper();
+        ReflectionTestUtils.setField(qboServiceHelper, "factory", factory);
+        ReflectionTestUtils.setField(qboServiceHelper, "serializationFormat", "json");
+
+        for (String key : List.of(Config.BASE_URL_QBO, Config.SERIALIZATION_REQUEST_FORMAT, Config.SERIALIZATION_RESPONSE_FORMAT)) {
+            config.put(key, Config.getProperty(key));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakeQBOServer.stop();
+        config.forEach(Config::setProperty);
+    }
+
+    @Test
+    void query_answersTheFixtures() throws Exception {
+        final QueryResult queryResult = dataService().executeQuery("SELECT * FROM Customer WHERE Id = '1'");
+
+        assertEquals(1, queryResult.getEntities().size());
+        assertEquals("Amy's Bird Sanctuary", ((Customer) queryResult.getEntities().get(0)).getDisplayName());
+    }
+
+    @Test
+    void add_createsAnEntityThatCanBeQueried() throws Exception {
+        final Customer customer = new Customer();
+        customer.setDisplayName("Fake Harbor Marina");
+
+        final Customer created = dataService().add(customer);
+
+        assertNotNull(created.getId());
+        assertEquals("0", created.getSyncToken());
+        final List<? extends IEntity> entities = dataService().executeQuery(String.format("SELECT * FROM Customer WHERE Id = '%1$s'", created.getId())).getEntities();
+        assertEquals("Fake Harbor Marina", ((Customer) entities.get(0)).getDisplayName());
+    }
+
+    @Test
+    void executeBatch_answersEveryItem() throws Exception {
+        final Customer customer = new Customer();
+        customer.setDisplayName("Batch Marina");
+        final BatchOperation batchOperation = new BatchOperation();
+        batchOperation.addEntity(customer, OperationEnum.CREATE, "create");
+        batchOperation.addQuery("SELECT * FROM Item", "query");
+
+        dataService().executeBatch(batchOperation);
+
+        assertNotNull(((Customer) batchOperation.getEntity("create")).getId());
+        assertFalse(batchOperation.getQueryResponse("query").getEntities().isEmpty());
+        assertTrue(batchOperation.getQueryResponse("query").getEntities().get(0) instanceof Item);
+    }
+
+    @Test
+    void execute_answersACallFromAnotherThread() throws Exception {
+        final QBOClientManager qboClientManager = new QBOClientManager();
+        ReflectionTestUtils.setField(qboClientManager, "helper", qboServiceHelper);
+        ReflectionTestUtils.setField(qboClientManager, "refreshAhead", Duration.ofMinutes(10));
+        final QBOUser qboUser = QBOUser.builder().realmId(REALM_ID).accessToken("token").build();
+        qboUser.setId(1);
+        // the data service is created on this thread and used on another one, as the outbox and the mirror sync do
+        qboClientManager.getDataService(qboUser);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final QueryResult queryResult = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return qboClientManager.execute(qboUser, dataService -> dataService.executeQuery("SELECT * FROM PaymentMethod"));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor).get(10, TimeUnit.SECONDS);
+
+            assertEquals(6, queryResult.getEntities().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void query_answersTheRecordedInvoicesAndPayments() throws Exception {
+        final String invoices = get("SELECT * FROM Invoice WHERE Id = '102'");
+        assertTrue(invoices.contains("\"DocNumber\":\"102\""));
+        assertTrue(invoices.contains("\"Balance\":382"));
+
+        final String payments = get("SELECT * FROM Payment");
+        assertTrue(payments.contains("\"TxnId\":\"101\""));
+        assertTrue(payments.contains("\"maxResults\":3"));
+    }
+
+    @Test
+    void handle_answersAFailedRequestWithAServerFault() throws Exception {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(String.format("http://localhost:%1$s/v3/company/%2$s/customer", port, REALM_ID)).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Authorization", "Bearer token");
+        connection.setReadTimeout(5000);
+        connection.setDoOutput(true);
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write("{\"Customer\":".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(500, connection.getResponseCode());
+        try (InputStream errorStream = connection.getErrorStream()) {
+            final String body = new String(errorStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(body.contains("\"type\":\"SystemFault\""));
+        }
+    }
+
+    private DataService dataService() throws Exception {
+        return qboServiceHelper.getDataService(REALM_ID, "token");
+    }
+
+    private String get(final String query) throws Exception {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(String.format("http://localhost:%1$s/v3/company/%2$s/query?query=%3$s",
+                port, REALM_ID, URLEncoder.encode(query, StandardCharsets.UTF_8))).openConnection();
+        connection.setRequestProperty("Authorization", "Bearer token");
+        connection.setReadTimeout(5000);
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream inputStream = connection.getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.marinamooringmanagement.helper;
+
+import com.marinamooringmanagement.model.entity.Image;
+import com.marinamooringmanagement.model.entity.VoiceMEMO;
+import com.marinamooringmanagement.service.BlobStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BlobContentHelperTest {
+
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private BlobContentHelper blobContentHelper;
+
+    @Test
+    void readReadsTheLegacyColumnOfRowsNotMovedYet() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("bytea");
+        when(jdbcTemplate.query(eq("SELECT image_data FROM image WHERE id = ?"), any(RowMapper.class), eq(3)))
+                .thenReturn(List.of(new byte[]{1, 2}));
+        when(jdbcTemplate.query(eq("SELECT data FROM voice_memo WHERE id = ?"), any(RowMapper.class), eq(4)))
+                .thenReturn(new ArrayList<>(Collections.singletonList(null)));
+
+        final Image image = Image.builder().id(3).build();
+        final VoiceMEMO voiceMEMO = VoiceMEMO.builder().id(4).build();
+
+        assertEquals("AQI=", blobContentHelper.encode(blobContentHelper.read(image)));
+        assertNull(blobContentHelper.encode(blobContentHelper.read(voiceMEMO)));
+        verifyNoInteractions(blobStore);
+    }
+
+    @Test
+    void readSkipsTheLegacyColumnOnceItIsDropped() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(null);
+        when(blobStore.read("key")).thenReturn(new byte[]{7});
+
+        assertNull(blobContentHelper.read(Image.builder().id(3).build()));
+        assertArrayEquals(new byte[]{7}, blobContentHelper.read(Image.builder().id(5).blobKey("key").build()));
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    void readForgetsTheLegacyColumnWhenItIsDroppedAfterTheLookup() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("bytea", (Object) null);
+        when(jdbcTemplate.query(eq("SELECT image_data FROM image WHERE id = ?"), any(RowMapper.class), eq(3)))
+                .thenThrow(new BadSqlGrammarException("read", "SELECT image_data FROM image WHERE id = ?", new SQLException("column does not exist")));
+        assertTrue(blobContentHelper.legacyColumnExists(BlobContentHelper.IMAGE_DATA));
+
+        assertNull(blobContentHelper.read(Image.builder().id(3).build()));
+        assertNull(blobContentHelper.read(Image.builder().id(4).build()));
+
+        assertFalse(blobContentHelper.legacyColumnExists(BlobContentHelper.IMAGE_DATA));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+}
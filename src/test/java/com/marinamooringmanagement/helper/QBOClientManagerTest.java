@@ -0,0 +1,72 @@
+package com.marinamooringmanagement.helper;
+
+import com.intuit.ipp.util.Config;
+import com.marinamooringmanagement.client.OAuth2PlatformClientFactory;
+import com.marinamooringmanagement.model.entity.QBO.QBOUser;
+import com.marinamooringmanagement.repositories.QBO.QBOUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QBOClientManagerTest {
+
+    @Mock
+    private OAuth2PlatformClientFactory factory;
+
+    @Mock
+    private QBOUserRepository qboUserRepository;
+
+    private QBOClientManager qboClientManager;
+
+    @BeforeEach
+    void setUp() {
+        final QBOServiceHelper helper = new QBOServiceHelper();
+        helper.factory = factory;
+        helper.qboUserRepository = qboUserRepository;
+        when(factory.getPropertyValue("IntuitAccountingAPIHost")).thenReturn("http://localhost:8099");
+
+        qboClientManager = new QBOClientManager();
+        ReflectionTestUtils.setField(qboClientManager, "helper", helper);
+        ReflectionTestUtils.setField(qboClientManager, "qboUserRepository", qboUserRepository);
+        ReflectionTestUtils.setField(qboClientManager, "refreshAhead", Duration.ofMinutes(10));
+    }
+
+    @Test
+    void execute_configuresTheHostOnTheThreadUsingACachedDataService() throws Exception {
+        final QBOUser qboUser = QBOUser.builder().realmId("4620816365").accessToken("token").build();
+        qboUser.setId(1);
+        // created and cached on this thread
+        qboClientManager.getDataService(qboUser);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final String baseUrl = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return qboClientManager.execute(qboUser, dataService -> Config.getProperty(Config.BASE_URL_QBO));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor).get(10, TimeUnit.SECONDS);
+
+            assertEquals("http://localhost:8099/v3/company", baseUrl);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
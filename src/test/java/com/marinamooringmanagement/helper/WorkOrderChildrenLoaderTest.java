@@ -0,0 +1,94 @@
+package com.marinamooringmanagement.helper;
+
+import com.marinamooringmanagement.model.entity.*;
+import com.marinamooringmanagement.repositories.FormRepository;
+import com.marinamooringmanagement.repositories.ImageRepository;
+import com.marinamooringmanagement.repositories.InventoryRepository;
+import com.marinamooringmanagement.repositories.VoiceMEMORepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WorkOrderChildrenLoaderTest {
+
+    @Mock
+    private ImageRepository imageRepository;
+    @Mock
+    private FormRepository formRepository;
+    @Mock
+    private InventoryRepository inventoryRepository;
+    @Mock
+    private VoiceMEMORepository voiceMEMORepository;
+
+    @InjectMocks
+    private WorkOrderChildrenLoader workOrderChildrenLoader;
+
+    @Test
+    void testLoadIssuesOneQueryPerChildTypeForWholePage() {
+        when(imageRepository.findImagesByWorkOrderIdsWithoutData(any())).thenReturn(List.of(
+                new Image(1, "hull.png", "note", 10),
+                new Image(2, "chain.png", "note", 10),
+                new Image(3, "buoy.png", "note", 30)));
+        when(formRepository.findFormsByWorkOrderIdsWithoutData(any())).thenReturn(List.of(
+                new Form(4, "Inspection", "inspection.pdf", null, 20)));
+        when(inventoryRepository.findInventoriesByWorkOrderIds(any())).thenReturn(List.of(
+                new Inventory(5, "Shackle", 2, null, 7, "Vendor", 30, "WOR123")));
+        when(voiceMEMORepository.findVoiceMEMOsByWorkOrderIdsWithoutData(any())).thenReturn(List.of());
+
+        WorkOrderChildrenLoader.WorkOrderChildren children = workOrderChildrenLoader.load(Arrays.asList(10, 20, 30, 10, null), false);
+
+        verify(imageRepository, times(1)).findImagesByWorkOrderIdsWithoutData(Set.of(10, 20, 30));
+        verify(formRepository, times(1)).findFormsByWorkOrderIdsWithoutData(Set.of(10, 20, 30));
+        verify(inventoryRepository, times(1)).findInventoriesByWorkOrderIds(Set.of(10, 20, 30));
+        verify(voiceMEMORepository, times(1)).findVoiceMEMOsByWorkOrderIdsWithoutData(Set.of(10, 20, 30));
+        verifyNoMoreInteractions(imageRepository, formRepository, inventoryRepository, voiceMEMORepository);
+
+        assertEquals(List.of(1, 2), children.getImages(10).stream().map(Image::getId).toList());
+        assertEquals(List.of(3), children.getImages(30).stream().map(Image::getId).toList());
+        assertTrue(children.getImages(20).isEmpty());
+        assertEquals(1, children.getForms(20).size());
+        assertEquals(1, children.getInventories(30).size());
+        assertTrue(children.getVoiceMEMOs(10).isEmpty());
+    }
+
+    @Test
+    void testLoadWithDataUsesDataQueries() {
+        when(imageRepository.findImagesByWorkOrderIds(any())).thenReturn(List.of());
+        when(formRepository.findFormsByWorkOrderIds(any())).thenReturn(List.of());
+        when(inventoryRepository.findInventoriesWithVendorByWorkOrderIds(any())).thenReturn(List.of());
+        when(voiceMEMORepository.findVoiceMEMOsByWorkOrderIds(any())).thenReturn(List.of(
+                new VoiceMEMO(6, "memo", "a1b2", 2L, "audio/webm", 10)));
+
+        WorkOrderChildrenLoader.WorkOrderChildren children = workOrderChildrenLoader.load(List.of(10), true);
+
+        verify(imageRepository, times(1)).findImagesByWorkOrderIds(any());
+        verify(formRepository, times(1)).findFormsByWorkOrderIds(any());
+        verify(inventoryRepository, times(1)).findInventoriesWithVendorByWorkOrderIds(any());
+        verify(voiceMEMORepository, times(1)).findVoiceMEMOsByWorkOrderIds(any());
+        verifyNoMoreInteractions(imageRepository, formRepository, inventoryRepository, voiceMEMORepository);
+
+        assertEquals("a1b2", children.getVoiceMEMOs(10).get(0).getBlobKey());
+    }
+
+    @Test
+    void testLoadWithoutIdsRunsNoQuery() {
+        WorkOrderChildrenLoader.WorkOrderChildren children = workOrderChildrenLoader.load(List.of(), false);
+
+        verifyNoInteractions(imageRepository, formRepository, inventoryRepository, voiceMEMORepository);
+        assertTrue(children.getImages(1).isEmpty());
+    }
+}
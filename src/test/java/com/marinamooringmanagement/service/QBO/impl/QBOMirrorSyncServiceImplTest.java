@@ -0,0 +1,189 @@
+package com.marinamooringmanagement.service.QBO.impl;
+
+import com.intuit.ipp.core.IEntity;
+import com.intuit.ipp.data.Customer;
+import com.intuit.ipp.data.EntityStatusEnum;
+import com.intuit.ipp.data.ModificationMetaData;
+import com.intuit.ipp.services.CDCQueryResult;
+import com.intuit.ipp.services.DataService;
+import com.intuit.ipp.services.QueryResult;
+import com.marinamooringmanagement.constants.enums.QBOMirrorEntityType;
+import com.marinamooringmanagement.helper.QBOClientManager;
+import com.marinamooringmanagement.model.entity.QBO.QBOMirrorCustomer;
+import com.marinamooringmanagement.model.entity.QBO.QBOSyncState;
+import com.marinamooringmanagement.model.entity.QBO.QBOUser;
+import com.marinamooringmanagement.repositories.QBO.QBOMirrorCustomerRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOMirrorItemRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOMirrorPaymentMethodRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOSyncStateRepository;
+import com.marinamooringmanagement.repositories.QBO.QBOUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QBOMirrorSyncServiceImplTest {
+
+    private static final String REALM_ID = "9130";
+
+    @Mock
+    private QBOClientManager qboClientManager;
+    @Mock
+    private QBOUserRepository qboUserRepository;
+    @Mock
+    private QBOSyncStateRepository qboSyncStateRepository;
+    @Mock
+    private QBOMirrorCustomerRepository qboMirrorCustomerRepository;
+    @Mock
+    private QBOMirrorItemRepository qboMirrorItemRepository;
+    @Mock
+    private QBOMirrorPaymentMethodRepository qboMirrorPaymentMethodRepository;
+    @Mock
+    private DataService dataService;
+
+    @InjectMocks
+    private QBOMirrorSyncServiceImpl qboMirrorSyncService;
+
+    private final QBOUser qboUser = QBOUser.builder().realmId(REALM_ID).accessToken("token").build();
+
+    private final List<String> queries = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(qboMirrorSyncService, "pageSize", 2);
+        ReflectionTestUtils.setField(qboMirrorSyncService, "cdcWindow", Duration.ofDays(29));
+        ReflectionTestUtils.setField(qboMirrorSyncService, "clockSkew", Duration.ofMinutes(5));
+
+        when(qboClientManager.execute(any(QBOUser.class), any(QBOClientManager.QBOCall.class)))
+                .thenAnswer(invocation -> invocation.<QBOClientManager.QBOCall<?>>getArgument(1).call(dataService));
+        when(dataService.executeQuery(anyString())).thenAnswer(invocation -> {
+            final String sql = invocation.getArgument(0);
+            queries.add(sql);
+            if (sql.startsWith("SELECT * FROM Customer ") && sql.contains("STARTPOSITION 1 ")) {
+                return queryResult(customer("1", "Ann", null), customer("2", "Bob", null));
+            }
+            if (sql.startsWith("SELECT * FROM Customer ") && sql.contains("STARTPOSITION 3 ")) {
+                return queryResult(customer("3", "Cid", null));
+            }
+            return queryResult();
+        });
+    }
+
+    @Test
+    void testFirstSyncPagesThroughAllEntities() throws Exception {
+        qboMirrorSyncService.sync(qboUser);
+
+        assertEquals(List.of(
+                "SELECT * FROM Customer WHERE Active IN (true, false) ORDERBY Id STARTPOSITION 1 MAXRESULTS 2",
+                "SELECT * FROM Customer WHERE Active IN (true, false) ORDERBY Id STARTPOSITION 3 MAXRESULTS 2",
+                "SELECT * FROM Item WHERE Active IN (true, false) ORDERBY Id STARTPOSITION 1 MAXRESULTS 2",
+                "SELECT * FROM PaymentMethod WHERE Active IN (true, false) ORDERBY Id STARTPOSITION 1 MAXRESULTS 2"), queries);
+        verify(dataService, never()).executeCDCQuery(any(), any());
+
+        final ArgumentCaptor<List<QBOMirrorCustomer>> saved = ArgumentCaptor.forClass(List.class);
+        verify(qboMirrorCustomerRepository, times(2)).saveAll(saved.capture());
+        assertEquals(List.of("1", "2", "3"), saved.getAllValues().stream().flatMap(List::stream).map(QBOMirrorCustomer::getQuickbookId).toList());
+        assertTrue(saved.getAllValues().stream().flatMap(List::stream).allMatch(mirror -> REALM_ID.equals(mirror.getRealmId()) && mirror.getActive()));
+
+        final ArgumentCaptor<QBOSyncState> syncStates = ArgumentCaptor.forClass(QBOSyncState.class);
+        verify(qboSyncStateRepository, times(3)).save(syncStates.capture());
+        final QBOSyncState customerSyncState = syncStates.getAllValues().get(0);
+        assertEquals(QBOMirrorEntityType.CUSTOMER, customerSyncState.getEntityType());
+        assertEquals(3, customerSyncState.getLastSyncCount());
+        assertNotNull(customerSyncState.getChangedSince());
+    }
+
+    @Test
+    void testIncrementalSyncAppliesChangeDataCapture() throws Exception {
+        final Date changedSince = new Date(System.currentTimeMillis() - Duration.ofHours(1).toMillis());
+        when(qboSyncStateRepository.findByRealmIdAndEntityType(eq(REALM_ID), any()))
+                .thenAnswer(invocation -> Optional.of(QBOSyncState.builder()
+                        .realmId(REALM_ID)
+                        .entityType(invocation.getArgument(1))
+                        .changedSince(changedSince)
+                        .build()));
+
+        final QBOMirrorCustomer renamed = QBOMirrorCustomer.builder().realmId(REALM_ID).quickbookId("1").givenName("Ann").active(true).build();
+        final QBOMirrorCustomer removed = QBOMirrorCustomer.builder().realmId(REALM_ID).quickbookId("2").givenName("Bob").active(true).build();
+        when(qboMirrorCustomerRepository.findByRealmIdAndQuickbookIdIn(eq(REALM_ID), any())).thenReturn(List.of(renamed, removed));
+
+        final Customer renamedCustomer = customer("1", "Anna", null);
+        renamedCustomer.setActive(false);
+        final CDCQueryResult cdcQueryResult = new CDCQueryResult();
+        cdcQueryResult.setQueryResults(Map.of("Customer", queryResult(renamedCustomer, customer("2", null, EntityStatusEnum.DELETED))));
+        when(dataService.executeCDCQuery(argThat(entities -> null != entities && entities.get(0) instanceof Customer), anyString()))
+                .thenReturn(List.of(cdcQueryResult));
+
+        qboMirrorSyncService.sync(qboUser);
+
+        assertTrue(queries.isEmpty());
+        verify(dataService, times(3)).executeCDCQuery(any(), anyString());
+        verify(qboMirrorCustomerRepository).deleteAll(List.of(removed));
+        verify(qboMirrorCustomerRepository).saveAll(List.of(renamed));
+        assertEquals("Anna", renamed.getGivenName());
+        assertFalse(renamed.getActive());
+    }
+
+    @Test
+    void testStaleSyncFallsBackToLastUpdatedTimeQuery() throws Exception {
+        final Date changedSince = new Date(System.currentTimeMillis() - Duration.ofDays(45).toMillis());
+        when(qboSyncStateRepository.findByRealmIdAndEntityType(eq(REALM_ID), any()))
+                .thenAnswer(invocation -> Optional.of(QBOSyncState.builder()
+                        .realmId(REALM_ID)
+                        .entityType(invocation.getArgument(1))
+                        .changedSince(changedSince)
+                        .build()));
+
+        qboMirrorSyncService.sync(qboUser);
+
+        verify(dataService, never()).executeCDCQuery(any(), any());
+        assertEquals(4, queries.size());
+        assertTrue(queries.stream().allMatch(sql -> sql.contains("AND MetaData.LastUpdatedTime > '")));
+    }
+
+    @Test
+    void testCustomerMirrorIsReadyAfterFirstSync() {
+        when(qboSyncStateRepository.findByRealmIdAndEntityType(REALM_ID, QBOMirrorEntityType.CUSTOMER))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(QBOSyncState.builder().changedSince(new Date()).build()));
+
+        assertFalse(qboMirrorSyncService.isCustomerMirrorReady(REALM_ID));
+        assertTrue(qboMirrorSyncService.isCustomerMirrorReady(REALM_ID));
+    }
+
+    private static Customer customer(final String id, final String givenName, final EntityStatusEnum status) {
+        final Customer customer = new Customer();
+        customer.setId(id);
+        customer.setGivenName(givenName);
+        customer.setStatus(status);
+        final ModificationMetaData metaData = new ModificationMetaData();
+        metaData.setLastUpdatedTime(new Date());
+        customer.setMetaData(metaData);
+        return customer;
+    }
+
+    private static QueryResult queryResult(final IEntity... entities) {
+        final QueryResult queryResult = new QueryResult();
+        queryResult.setEntities(List.of(entities));
+        return queryResult;
+    }
+}
@@ -12,12 +12,11 @@ import com.marinamooringmanagement.model.request.NewPasswordRequest;
 import com.marinamooringmanagement.model.request.UserRequestDto;
 import com.marinamooringmanagement.model.response.*;
 import com.marinamooringmanagement.repositories.*;
-import com.marinamooringmanagement.repositories.metadata.CountryRepository;
-import com.marinamooringmanagement.repositories.metadata.StateRepository;
 import com.marinamooringmanagement.security.model.AuthenticationDetails;
 import com.marinamooringmanagement.security.util.AuthorizationUtil;
 import com.marinamooringmanagement.security.util.JwtUtil;
 import com.marinamooringmanagement.security.util.LoggedInUserUtil;
+import com.marinamooringmanagement.service.MetadataRegistry;
 import com.marinamooringmanagement.service.impl.UserServiceImpl;
 import com.marinamooringmanagement.utils.SortUtils;
 import jakarta.servlet.http.HttpServletRequest;
@@ -70,14 +69,12 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
-    private StateRepository stateRepository;
+    private MetadataRegistry metadataRegistry;
     @Mock
     private HttpServletRequest request;
     @Mock
     private SortUtils sortUtils;
     @Mock
-    private CountryRepository countryRepository;
-    @Mock
     private AuthorizationUtil authorizationUtil;
     @InjectMocks
     private UserServiceImpl userServiceImpl;
@@ -128,8 +125,8 @@ class UserServiceImplTest {
         when(roleRepository.findById(userRequestDto.getRoleId())).thenReturn(Optional.of(roleInstance()));
         when(loggedInUserUtil.getLoggedInUserRole()).thenReturn("ADMINISTRATOR");
         when(passwordEncoder.encode(any(CharSequence.class))).thenReturn("12345432");
-        when(stateRepository.findById(1)).thenReturn(Optional.ofNullable(newStateInstance()));
-        when(countryRepository.findById(1)).thenReturn(Optional.ofNullable(newCountryInstance()));
+        when(metadataRegistry.findById(State.class, 1)).thenReturn(Optional.ofNullable(newStateInstance()));
+        when(metadataRegistry.findById(Country.class, 1)).thenReturn(Optional.ofNullable(newCountryInstance()));
         when(request.getIntHeader("CUSTOMER_OWNER_ID")).thenReturn(1);
         User savedUser = userServiceImpl.performSave(userRequestDto, user, null, request);
         assertEquals(savedUser.getEmail(), user.getEmail());
@@ -174,9 +171,9 @@ class UserServiceImplTest {
         when(userRepository.save(user)).thenReturn(user);
         when(roleRepository.findById(userRequestDto.getRoleId())).thenReturn(Optional.of(roleInstance()));
         when(loggedInUserUtil.getLoggedInUserRole()).thenReturn("ADMINISTRATOR");
-        when(stateRepository.findById(1)).thenReturn(Optional.ofNullable(newStateInstance()));
+        when(metadataRegistry.findById(State.class, 1)).thenReturn(Optional.ofNullable(newStateInstance()));
         when(authorizationUtil.checkAuthority(anyInt())).thenReturn(user);
-        when(countryRepository.findById(1)).thenReturn(Optional.ofNullable(newCountryInstance()));
+        when(metadataRegistry.findById(Country.class, 1)).thenReturn(Optional.ofNullable(newCountryInstance()));
 
         User result = userServiceImpl.performSave(userRequestDto, user, 1, request);
 
@@ -0,0 +1,128 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.constants.enums.DashboardMetric;
+import com.marinamooringmanagement.model.entity.DashboardCounter;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.model.entity.metadata.WorkOrderPayStatus;
+import com.marinamooringmanagement.model.entity.metadata.WorkOrderStatus;
+import com.marinamooringmanagement.repositories.DashboardCounterRepository;
+import com.marinamooringmanagement.service.DashboardStatisticsService.CounterKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DashboardStatisticsServiceImplTest {
+
+    private static final Integer CUSTOMER_OWNER_ID = 7;
+
+    @Mock
+    private DashboardCounterRepository dashboardCounterRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DashboardStatisticsServiceImpl dashboardStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardStatisticsService = new DashboardStatisticsServiceImpl(transactionManager);
+        ReflectionTestUtils.setField(dashboardStatisticsService, "dashboardCounterRepository", dashboardCounterRepository);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(dashboardCounterRepository.increment(any(), any(), any(), anyLong())).thenReturn(1);
+    }
+
+    @Test
+    void record_completingWorkOrderMovesItFromOpenToPendingPayApproval() {
+        final WorkOrder workOrder = workOrder(AppConstants.WorkOrderStatusConstants.WORK_IN_PROGRESS, AppConstants.WorkOrderPayStatusConstants.NOACTION);
+        final List<CounterKey> before = dashboardStatisticsService.countersOf(workOrder);
+
+        workOrder.setWorkOrderStatus(WorkOrderStatus.builder().status(AppConstants.WorkOrderStatusConstants.COMPLETED).build());
+        dashboardStatisticsService.record(before, dashboardStatisticsService.countersOf(workOrder));
+
+        verify(dashboardCounterRepository).increment(CUSTOMER_OWNER_ID, DashboardMetric.OPEN_WORK_ORDERS, 0, -1L);
+        verify(dashboardCounterRepository).increment(CUSTOMER_OWNER_ID, DashboardMetric.PENDING_PAY_APPROVALS, 0, 1L);
+        verify(dashboardCounterRepository, times(2)).increment(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void record_unchangedCountersWriteNothing() {
+        final WorkOrder workOrder = workOrder(AppConstants.WorkOrderStatusConstants.WORK_IN_PROGRESS, AppConstants.WorkOrderPayStatusConstants.NOACTION);
+
+        dashboardStatisticsService.record(dashboardStatisticsService.countersOf(workOrder), dashboardStatisticsService.countersOf(workOrder));
+
+        verifyNoInteractions(dashboardCounterRepository);
+    }
+
+    @Test
+    void record_createsMissingCounterBeforeIncrementing() {
+        when(dashboardCounterRepository.increment(any(), any(), any(), anyLong())).thenReturn(0, 1);
+
+        dashboardStatisticsService.record(List.of(), List.of(new CounterKey(CUSTOMER_OWNER_ID, DashboardMetric.MOORINGS, 0)));
+
+        final ArgumentCaptor<DashboardCounter> captor = ArgumentCaptor.forClass(DashboardCounter.class);
+        verify(dashboardCounterRepository).saveAndFlush(captor.capture());
+        assertEquals(0L, captor.getValue().getCounterValue());
+        verify(dashboardCounterRepository, times(2)).increment(CUSTOMER_OWNER_ID, DashboardMetric.MOORINGS, 0, 1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_overwritesDriftedAndMissingCounters() {
+        final List<Object[]> moorings = new ArrayList<>();
+        moorings.add(new Object[]{CUSTOMER_OWNER_ID, 5L});
+        final List<Object[]> mooringsCreated = new ArrayList<>();
+        mooringsCreated.add(new Object[]{CUSTOMER_OWNER_ID, 2024, 3, 2L});
+        when(dashboardCounterRepository.countMoorings()).thenReturn(moorings);
+        when(dashboardCounterRepository.countMooringsCreated()).thenReturn(mooringsCreated);
+        when(dashboardCounterRepository.findCustomerOwnerIds()).thenReturn(List.of(CUSTOMER_OWNER_ID));
+
+        final DashboardCounter drifted = DashboardCounter.builder()
+                .customerOwnerId(CUSTOMER_OWNER_ID).metric(DashboardMetric.MOORINGS).bucket(0).counterValue(4L).build();
+        final DashboardCounter stale = DashboardCounter.builder()
+                .customerOwnerId(CUSTOMER_OWNER_ID).metric(DashboardMetric.OPEN_WORK_ORDERS).bucket(0).counterValue(3L).build();
+        when(dashboardCounterRepository.findByCustomerOwnerId(CUSTOMER_OWNER_ID)).thenReturn(List.of(drifted, stale));
+
+        dashboardStatisticsService.reconcile();
+
+        final ArgumentCaptor<List<DashboardCounter>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dashboardCounterRepository).saveAll(captor.capture());
+        assertEquals(3, captor.getValue().size());
+        assertEquals(5L, drifted.getCounterValue());
+        assertEquals(0L, stale.getCounterValue());
+        final DashboardCounter created = captor.getValue().get(2);
+        assertEquals(DashboardMetric.MOORINGS_CREATED, created.getMetric());
+        assertEquals(202403, created.getBucket());
+        assertEquals(2L, created.getCounterValue());
+    }
+
+    private WorkOrder workOrder(final String status, final String payStatus) {
+        final User customerOwner = User.builder().build();
+        customerOwner.setId(CUSTOMER_OWNER_ID);
+        final WorkOrder workOrder = WorkOrder.builder()
+                .customerOwnerUser(customerOwner)
+                .workOrderStatus(WorkOrderStatus.builder().status(status).build())
+                .workOrderPayStatus(WorkOrderPayStatus.builder().status(payStatus).build())
+                .build();
+        workOrder.setId(11);
+        return workOrder;
+    }
+}
@@ -0,0 +1,141 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.enums.ExportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DataExportServiceImplTest {
+
+    private static final String[] HEADER = {"Mooring Number", "Harbor Or Area", "Inspection Date", "Depth At Mean High Water"};
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private DatabaseMetaData databaseMetaData;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DataExportServiceImpl dataExportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataExportService = new DataExportServiceImpl(dataSource, transactionManager, 500);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    }
+
+    @Test
+    void write_streamsTheRowsOfTheCursorAsCsv() throws Exception {
+        rows(new Object[]{"M-1", "North, inner", Timestamp.valueOf(LocalDateTime.of(2026, 3, 9, 10, 30)), 12},
+                new Object[]{"M-\"2\"", null, null, new BigDecimal("4.50")});
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        dataExportService.write("moorings", ExportFormat.CSV, HEADER, "SELECT", new Object[]{7, ""}, outputStream);
+
+        assertEquals("\uFEFFMooring Number,Harbor Or Area,Inspection Date,Depth At Mean High Water\r\n" +
+                        "M-1,\"North, inner\",03/09/2026,12\r\n" +
+                        "\"M-\"\"2\"\"\",,,4.50\r\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+        verify(preparedStatement).setFetchSize(500);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void write_quotesTextThatASpreadsheetWouldEvaluate() throws Exception {
+        rows(new Object[]{"=HYPERLINK(\"http://x\")", "+1", "-2", -3},
+                new Object[]{"@SUM(A1)", "\tTab", "\rReturn", null});
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        dataExportService.write("moorings", ExportFormat.CSV, HEADER, "SELECT", new Object[]{7, ""}, outputStream);
+
+        assertEquals("\uFEFFMooring Number,Harbor Or Area,Inspection Date,Depth At Mean High Water\r\n" +
+                        "\"'=HYPERLINK(\"\"http://x\"\")\",\"'+1\",\"'-2\",-3\r\n" +
+                        "\"'@SUM(A1)\",\"'\tTab\",\"'\rReturn\",\r\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportMoorings_unknownFormatIsABadRequest() {
+        final ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> dataExportService.exportMoorings(null, "pdf", mock(HttpServletRequest.class)));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    void write_streamsTheRowsOfTheCursorAsAWorkbook() throws Exception {
+        rows(new Object[]{"M-1", "Bay & <Cove>", null, 12});
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        dataExportService.write("moorings", ExportFormat.XLSX, HEADER, "SELECT", new Object[]{7, ""}, outputStream);
+
+        final List<String> entries = new ArrayList<>();
+        String sheet = null;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while (null != (entry = zip.getNextEntry())) {
+                entries.add(entry.getName());
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) sheet = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+        assertEquals(List.of("[Content_Types].xml", "_rels/.rels", "xl/_rels/workbook.xml.rels", "xl/workbook.xml", "xl/worksheets/sheet1.xml"), entries);
+        assertNotNull(sheet);
+        assertTrue(sheet.contains("<row r=\"2\"><c r=\"A2\" t=\"inlineStr\"><is><t xml:space=\"preserve\">M-1</t></is></c>" +
+                "<c r=\"B2\" t=\"inlineStr\"><is><t xml:space=\"preserve\">Bay &amp; &lt;Cove&gt;</t></is></c>" +
+                "<c r=\"D2\"><v>12</v></c></row>"));
+        assertTrue(sheet.endsWith("</sheetData></worksheet>"));
+    }
+
+    private void rows(final Object[]... rows) throws Exception {
+        final int[] row = {-1};
+        when(resultSet.next()).thenAnswer(invocation -> ++row[0] < rows.length);
+        when(resultSet.getObject(anyInt())).thenAnswer(invocation -> rows[row[0]][(Integer) invocation.getArgument(0) - 1]);
+    }
+}
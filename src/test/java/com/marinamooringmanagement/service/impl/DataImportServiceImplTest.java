@@ -0,0 +1,293 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.entity.metadata.MooringStatus;
+import com.marinamooringmanagement.model.response.ImportErrorResponseDto;
+import com.marinamooringmanagement.model.response.ImportResponseDto;
+import com.marinamooringmanagement.repositories.BoatyardRepository;
+import com.marinamooringmanagement.repositories.CustomerRepository;
+import com.marinamooringmanagement.repositories.MooringRepository;
+import com.marinamooringmanagement.repositories.ServiceAreaRepository;
+import com.marinamooringmanagement.service.DashboardStatisticsService;
+import com.marinamooringmanagement.service.MetadataRegistry;
+import com.marinamooringmanagement.service.SearchSuggestService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DataImportServiceImplTest {
+
+    private static final Integer CUSTOMER_OWNER_ID = 7;
+
+    @Mock
+    private MooringRepository mooringRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private BoatyardRepository boatyardRepository;
+
+    @Mock
+    private ServiceAreaRepository serviceAreaRepository;
+
+    @Mock
+    private MetadataRegistry metadataRegistry;
+
+    @Mock
+    private DashboardStatisticsService dashboardStatisticsService;
+
+    @Mock
+    private SearchSuggestService searchSuggestService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DataImportServiceImpl dataImportService;
+
+    private final User user = User.builder().id(CUSTOMER_OWNER_ID).build();
+
+    @BeforeEach
+    void setUp() {
+        dataImportService = newService(20000, 500);
+
+        when(metadataRegistry.findAll(MooringStatus.class)).thenReturn(List.of(
+                MooringStatus.builder().id(1).status("Gear On").build(),
+                MooringStatus.builder().id(2).status("Gear Off").build()));
+    }
+
+    private DataImportServiceImpl newService(final int maxRows, final int maxErrors) {
+        final DataImportServiceImpl dataImportService = new DataImportServiceImpl(transactionManager, 500, maxRows, maxErrors);
+        ReflectionTestUtils.setField(dataImportService, "mooringRepository", mooringRepository);
+        ReflectionTestUtils.setField(dataImportService, "customerRepository", customerRepository);
+        ReflectionTestUtils.setField(dataImportService, "boatyardRepository", boatyardRepository);
+        ReflectionTestUtils.setField(dataImportService, "serviceAreaRepository", serviceAreaRepository);
+        ReflectionTestUtils.setField(dataImportService, "metadataRegistry", metadataRegistry);
+        ReflectionTestUtils.setField(dataImportService, "dashboardStatisticsService", dashboardStatisticsService);
+        ReflectionTestUtils.setField(dataImportService, "searchSuggestService", searchSuggestService);
+        ReflectionTestUtils.setField(dataImportService, "jdbcTemplate", jdbcTemplate);
+        return dataImportService;
+    }
+
+    @Test
+    void importMoorings_reportsEveryErrorAndWritesNothing() throws Exception {
+        when(mooringRepository.findIdsByMooringNumbers(anyCollection())).thenReturn(List.<Object[]>of(new Object[]{40, "M-3"}));
+
+        final ImportResponseDto response = dataImportService.importMoorings(user, new StringReader(
+                "Mooring Number,Status,GPS Coordinates,Customer Id\r\n" +
+                "M-1,gear on,41.52 -71.31,\r\n" +
+                "M-1,Gear Out,\"91.0 -71.31\",CUS404\r\n" +
+                ",,,\r\n" +
+                "M-3,Gear Off,,\r\n"), false);
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(0, response.getImportedRows());
+        assertEquals(List.of("3 mooringNumber", "3 customerId", "3 gpsCoordinates", "3 status", "5 mooringNumber"),
+                response.getErrors().stream().map(error -> error.getRowNumber() + " " + error.getColumn()).toList());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), any(int[].class));
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    void importMoorings_unknownColumnIsReportedOnTheHeaderRow() throws Exception {
+        final ImportResponseDto response = dataImportService.importMoorings(user, new StringReader("mooring_number,colour\nM-1,red\n"), false);
+
+        assertEquals(0, response.getTotalRows());
+        final ImportErrorResponseDto error = response.getErrors().get(0);
+        assertEquals(1, error.getRowNumber());
+        assertEquals("colour", error.getColumn());
+    }
+
+    @Test
+    void importMoorings_batchInsertsTheRowsWithTheResolvedIds() throws Exception {
+        when(mooringRepository.findIdsByMooringNumbers(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new Object[]{11, "M-1"}, new Object[]{12, "M-2"}));
+
+        final ImportResponseDto response = dataImportService.importMoorings(user, new StringReader(
+                "mooringNumber,status,gpsCoordinates\n" +
+                "M-1,Gear Off,41.31.2 -71.18.6\n" +
+                "M-2,,\n"), false);
+
+        assertEquals(2, response.getImportedRows());
+        assertEquals(0, response.getErrorCount());
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<Object[]>> values = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO mooring"), values.capture(), any(int[].class));
+        final List<Object[]> rows = new ArrayList<>(values.getValue());
+        assertEquals("M-1", rows.get(0)[0]);
+        assertEquals("41.520000 -71.310000", rows.get(0)[2]);
+        // status_id and user_id
+        assertEquals(2, rows.get(0)[22]);
+        assertEquals(CUSTOMER_OWNER_ID, rows.get(1)[24]);
+        assertNull(rows.get(1)[22]);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE mooring SET search_document"), anyList());
+        verify(searchSuggestService, times(2)).update(any(Mooring.class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void importMoorings_reportsARowErrorWhenNoBoatIdIsLeft() throws Exception {
+        when(mooringRepository.findIdsByMooringNumbers(anyCollection())).thenReturn(List.of());
+        // every boat id that can be drawn is taken
+        when(mooringRepository.findAllBoatIds()).thenReturn(IntStream.range(100, 9100).mapToObj(id -> "B" + id).toList());
+
+        final ImportResponseDto response = dataImportService.importMoorings(user, new StringReader(
+                "mooringNumber,boatName\n" +
+                "M-1,Sea Breeze\n"), false);
+
+        assertEquals(1, response.getErrorCount());
+        final ImportErrorResponseDto error = response.getErrors().get(0);
+        assertEquals(2, error.getRowNumber());
+        assertEquals("boatName", error.getColumn());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), any(int[].class));
+    }
+
+    @Test
+    void importCustomers_givesCustomersWithTheSameLastNameDistinctCustomerIds() throws Exception {
+        when(customerRepository.findIdsByCustomerIds(anyCollection())).thenReturn(List.of());
+        final StringBuilder csv = new StringBuilder("firstName,lastName\n");
+        for (int i = 1; i <= 100; i++) csv.append("Ada").append(i).append(",Smith\n");
+
+        final ImportResponseDto response = dataImportService.importCustomers(user, new StringReader(csv.toString()), false);
+
+        assertEquals(0, response.getErrorCount());
+        assertEquals(100, response.getImportedRows());
+        final List<String> customerIds = insertedCustomerIds();
+        assertEquals(100, Set.copyOf(customerIds).size());
+        assertTrue(customerIds.stream().allMatch(customerId -> customerId.matches("SMI\\d{3}")), customerIds.toString());
+    }
+
+    @Test
+    void importCustomers_drawsAgainForCustomerIdsTakenInTheDatabase() throws Exception {
+        final Set<String> taken = new HashSet<>();
+        // every candidate of the first round is taken, the later rounds and the id lookup after the insert find nothing
+        when(customerRepository.findIdsByCustomerIds(anyCollection()))
+                .thenAnswer(invocation -> {
+                    final Collection<String> candidates = invocation.getArgument(0);
+                    taken.addAll(candidates);
+                    return candidates.stream().map(candidate -> new Object[]{1, candidate}).toList();
+                })
+                .thenReturn(List.of());
+
+        final ImportResponseDto response = dataImportService.importCustomers(user, new StringReader(
+                "firstName,lastName\n" +
+                "Ada,Byron\n" +
+                "Alan,Turing\n"), false);
+
+        assertEquals(0, response.getErrorCount());
+        final List<String> customerIds = insertedCustomerIds();
+        assertEquals(2, customerIds.size());
+        assertTrue(customerIds.stream().noneMatch(taken::contains), customerIds + " " + taken);
+        assertTrue(customerIds.get(0).startsWith("BYR"));
+        assertTrue(customerIds.get(1).startsWith("TUR"));
+    }
+
+    @Test
+    void importCustomers_reportsTheRowsLeftWithoutAFreeCustomerId() throws Exception {
+        when(customerRepository.findIdsByCustomerIds(anyCollection())).thenAnswer(invocation -> ((Collection<String>) invocation.getArgument(0))
+                .stream().map(candidate -> new Object[]{1, candidate}).toList());
+
+        final ImportResponseDto response = dataImportService.importCustomers(user, new StringReader(
+                "firstName,lastName\n" +
+                "Ada,Byron\n"), false);
+
+        assertEquals(1, response.getErrorCount());
+        assertEquals("No free customer id left for last name: Byron", response.getErrors().get(0).getMessage());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), any(int[].class));
+    }
+
+    @Test
+    void importCustomers_rejectsEmailAddressesRepeatedInTheFileOrAlreadySaved() throws Exception {
+        when(customerRepository.findExistingEmailAddresses(anyCollection())).thenReturn(List.of("alan@example.com"));
+
+        final ImportResponseDto response = dataImportService.importCustomers(user, new StringReader(
+                "firstName,lastName,emailAddress\n" +
+                "Ada,Byron,ada@example.com\n" +
+                "Ada,Lovelace,ada@example.com\n" +
+                "Alan,Turing,alan@example.com\n"), false);
+
+        assertEquals(List.of("3 emailAddress Email address: ada@example.com is already in row 2",
+                        "4 emailAddress Given email address: alan@example.com  is already present"),
+                response.getErrors().stream().map(error -> error.getRowNumber() + " " + error.getColumn() + " " + error.getMessage()).toList());
+        verify(customerRepository, never()).findIdsByCustomerIds(anyCollection());
+    }
+
+    @Test
+    void importCustomers_readsQuotedFieldsAByteOrderMarkAndCarriageReturns() throws Exception {
+        when(customerRepository.findIdsByCustomerIds(anyCollection())).thenReturn(List.of());
+
+        final ImportResponseDto response = dataImportService.importCustomers(user, new StringReader(
+                "\uFEFFFirst Name,Last Name,Notes,Address\r\n" +
+                "Ada,Byron,\"likes \"\"calm\"\" water\",\"1 Harbor Rd, Suite 2\r\nNewport\"\r\n"), false);
+
+        assertEquals(0, response.getErrorCount());
+        assertEquals(1, response.getTotalRows());
+        final Object[] row = insertedCustomers().get(0);
+        assertEquals("likes \"calm\" water", row[5]);
+        assertEquals("1 Harbor Rd, Suite 2\r\nNewport", row[6]);
+    }
+
+    @Test
+    void importCustomers_stopsReadingAfterTheMaximumNumberOfRows() throws Exception {
+        final ImportResponseDto response = newService(2, 500).importCustomers(user, new StringReader(
+                "firstName,lastName\n" +
+                "Ada,Byron\n" +
+                "Alan,Turing\n" +
+                "Grace,Hopper\n"), false);
+
+        assertEquals(2, response.getTotalRows());
+        assertEquals(1, response.getErrorCount());
+        assertEquals(4, response.getErrors().get(0).getRowNumber());
+        assertEquals("The file has more than 2 rows", response.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void importCustomers_countsEveryErrorButReturnsOnlyTheFirstOnes() throws Exception {
+        final ImportResponseDto response = newService(20000, 2).importCustomers(user, new StringReader(
+                "firstName,lastName\n" +
+                "Ada,By\n" +
+                "Alan,Tu\n" +
+                "Grace,Ho\n"), false);
+
+        assertEquals(3, response.getErrorCount());
+        assertEquals(List.of(2, 3), response.getErrors().stream().map(ImportErrorResponseDto::getRowNumber).toList());
+    }
+
+    private List<Object[]> insertedCustomers() {
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<Object[]>> values = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO customer"), values.capture(), any(int[].class));
+        return values.getValue();
+    }
+
+    private List<String> insertedCustomerIds() {
+        // customer_id
+        return insertedCustomers().stream().map(row -> (String) row[2]).toList();
+    }
+}
@@ -0,0 +1,66 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.model.entity.metadata.BoatType;
+import com.marinamooringmanagement.repositories.metadata.BoatTypeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MetadataRegistryImplTest {
+
+    @Mock
+    private BoatTypeRepository boatTypeRepository;
+
+    @InjectMocks
+    private MetadataRegistryImpl metadataRegistry;
+
+    @BeforeEach
+    void setUp() {
+        metadataRegistry.registerTables();
+        when(boatTypeRepository.findAll(any(Sort.class))).thenReturn(List.of(BoatType.builder().id(1).boatType("Sail").build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.unbindResourceIfPossible(metadataRegistry);
+    }
+
+    @Test
+    void refresh_reloadsAWrittenTableOnceAfterCommit() {
+        assertEquals("Sail", metadataRegistry.findById(BoatType.class, 1).orElseThrow().getBoatType());
+
+        TransactionSynchronizationManager.initSynchronization();
+        metadataRegistry.refresh(BoatType.class);
+        metadataRegistry.refresh(BoatType.class);
+        when(boatTypeRepository.findAll(any(Sort.class))).thenReturn(List.of(BoatType.builder().id(1).boatType("Power").build()));
+        // not visible before the commit
+        assertEquals("Sail", metadataRegistry.findById(BoatType.class, 1).orElseThrow().getBoatType());
+
+        final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals("Power", metadataRegistry.findById(BoatType.class, 1).orElseThrow().getBoatType());
+        verify(boatTypeRepository, times(2)).findAll(any(Sort.class));
+        assertNull(TransactionSynchronizationManager.getResource(metadataRegistry));
+    }
+}
@@ -0,0 +1,78 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.model.dto.MooringLocation;
+import com.marinamooringmanagement.model.response.MooringWithGPSCoordinateResponse;
+import com.marinamooringmanagement.repositories.MooringRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MooringMapServiceImplTest {
+
+    private static final Integer CUSTOMER_OWNER_ID = 7;
+
+    @Mock
+    private MooringRepository mooringRepository;
+
+    private MooringMapServiceImpl mooringMapService;
+
+    @BeforeEach
+    void setUp() {
+        mooringMapService = new MooringMapServiceImpl(100, 1000);
+        ReflectionTestUtils.setField(mooringMapService, "mooringRepository", mooringRepository);
+    }
+
+    @Test
+    void findWithinRadius_keepsTheMooringsInsideTheCircleNearestFirst() {
+        // one thousandth of a degree of latitude is about 111 meters
+        when(mooringRepository.findNearestLocationsInBox(eq(CUSTOMER_OWNER_ID), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(List.of(location(1, 41.005, -71.0), location(2, 41.001, -71.0), location(3, 41.0089, -71.0089)));
+
+        final List<MooringWithGPSCoordinateResponse> moorings = mooringMapService.findWithinRadius(CUSTOMER_OWNER_ID, 41.0, -71.0, 1000);
+
+        assertEquals(List.of(2, 1), moorings.stream().map(MooringWithGPSCoordinateResponse::getId).toList());
+        assertEquals(111, moorings.get(0).getDistanceInMeters(), 1);
+        // the box is read nearest first, at most the maximum number of results
+        verify(mooringRepository).findNearestLocationsInBox(eq(CUSTOMER_OWNER_ID), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                eq(41.0), eq(-71.0), eq(PageRequest.of(0, 100)));
+    }
+
+    @Test
+    void findNearest_widensTheRadiusUntilEnoughMooringsAreFound() {
+        when(mooringRepository.findNearestLocationsInBox(eq(CUSTOMER_OWNER_ID), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(List.of(location(1, 41.02, -71.0)));
+
+        final List<MooringWithGPSCoordinateResponse> moorings = mooringMapService.findNearest(CUSTOMER_OWNER_ID, 41.0, -71.0, 1);
+
+        assertEquals(1, moorings.size());
+        // 1000 meters, 4000 meters, each reading no more moorings than asked for
+        verify(mooringRepository, times(2)).findNearestLocationsInBox(eq(CUSTOMER_OWNER_ID), anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble(), eq(PageRequest.of(0, 1)));
+    }
+
+    @Test
+    void findInViewport_queriesBothSidesOfTheAntimeridian() {
+        mooringMapService.findInViewport(CUSTOMER_OWNER_ID, -20.0, 170.0, -10.0, -170.0);
+
+        verify(mooringRepository).findLocationsInBox(eq(CUSTOMER_OWNER_ID), eq(-20.0), eq(-10.0), eq(170.0), eq(180.0), any());
+        verify(mooringRepository).findLocationsInBox(eq(CUSTOMER_OWNER_ID), eq(-20.0), eq(-10.0), eq(-180.0), eq(-170.0), any());
+    }
+
+    private static MooringLocation location(final Integer id, final double latitude, final double longitude) {
+        return new MooringLocation(id, "M-" + id, null, null, latitude, longitude);
+    }
+}
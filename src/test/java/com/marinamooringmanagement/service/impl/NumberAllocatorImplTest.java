@@ -0,0 +1,102 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.model.entity.NumberSequence;
+import com.marinamooringmanagement.repositories.NumberSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NumberAllocatorImplTest {
+
+    @Mock
+    private NumberSequenceRepository numberSequenceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NumberAllocatorImpl numberAllocator;
+
+    private NumberSequence numberSequence;
+
+    @BeforeEach
+    void setUp() {
+        numberAllocator = new NumberAllocatorImpl(transactionManager, 20, 1, "WOR", 6);
+        ReflectionTestUtils.setField(numberAllocator, "numberSequenceRepository", numberSequenceRepository);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(numberSequenceRepository.findByName(NumberAllocatorImpl.WORK_ORDER_SEQUENCE))
+                .thenAnswer(invocation -> Optional.ofNullable(numberSequence));
+        when(numberSequenceRepository.saveAndFlush(any(NumberSequence.class))).thenAnswer(invocation -> {
+            numberSequence = invocation.getArgument(0);
+            return numberSequence;
+        });
+    }
+
+    @Test
+    void nextWorkOrderNumber_createsSequenceAndFormatsNumber() {
+        assertEquals("WOR000001", numberAllocator.nextWorkOrderNumber());
+        assertEquals("WOR000002", numberAllocator.nextWorkOrderNumber());
+        assertEquals(21L, numberSequence.getNextValue());
+    }
+
+    @Test
+    void next_reservesOneBlockPerBlockSizeNumbers() {
+        for (int i = 1; i <= 45; i++) {
+            assertEquals(i, numberAllocator.next(NumberAllocatorImpl.WORK_ORDER_SEQUENCE));
+        }
+        verify(numberSequenceRepository, times(3)).saveAndFlush(any(NumberSequence.class));
+        assertEquals(61L, numberSequence.getNextValue());
+    }
+
+    @Test
+    void next_continuesAfterBlockReservedByAnotherNode() {
+        numberSequence = NumberSequence.builder().name(NumberAllocatorImpl.WORK_ORDER_SEQUENCE).nextValue(101L).build();
+
+        assertEquals("WOR000101", numberAllocator.nextWorkOrderNumber());
+        assertEquals(121L, numberSequence.getNextValue());
+    }
+
+    @Test
+    void next_handsOutUniqueNumbersUnderConcurrency() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    final List<Long> numbers = new ArrayList<>();
+                    for (int j = 0; j < 250; j++) numbers.add(numberAllocator.next(NumberAllocatorImpl.WORK_ORDER_SEQUENCE));
+                    return numbers;
+                }));
+            }
+
+            final Set<Long> numbers = new HashSet<>();
+            for (Future<List<Long>> future : futures) numbers.addAll(future.get());
+            assertEquals(2000, numbers.size());
+            assertEquals(1L, numbers.stream().mapToLong(Long::longValue).min().orElseThrow());
+            assertEquals(2000L, numbers.stream().mapToLong(Long::longValue).max().orElseThrow());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
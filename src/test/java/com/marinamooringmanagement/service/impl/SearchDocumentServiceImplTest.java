@@ -0,0 +1,141 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.model.entity.Customer;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.repositories.BoatyardRepository;
+import com.marinamooringmanagement.repositories.CustomerRepository;
+import com.marinamooringmanagement.repositories.MooringRepository;
+import com.marinamooringmanagement.repositories.UserRepository;
+import com.marinamooringmanagement.repositories.WorkOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchDocumentServiceImplTest {
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private MooringRepository mooringRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private BoatyardRepository boatyardRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SearchDocumentServiceImpl searchDocumentService;
+
+    @BeforeEach
+    void setUp() {
+        searchDocumentService = new SearchDocumentServiceImpl(transactionManager, 2);
+        ReflectionTestUtils.setField(searchDocumentService, "workOrderRepository", workOrderRepository);
+        ReflectionTestUtils.setField(searchDocumentService, "mooringRepository", mooringRepository);
+        ReflectionTestUtils.setField(searchDocumentService, "customerRepository", customerRepository);
+        ReflectionTestUtils.setField(searchDocumentService, "boatyardRepository", boatyardRepository);
+        ReflectionTestUtils.setField(searchDocumentService, "userRepository", userRepository);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void index_renamedCustomerRebuildsDocumentsOfItsMooringsAndWorkOrders() {
+        final Customer customer = Customer.builder().id(3).firstName("Ada").lastName("Byron").build();
+        final Mooring mooring = Mooring.builder().id(5).mooringNumber("M-17").customer(customer).build();
+        final WorkOrder workOrder = WorkOrder.builder().id(8).workOrderNumber("WOR000008").mooring(mooring).customer(customer).build();
+        searchDocumentService.index(customer);
+        searchDocumentService.index(mooring);
+        searchDocumentService.index(workOrder);
+        clearInvocations(customerRepository, mooringRepository, workOrderRepository);
+        when(mooringRepository.findAllByCustomerId(3)).thenReturn(List.of(mooring));
+        when(workOrderRepository.findAllByMooringId(5)).thenReturn(List.of(workOrder));
+        when(workOrderRepository.findAllByCustomerId(3)).thenReturn(List.of(workOrder));
+
+        customer.setLastName("Lovelace");
+        searchDocumentService.index(customer);
+
+        assertEquals("3\nada lovelace", customer.getSearchDocument());
+        assertEquals("5\nm-17\nada lovelace", mooring.getSearchDocument());
+        assertEquals("8\nwor000008\nada lovelace\nm-17", workOrder.getSearchDocument());
+        verify(customerRepository).save(customer);
+        verify(mooringRepository).save(mooring);
+        // reached through the mooring and through the customer, written once
+        verify(workOrderRepository, times(1)).save(workOrder);
+    }
+
+    @Test
+    void index_unchangedDocumentWritesNothing() {
+        final Customer customer = Customer.builder().id(3).firstName("Ada").lastName("Byron").build();
+        searchDocumentService.index(customer);
+        clearInvocations(customerRepository, mooringRepository);
+
+        searchDocumentService.index(customer);
+
+        verify(customerRepository, never()).save(any());
+        verify(mooringRepository, never()).findAllByCustomerId(any());
+    }
+
+    @Test
+    void backfill_rebuildsEveryDocumentOnceThenOnlyTheMissingOnes() {
+        final WorkOrder first = WorkOrder.builder().id(1).searchDocument("1").build();
+        final WorkOrder second = WorkOrder.builder().id(2).searchDocument("outdated").build();
+        final WorkOrder third = WorkOrder.builder().id(3).build();
+        when(workOrderRepository.findAllAfterId(eq(0), any())).thenReturn(List.of(first, second));
+        when(workOrderRepository.findAllAfterId(eq(2), any())).thenReturn(List.of(third));
+
+        // the first document is current, only the other two are written
+        assertEquals(2, searchDocumentService.backfill());
+        assertEquals("2", second.getSearchDocument());
+        assertEquals("3", third.getSearchDocument());
+        verify(workOrderRepository).saveAll(List.of(second));
+        verify(workOrderRepository).saveAll(List.of(third));
+        verify(workOrderRepository, never()).findAllWithoutSearchDocument(any(), any());
+
+        clearInvocations(workOrderRepository);
+        assertEquals(0, searchDocumentService.backfill());
+        verify(workOrderRepository).findAllWithoutSearchDocument(eq(0), any());
+        verify(workOrderRepository, never()).findAllAfterId(any(), any());
+    }
+
+    @Test
+    void createIndexes_rebuildsAnInvalidIndex() {
+        final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ReflectionTestUtils.setField(searchDocumentService, "jdbcTemplate", jdbcTemplate);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), any(Object[].class))).thenReturn(List.of(true));
+        when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), eq("idx_mooring_search_document"))).thenReturn(List.of(false));
+
+        searchDocumentService.createIndexes();
+
+        final InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("DROP INDEX CONCURRENTLY IF EXISTS idx_mooring_search_document");
+        inOrder.verify(jdbcTemplate).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mooring_search_document ON mooring USING gin (search_document gin_trgm_ops)");
+        verify(jdbcTemplate, times(1)).execute(startsWith("DROP INDEX"));
+        verify(jdbcTemplate, times(5)).execute(startsWith("CREATE INDEX"));
+    }
+}
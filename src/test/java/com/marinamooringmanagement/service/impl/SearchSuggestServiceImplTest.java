@@ -0,0 +1,96 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.enums.EntityEnum;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.response.SuggestionResponseDto;
+import com.marinamooringmanagement.repositories.BoatyardRepository;
+import com.marinamooringmanagement.repositories.CustomerRepository;
+import com.marinamooringmanagement.repositories.MooringRepository;
+import com.marinamooringmanagement.repositories.WorkOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchSuggestServiceImplTest {
+
+    private static final Integer CUSTOMER_OWNER_ID = 7;
+
+    @Mock
+    private MooringRepository mooringRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private BoatyardRepository boatyardRepository;
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    private SearchSuggestServiceImpl searchSuggestService;
+
+    @BeforeEach
+    void setUp() {
+        searchSuggestService = new SearchSuggestServiceImpl(60000, 10, 50);
+        ReflectionTestUtils.setField(searchSuggestService, "mooringRepository", mooringRepository);
+        ReflectionTestUtils.setField(searchSuggestService, "customerRepository", customerRepository);
+        ReflectionTestUtils.setField(searchSuggestService, "boatyardRepository", boatyardRepository);
+        ReflectionTestUtils.setField(searchSuggestService, "workOrderRepository", workOrderRepository);
+        when(mooringRepository.findSuggestions(CUSTOMER_OWNER_ID)).thenReturn(List.<Object[]>of(new Object[]{1, "M-100", "Sea Breeze"}));
+        when(customerRepository.findSuggestions(CUSTOMER_OWNER_ID)).thenReturn(List.<Object[]>of(new Object[]{2, "Ada", "Seaborn", "SEA001"}));
+        when(boatyardRepository.findSuggestions(CUSTOMER_OWNER_ID)).thenReturn(List.<Object[]>of(new Object[]{3, "Silver Lake Marina", "BY1"}));
+        when(workOrderRepository.findSuggestions(CUSTOMER_OWNER_ID)).thenReturn(List.<Object[]>of(new Object[]{4, "WOR000004"}));
+    }
+
+    @Test
+    void suggest_matchesTheStartOfEveryWordOncePerEntity() {
+        final List<SuggestionResponseDto> suggestions = searchSuggestService.suggest(CUSTOMER_OWNER_ID, "Sea", 10);
+
+        assertEquals(2, suggestions.size());
+        assertTrue(suggestions.stream().anyMatch(s -> s.getType() == EntityEnum.MOORING && s.getLabel().equals("M-100 - Sea Breeze")));
+        assertTrue(suggestions.stream().anyMatch(s -> s.getType() == EntityEnum.CUSTOMER && s.getLabel().equals("Ada Seaborn")));
+        assertEquals(3, searchSuggestService.suggest(CUSTOMER_OWNER_ID, "lake", 10).get(0).getId());
+        assertTrue(searchSuggestService.suggest(CUSTOMER_OWNER_ID, "marina x", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_loadsTheIndexOnceAndAppliesUpdatesAndRemovals() {
+        searchSuggestService.suggest(CUSTOMER_OWNER_ID, "m", 10);
+
+        final Mooring mooring = Mooring.builder().id(1).mooringNumber("M-200").user(User.builder().id(CUSTOMER_OWNER_ID).build()).build();
+        searchSuggestService.update(mooring);
+        assertTrue(searchSuggestService.suggest(CUSTOMER_OWNER_ID, "m-1", 10).isEmpty());
+        assertEquals("M-200", searchSuggestService.suggest(CUSTOMER_OWNER_ID, "m-2", 10).get(0).getLabel());
+
+        searchSuggestService.remove(EntityEnum.MOORING, 1);
+        assertTrue(searchSuggestService.suggest(CUSTOMER_OWNER_ID, "m-", 10).isEmpty());
+        verify(mooringRepository, times(1)).findSuggestions(anyInt());
+    }
+
+    @Test
+    void suggest_keepsTheUpdatesCommittedWhileTheIndexLoads() {
+        final Mooring mooring = Mooring.builder().id(1).mooringNumber("M-300").user(User.builder().id(CUSTOMER_OWNER_ID).build()).build();
+        // the rename commits after the moorings have been read
+        when(mooringRepository.findSuggestions(CUSTOMER_OWNER_ID)).thenAnswer(invocation -> {
+            searchSuggestService.update(mooring);
+            return List.<Object[]>of(new Object[]{1, "M-100", "Sea Breeze"});
+        });
+
+        assertEquals("M-300", searchSuggestService.suggest(CUSTOMER_OWNER_ID, "m-", 10).get(0).getLabel());
+        assertTrue(searchSuggestService.suggest(CUSTOMER_OWNER_ID, "m-1", 10).isEmpty());
+    }
+}
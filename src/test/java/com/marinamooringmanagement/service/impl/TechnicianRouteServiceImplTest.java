@@ -0,0 +1,88 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.model.dto.RouteStop;
+import com.marinamooringmanagement.model.response.RouteStopResponseDto;
+import com.marinamooringmanagement.model.response.TechnicianRouteResponseDto;
+import com.marinamooringmanagement.utils.GPSUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TechnicianRouteServiceImplTest {
+
+    private TechnicianRouteServiceImpl technicianRouteService;
+
+    @BeforeEach
+    void setUp() {
+        technicianRouteService = new TechnicianRouteServiceImpl(50);
+    }
+
+    @Test
+    void planRoute_visitsMooringsAlongTheShoreInOrder() {
+        final List<RouteStop> stops = List.of(
+                stop(1, 41.03, -71.0, null),
+                stop(2, 41.01, -71.0, null),
+                stop(3, null, null, "41.04 -71.0"),
+                stop(4, null, null, "unknown"),
+                stop(5, 41.02, -71.0, null));
+
+        final TechnicianRouteResponseDto route = technicianRouteService.planRoute(stops, 41.0, -71.0);
+
+        assertEquals(List.of(2, 5, 1, 3), route.getStops().stream().map(RouteStopResponseDto::getWorkOrderId).toList());
+        assertEquals(List.of(1, 2, 3, 4), route.getStops().stream().map(RouteStopResponseDto::getSequence).toList());
+        assertEquals(GPSUtil.distanceInMeters(41.0, -71.0, 41.04, -71.0), route.getTotalDistanceInMeters(), 1);
+        assertEquals(4, route.getUnlocatedStops().get(0).getWorkOrderId());
+    }
+
+    @Test
+    void planRoute_visitsEveryStopOnceOnARouteNoLongerThanNearestNeighbor() {
+        final Random random = new Random(42);
+        final List<RouteStop> stops = new ArrayList<>();
+        for (int i = 1; i <= 50; i++)
+            stops.add(stop(i, 41 + random.nextDouble() * 0.2, -71 + random.nextDouble() * 0.2, null));
+
+        final TechnicianRouteResponseDto route = technicianRouteService.planRoute(stops, 41.0, -71.0);
+
+        final List<Integer> visited = route.getStops().stream().map(RouteStopResponseDto::getWorkOrderId).toList();
+        assertEquals(50, visited.size());
+        assertEquals(stops.stream().map(RouteStop::getWorkOrderId).collect(Collectors.toSet()), Set.copyOf(visited));
+        assertTrue(route.getUnlocatedStops().isEmpty());
+        // the optimizer starts from the nearest neighbor route and only applies moves that shorten it
+        assertTrue(route.getTotalDistanceInMeters() <= nearestNeighborDistance(stops, 41.0, -71.0) + 1e-6);
+    }
+
+    /**
+     * Length of the route that always goes on to the closest stop not visited yet.
+     */
+    private static double nearestNeighborDistance(final List<RouteStop> stops, double latitude, double longitude) {
+        final List<RouteStop> remaining = new ArrayList<>(stops);
+        double distance = 0;
+        while (!remaining.isEmpty()) {
+            RouteStop nearest = null;
+            double nearestDistance = Double.MAX_VALUE;
+            for (RouteStop stop : remaining) {
+                final double stopDistance = GPSUtil.distanceInMeters(latitude, longitude, stop.getLatitude(), stop.getLongitude());
+                if (stopDistance < nearestDistance) {
+                    nearest = stop;
+                    nearestDistance = stopDistance;
+                }
+            }
+            remaining.remove(nearest);
+            distance += nearestDistance;
+            latitude = nearest.getLatitude();
+            longitude = nearest.getLongitude();
+        }
+        return distance;
+    }
+
+    private static RouteStop stop(final Integer id, final Double latitude, final Double longitude, final String gpsCoordinates) {
+        return new RouteStop(id, "WOR" + id, id, "M-" + id, gpsCoordinates, latitude, longitude);
+    }
+}
@@ -0,0 +1,186 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.constants.enums.WorkOrderSortKey;
+import com.marinamooringmanagement.helper.WorkOrderChildrenLoader;
+import com.marinamooringmanagement.mapper.WorkOrderMapper;
+import com.marinamooringmanagement.model.entity.User;
+import com.marinamooringmanagement.model.entity.WorkOrder;
+import com.marinamooringmanagement.model.request.BaseSearchRequest;
+import com.marinamooringmanagement.model.request.KeysetCursor;
+import com.marinamooringmanagement.model.request.WorkOrderPageRequest;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.WorkOrderResponseDto;
+import com.marinamooringmanagement.repositories.WorkOrderRepository;
+import com.marinamooringmanagement.security.model.AuthenticationDetails;
+import com.marinamooringmanagement.security.util.AuthorizationUtil;
+import com.marinamooringmanagement.utils.CursorUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WorkOrderServiceImplKeysetPaginationTest {
+
+    private static final Instant SHARED = Instant.parse("2024-03-01T10:15:30.123456Z");
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private AuthorizationUtil authorizationUtil;
+
+    @Mock
+    private WorkOrderChildrenLoader workOrderChildrenLoader;
+
+    @Mock
+    private WorkOrderChildrenLoader.WorkOrderChildren workOrderChildren;
+
+    @Mock
+    private WorkOrderMapper workOrderMapper;
+
+    @Mock
+    private HttpServletRequest request;
+
+    private WorkOrderServiceImpl workOrderService;
+
+    private final List<WorkOrder> workOrders = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        workOrderService = new WorkOrderServiceImpl();
+        ReflectionTestUtils.setField(workOrderService, "workOrderRepository", workOrderRepository);
+        ReflectionTestUtils.setField(workOrderService, "authorizationUtil", authorizationUtil);
+        ReflectionTestUtils.setField(workOrderService, "workOrderChildrenLoader", workOrderChildrenLoader);
+        ReflectionTestUtils.setField(workOrderService, "workOrderMapper", workOrderMapper);
+
+        final AuthenticationDetails authenticationDetails = new AuthenticationDetails();
+        authenticationDetails.setLoggedInUserRole(AppConstants.Role.ADMINISTRATOR);
+        final TestingAuthenticationToken authentication = new TestingAuthenticationToken("admin", null);
+        authentication.setDetails(authenticationDetails);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        when(authorizationUtil.checkAuthorityForTechnician(any())).thenReturn(User.builder().id(7).build());
+        when(workOrderChildrenLoader.load(anyCollection(), anyBoolean())).thenReturn(workOrderChildren);
+        when(workOrderMapper.mapToWorkOrderResponseDto(any(), any())).thenAnswer(invocation -> {
+            final WorkOrderResponseDto dto = invocation.getArgument(0);
+            dto.setId(((WorkOrder) invocation.getArgument(1)).getId());
+            return dto;
+        });
+        when(workOrderRepository.findPage(any())).thenAnswer(invocation -> findPage(invocation.getArgument(0)));
+
+        // three work orders share a due date, two more fall within its millisecond
+        workOrder(1, SHARED.plusSeconds(60));
+        workOrder(2, SHARED);
+        workOrder(3, SHARED.plusNanos(1_000));
+        workOrder(4, SHARED);
+        workOrder(5, null);
+        workOrder(6, SHARED.plusNanos(500_000));
+        workOrder(7, SHARED);
+        workOrder(8, SHARED.minusSeconds(60));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void fetchWorkOrders_pagesThroughRowsOfTheSameDueDateWithoutSkippingOrRepeating() {
+        assertEquals(List.of(5, 8, 2, 4, 7, 3, 6, 1), fetchAllPages("dueDate", "asc", 2));
+        assertEquals(List.of(1, 6, 3, 7, 4, 2, 8, 5), fetchAllPages("dueDate", "desc", 2));
+        assertEquals(List.of(5, 8, 2, 4, 7, 3, 6, 1), fetchAllPages("dueDate", "asc", 3));
+    }
+
+    @Test
+    void fetchWorkOrders_writesTheDueDateIntoTheCursorWithItsFullPrecision() {
+        final BasicRestResponse response = workOrderService.fetchWorkOrders(searchRequest("dueDate", "asc", 4), null, "No", null, request);
+
+        // the page ends with the second of the work orders sharing the due date
+        final KeysetCursor cursor = CursorUtils.decode(response.getNextCursor(), "dueDate", "asc");
+        assertEquals(4, cursor.getLastId());
+        assertEquals("2024-03-01T10:15:30.123456Z", cursor.getSortValue());
+        assertEquals(Timestamp.from(SHARED), WorkOrderSortKey.DUE_DATE.parse(cursor.getSortValue()));
+    }
+
+    @Test
+    void fetchWorkOrders_pagesByIdWhenNoSortIsGiven() {
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8), fetchAllPages(null, null, 3));
+    }
+
+    /**
+     * Follows the next cursor of each response until the last page and returns the ids in the order they came.
+     */
+    private List<Integer> fetchAllPages(final String sortBy, final String sortDir, final int pageSize) {
+        final List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page <= workOrders.size(); page++) {
+            final BasicRestResponse response = workOrderService.fetchWorkOrders(searchRequest(sortBy, sortDir, pageSize), null, "No", cursor, request);
+            assertEquals(HttpStatus.OK.value(), response.getStatus(), response.getMessage());
+            ((List<?>) response.getContent()).forEach(dto -> ids.add(((WorkOrderResponseDto) dto).getId()));
+            cursor = response.getNextCursor();
+            if (null == cursor) return ids;
+        }
+        fail("The cursor never reached the last page");
+        return ids;
+    }
+
+    /**
+     * Answers the page the way the database does, seeking past the sort value and id of the cursor with the same
+     * row comparison as the JPQL.
+     */
+    @SuppressWarnings("unchecked")
+    private List<WorkOrder> findPage(final WorkOrderPageRequest pageRequest) {
+        final WorkOrderSortKey sortKey = pageRequest.getSortKey();
+        final Comparator<WorkOrder> byValue = (a, b) -> ((Comparable<Object>) sortKey.extract(a)).compareTo(sortKey.extract(b));
+        Comparator<WorkOrder> order = byValue.thenComparing(WorkOrder::getId);
+        if (!pageRequest.isAscending()) order = order.reversed();
+
+        final KeysetCursor cursor = pageRequest.getCursor();
+        final List<WorkOrder> sorted = new ArrayList<>(workOrders);
+        sorted.sort(order);
+        final List<WorkOrder> page = new ArrayList<>();
+        int offset = null == cursor ? pageRequest.getPageNumber() * pageRequest.getPageSize() : 0;
+        for (WorkOrder workOrder : sorted) {
+            if (null != cursor) {
+                final int compared = ((Comparable<Object>) sortKey.extract(workOrder)).compareTo(sortKey.parse(cursor.getSortValue()));
+                final int sign = pageRequest.isAscending() ? 1 : -1;
+                if (compared * sign < 0 || (compared == 0 && Integer.compare(workOrder.getId(), cursor.getLastId()) * sign <= 0)) continue;
+            }
+            if (offset-- > 0) continue;
+            if (page.size() == pageRequest.getPageSize() + 1) break;
+            page.add(workOrder);
+        }
+        return page;
+    }
+
+    private void workOrder(final Integer id, final Instant dueDate) {
+        // the database hands out timestamps, not dates cut to the millisecond
+        workOrders.add(WorkOrder.builder().id(id).dueDate(null == dueDate ? null : Timestamp.from(dueDate)).build());
+    }
+
+    private static BaseSearchRequest searchRequest(final String sortBy, final String sortDir, final int pageSize) {
+        return BaseSearchRequest.builder().pageNumber(0).pageSize(pageSize).sortBy(sortBy).sortDir(sortDir).build();
+    }
+}
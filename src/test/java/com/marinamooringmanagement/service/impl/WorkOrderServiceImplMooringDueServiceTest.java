@@ -0,0 +1,223 @@
+package com.marinamooringmanagement.service.impl;
+
+import com.marinamooringmanagement.constants.AppConstants;
+import com.marinamooringmanagement.mapper.BoatyardMapper;
+import com.marinamooringmanagement.mapper.CustomerMapper;
+import com.marinamooringmanagement.mapper.MooringMapper;
+import com.marinamooringmanagement.mapper.ServiceAreaMapper;
+import com.marinamooringmanagement.mapper.metadata.MooringDueServiceStatusMapper;
+import com.marinamooringmanagement.model.dto.MooringDueServiceSummary;
+import com.marinamooringmanagement.model.dto.metadata.MooringDueServiceStatusDto;
+import com.marinamooringmanagement.model.entity.Boatyard;
+import com.marinamooringmanagement.model.entity.Customer;
+import com.marinamooringmanagement.model.entity.Mooring;
+import com.marinamooringmanagement.model.entity.metadata.MooringDueServiceStatus;
+import com.marinamooringmanagement.model.response.BasicRestResponse;
+import com.marinamooringmanagement.model.response.MooringDueServiceResponseDto;
+import com.marinamooringmanagement.repositories.MooringRepository;
+import com.marinamooringmanagement.repositories.WorkOrderRepository;
+import com.marinamooringmanagement.security.model.AuthenticationDetails;
+import com.marinamooringmanagement.service.MetadataRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WorkOrderServiceImplMooringDueServiceTest {
+
+    @Mock
+    private WorkOrderRepository workOrderRepository;
+
+    @Mock
+    private MooringRepository mooringRepository;
+
+    @Mock
+    private MooringMapper mooringMapper;
+
+    @Mock
+    private CustomerMapper customerMapper;
+
+    @Mock
+    private BoatyardMapper boatyardMapper;
+
+    @Mock
+    private ServiceAreaMapper serviceAreaMapper;
+
+    @Mock
+    private MooringDueServiceStatusMapper mooringDueServiceStatusMapper;
+
+    @Mock
+    private MetadataRegistry metadataRegistry;
+
+    private WorkOrderServiceImpl workOrderService;
+
+    @BeforeEach
+    void setUp() {
+        workOrderService = new WorkOrderServiceImpl();
+        ReflectionTestUtils.setField(workOrderService, "workOrderRepository", workOrderRepository);
+        ReflectionTestUtils.setField(workOrderService, "mooringRepository", mooringRepository);
+        ReflectionTestUtils.setField(workOrderService, "mooringMapper", mooringMapper);
+        ReflectionTestUtils.setField(workOrderService, "customerMapper", customerMapper);
+        ReflectionTestUtils.setField(workOrderService, "boatyardMapper", boatyardMapper);
+        ReflectionTestUtils.setField(workOrderService, "serviceAreaMapper", serviceAreaMapper);
+        ReflectionTestUtils.setField(workOrderService, "mooringDueServiceStatusMapper", mooringDueServiceStatusMapper);
+        ReflectionTestUtils.setField(workOrderService, "metadataRegistry", metadataRegistry);
+
+        when(metadataRegistry.findByName(eq(MooringDueServiceStatus.class), anyString()))
+                .thenAnswer(invocation -> Optional.of(MooringDueServiceStatus.builder().status(invocation.getArgument(1)).build()));
+        doAnswer(invocation -> {
+            final MooringDueServiceStatusDto dto = invocation.getArgument(0);
+            dto.setStatus(((MooringDueServiceStatus) invocation.getArgument(1)).getStatus());
+            return null;
+        }).when(mooringDueServiceStatusMapper).toDto(any(), any());
+
+        // stands in for the generated mapper, only the id is needed to tell the rows apart
+        when(mooringMapper.mapToMooringDueServiceResponseDto(any(), any())).thenAnswer(invocation -> {
+            final MooringDueServiceResponseDto dto = invocation.getArgument(0);
+            dto.setId(((Mooring) invocation.getArgument(1)).getId());
+            return dto;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getMooringDueServiceResponseDtoList_keepsTheOrderOfTheSummariesAndLoadsTheMooringsOnce() {
+        when(mooringRepository.findAllWithDetailsByIdIn(anyCollection()))
+                .thenReturn(List.of(Mooring.builder().id(1).build(), Mooring.builder().id(2).build()));
+
+        final List<MooringDueServiceResponseDto> response = mooringDue(
+                summary(2, date(2024, 3, 1), true, true),
+                summary(1, date(2024, 5, 17), false, true));
+
+        assertEquals(List.of(2, 1), response.stream().map(MooringDueServiceResponseDto::getId).toList());
+        assertEquals("03/01/2024", response.get(0).getMooringServiceDate());
+        assertEquals("05/17/2024", response.get(1).getMooringServiceDate());
+        assertTrue(response.get(0).getUnder30());
+        assertFalse(response.get(1).getUnder30());
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Collection<Integer>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(mooringRepository, times(1)).findAllWithDetailsByIdIn(ids.capture());
+        assertEquals(Set.of(1, 2), Set.copyOf(ids.getValue()));
+    }
+
+    @Test
+    void getMooringDueServiceResponseDtoList_marksMooringsWithOpenWorkOrdersAsPending() {
+        when(mooringRepository.findAllWithDetailsByIdIn(anyCollection()))
+                .thenReturn(List.of(Mooring.builder().id(1).build(), Mooring.builder().id(2).build()));
+
+        final List<MooringDueServiceResponseDto> response = mooringDue(
+                summary(1, date(2024, 3, 1), true, true),
+                summary(2, date(2024, 3, 2), true, false));
+
+        assertEquals(AppConstants.MooringDueServiceStatusConstants.PENDING, response.get(0).getMooringDueServiceStatusDto().getStatus());
+        assertEquals(AppConstants.MooringDueServiceStatusConstants.COMPLETE, response.get(1).getMooringDueServiceStatusDto().getStatus());
+    }
+
+    @Test
+    void getMooringDueServiceResponseDtoList_takesTheCustomerNameAndMainContactFromTheMooring() {
+        when(mooringRepository.findAllWithDetailsByIdIn(anyCollection())).thenReturn(List.of(Mooring.builder()
+                .id(1)
+                .customer(Customer.builder().id(3).firstName("Ada").lastName("Byron").build())
+                .boatyard(Boatyard.builder().id(5).mainContact("Sam").build())
+                .build()));
+
+        final MooringDueServiceResponseDto dto = mooringDue(summary(1, date(2024, 3, 1), true, true)).get(0);
+
+        assertEquals("Ada Byron", dto.getCustomerName());
+        assertEquals("Sam", dto.getMainContact());
+    }
+
+    @Test
+    void getMooringDueServiceResponseDtoList_skipsMooringsThatNoLongerExist() {
+        when(mooringRepository.findAllWithDetailsByIdIn(anyCollection())).thenReturn(List.of(Mooring.builder().id(1).build()));
+
+        final List<MooringDueServiceResponseDto> response = mooringDue(
+                summary(9, date(2024, 3, 1), true, true),
+                summary(1, date(2024, 3, 2), true, true));
+
+        assertEquals(List.of(1), response.stream().map(MooringDueServiceResponseDto::getId).toList());
+    }
+
+    @Test
+    void getMooringDueServiceResponseDtoList_doesNotLoadMooringsForAnEmptyPage() {
+        assertTrue(mooringDue().isEmpty());
+        verifyNoInteractions(mooringRepository, metadataRegistry);
+    }
+
+    @Test
+    void fetchMooringDueForServiceForTechnician_asksForAllRowsOfTheTechnicianDueWithinThirtyDays() {
+        loginAs(7);
+        when(workOrderRepository.findMooringDueForService(anyInt(), anyBoolean(), any(), anyInt(), anyInt()))
+                .thenReturn(List.of(summary(1, date(2024, 3, 1), true, true)));
+        when(mooringRepository.findAllWithDetailsByIdIn(anyCollection())).thenReturn(List.of(Mooring.builder().id(1).build()));
+
+        final BasicRestResponse response = workOrderService.fetchMooringDueForServiceForTechnician();
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(1, ((List<?>) response.getContent()).size());
+        final ArgumentCaptor<Date> dueSoonBefore = ArgumentCaptor.forClass(Date.class);
+        verify(workOrderRepository).findMooringDueForService(eq(7), eq(true), dueSoonBefore.capture(), eq(0), eq(0));
+        // service dates before the start of the day 31 days from today fall within the next 30 days
+        assertEquals(Date.from(LocalDate.now().plusDays(31).atStartOfDay(ZoneId.systemDefault()).toInstant()), dueSoonBefore.getValue());
+    }
+
+    @Test
+    void fetchMooringDueForServiceForTechnician_returnsAnEmptyListWhenNothingIsDue() {
+        loginAs(7);
+        when(workOrderRepository.findMooringDueForService(anyInt(), anyBoolean(), any(), anyInt(), anyInt())).thenReturn(List.of());
+
+        final BasicRestResponse response = workOrderService.fetchMooringDueForServiceForTechnician();
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(List.of(), response.getContent());
+        verifyNoInteractions(mooringRepository);
+    }
+
+    private List<MooringDueServiceResponseDto> mooringDue(final MooringDueServiceSummary... summaries) {
+        return ReflectionTestUtils.invokeMethod(workOrderService, "getMooringDueServiceResponseDtoList", List.of(summaries));
+    }
+
+    private static MooringDueServiceSummary summary(final Integer mooringId, final Date serviceDate, final boolean under30, final boolean pending) {
+        return new MooringDueServiceSummary(mooringId, serviceDate, under30, pending);
+    }
+
+    private static Date date(final int year, final int month, final int day) {
+        return Date.from(LocalDate.of(year, month, day).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static void loginAs(final Integer userId) {
+        final AuthenticationDetails authenticationDetails = new AuthenticationDetails();
+        authenticationDetails.setLoggedInUserId(userId);
+        final TestingAuthenticationToken authentication = new TestingAuthenticationToken("technician", null);
+        authentication.setDetails(authenticationDetails);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -0,0 +1,60 @@
+package com.marinamooringmanagement.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void readRecord_keepsCommasQuotesAndLineBreaksInsideQuotedFields() throws IOException {
+        final List<List<String>> records = readAll("name,notes\n" +
+                "\"Byron, Ada\",\"said \"\"hi\"\"\nand left\"\n");
+
+        assertEquals(List.of(List.of("name", "notes"), List.of("Byron, Ada", "said \"hi\"\nand left")), records);
+    }
+
+    @Test
+    void readRecord_countsRecordsNotLines() throws IOException {
+        final CsvReader csvReader = new CsvReader(new StringReader("a\n\"1\n2\"\nb\n"));
+
+        csvReader.readRecord();
+        csvReader.readRecord();
+        assertEquals(List.of("b"), csvReader.readRecord());
+        assertEquals(3, csvReader.getRecordNumber());
+    }
+
+    @Test
+    void readRecord_skipsALeadingByteOrderMark() throws IOException {
+        assertEquals(List.of(List.of("firstName", "lastName"), List.of("Ada", "Byron")), readAll("\uFEFFfirstName,lastName\nAda,Byron"));
+    }
+
+    @Test
+    void readRecord_acceptsCarriageReturnLineFeedAndBareCarriageReturn() throws IOException {
+        assertEquals(List.of(List.of("a", "b"), List.of("1", "2"), List.of("3", "")), readAll("a,b\r\n1,2\r3,\r\n"));
+    }
+
+    @Test
+    void readRecord_keepsEmptyFields() throws IOException {
+        assertEquals(List.of(List.of("", "", "")), readAll(",,\n"));
+    }
+
+    @Test
+    void readRecord_failsWhenTheInputEndsInsideAQuotedField() {
+        final IOException e = assertThrows(IOException.class, () -> readAll("a\n\"unterminated\n"));
+        assertEquals("Record 2 ends inside a quoted field", e.getMessage());
+    }
+
+    private static List<List<String>> readAll(final String csv) throws IOException {
+        final CsvReader csvReader = new CsvReader(new StringReader(csv));
+        final List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while (null != (record = csvReader.readRecord())) records.add(record);
+        return records;
+    }
+}
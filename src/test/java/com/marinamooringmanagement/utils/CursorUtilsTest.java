@@ -0,0 +1,73 @@
+package com.marinamooringmanagement.utils;
+
+import com.marinamooringmanagement.exception.InvalidPaginationRequestException;
+import com.marinamooringmanagement.model.request.KeysetCursor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorUtilsTest {
+
+    @Test
+    void decode_readsBackWhatEncodeWrote() {
+        final KeysetCursor cursor = KeysetCursor.builder()
+                .sortBy("dueDate")
+                .sortDir("desc")
+                .sortValue("2024-03-01T10:15:30.123456Z")
+                .lastId(42)
+                .build();
+
+        final String token = CursorUtils.encode(cursor);
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+        assertEquals(cursor, CursorUtils.decode(token, "dueDate", "desc"));
+    }
+
+    @Test
+    void decode_keepsTheSeparatorInsideTheSortValue() {
+        final KeysetCursor cursor = KeysetCursor.builder()
+                .sortBy("workOrderNumber")
+                .sortDir("asc")
+                .sortValue("WO|17|a")
+                .lastId(3)
+                .build();
+
+        assertEquals("WO|17|a", CursorUtils.decode(CursorUtils.encode(cursor), "workOrderNumber", "asc").getSortValue());
+    }
+
+    @Test
+    void decode_returnsNullWithoutAToken() {
+        assertNull(CursorUtils.encode(null));
+        assertNull(CursorUtils.decode(null, "id", "asc"));
+        assertNull(CursorUtils.decode(" ", "id", "asc"));
+    }
+
+    @Test
+    void decode_matchesTheSortIgnoringCase() {
+        final String token = CursorUtils.encode(KeysetCursor.builder().sortBy("dueDate").sortDir("asc").sortValue("x").lastId(1).build());
+
+        assertNotNull(CursorUtils.decode(token, "DUEDATE", "ASC"));
+    }
+
+    @Test
+    void decode_rejectsATokenOfAnotherSort() {
+        final String token = CursorUtils.encode(KeysetCursor.builder().sortBy("dueDate").sortDir("asc").sortValue("x").lastId(1).build());
+
+        assertThrows(InvalidPaginationRequestException.class, () -> CursorUtils.decode(token, "dueDate", "desc"));
+        assertThrows(InvalidPaginationRequestException.class, () -> CursorUtils.decode(token, "scheduledDate", "asc"));
+    }
+
+    @Test
+    void decode_rejectsMalformedTokens() {
+        assertThrows(InvalidPaginationRequestException.class, () -> CursorUtils.decode("not base64!", "id", "asc"));
+        assertThrows(InvalidPaginationRequestException.class, () -> CursorUtils.decode(urlEncode("id|asc|1"), "id", "asc"));
+        assertThrows(InvalidPaginationRequestException.class, () -> CursorUtils.decode(urlEncode("id|asc|one|1"), "id", "asc"));
+    }
+
+    private static String urlEncode(final String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+package com.marinamooringmanagement.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link GPSCoordinateParser} with the string based parser that {@link GPSUtil#getGpsCoordinates} used
+ * before, kept below as {@link #legacyGetGpsCoordinates}. Run with {@link #main} from the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GPSCoordinateParserBenchmark {
+
+    private static final String[] INPUTS = {
+            "41.5, -71.2",
+            "41.508333 -71.254167",
+            "041.30.5 -71.15.25",
+            "-41.30.5  -71.15.25 ",
+            "19.40.25817 -0.0000005",
+            "90.000000 180.000000",
+            "12.34567 -123.456789",
+            "54.12.345 3.45.678"
+    };
+
+    private int index;
+
+    private String next() {
+        final String input = INPUTS[index];
+        index = (index + 1) % INPUTS.length;
+        return input;
+    }
+
+    @Benchmark
+    public String legacyGetGpsCoordinates() {
+        return legacyGetGpsCoordinates(next());
+    }
+
+    @Benchmark
+    public String getGpsCoordinates() {
+        return GPSUtil.getGpsCoordinates(next());
+    }
+
+    @Benchmark
+    public long parse() {
+        return GPSCoordinateParser.parse(next());
+    }
+
+    @Benchmark
+    public void parseAll(final Blackhole blackhole) {
+        blackhole.consume(GPSCoordinateParser.parseAll(INPUTS));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GPSCoordinateParserBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    /**
+     * GPSUtil.getGpsCoordinates before the parser, unchanged apart from the name.
+     */
+    private static String legacyGetGpsCoordinates(String givenGpsCoordinates) {
+        try {
+            String gpsCoordinates = givenGpsCoordinates.replace(",", "");
+
+            boolean westernHemisphere = false;
+            boolean southernHemisphere = false;
+
+            int spaceInd = 0;
+            while (gpsCoordinates.charAt(spaceInd) != ' ') spaceInd++;
+            if (spaceInd == gpsCoordinates.length() - 1)
+                throw new RuntimeException(String.format("Invalid GPS Coordinate: %1$s format", gpsCoordinates));
+
+            String latitude = gpsCoordinates.substring(0, spaceInd);
+            String longitude = gpsCoordinates.substring(spaceInd);
+
+            double decimalLatitude = 0;
+            double decimalLongitude = 0;
+
+            int latDotCount = 0;
+            for (char ch : latitude.toCharArray()) if (ch == '.') latDotCount++;
+            if (latDotCount < 1 || latDotCount > 3)
+                throw new RuntimeException(String.format("Latitude: %1$s is in wrong format", latitude));
+            if (latDotCount == 2) {
+
+                int zeroIndLat = 0;
+                while (latitude.charAt(zeroIndLat) == '0' || latitude.charAt(zeroIndLat) == ' ') zeroIndLat++;
+                latitude = latitude.substring(zeroIndLat);
+
+                if(latitude.charAt(0) == '-') {
+                    southernHemisphere = true;
+                    latitude = latitude.substring(1);
+                }
+
+                decimalLatitude = GPSUtil.convertToDecimalDegrees(latitude);
+
+                if(southernHemisphere) decimalLatitude = -decimalLatitude;
+            }
+            else decimalLatitude = Double.parseDouble(latitude);
+
+            int longDotCount = 0;
+            for (char ch : longitude.toCharArray()) if (ch == '.') longDotCount++;
+            if (longDotCount < 1 || longDotCount > 3)
+                throw new RuntimeException(String.format("Longitude: %1$s is in wrong format", longitude));
+            if (longDotCount == 2) {
+
+                int zeroIndLong = 0;
+                while (longitude.charAt(zeroIndLong) == '0' || longitude.charAt(zeroIndLong) == ' ') zeroIndLong++;
+                longitude = longitude.substring(zeroIndLong);
+
+                if(latitude.charAt(0) == '-') {
+                    westernHemisphere = true;
+                    longitude = longitude.substring(1);
+                }
+
+                decimalLongitude = GPSUtil.convertToDecimalDegrees(longitude);
+
+                if (westernHemisphere) decimalLongitude = -decimalLongitude;
+            }
+            else decimalLongitude = Double.parseDouble(longitude);
+
+            if (!GPSUtil.isValidLatitude(decimalLatitude))
+                throw new RuntimeException(String.format("Latitude: %1$s is not valid", latitude));
+            if (!GPSUtil.isValidLongitude(decimalLongitude))
+                throw new RuntimeException(String.format("Longitude: %1$s is not valid", longitude));
+
+            String latitudeString = String.format("%.6f", decimalLatitude);
+            String longitudeString = String.format("%.6f", decimalLongitude);
+
+            return latitudeString + " " + longitudeString;
+        } catch (Exception e) {
+            throw new RuntimeException("Wrong GPS coordinate");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.marinamooringmanagement.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GPSCoordinateParserTest {
+
+    @Test
+    void parse_readsDecimalDegreesAndDegreesWithDecimalMinutes() {
+        assertEquals("41.500000 -71.200000", GPSUtil.getGpsCoordinates("41.5, -71.2"));
+        assertEquals("41.508333 -71.254167", GPSUtil.getGpsCoordinates("041.30.5 -71.15.25"));
+        assertEquals("-41.508333 -71.254167", GPSUtil.getGpsCoordinates("-41.30.5  -71.15.25 "));
+        // rounded half up at the sixth decimal like String.format("%.6f")
+        assertEquals("19.670969 -0.000001", GPSUtil.getGpsCoordinates("19.40.25817 -0.0000005"));
+    }
+
+    @Test
+    void parse_takesTheHemisphereOfTheLongitudeFromTheLongitude() {
+        assertEquals("-41.500000 71.254167", GPSUtil.getGpsCoordinates("-41.5 71.15.25"));
+        assertEquals("41.500000 -0.508333", GPSUtil.getGpsCoordinates("41.5 -0.30.5"));
+    }
+
+    @Test
+    void parse_returnsErrorCodesForInvalidCoordinates() {
+        assertEquals(GPSCoordinateParser.NO_COORDINATES, GPSCoordinateParser.parse("  "));
+        assertEquals(GPSCoordinateParser.INVALID_LATITUDE_FORMAT, GPSCoordinateParser.parse("41 -71.2"));
+        assertEquals(GPSCoordinateParser.INVALID_LONGITUDE_FORMAT, GPSCoordinateParser.parse("41.5"));
+        assertEquals(GPSCoordinateParser.INVALID_LONGITUDE_FORMAT, GPSCoordinateParser.parse("41.5 -71.2 3.0"));
+        assertEquals(GPSCoordinateParser.INVALID_LONGITUDE_FORMAT, GPSCoordinateParser.parse("41.5 -71.2.3.4"));
+        assertEquals(GPSCoordinateParser.LATITUDE_OUT_OF_RANGE, GPSCoordinateParser.parse("90.0000001 0.1"));
+        assertEquals(GPSCoordinateParser.LONGITUDE_OUT_OF_RANGE, GPSCoordinateParser.parse("0.1 -180.1"));
+        assertThrows(RuntimeException.class, () -> GPSUtil.getGpsCoordinates("abc"));
+    }
+
+    @Test
+    void normalizeAll_normalizesEveryCoordinateOfTheBatch() {
+        final String[] normalized = GPSCoordinateParser.normalizeAll(new String[]{"41.5 -71.2", "wrong", null, "90.0 180.0"});
+
+        assertArrayEquals(new String[]{"41.500000 -71.200000", null, null, "90.000000 180.000000"}, normalized);
+
+        final long coordinates = GPSCoordinateParser.parseAll(new String[]{"-33.8688 151.2093"})[0];
+        assertEquals(-33.8688, GPSCoordinateParser.latitude(coordinates));
+        assertEquals(151.2093, GPSCoordinateParser.longitude(coordinates));
+    }
+}
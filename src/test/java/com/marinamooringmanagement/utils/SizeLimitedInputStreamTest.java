@@ -0,0 +1,54 @@
+package com.marinamooringmanagement.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SizeLimitedInputStreamTest {
+
+    @Test
+    void read_acceptsAStreamOfExactlyTheMaximumSize() throws IOException {
+        try (InputStream in = new SizeLimitedInputStream(new ByteArrayInputStream(new byte[10]), 10)) {
+            assertEquals(10, in.readAllBytes().length);
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    void read_failsOnTheFirstByteOverTheMaximumSize() throws IOException {
+        try (InputStream in = new SizeLimitedInputStream(new ByteArrayInputStream(new byte[11]), 10)) {
+            assertEquals(10, in.readNBytes(10).length);
+            final IOException e = assertThrows(IOException.class, in::read);
+            assertEquals("File exceeds the maximum size of 10 bytes", e.getMessage());
+        }
+    }
+
+    @Test
+    void readAllBytes_failsWhenOneByteOverTheMaximumSize() {
+        final InputStream in = new SizeLimitedInputStream(new ByteArrayInputStream(new byte[11]), 10);
+
+        assertThrows(IOException.class, in::readAllBytes);
+    }
+
+    @Test
+    void skip_countsTheSkippedBytes() throws IOException {
+        final InputStream in = new SizeLimitedInputStream(new ByteArrayInputStream(new byte[11]), 10);
+
+        assertEquals(10, in.skip(10));
+        assertThrows(IOException.class, in::read);
+    }
+
+    @Test
+    void reset_rewindsTheCountToTheMark() throws IOException {
+        final InputStream in = new SizeLimitedInputStream(new ByteArrayInputStream(new byte[10]), 10);
+
+        in.mark(10);
+        assertEquals(10, in.readNBytes(10).length);
+        in.reset();
+        assertEquals(10, in.readAllBytes().length);
+    }
+}